@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.common.http;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A {@link DataChunk} representing a region of a file.
+ * <p>
+ * The content of the region is not read into memory by the producer. A consumer that can transfer
+ * a file region directly (e.g. using {@code sendfile}) should use {@link #channel()}, {@link #position()}
+ * and {@link #count()}; other consumers may still use {@link #data()}, which reads a region of at most
+ * {@link #MAX_DATA_SIZE} bytes into heap buffers of bounded size on first access.
+ * <p>
+ * Releasing this chunk closes the underlying {@link FileChannel}.
+ */
+public final class FileChannelDataChunk implements DataChunk {
+    /**
+     * Maximal size of a region that can be read into memory by {@link #data()}.
+     */
+    public static final int MAX_DATA_SIZE = 64 * 1024 * 1024;
+    private static final int SLICE_SIZE = 64 * 1024;
+
+    private final FileChannel channel;
+    private final long position;
+    private final long count;
+    private ByteBuffer[] data;
+    private boolean isReleased = false;
+    private CompletableFuture<DataChunk> writeFuture;
+
+    private FileChannelDataChunk(FileChannel channel, long position, long count) {
+        this.channel = channel;
+        this.position = position;
+        this.count = count;
+    }
+
+    /**
+     * Create a new data chunk for a region of a file.
+     *
+     * @param channel  file channel, owned by the created chunk and closed when the chunk is released
+     * @param position position of the first byte of the region
+     * @param count    number of bytes of the region
+     * @return a data chunk
+     */
+    public static FileChannelDataChunk create(FileChannel channel, long position, long count) {
+        Objects.requireNonNull(channel, "channel is null");
+        if (position < 0 || count < 0) {
+            throw new IllegalArgumentException("Position and count must not be negative");
+        }
+        return new FileChannelDataChunk(channel, position, count);
+    }
+
+    /**
+     * The file channel of this chunk.
+     *
+     * @return file channel
+     */
+    public FileChannel channel() {
+        return channel;
+    }
+
+    /**
+     * Position of the first byte of the region in the file.
+     *
+     * @return position
+     */
+    public long position() {
+        return position;
+    }
+
+    /**
+     * Number of bytes of the region.
+     *
+     * @return region length
+     */
+    public long count() {
+        return count;
+    }
+
+    /**
+     * Content of the region, read into heap buffers of bounded size on first access.
+     *
+     * @return buffers with the content of the region
+     * @throws UnsupportedOperationException if the region is larger than {@link #MAX_DATA_SIZE}
+     * @throws UncheckedIOException if the file cannot be read
+     */
+    @Override
+    public ByteBuffer[] data() {
+        if (data == null) {
+            if (count > MAX_DATA_SIZE) {
+                throw new UnsupportedOperationException("File region of " + count + " bytes is larger than "
+                                                                + MAX_DATA_SIZE + " bytes and cannot be read into memory,"
+                                                                + " it must be transferred using its channel");
+            }
+            List<ByteBuffer> slices = new ArrayList<>((int) (count / SLICE_SIZE) + 1);
+            try {
+                long filePosition = position;
+                long end = position + count;
+                while (filePosition < end) {
+                    ByteBuffer slice = ByteBuffer.allocate((int) Math.min(SLICE_SIZE, end - filePosition));
+                    int read = 0;
+                    while (slice.hasRemaining() && read >= 0) {
+                        read = channel.read(slice, filePosition + slice.position());
+                    }
+                    slice.flip();
+                    slices.add(slice);
+                    filePosition += slice.remaining();
+                    if (read < 0) {
+                        // file is shorter than the region
+                        break;
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            data = slices.toArray(new ByteBuffer[0]);
+        }
+        return data;
+    }
+
+    /**
+     * Number of bytes remaining in this chunk, at most {@link Integer#MAX_VALUE}.
+     * Use {@link #count()} to obtain the size of regions larger than {@link Integer#MAX_VALUE} bytes.
+     *
+     * @return number of bytes remaining
+     */
+    @Override
+    public int remaining() {
+        if (data != null) {
+            return DataChunk.super.remaining();
+        }
+        return (int) Math.min(count, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    @Override
+    public boolean isReleased() {
+        return isReleased;
+    }
+
+    @Override
+    public void release() {
+        if (!isReleased) {
+            isReleased = true;
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+                // nothing to do, channel is not used anymore
+            }
+        }
+    }
+
+    @Override
+    public void writeFuture(CompletableFuture<DataChunk> writeFuture) {
+        this.writeFuture = writeFuture;
+    }
+
+    @Override
+    public Optional<CompletableFuture<DataChunk>> writeFuture() {
+        return Optional.ofNullable(writeFuture);
+    }
+}
@@ -1146,6 +1146,16 @@ public final class Http {
         private DateTime() {
         }
 
+        /**
+         * Current date and time formatted using {@link #RFC_1123_DATE_TIME} in {@code GMT}, as used
+         * by the {@code Date} header. The value is refreshed once per second and shared, see {@link HttpDateClock}.
+         *
+         * @return current date and time
+         */
+        public static String rfc1123Now() {
+            return HttpDateClock.rfc1123Date();
+        }
+
         /**
          * Parse provided text to {@link ZonedDateTime} using any possible date / time format specified
          * by <a href="https://tools.ietf.org/html/rfc2616">RFC2616 Hypertext Transfer Protocol</a>.
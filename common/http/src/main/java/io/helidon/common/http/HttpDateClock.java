@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.common.http;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+/**
+ * Current date and time formatted as required by the HTTP {@code Date} header,
+ * such as {@code Tue, 3 Jun 2008 11:05:30 GMT}.
+ * <p>
+ * The value has a precision of one second, so it is formatted at most once per second and shared by all callers
+ * within that second. Obtaining the current value does not allocate.
+ */
+public final class HttpDateClock {
+    private static final HttpDateClock INSTANCE = new HttpDateClock(Clock.systemUTC());
+
+    private final Clock clock;
+    private volatile Tick tick;
+
+    HttpDateClock(Clock clock) {
+        this.clock = clock;
+        this.tick = new Tick(epochSecond());
+    }
+
+    /**
+     * Current date formatted using {@link Http.DateTime#RFC_1123_DATE_TIME} in {@code GMT}.
+     *
+     * @return current date
+     */
+    public static String rfc1123Date() {
+        return INSTANCE.current().text;
+    }
+
+    /**
+     * Current date formatted using {@link Http.DateTime#RFC_1123_DATE_TIME} in {@code GMT}, encoded as US-ASCII.
+     * <p>
+     * The returned array is shared and MUST NOT be modified.
+     *
+     * @return current date bytes
+     */
+    public static byte[] rfc1123DateBytes() {
+        return INSTANCE.current().bytes;
+    }
+
+    String date() {
+        return current().text;
+    }
+
+    byte[] dateBytes() {
+        return current().bytes;
+    }
+
+    private Tick current() {
+        long second = epochSecond();
+        Tick current = tick;
+        if (current.second != second) {
+            // concurrent updates within the same second produce the same value
+            current = new Tick(second);
+            tick = current;
+        }
+        return current;
+    }
+
+    private long epochSecond() {
+        return Math.floorDiv(clock.millis(), 1000);
+    }
+
+    private static final class Tick {
+        private final long second;
+        private final String text;
+        private final byte[] bytes;
+
+        private Tick(long second) {
+            this.second = second;
+            this.text = ZonedDateTime.ofInstant(Instant.ofEpochSecond(second), ZoneOffset.UTC)
+                    .format(Http.DateTime.RFC_1123_DATE_TIME);
+            this.bytes = text.getBytes(StandardCharsets.US_ASCII);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.common.http;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit test for {@link FileChannelDataChunk}.
+ */
+class FileChannelDataChunkTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void testDataInSlices() throws IOException {
+        byte[] bytes = new byte[200_000];
+        Arrays.fill(bytes, (byte) 'x');
+        Path file = Files.write(tempDir.resolve("data.bin"), bytes);
+
+        DataChunk chunk = FileChannelDataChunk.create(FileChannel.open(file, StandardOpenOption.READ), 10, 150_000);
+
+        assertThat(chunk.remaining(), is(150_000));
+        assertThat(chunk.data().length, greaterThan(1));
+        assertThat(chunk.bytes(), is(Arrays.copyOfRange(bytes, 10, 150_010)));
+        assertThat(chunk.remaining(), is(150_000));
+        chunk.release();
+    }
+
+    @Test
+    public void testLargeRegion() throws IOException {
+        Path file = Files.write(tempDir.resolve("empty.bin"), new byte[0]);
+        long count = 3L * Integer.MAX_VALUE;
+
+        FileChannelDataChunk chunk = FileChannelDataChunk.create(FileChannel.open(file, StandardOpenOption.READ), 0, count);
+
+        assertThat(chunk.count(), is(count));
+        assertThat(chunk.remaining(), is(Integer.MAX_VALUE));
+        assertThrows(UnsupportedOperationException.class, chunk::data);
+        chunk.release();
+    }
+}
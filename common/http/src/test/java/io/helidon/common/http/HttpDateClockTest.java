@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2018 Oracle and/or its affiliates. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.common.http;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests {@link HttpDateClock}.
+ */
+class HttpDateClockTest {
+
+    @Test
+    void testFormatAndTick() {
+        MutableClock clock = new MutableClock(Instant.parse("2008-06-03T11:05:30.100Z"));
+        HttpDateClock dateClock = new HttpDateClock(clock);
+
+        String date = dateClock.date();
+        assertThat(date, is("Tue, 3 Jun 2008 11:05:30 GMT"));
+        assertThat(dateClock.dateBytes(), is(date.getBytes(StandardCharsets.US_ASCII)));
+
+        clock.instant = Instant.parse("2008-06-03T11:05:30.999Z");
+        assertThat(dateClock.date(), sameInstance(date));
+
+        clock.instant = Instant.parse("2008-06-03T11:05:31Z");
+        assertThat(dateClock.date(), is("Tue, 3 Jun 2008 11:05:31 GMT"));
+        assertThat(new String(dateClock.dateBytes(), StandardCharsets.US_ASCII), is("Tue, 3 Jun 2008 11:05:31 GMT"));
+    }
+
+    @Test
+    void testSystemClock() {
+        Instant before = Instant.now().minusSeconds(1);
+        Instant date = Http.DateTime.parse(Http.DateTime.rfc1123Now()).toInstant();
+        Instant after = Instant.now().plusSeconds(1);
+
+        assertThat(date.isAfter(before) && date.isBefore(after), is(true));
+        assertThat(Http.DateTime.rfc1123Now().endsWith(" GMT"), is(true));
+    }
+
+    private static final class MutableClock extends Clock {
+        private volatile Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -57,6 +57,7 @@ class JdbcDbClient implements DbClient {
     private final DbMapperManager dbMapperManager;
     private final MapperManager mapperManager;
     private final List<DbClientService> clientServices;
+    private final JdbcStatementCache statementCache;
 
     JdbcDbClient(JdbcDbClientProviderBuilder builder) {
         this.executorService = builder.executorService();
@@ -65,6 +66,7 @@ class JdbcDbClient implements DbClient {
         this.dbMapperManager = builder.dbMapperManager();
         this.mapperManager = builder.mapperManager();
         this.clientServices = builder.clientServices();
+        this.statementCache = JdbcStatementCache.create(builder.statementCacheSize());
     }
 
     @Override
@@ -77,7 +79,8 @@ class JdbcDbClient implements DbClient {
                 clientServices,
                 connectionPool,
                 dbMapperManager,
-                mapperManager);
+                mapperManager,
+                statementCache);
 
         T result = executor.apply(execute);
 
@@ -167,7 +170,8 @@ class JdbcDbClient implements DbClient {
                                                                         clientServices,
                                                                         connectionPool,
                                                                         dbMapperManager,
-                                                                        mapperManager));
+                                                                        mapperManager,
+                                                                        statementCache));
 
         Subscribable<U> result;
 
@@ -228,7 +232,8 @@ class JdbcDbClient implements DbClient {
                               List<DbClientService> clientServices,
                               ConnectionPool connectionPool,
                               DbMapperManager dbMapperManager,
-                              MapperManager mapperManager) {
+                              MapperManager mapperManager,
+                              JdbcStatementCache statementCache) {
             super(statements, JdbcExecuteContext.jdbcBuilder()
                     .statements(statements)
                     .clientServices(clientServices)
@@ -237,6 +242,7 @@ class JdbcDbClient implements DbClient {
                     .dbMapperManager(dbMapperManager)
                     .mapperManager(mapperManager)
                     .executorService(executorService)
+                    .statementCache(statementCache)
                     .build());
         }
 
@@ -263,6 +269,7 @@ class JdbcDbClient implements DbClient {
                     .thenApply(conn -> {
                         try {
                             conn.rollback();
+                            context().closeStatements();
                             conn.close();
                         } catch (SQLException e) {
                             throw new DbClientException("Failed to rollback a transaction, or close a connection", e);
@@ -280,6 +287,7 @@ class JdbcDbClient implements DbClient {
                     .thenApply(conn -> {
                         try {
                             conn.commit();
+                            context().closeStatements();
                             conn.close();
                         } catch (SQLException e) {
                             throw new DbClientException("Failed to commit a transaction, or close a connection", e);
@@ -304,7 +312,8 @@ class JdbcDbClient implements DbClient {
                                                         List<DbClientService> clientServices,
                                                         ConnectionPool connectionPool,
                                                         DbMapperManager dbMapperManager,
-                                                        MapperManager mapperManager) {
+                                                        MapperManager mapperManager,
+                                                        JdbcStatementCache statementCache) {
             CompletionStage<Connection> connection = CompletableFuture.supplyAsync(connectionPool::connection, executorService)
                     .thenApply(conn -> {
                         try {
@@ -323,6 +332,7 @@ class JdbcDbClient implements DbClient {
                     .dbMapperManager(dbMapperManager)
                     .mapperManager(mapperManager)
                     .dbType(connectionPool.dbType())
+                    .statementCache(statementCache)
                     .build();
         }
 
@@ -370,6 +380,7 @@ class JdbcDbClient implements DbClient {
         void close() {
             context.connection()
                     .thenAccept(conn -> {
+                        context.closeStatements();
                         try {
                             conn.close();
                         } catch (SQLException e) {
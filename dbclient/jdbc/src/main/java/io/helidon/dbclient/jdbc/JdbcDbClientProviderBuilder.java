@@ -51,6 +51,7 @@ public final class JdbcDbClientProviderBuilder implements DbClientProviderBuilde
     private DbMapperManager dbMapperManager;
     private Supplier<ExecutorService> executorService;
     private ConnectionPool connectionPool;
+    private int statementCacheSize;
 
     JdbcDbClientProviderBuilder() {
     }
@@ -98,6 +99,7 @@ public final class JdbcDbClientProviderBuilder implements DbClientProviderBuilde
 
         config.get("statements").as(DbStatements::create).ifPresent(this::statements);
         config.get("executor-service").as(ThreadPoolSupplier::create).ifPresent(this::executorService);
+        config.get("statement-cache-size").asInt().ifPresent(this::statementCacheSize);
         return this;
     }
 
@@ -124,6 +126,20 @@ public final class JdbcDbClientProviderBuilder implements DbClientProviderBuilde
         return this;
     }
 
+    /**
+     * Configure the number of prepared statements cached for each database connection.
+     * Statements are prepared on the physical connection and reused by subsequent executions of the same
+     * statement on that connection, regardless of statement caching of the connection pool.
+     * Defaults to {@code 0}, which disables the cache.
+     *
+     * @param statementCacheSize maximal number of idle cached statements per connection
+     * @return updated builder instance
+     */
+    public JdbcDbClientProviderBuilder statementCacheSize(int statementCacheSize) {
+        this.statementCacheSize = statementCacheSize;
+        return this;
+    }
+
     @Override
     public JdbcDbClientProviderBuilder url(String url) {
         this.url = url;
@@ -225,4 +241,8 @@ public final class JdbcDbClientProviderBuilder implements DbClientProviderBuilde
         return connectionPool;
     }
 
+    int statementCacheSize() {
+        return statementCacheSize;
+    }
+
 }
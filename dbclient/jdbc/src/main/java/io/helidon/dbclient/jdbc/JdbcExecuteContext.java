@@ -16,10 +16,15 @@
 package io.helidon.dbclient.jdbc;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 import io.helidon.dbclient.common.DbClientContext;
 
@@ -28,16 +33,22 @@ import io.helidon.dbclient.common.DbClientContext;
  */
 final class JdbcExecuteContext extends DbClientContext {
 
+    /** Local logger instance. */
+    private static final Logger LOGGER = Logger.getLogger(JdbcExecuteContext.class.getName());
+
     private final ConcurrentHashMap.KeySetView<CompletableFuture<Long>, Boolean> futures = ConcurrentHashMap.newKeySet();
+    private final ConcurrentLinkedQueue<PreparedStatement> statements = new ConcurrentLinkedQueue<>();
     private final ExecutorService executorService;
     private final String dbType;
     private final CompletionStage<Connection> connection;
+    private final JdbcStatementCache statementCache;
 
     private JdbcExecuteContext(Builder builder) {
         super(builder);
         this.executorService = builder.executorService;
         this.dbType = builder.dbType;
         this.connection = builder.connection;
+        this.statementCache = builder.statementCache;
     }
 
     /**
@@ -60,6 +71,39 @@ final class JdbcExecuteContext extends DbClientContext {
         return connection;
     }
 
+    /**
+     * Prepare a statement on the connection of this context. If statement caching is enabled, the statement
+     * is obtained from the cache and it is returned to the cache when closed, at the latest when
+     * {@link #closeStatements()} is called.
+     *
+     * @param conn connection of this context
+     * @param sql  JDBC statement
+     * @return prepared statement
+     * @throws SQLException if the statement cannot be prepared
+     */
+    PreparedStatement prepareStatement(Connection conn, String sql) throws SQLException {
+        if (statementCache == null) {
+            return conn.prepareStatement(sql);
+        }
+        PreparedStatement statement = statementCache.prepare(conn, sql);
+        statements.add(statement);
+        return statement;
+    }
+
+    /**
+     * Close all cached statements prepared by this context, must be called before the connection is released.
+     */
+    void closeStatements() {
+        PreparedStatement statement;
+        while ((statement = statements.poll()) != null) {
+            try {
+                statement.close();
+            } catch (SQLException e) {
+                LOGGER.log(Level.WARNING, String.format("Could not close PreparedStatement: %s", e.getMessage()), e);
+            }
+        }
+    }
+
     void addFuture(CompletableFuture<Long> queryFuture) {
         this.futures.add(queryFuture);
     }
@@ -79,6 +123,7 @@ final class JdbcExecuteContext extends DbClientContext {
         private ExecutorService executorService;
         private String dbType;
         private CompletionStage<Connection> connection;
+        private JdbcStatementCache statementCache;
 
         @Override
         public JdbcExecuteContext build() {
@@ -99,5 +144,10 @@ final class JdbcExecuteContext extends DbClientContext {
             this.connection = connection;
             return this;
         }
+
+        Builder statementCache(JdbcStatementCache statementCache) {
+            this.statementCache = statementCache;
+            return this;
+        }
     }
 }
@@ -19,10 +19,10 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.ArrayList;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -46,6 +46,16 @@ abstract class JdbcStatement<S extends DbStatement<S, R>, R> extends AbstractSta
     /** Local logger instance. */
     private static final Logger LOGGER = Logger.getLogger(JdbcStatement.class.getName());
 
+    /**
+     * Maximal number of cached named statement parse results, statements are not cached once it is reached.
+     */
+    private static final int MAX_PARSED_STATEMENTS = 512;
+
+    /**
+     * Named statements converted to JDBC statements, keyed by the original statement text.
+     */
+    private static final Map<String, NamedStatement> PARSED_STATEMENTS = new ConcurrentHashMap<>();
+
     private final ExecutorService executorService;
     private final String dbType;
     private final CompletionStage<Connection> connection;
@@ -97,7 +107,7 @@ abstract class JdbcStatement<S extends DbStatement<S, R>, R> extends AbstractSta
 
     private PreparedStatement prepareStatement(Connection conn, String statementName, String statement) {
         try {
-            return conn.prepareStatement(statement);
+            return executeContext.prepareStatement(conn, statement);
         } catch (SQLException e) {
             throw new DbClientException(String.format("Failed to prepare statement: %s", statementName), e);
         }
@@ -111,11 +121,11 @@ abstract class JdbcStatement<S extends DbStatement<S, R>, R> extends AbstractSta
         PreparedStatement preparedStatement = null;
         try {
             // Parameters names must be replaced with ? and names occurence order must be stored.
-            Parser parser = new Parser(statement);
-            String jdbcStatement = parser.convert();
+            NamedStatement namedStatement = namedStatement(statement);
+            String jdbcStatement = namedStatement.jdbcStatement();
             LOGGER.finest(() -> String.format("Converted statement: %s", jdbcStatement));
-            preparedStatement = connection.prepareStatement(jdbcStatement);
-            List<String> namesOrder = parser.namesOrder();
+            preparedStatement = executeContext.prepareStatement(connection, jdbcStatement);
+            List<String> namesOrder = namedStatement.namesOrder();
             // Set parameters into prepared statement
             int i = 1;
             for (String name : namesOrder) {
@@ -142,7 +152,7 @@ abstract class JdbcStatement<S extends DbStatement<S, R>, R> extends AbstractSta
 
         PreparedStatement preparedStatement = null;
         try {
-            preparedStatement = connection.prepareStatement(statement);
+            preparedStatement = executeContext.prepareStatement(connection, statement);
             int i = 1; // JDBC set position parameter starts from 1.
             for (Object value : parameters) {
                 LOGGER.finest(String.format("Indexed parameter %d: %s", i, value));
@@ -157,7 +167,27 @@ abstract class JdbcStatement<S extends DbStatement<S, R>, R> extends AbstractSta
         }
     }
 
-    private void closePreparedStatement(final PreparedStatement preparedStatement) {
+    /**
+     * Named statement converted to JDBC statement. Statements are parsed once and the result is shared.
+     *
+     * @param statement statement with named parameters
+     * @return converted statement
+     */
+    static NamedStatement namedStatement(String statement) {
+        NamedStatement namedStatement = PARSED_STATEMENTS.get(statement);
+        if (namedStatement == null) {
+            Parser parser = new Parser(statement);
+            namedStatement = new NamedStatement(parser.convert(), parser.namesOrder());
+            // statements are usually configured, so the cache only fills up with dynamically built statements,
+            // which are then parsed on each use while the cached ones are kept
+            if (PARSED_STATEMENTS.size() < MAX_PARSED_STATEMENTS) {
+                PARSED_STATEMENTS.putIfAbsent(statement, namedStatement);
+            }
+        }
+        return namedStatement;
+    }
+
+    void closePreparedStatement(final PreparedStatement preparedStatement) {
         if (preparedStatement != null) {
             try {
                 preparedStatement.close();
@@ -189,6 +219,37 @@ abstract class JdbcStatement<S extends DbStatement<S, R>, R> extends AbstractSta
         return sb.toString();
     }
 
+    /**
+     * Result of named statement parsing.
+     */
+    static final class NamedStatement {
+        private final String jdbcStatement;
+        private final List<String> namesOrder;
+
+        private NamedStatement(String jdbcStatement, List<String> namesOrder) {
+            this.jdbcStatement = jdbcStatement;
+            this.namesOrder = List.copyOf(namesOrder);
+        }
+
+        /**
+         * JDBC statement with named parameters replaced by {@code ?}.
+         *
+         * @return JDBC statement
+         */
+        String jdbcStatement() {
+            return jdbcStatement;
+        }
+
+        /**
+         * Parameter names in the order of their occurrence in the statement.
+         *
+         * @return unmodifiable list of parameter names
+         */
+        List<String> namesOrder() {
+            return namesOrder;
+        }
+    }
+
     /**
      * Mapping parser state machine.
      *
@@ -684,7 +745,7 @@ abstract class JdbcStatement<S extends DbStatement<S, R>, R> extends AbstractSta
         Parser(String statement) {
             this.sb = new StringBuilder(statement.length());
             this.nap = new StringBuilder(32);
-            this.names = new LinkedList<>();
+            this.names = new ArrayList<>();
             this.statement = statement;
             this.c = '\0';
             this.cl = null;
@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.dbclient.jdbc;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Cache of prepared statements per physical database connection.
+ * <p>
+ * Connection pools hand out proxies of their physical connections and close all statements created through
+ * a proxy once it is returned to the pool. Statements are therefore prepared on the physical connection obtained
+ * by {@link Connection#unwrap(Class)}, so they can be reused by later borrowers of the same connection even if the
+ * pool itself does not cache statements. A statement is used by a single caller at a time: it is removed from
+ * the cache while in use and returned to it when closed. At most {@code size} idle statements are kept for each
+ * connection, the least recently used ones are closed when exceeded.
+ */
+final class JdbcStatementCache {
+
+    /** Local logger instance. */
+    private static final Logger LOGGER = Logger.getLogger(JdbcStatementCache.class.getName());
+
+    private final int size;
+    private final Map<Connection, ConnectionStatements> connections = new ConcurrentHashMap<>();
+
+    private JdbcStatementCache(int size) {
+        this.size = size;
+    }
+
+    /**
+     * Create a new cache.
+     *
+     * @param size maximal number of idle statements per connection
+     * @return a new cache, or {@code null} if the size is not positive
+     */
+    static JdbcStatementCache create(int size) {
+        return (size > 0) ? new JdbcStatementCache(size) : null;
+    }
+
+    /**
+     * Get a cached statement or prepare a new one. The returned statement is returned to the cache when closed.
+     *
+     * @param connection connection the statement is executed on
+     * @param sql        JDBC statement
+     * @return prepared statement
+     * @throws SQLException if the statement cannot be prepared
+     */
+    PreparedStatement prepare(Connection connection, String sql) throws SQLException {
+        Connection physical = physical(connection);
+        ConnectionStatements statements = connections.get(physical);
+        if (statements == null) {
+            ConnectionStatements created = new ConnectionStatements();
+            statements = connections.putIfAbsent(physical, created);
+            if (statements == null) {
+                statements = created;
+                // a new physical connection, the pool may have closed some of the known ones
+                removeClosed();
+            }
+        }
+        PreparedStatement statement = statements.take(sql);
+        if (statement == null) {
+            statement = physical.prepareStatement(sql);
+        }
+        return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(),
+                                                          new Class<?>[] {PreparedStatement.class},
+                                                          new CachedStatement(statements, sql, statement));
+    }
+
+    /**
+     * Number of idle statements cached for the connection.
+     *
+     * @param connection connection
+     * @return number of idle statements
+     */
+    int idle(Connection connection) {
+        ConnectionStatements statements = connections.get(physical(connection));
+        return (statements == null) ? 0 : statements.size();
+    }
+
+    private void removeClosed() {
+        connections.keySet().removeIf(connection -> {
+            try {
+                return connection.isClosed();
+            } catch (SQLException e) {
+                return true;
+            }
+        });
+    }
+
+    private static Connection physical(Connection connection) {
+        try {
+            if (connection.isWrapperFor(Connection.class)) {
+                return connection.unwrap(Connection.class);
+            }
+        } catch (SQLException | RuntimeException e) {
+            LOGGER.log(Level.FINEST, e, () -> "Could not unwrap connection, using it as is");
+        }
+        return connection;
+    }
+
+    private static void close(PreparedStatement statement) {
+        try {
+            statement.close();
+        } catch (SQLException e) {
+            LOGGER.log(Level.WARNING, String.format("Could not close PreparedStatement: %s", e.getMessage()), e);
+        }
+    }
+
+    /**
+     * Idle statements of a single connection in the least recently used order.
+     */
+    private final class ConnectionStatements {
+        private final LinkedHashMap<String, PreparedStatement> idle = new LinkedHashMap<>();
+
+        private PreparedStatement take(String sql) throws SQLException {
+            PreparedStatement statement;
+            synchronized (this) {
+                statement = idle.remove(sql);
+            }
+            if (statement != null && statement.isClosed()) {
+                return null;
+            }
+            return statement;
+        }
+
+        private void release(String sql, PreparedStatement statement) {
+            PreparedStatement evicted = null;
+            synchronized (this) {
+                if (idle.putIfAbsent(sql, statement) != null) {
+                    // the same statement was used concurrently and returned first
+                    evicted = statement;
+                } else if (idle.size() > size) {
+                    Iterator<PreparedStatement> iterator = idle.values().iterator();
+                    evicted = iterator.next();
+                    iterator.remove();
+                }
+            }
+            if (evicted != null) {
+                close(evicted);
+            }
+        }
+
+        private synchronized int size() {
+            return idle.size();
+        }
+    }
+
+    /**
+     * Statement handed out to a caller, closing it returns the physical statement to the cache.
+     */
+    private static final class CachedStatement implements InvocationHandler {
+        private final ConnectionStatements statements;
+        private final String sql;
+        private final PreparedStatement statement;
+        private volatile boolean closed;
+
+        private CachedStatement(ConnectionStatements statements, String sql, PreparedStatement statement) {
+            this.statements = statements;
+            this.sql = sql;
+            this.statement = statement;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+            case "close":
+                close();
+                return null;
+            case "isClosed":
+                return closed;
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            default:
+                break;
+            }
+            if (closed) {
+                throw new SQLException("Statement is closed");
+            }
+            try {
+                return method.invoke(statement, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+
+        private void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                statement.clearParameters();
+                statement.clearWarnings();
+            } catch (SQLException e) {
+                JdbcStatementCache.close(statement);
+                return;
+            }
+            statements.release(sql, statement);
+        }
+    }
+}
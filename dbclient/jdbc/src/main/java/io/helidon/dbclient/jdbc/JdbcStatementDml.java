@@ -72,13 +72,15 @@ class JdbcStatementDml extends JdbcStatement<DbStatementDml, Single<Long>> imple
                                Connection connection,
                                CompletableFuture<Void> statementFuture,
                                CompletableFuture<Long> queryFuture) {
+        PreparedStatement preparedStatement = null;
         try {
-            PreparedStatement preparedStatement = build(connection, dbContext);
+            preparedStatement = build(connection, dbContext);
             long count = preparedStatement.executeLargeUpdate();
             statementFuture.complete(null);
             queryFuture.complete(count);
             preparedStatement.close();
         } catch (Exception e) {
+            closePreparedStatement(preparedStatement);
             statementFuture.completeExceptionally(e);
             queryFuture.completeExceptionally(e);
         }
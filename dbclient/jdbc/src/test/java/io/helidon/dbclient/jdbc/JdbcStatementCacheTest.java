@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.dbclient.jdbc;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for {@link JdbcStatementCache} and parsing of named statements.
+ */
+class JdbcStatementCacheTest {
+
+    private static final String SQL = "UPDATE TestTable SET name=? WHERE id=?";
+
+    @Test
+    void testDisabled() {
+        assertThat(JdbcStatementCache.create(0), nullValue());
+    }
+
+    @Test
+    void testStatementReused() throws SQLException {
+        SqlConnectionMock conn = new SqlConnectionMock();
+        JdbcStatementCache cache = JdbcStatementCache.create(4);
+
+        PreparedStatement first = cache.prepare(conn, SQL);
+        first.setString(1, "Name");
+        first.setInt(2, 12);
+        assertThat(first.executeLargeUpdate(), is(2L));
+        first.close();
+        assertThat(first.isClosed(), is(true));
+        assertThrows(SQLException.class, first::executeLargeUpdate);
+        assertThat(cache.idle(conn), is(1));
+
+        PreparedStatement second = cache.prepare(conn, SQL);
+        assertThat(cache.idle(conn), is(0));
+        // parameters of the previous execution were cleared
+        assertThat(second.executeLargeUpdate(), is(0L));
+        second.close();
+
+        assertThat(conn.prepared(), is(1));
+        assertThat(cache.idle(conn), is(1));
+    }
+
+    @Test
+    void testConcurrentUse() throws SQLException {
+        SqlConnectionMock conn = new SqlConnectionMock();
+        JdbcStatementCache cache = JdbcStatementCache.create(4);
+
+        PreparedStatement first = cache.prepare(conn, SQL);
+        PreparedStatement second = cache.prepare(conn, SQL);
+        assertThat(conn.prepared(), is(2));
+        assertThat(first, not(second));
+
+        first.close();
+        second.close();
+        // only one statement is kept for the same SQL
+        assertThat(cache.idle(conn), is(1));
+    }
+
+    @Test
+    void testLeastRecentlyUsedEvicted() throws SQLException {
+        SqlConnectionMock conn = new SqlConnectionMock();
+        JdbcStatementCache cache = JdbcStatementCache.create(2);
+
+        cache.prepare(conn, "SELECT 1").close();
+        cache.prepare(conn, "SELECT 2").close();
+        cache.prepare(conn, "SELECT 3").close();
+        assertThat(cache.idle(conn), is(2));
+
+        cache.prepare(conn, "SELECT 2").close();
+        cache.prepare(conn, "SELECT 3").close();
+        assertThat(conn.prepared(), is(3));
+
+        cache.prepare(conn, "SELECT 1").close();
+        assertThat(conn.prepared(), is(4));
+    }
+
+    @Test
+    void testClosedConnectionRemoved() throws SQLException {
+        SqlConnectionMock conn = new SqlConnectionMock();
+        JdbcStatementCache cache = JdbcStatementCache.create(2);
+
+        cache.prepare(conn, SQL).close();
+        conn.close();
+        cache.prepare(new SqlConnectionMock(), SQL).close();
+
+        assertThat(cache.idle(conn), is(0));
+    }
+
+    @Test
+    void testExecuteContextClosesStatements() throws SQLException {
+        SqlConnectionMock conn = new SqlConnectionMock();
+        JdbcStatementCache cache = JdbcStatementCache.create(2);
+        JdbcExecuteContext context = JdbcExecuteContext.jdbcBuilder()
+                .dbType("Test")
+                .connection(CompletableFuture.<Connection>completedFuture(conn))
+                .statementCache(cache)
+                .build();
+
+        PreparedStatement statement = context.prepareStatement(conn, SQL);
+        assertThat(cache.idle(conn), is(0));
+        context.closeStatements();
+
+        assertThat(statement.isClosed(), is(true));
+        assertThat(cache.idle(conn), is(1));
+    }
+
+    @Test
+    void testNamedStatementParsedOnce() {
+        String statement = "UPDATE TestTable SET name=:name WHERE id=:id";
+        JdbcStatement.NamedStatement parsed = JdbcStatement.namedStatement(statement);
+
+        assertThat(parsed.jdbcStatement(), is(SQL));
+        assertThat(parsed.namesOrder().size(), is(2));
+        assertThat(JdbcStatement.namedStatement(statement), sameInstance(parsed));
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.dbclient.jdbc;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import io.helidon.dbclient.DbClientServiceContext;
+import io.helidon.dbclient.DbStatementType;
+import io.helidon.dbclient.common.DbStatementContext;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Executes the same named statement one million times, with and without the statement cache.
+ * Run with the GC profiler, {@code gc.alloc.rate.norm} is the number of bytes allocated per million executions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@Warmup(iterations = 5, batchSize = JdbcStatementJMH.EXECUTIONS)
+@Measurement(iterations = 5, batchSize = JdbcStatementJMH.EXECUTIONS)
+public class JdbcStatementJMH {
+
+    static final int EXECUTIONS = 1_000_000;
+
+    private static final String STATEMENT = "UPDATE TestTable SET name1=:name, count1=:count WHERE id=:id";
+
+    @Param({"0", "16"})
+    private int statementCacheSize;
+
+    private Connection connection;
+    private JdbcExecuteContext executeContext;
+    private JdbcStatementDml dml;
+    private DbClientServiceContext dbContext;
+
+    public static void main(String[] args) throws Throwable {
+        Options opt = new OptionsBuilder()
+                .include(JdbcStatementJMH.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .forks(1)
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    @Setup
+    public void setup() {
+        connection = new SqlConnectionMock();
+        executeContext = JdbcExecuteContext.jdbcBuilder()
+                .dbType("Test")
+                .connection(CompletableFuture.completedFuture(connection))
+                .statementCache(JdbcStatementCache.create(statementCacheSize))
+                .build();
+        DbStatementContext statementContext = DbStatementContext.builder()
+                .statementName("test")
+                .statementType(DbStatementType.UPDATE)
+                .statementText(STATEMENT)
+                .build();
+        dml = new JdbcStatementDml(executeContext, statementContext);
+        dbContext = DbClientServiceContext.create(dml.dbType());
+        dbContext.statement(STATEMENT, Map.of("name", "Name", "count", 5, "id", 12));
+    }
+
+    @Benchmark
+    public long execute() throws Exception {
+        PreparedStatement statement = dml.build(connection, dbContext);
+        long count = statement.executeLargeUpdate();
+        statement.close();
+        // drain the statements tracked by the context, as done when the connection is released
+        executeContext.closeStatements();
+        return count;
+    }
+}
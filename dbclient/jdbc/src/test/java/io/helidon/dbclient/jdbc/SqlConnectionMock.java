@@ -40,6 +40,16 @@ import java.util.concurrent.Executor;
  */
 class SqlConnectionMock implements Connection {
 
+    /**
+     * Number of prepared statements.
+     */
+    private int prepared;
+    private boolean closed;
+
+    int prepared() {
+        return prepared;
+    }
+
     @Override
     public Statement createStatement() throws SQLException {
         throw new UnsupportedOperationException("Not supported yet.");
@@ -47,6 +57,7 @@ class SqlConnectionMock implements Connection {
 
     @Override
     public PreparedStatement prepareStatement(String sql) throws SQLException {
+        prepared++;
         return new SqlPreparedStatementMock();
     }
 
@@ -82,12 +93,12 @@ class SqlConnectionMock implements Connection {
 
     @Override
     public void close() throws SQLException {
-        throw new UnsupportedOperationException("Not supported yet.");
+        closed = true;
     }
 
     @Override
     public boolean isClosed() throws SQLException {
-        throw new UnsupportedOperationException("Not supported yet.");
+        return closed;
     }
 
     @Override
@@ -307,7 +318,7 @@ class SqlConnectionMock implements Connection {
 
     @Override
     public boolean isWrapperFor(Class<?> iface) throws SQLException {
-        throw new UnsupportedOperationException("Not supported yet.");
+        return false;
     }
 
 }
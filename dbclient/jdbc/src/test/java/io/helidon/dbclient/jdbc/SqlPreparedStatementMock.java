@@ -74,6 +74,8 @@ class SqlPreparedStatementMock implements PreparedStatement {
         params.put(parameterIndex, new ParInfo(cls, value));
     }
 
+    private boolean closed;
+
     Map<Integer, ParInfo> params() {
         return params;
     }
@@ -88,6 +90,11 @@ class SqlPreparedStatementMock implements PreparedStatement {
         throw new UnsupportedOperationException("Not supported yet.");
     }
 
+    @Override
+    public long executeLargeUpdate() throws SQLException {
+        return params.size();
+    }
+
     @Override
     public void setNull(int parameterIndex, int sqlType) throws SQLException {
         addParInfo(parameterIndex, null, null);
@@ -175,7 +182,7 @@ class SqlPreparedStatementMock implements PreparedStatement {
 
     @Override
     public void clearParameters() throws SQLException {
-        throw new UnsupportedOperationException("Not supported yet.");
+        params.clear();
     }
 
     @Override
@@ -364,6 +371,7 @@ class SqlPreparedStatementMock implements PreparedStatement {
 
     @Override
     public void close() throws SQLException {
+        closed = true;
     }
 
     @Override
@@ -413,7 +421,6 @@ class SqlPreparedStatementMock implements PreparedStatement {
 
     @Override
     public void clearWarnings() throws SQLException {
-        throw new UnsupportedOperationException("Not supported yet.");
     }
 
     @Override
@@ -538,7 +545,7 @@ class SqlPreparedStatementMock implements PreparedStatement {
 
     @Override
     public boolean isClosed() throws SQLException {
-        throw new UnsupportedOperationException("Not supported yet.");
+        return closed;
     }
 
     @Override
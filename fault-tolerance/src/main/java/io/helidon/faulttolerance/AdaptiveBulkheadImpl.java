@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.faulttolerance;
+
+import java.util.Queue;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Flow;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import io.helidon.common.LazyValue;
+import io.helidon.common.reactive.Multi;
+import io.helidon.common.reactive.Single;
+
+/**
+ * Bulkhead with a limit of parallel executions adjusted by an {@link io.helidon.faulttolerance.AdaptiveLimit}
+ * from the round trip times and failures of completed calls.
+ */
+class AdaptiveBulkheadImpl implements Bulkhead {
+    private static final Logger LOGGER = Logger.getLogger(AdaptiveBulkheadImpl.class.getName());
+
+    private final LazyValue<? extends ExecutorService> executor;
+    private final Queue<DelayedTask<?>> queue;
+    private final AdaptiveLimit limit;
+    private final String name;
+
+    // number of permits in use, may exceed the limit for a while after it is lowered
+    private final AtomicInteger inProgress = new AtomicInteger();
+    private final AtomicLong concurrentExecutions = new AtomicLong(0L);
+    private final AtomicLong callsAccepted = new AtomicLong(0L);
+    private final AtomicLong callsRejected = new AtomicLong(0L);
+
+    AdaptiveBulkheadImpl(Bulkhead.Builder builder) {
+        this.executor = builder.executor();
+        this.limit = AdaptiveLimit.create(builder);
+        this.name = builder.name();
+
+        if (builder.queueLength() == 0) {
+            queue = new BulkheadImpl.NoQueue();
+        } else {
+            this.queue = new LinkedBlockingQueue<>(builder.queueLength());
+        }
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public <T> Single<T> invoke(Supplier<? extends CompletionStage<T>> supplier) {
+        return invokeTask(DelayedTask.createSingle(supplier));
+    }
+
+    @Override
+    public <T> Multi<T> invokeMulti(Supplier<? extends Flow.Publisher<T>> supplier) {
+        return invokeTask(DelayedTask.createMulti(supplier));
+    }
+
+    @Override
+    public Stats stats() {
+        return new Stats() {
+            @Override
+            public long concurrentExecutions() {
+                return concurrentExecutions.get();
+            }
+
+            @Override
+            public long callsAccepted() {
+                return callsAccepted.get();
+            }
+
+            @Override
+            public long callsRejected() {
+                return callsRejected.get();
+            }
+
+            @Override
+            public long waitingQueueSize() {
+                return queue.size();
+            }
+
+            @Override
+            public long limit() {
+                return limit.limit();
+            }
+        };
+    }
+
+    // this method must be called while NOT holding a permit
+    @SuppressWarnings("unchecked")
+    private <R> R invokeTask(DelayedTask<R> task) {
+        if (tryAcquire()) {
+            LOGGER.finest(() -> name + " invoke immediate: " + task);
+
+            // free permit, we can invoke
+            execute(task);
+            return task.result();
+        } else {
+            // no free permit, let's try to enqueue
+            if (queue.offer(task)) {
+                LOGGER.finest(() -> name + " enqueue: " + task);
+                R result = task.result();
+                // permits may have been released (or the limit raised) since we tried to acquire one
+                drain();
+                if (result instanceof Single<?>) {
+                    Single<Object> single = (Single<Object>) result;
+                    return (R) single.onCancel(() -> queue.remove(task));
+                }
+                return result;
+            } else {
+                LOGGER.finest(() -> name + " reject: " + task);
+                callsRejected.incrementAndGet();
+                return task.error(new BulkheadException("Bulkhead queue \"" + name + "\" is full"));
+            }
+        }
+    }
+
+    // this method must be called while holding a permit
+    private void execute(DelayedTask<?> task) {
+        callsAccepted.incrementAndGet();
+        concurrentExecutions.incrementAndGet();
+        int inFlight = inProgress.get();
+        long started = System.nanoTime();
+
+        task.execute()
+                .handle((it, throwable) -> {
+                    concurrentExecutions.decrementAndGet();
+                    limit.onSample(System.nanoTime() - started, inFlight, FaultTolerance.cause(throwable) != null);
+                    LOGGER.finest(() -> name + " finished execution: " + task
+                            + " (" + (throwable == null ? "success" : "failure") + "), limit: " + limit.limit());
+                    inProgress.decrementAndGet();
+                    drain();
+                    return null;
+                });
+    }
+
+    // start queued tasks while there are free permits
+    private void drain() {
+        while (!queue.isEmpty() && tryAcquire()) {
+            DelayedTask<?> polled = queue.poll();
+            if (polled == null) {
+                inProgress.decrementAndGet();
+                return;
+            }
+            LOGGER.finest(() -> name + " invoke in executor: " + polled);
+            executor.get().submit(() -> execute(polled));
+        }
+    }
+
+    private boolean tryAcquire() {
+        while (true) {
+            int current = inProgress.get();
+            if (current >= limit.limit()) {
+                return false;
+            }
+            if (inProgress.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+}
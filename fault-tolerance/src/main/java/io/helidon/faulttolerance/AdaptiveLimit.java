@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.faulttolerance;
+
+/**
+ * Concurrency limit of an adaptive {@link io.helidon.faulttolerance.Bulkhead}, adjusted from samples of
+ * completed calls.
+ * <p>
+ * Each sample carries the round trip time of the call, the number of calls in flight when it started and
+ * whether it failed. The limit is kept within the configured minimum and maximum.
+ */
+abstract class AdaptiveLimit {
+    private final int minLimit;
+    private final int maxLimit;
+    // guarded by this
+    private double estimate;
+    private volatile int limit;
+
+    AdaptiveLimit(int initialLimit, int minLimit, int maxLimit) {
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.estimate = clamp(initialLimit);
+        this.limit = (int) estimate;
+    }
+
+    static AdaptiveLimit create(Bulkhead.Builder builder) {
+        switch (builder.limitAlgorithm()) {
+        case AIMD:
+            return new Aimd(builder.limit(), builder.minLimit(), builder.maxLimit());
+        case VEGAS:
+            return new Vegas(builder.limit(), builder.minLimit(), builder.maxLimit());
+        case GRADIENT:
+            return new Gradient(builder.limit(), builder.minLimit(), builder.maxLimit());
+        default:
+            throw new IllegalArgumentException("Limit algorithm " + builder.limitAlgorithm() + " is not adaptive");
+        }
+    }
+
+    /**
+     * Current limit of concurrent calls.
+     *
+     * @return limit
+     */
+    int limit() {
+        return limit;
+    }
+
+    /**
+     * Update the limit from a completed call.
+     *
+     * @param rttNanos round trip time of the call in nanoseconds
+     * @param inFlight number of calls in flight when the call started, including the call itself
+     * @param failed   whether the call failed
+     */
+    synchronized void onSample(long rttNanos, int inFlight, boolean failed) {
+        estimate = clamp(update(estimate, Math.max(1, rttNanos), inFlight, failed));
+        limit = (int) estimate;
+    }
+
+    /**
+     * Compute a new estimate of the limit.
+     *
+     * @param estimate current estimate
+     * @param rttNanos round trip time of the call in nanoseconds, always positive
+     * @param inFlight number of calls in flight when the call started
+     * @param failed   whether the call failed
+     * @return new estimate
+     */
+    abstract double update(double estimate, long rttNanos, int inFlight, boolean failed);
+
+    private double clamp(double value) {
+        return Math.min(maxLimit, Math.max(minLimit, value));
+    }
+
+    /**
+     * Additive increase, multiplicative decrease - grows by one with each successful call that used at least half
+     * of the limit, and backs off by ten percent on each failed call.
+     */
+    static final class Aimd extends AdaptiveLimit {
+        private static final double BACKOFF_RATIO = 0.9;
+
+        Aimd(int initialLimit, int minLimit, int maxLimit) {
+            super(initialLimit, minLimit, maxLimit);
+        }
+
+        @Override
+        double update(double estimate, long rttNanos, int inFlight, boolean failed) {
+            if (failed) {
+                return estimate * BACKOFF_RATIO;
+            }
+            if (inFlight * 2 >= estimate) {
+                return estimate + 1;
+            }
+            return estimate;
+        }
+    }
+
+    /**
+     * TCP Vegas like limit - estimates the number of queued calls from the ratio of the lowest seen round trip time
+     * to the current one, and grows while the queue is short and shrinks when it is long.
+     * The lowest round trip time is probed again periodically, so the limit can recover after a lasting change of
+     * latency.
+     */
+    static final class Vegas extends AdaptiveLimit {
+        private static final int ALPHA = 3;
+        private static final int BETA = 6;
+        private static final int PROBE_MULTIPLIER = 30;
+
+        private long rttNoLoad;
+        private long samples;
+
+        Vegas(int initialLimit, int minLimit, int maxLimit) {
+            super(initialLimit, minLimit, maxLimit);
+        }
+
+        @Override
+        double update(double estimate, long rttNanos, int inFlight, boolean failed) {
+            if (++samples > PROBE_MULTIPLIER * estimate) {
+                samples = 0;
+                rttNoLoad = 0;
+            }
+            if (rttNoLoad == 0 || rttNanos < rttNoLoad) {
+                rttNoLoad = rttNanos;
+                return estimate;
+            }
+            double step = Math.max(1, Math.log10(estimate));
+            if (failed) {
+                return estimate - step;
+            }
+            if (inFlight * 2 < estimate) {
+                // application limited, the sample tells nothing about the limit
+                return estimate;
+            }
+            double queue = Math.ceil(estimate * (1 - (double) rttNoLoad / rttNanos));
+            if (queue <= ALPHA * step) {
+                return estimate + step;
+            }
+            if (queue >= BETA * step) {
+                return estimate - step;
+            }
+            return estimate;
+        }
+    }
+
+    /**
+     * Gradient based limit (Gradient2) - compares a short term round trip time with an exponentially averaged long
+     * term one. The limit grows by a queue allowance of the square root of the limit as long as the short term
+     * round trip time stays within the tolerance of the long term one, and shrinks proportionally once it exceeds it.
+     * As the long term average follows a latency that keeps growing, failed calls shrink the limit with the lowest
+     * gradient.
+     */
+    static final class Gradient extends AdaptiveLimit {
+        private static final double TOLERANCE = 1.5;
+        private static final double MIN_GRADIENT = 0.5;
+        private static final double SMOOTHING = 0.2;
+        private static final int LONG_WINDOW = 600;
+        private static final double LONG_FACTOR = 2.0 / (LONG_WINDOW + 1);
+        private static final double LONG_DECAY = 0.95;
+
+        private double longRtt;
+
+        Gradient(int initialLimit, int minLimit, int maxLimit) {
+            super(initialLimit, minLimit, maxLimit);
+        }
+
+        @Override
+        double update(double estimate, long rttNanos, int inFlight, boolean failed) {
+            double shortRtt = rttNanos;
+            if (longRtt == 0) {
+                longRtt = shortRtt;
+            } else {
+                longRtt += (shortRtt - longRtt) * LONG_FACTOR;
+            }
+            // a long lasting drop of latency makes the long term average decay faster
+            if (longRtt / shortRtt > 2) {
+                longRtt *= LONG_DECAY;
+            }
+            if (!failed && inFlight * 2 < estimate) {
+                // application limited, the sample tells nothing about the limit
+                return estimate;
+            }
+            double gradient = failed ? MIN_GRADIENT : Math.max(MIN_GRADIENT, Math.min(1.0, TOLERANCE * longRtt / shortRtt));
+            double next = estimate * gradient + Math.sqrt(estimate);
+            return estimate * (1 - SMOOTHING) + next * SMOOTHING;
+        }
+    }
+}
@@ -30,6 +30,9 @@ import io.helidon.common.LazyValue;
  * until the queue length is reached. Once both the limit and queue are full,
  * additional attempts to invoke will end with a failed response with
  * {@link io.helidon.faulttolerance.BulkheadException}.
+ * <p>
+ * The limit is either fixed, or adjusted by one of the adaptive {@link io.helidon.faulttolerance.Bulkhead.LimitAlgorithm}s
+ * from the observed round trip times and failures of the calls.
  */
 public interface Bulkhead extends FtHandler {
     /**
@@ -47,10 +50,15 @@ public interface Bulkhead extends FtHandler {
     class Builder implements io.helidon.common.Builder<Bulkhead> {
         private static final int DEFAULT_LIMIT = 10;
         private static final int DEFAULT_QUEUE_LENGTH = 10;
+        private static final int DEFAULT_MIN_LIMIT = 1;
+        private static final int DEFAULT_MAX_LIMIT = 1000;
 
         private LazyValue<? extends ExecutorService> executor = FaultTolerance.executor();
         private int limit = DEFAULT_LIMIT;
         private int queueLength = DEFAULT_QUEUE_LENGTH;
+        private LimitAlgorithm limitAlgorithm = LimitAlgorithm.FIXED;
+        private int minLimit = DEFAULT_MIN_LIMIT;
+        private int maxLimit = DEFAULT_MAX_LIMIT;
         private String name = "Bulkhead-" + System.identityHashCode(this);
 
         private Builder() {
@@ -58,7 +66,10 @@ public interface Bulkhead extends FtHandler {
 
         @Override
         public Bulkhead build() {
-            return new BulkheadImpl(this);
+            if (limitAlgorithm == LimitAlgorithm.FIXED) {
+                return new BulkheadImpl(this);
+            }
+            return new AdaptiveBulkheadImpl(this);
         }
 
         /**
@@ -75,6 +86,8 @@ public interface Bulkhead extends FtHandler {
         /**
          * Maximal number of parallel requests going through this bulkhead.
          * When the limit is reached, additional requests are enqueued.
+         * With an adaptive {@link #limitAlgorithm(io.helidon.faulttolerance.Bulkhead.LimitAlgorithm)}, this is the
+         * initial limit.
          *
          * @param limit maximal number of parallel calls, defaults is {@value DEFAULT_LIMIT}
          * @return updated builder instance
@@ -97,6 +110,41 @@ public interface Bulkhead extends FtHandler {
             return this;
         }
 
+        /**
+         * Algorithm to adjust the limit of parallel requests with.
+         * Defaults to {@link io.helidon.faulttolerance.Bulkhead.LimitAlgorithm#FIXED}, which keeps the configured
+         * {@link #limit(int)}.
+         *
+         * @param limitAlgorithm limit algorithm
+         * @return updated builder instance
+         */
+        public Builder limitAlgorithm(LimitAlgorithm limitAlgorithm) {
+            this.limitAlgorithm = Objects.requireNonNull(limitAlgorithm);
+            return this;
+        }
+
+        /**
+         * Lowest limit an adaptive {@link #limitAlgorithm(io.helidon.faulttolerance.Bulkhead.LimitAlgorithm)} may set.
+         *
+         * @param minLimit minimal number of parallel calls, default is {@value DEFAULT_MIN_LIMIT}
+         * @return updated builder instance
+         */
+        public Builder minLimit(int minLimit) {
+            this.minLimit = minLimit;
+            return this;
+        }
+
+        /**
+         * Highest limit an adaptive {@link #limitAlgorithm(io.helidon.faulttolerance.Bulkhead.LimitAlgorithm)} may set.
+         *
+         * @param maxLimit maximal number of parallel calls, default is {@value DEFAULT_MAX_LIMIT}
+         * @return updated builder instance
+         */
+        public Builder maxLimit(int maxLimit) {
+            this.maxLimit = maxLimit;
+            return this;
+        }
+
         /**
          * A name assigned for debugging, error reporting or configuration purposes.
          *
@@ -116,6 +164,18 @@ public interface Bulkhead extends FtHandler {
             return queueLength;
         }
 
+        LimitAlgorithm limitAlgorithm() {
+            return limitAlgorithm;
+        }
+
+        int minLimit() {
+            return minLimit;
+        }
+
+        int maxLimit() {
+            return maxLimit;
+        }
+
         LazyValue<? extends ExecutorService> executor() {
             return executor;
         }
@@ -125,6 +185,31 @@ public interface Bulkhead extends FtHandler {
         }
     }
 
+    /**
+     * Algorithms to adjust the limit of parallel requests of a bulkhead.
+     */
+    enum LimitAlgorithm {
+        /**
+         * The limit does not change.
+         */
+        FIXED,
+        /**
+         * Additive increase, multiplicative decrease. The limit grows by one with each successful call
+         * that used at least half of the limit, and is lowered by ten percent with each failed call.
+         */
+        AIMD,
+        /**
+         * The limit grows while the number of queued calls, estimated from the ratio of the lowest
+         * round trip time to the current one, is low, and shrinks when it is high.
+         */
+        VEGAS,
+        /**
+         * The limit follows the gradient between a long term average and the current round trip time,
+         * growing while the current round trip time stays close to the average and shrinking once it exceeds it.
+         */
+        GRADIENT
+    }
+
     /**
      * Provides statistics during the lifetime of a bulkhead, such as
      * concurrent executions, accepted/rejected calls and queue size.
@@ -158,6 +243,15 @@ public interface Bulkhead extends FtHandler {
          * @return size of waiting queue.
          */
         long waitingQueueSize();
+
+        /**
+         * Current limit of concurrent executions.
+         *
+         * @return limit of concurrent executions, or {@code -1} if not known.
+         */
+        default long limit() {
+            return -1;
+        }
     }
 
     /**
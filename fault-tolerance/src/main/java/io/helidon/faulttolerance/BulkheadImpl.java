@@ -37,6 +37,7 @@ class BulkheadImpl implements Bulkhead {
     private final LazyValue<? extends ExecutorService> executor;
     private final Queue<DelayedTask<?>> queue;
     private final Semaphore inProgress;
+    private final int limit;
     private final String name;
 
     private final AtomicLong concurrentExecutions = new AtomicLong(0L);
@@ -46,6 +47,7 @@ class BulkheadImpl implements Bulkhead {
     BulkheadImpl(Bulkhead.Builder builder) {
         this.executor = builder.executor();
         this.inProgress = new Semaphore(builder.limit(), true);
+        this.limit = builder.limit();
         this.name = builder.name();
 
         if (builder.queueLength() == 0) {
@@ -92,6 +94,11 @@ class BulkheadImpl implements Bulkhead {
             public long waitingQueueSize() {
                 return queue.size();
             }
+
+            @Override
+            public long limit() {
+                return limit;
+            }
         };
     }
 
@@ -147,7 +154,7 @@ class BulkheadImpl implements Bulkhead {
                 });
     }
 
-    private static class NoQueue extends ArrayDeque<DelayedTask<?>> {
+    static class NoQueue extends ArrayDeque<DelayedTask<?>> {
         @Override
         public boolean offer(DelayedTask delayedTask) {
             return false;
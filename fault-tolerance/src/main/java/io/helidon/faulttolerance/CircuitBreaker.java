@@ -100,6 +100,15 @@ public interface CircuitBreaker extends FtHandler {
         private int successThreshold = 1;
         // rolling window size to
         private int volume = 10;
+        // time based window, count based window of volume is used if not set
+        private Duration window;
+        private int windowBuckets = 10;
+        // how many calls must be seen in the time based window before the breaker may open
+        private int minimumThroughput = 10;
+        // calls taking at least this long are slow, slow calls are not detected if not set
+        private Duration slowCallThreshold;
+        // how many percents of slow calls will open the breaker
+        private int slowCallRatio = 100;
         private LazyValue<? extends ScheduledExecutorService> executor = FaultTolerance.scheduledExecutor();
         private String name = "CircuitBreaker-" + System.identityHashCode(this);
 
@@ -160,6 +169,76 @@ public interface CircuitBreaker extends FtHandler {
             return this;
         }
 
+        /**
+         * Use a sliding window over a period of time instead of the last {@link #volume(int)} calls
+         * to calculate the ratio of failed and slow requests.
+         * The window is split into {@link #windowBuckets(int)} buckets that expire one at a time, so
+         * the breaker reacts to the recent calls regardless of traffic.
+         * <p>
+         * If not configured, a window of the last {@link #volume(int)} calls is used and slow calls are not detected.
+         *
+         * @param window duration of the window, such as 10 seconds
+         * @return updated builder instance
+         * @see #minimumThroughput(int)
+         * @see #slowCallThreshold(java.time.Duration)
+         */
+        public Builder window(Duration window) {
+            this.window = window;
+            return this;
+        }
+
+        /**
+         * Number of buckets the time based {@link #window(java.time.Duration)} is split into.
+         * Defaults to {@code 10}, so a window of 10 seconds expires in steps of 1 second.
+         *
+         * @param buckets number of buckets
+         * @return updated builder instance
+         */
+        public Builder windowBuckets(int buckets) {
+            if (buckets < 1) {
+                throw new IllegalArgumentException("Number of window buckets must be positive, but is " + buckets);
+            }
+            this.windowBuckets = buckets;
+            return this;
+        }
+
+        /**
+         * Minimal number of calls within the time based {@link #window(java.time.Duration)} before the
+         * circuit may open. Defaults to {@code 10}.
+         *
+         * @param minimumThroughput number of calls
+         * @return updated builder instance
+         */
+        public Builder minimumThroughput(int minimumThroughput) {
+            this.minimumThroughput = minimumThroughput;
+            return this;
+        }
+
+        /**
+         * Calls that take at least this long are considered slow, regardless of their outcome.
+         * Slow calls are only detected with a time based {@link #window(java.time.Duration)}.
+         *
+         * @param slowCallThreshold duration of a slow call
+         * @return updated builder instance
+         * @see #slowCallRatio(int)
+         */
+        public Builder slowCallThreshold(Duration slowCallThreshold) {
+            this.slowCallThreshold = slowCallThreshold;
+            return this;
+        }
+
+        /**
+         * How many slow calls out of 100 will trigger the circuit to open. Defaults to {@code 100}.
+         *
+         * @param ratio percent of slow calls that trigger the circuit to open
+         * @return updated builder instance
+         * @see #slowCallThreshold(java.time.Duration)
+         */
+        public Builder slowCallRatio(int ratio) {
+            this.slowCallRatio = ratio;
+            return this;
+        }
+
         /**
          * These throwables will be considered failures, and all other will not.
          * <p>
@@ -270,6 +349,26 @@ public interface CircuitBreaker extends FtHandler {
             return volume;
         }
 
+        Duration window() {
+            return window;
+        }
+
+        int windowBuckets() {
+            return windowBuckets;
+        }
+
+        int minimumThroughput() {
+            return minimumThroughput;
+        }
+
+        Duration slowCallThreshold() {
+            return slowCallThreshold;
+        }
+
+        int slowCallRatio() {
+            return slowCallRatio;
+        }
+
         String name() {
             return name;
         }
@@ -48,7 +48,7 @@ class CircuitBreakerImpl implements CircuitBreaker {
      */
     private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
     // rolling window for counting errors to (maybe) open the breaker
-    private final ResultWindow results;
+    private final CircuitWindow results;
     // to close from half-open
     private final AtomicInteger successCounter = new AtomicInteger();
     private final AtomicBoolean halfOpenInProgress = new AtomicBoolean();
@@ -59,7 +59,16 @@ class CircuitBreakerImpl implements CircuitBreaker {
     CircuitBreakerImpl(CircuitBreaker.Builder builder) {
         this.delayMillis = builder.delay().toMillis();
         this.successThreshold = builder.successThreshold();
-        this.results = new ResultWindow(builder.volume(), builder.errorRatio());
+        if (builder.window() == null) {
+            this.results = new ResultWindow(builder.volume(), builder.errorRatio());
+        } else {
+            this.results = new TimeWindow(builder.window(),
+                                          builder.windowBuckets(),
+                                          builder.errorRatio(),
+                                          builder.minimumThroughput(),
+                                          builder.slowCallThreshold(),
+                                          builder.slowCallRatio());
+        }
         this.executor = builder.executor();
         this.errorChecker = ErrorChecker.create(builder.skipOn(), builder.applyOn());
         this.name = builder.name();
@@ -83,13 +92,15 @@ class CircuitBreakerImpl implements CircuitBreaker {
     private <U> U invokeTask(DelayedTask<U> task) {
         if (state.get() == State.CLOSED) {
             // run it!
+            long started = System.nanoTime();
             CompletionStage<Void> completion = task.execute();
             completion.handle((it, throwable) -> {
+                long duration = System.nanoTime() - started;
                 Throwable exception = FaultTolerance.cause(throwable);
                 if (exception == null || errorChecker.shouldSkip(exception)) {
-                    results.update(SUCCESS);
+                    results.update(SUCCESS, duration);
                 } else {
-                    results.update(FAILURE);
+                    results.update(FAILURE, duration);
                 }
                 if (results.shouldOpen() && state.compareAndSet(State.CLOSED, State.OPEN)) {
                     results.reset();
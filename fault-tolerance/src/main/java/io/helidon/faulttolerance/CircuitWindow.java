@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.faulttolerance;
+
+/**
+ * Window of call outcomes used by a {@link io.helidon.faulttolerance.CircuitBreaker} to decide whether to open.
+ */
+interface CircuitWindow {
+    /**
+     * Record outcome of a call.
+     *
+     * @param result        outcome of the call
+     * @param durationNanos how long the call took in nanoseconds
+     */
+    void update(ResultWindow.Result result, long durationNanos);
+
+    /**
+     * Whether the recorded outcomes should open the circuit.
+     *
+     * @return outcome of test
+     */
+    boolean shouldOpen();
+
+    /**
+     * Forget all recorded outcomes.
+     */
+    void reset();
+}
@@ -41,6 +41,7 @@ import io.helidon.config.Config;
  * <ul>
  *     <li>{@link io.helidon.faulttolerance.Async} - invoke a blocking synchronous call asynchronously in an executor service</li>
  *     <li>{@link io.helidon.faulttolerance.Bulkhead} - limit number of parallel requests to a resource</li>
+ *     <li>{@link io.helidon.faulttolerance.RateLimiter} - limit number of requests to a resource per period of time</li>
  *     <li>{@link io.helidon.faulttolerance.CircuitBreaker} - stop trying to request a failing resource until it becomes
  *     available</li>
  *     <li>{@link io.helidon.faulttolerance.Fallback} - fall back to another supplier of result in case the usual one fails</li>
@@ -195,6 +196,17 @@ public final class FaultTolerance {
             return me();
         }
 
+        /**
+         * Add a rate limiter to the list.
+         *
+         * @param rateLimiter rate limiter handler
+         * @return updated builder instance
+         */
+        public B addRateLimiter(RateLimiter rateLimiter) {
+            add(rateLimiter);
+            return me();
+        }
+
         /**
          * Add a handler to the list. This may be a custom handler or one of the predefined ones.
          *
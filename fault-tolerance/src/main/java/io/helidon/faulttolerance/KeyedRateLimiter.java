@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.faulttolerance;
+
+/**
+ * Rate limiters of the same configuration, one for each key, such as a client address or user.
+ * Obtained from {@link io.helidon.faulttolerance.RateLimiter.Builder#buildKeyed(int)}.
+ *
+ * @param <K> type of the key
+ */
+public interface KeyedRateLimiter<K> {
+    /**
+     * Rate limiter of a key, created if it does not exist.
+     * When limiters are kept for the maximal number of keys and none of them is idle, the returned limiter of a new
+     * key rejects all invocations with a {@link io.helidon.faulttolerance.RateLimitException}.
+     *
+     * @param key the key
+     * @return rate limiter of the key
+     */
+    RateLimiter limiter(K key);
+
+    /**
+     * Number of keys limiters are currently kept for.
+     *
+     * @return number of keys
+     */
+    int size();
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.faulttolerance;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Flow;
+import java.util.function.Supplier;
+
+import io.helidon.common.reactive.Multi;
+import io.helidon.common.reactive.Single;
+
+class KeyedRateLimiterImpl<K> implements KeyedRateLimiter<K> {
+    private final Map<K, RateLimiterImpl> limiters = new ConcurrentHashMap<>();
+    private final RateLimiter.Builder builder;
+    private final int maxKeys;
+    // guarded by this, no kept limiter becomes idle before this time
+    private long nextIdle = System.nanoTime();
+
+    KeyedRateLimiterImpl(RateLimiter.Builder builder, int maxKeys) {
+        this.builder = builder;
+        this.maxKeys = maxKeys;
+    }
+
+    @Override
+    public RateLimiter limiter(K key) {
+        RateLimiterImpl limiter = limiters.get(key);
+        if (limiter != null) {
+            return limiter;
+        }
+        String name = builder.name() + "-" + key;
+        if (limiters.size() >= maxKeys) {
+            long untilIdle = evict();
+            if (untilIdle > 0) {
+                return new RejectingLimiter(name, Duration.ofNanos(untilIdle));
+            }
+        }
+        return limiters.computeIfAbsent(key, it -> new RateLimiterImpl(builder, name));
+    }
+
+    @Override
+    public int size() {
+        return limiters.size();
+    }
+
+    // discards idle limiters, returns 0 if there is room for a new key, or the time until a limiter becomes idle
+    private synchronized long evict() {
+        if (limiters.size() < maxKeys) {
+            return 0;
+        }
+        long now = System.nanoTime();
+        if (nextIdle - now > 0) {
+            // all limiters were active when last checked, and none of them can be idle yet
+            return nextIdle - now;
+        }
+        // idle limiters have all their permits, discarding them does not change the limits;
+        // active limiters are kept, as discarding them would reset the limits of their keys
+        long untilIdle = Long.MAX_VALUE;
+        Iterator<RateLimiterImpl> iterator = limiters.values().iterator();
+        while (iterator.hasNext()) {
+            long remaining = iterator.next().untilIdle(now);
+            if (remaining <= 0) {
+                iterator.remove();
+            } else {
+                untilIdle = Math.min(untilIdle, remaining);
+            }
+        }
+        if (limiters.size() < maxKeys) {
+            return 0;
+        }
+        nextIdle = now + untilIdle;
+        return untilIdle;
+    }
+
+    /**
+     * Limiter of a key that cannot be kept, as all kept limiters are in use.
+     */
+    private static final class RejectingLimiter implements RateLimiter {
+        private final String name;
+        private final Duration retryAfter;
+
+        private RejectingLimiter(String name, Duration retryAfter) {
+            this.name = name;
+            this.retryAfter = retryAfter;
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+
+        @Override
+        public <T> Single<T> invoke(Supplier<? extends CompletionStage<T>> supplier) {
+            return Single.error(exception());
+        }
+
+        @Override
+        public <T> Multi<T> invokeMulti(Supplier<? extends Flow.Publisher<T>> supplier) {
+            return Multi.error(exception());
+        }
+
+        @Override
+        public boolean tryAcquire() {
+            return false;
+        }
+
+        private RateLimitException exception() {
+            return new RateLimitException("Rate limiter \"" + name + "\" rejected, the maximal number of keys is in use",
+                                          retryAfter);
+        }
+    }
+}
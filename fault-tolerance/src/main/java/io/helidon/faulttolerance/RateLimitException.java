@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.faulttolerance;
+
+import java.time.Duration;
+
+/**
+ * Failure because of {@link io.helidon.faulttolerance.RateLimiter} issues, when no permit was available
+ * within the allowed wait.
+ */
+public class RateLimitException extends RuntimeException {
+    private final Duration retryAfter;
+
+    RateLimitException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * How long until a permit is expected to be available.
+     *
+     * @return duration to wait before retrying
+     */
+    public Duration retryAfter() {
+        return retryAfter;
+    }
+}
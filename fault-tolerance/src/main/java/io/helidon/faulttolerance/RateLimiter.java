@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.faulttolerance;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ScheduledExecutorService;
+
+import io.helidon.common.LazyValue;
+
+/**
+ * Rate limiter protects a resource from more requests per period of time than it can serve.
+ * <p>
+ * Each invocation takes a permit. When no permit is available, the invocation waits for one for up to the
+ * configured {@link Builder#maxWait(java.time.Duration) maximal wait}, and fails with a
+ * {@link io.helidon.faulttolerance.RateLimitException} if none becomes available in time.
+ * <p>
+ * Limits per key, such as per client, are available through {@link Builder#buildKeyed(int)}.
+ */
+public interface RateLimiter extends FtHandler {
+    /**
+     * A new builder for {@link io.helidon.faulttolerance.RateLimiter}.
+     *
+     * @return a new builder
+     */
+    static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Take a permit if one is available right now, regardless of the configured maximal wait.
+     *
+     * @return {@code true} if a permit was taken
+     */
+    boolean tryAcquire();
+
+    /**
+     * Algorithms to count permits of a rate limiter.
+     */
+    enum Algorithm {
+        /**
+         * Token bucket refilled continuously with the permits of a period, allowing a burst of up to all permits
+         * of a period. The bucket is lock-free.
+         */
+        TOKEN_BUCKET,
+        /**
+         * Log of the times permits were taken, allowing the permits of a period within any sliding window of
+         * the period. The log keeps a time stamp per permit and is synchronized.
+         */
+        SLIDING_LOG
+    }
+
+    /**
+     * Fluent API builder for {@link io.helidon.faulttolerance.RateLimiter}.
+     */
+    class Builder implements io.helidon.common.Builder<RateLimiter> {
+        private static final int DEFAULT_LIMIT = 10;
+
+        private LazyValue<? extends ScheduledExecutorService> executor = FaultTolerance.scheduledExecutor();
+        private int limit = DEFAULT_LIMIT;
+        private Duration period = Duration.ofSeconds(1);
+        private Duration maxWait = Duration.ZERO;
+        private Algorithm algorithm = Algorithm.TOKEN_BUCKET;
+        private String name = "RateLimiter-" + System.identityHashCode(this);
+
+        private Builder() {
+        }
+
+        @Override
+        public RateLimiter build() {
+            return new RateLimiterImpl(this, name);
+        }
+
+        /**
+         * Build a rate limiter that limits each key separately, such as each client address.
+         * The limiters of the keys are created on first use, and at most {@code maxKeys} of them are kept. When
+         * the limit of keys is reached, only idle limiters are discarded; if none is idle, invocations of a new key
+         * fail with a {@link io.helidon.faulttolerance.RateLimitException} until a limiter becomes idle.
+         * The current settings of this builder are used, later changes of the builder do not apply.
+         *
+         * @param maxKeys maximal number of keys to keep limiters for
+         * @param <K> type of the key
+         * @return a new keyed rate limiter
+         */
+        public <K> KeyedRateLimiter<K> buildKeyed(int maxKeys) {
+            if (maxKeys < 1) {
+                throw new IllegalArgumentException("Maximal number of keys must be positive, but is " + maxKeys);
+            }
+            return new KeyedRateLimiterImpl<>(copy(), maxKeys);
+        }
+
+        /**
+         * Number of permits available within each {@link #period(java.time.Duration)}.
+         *
+         * @param limit number of permits, default is {@value DEFAULT_LIMIT}
+         * @return updated builder instance
+         */
+        public Builder limit(int limit) {
+            if (limit < 1) {
+                throw new IllegalArgumentException("Limit must be positive, but is " + limit);
+            }
+            this.limit = limit;
+            return this;
+        }
+
+        /**
+         * Period the {@link #limit(int)} applies to. Defaults to one second.
+         *
+         * @param period period of time
+         * @return updated builder instance
+         */
+        public Builder period(Duration period) {
+            if (period.isNegative() || period.isZero()) {
+                throw new IllegalArgumentException("Period must be positive, but is " + period);
+            }
+            this.period = period;
+            return this;
+        }
+
+        /**
+         * How long an invocation may wait for a permit. Defaults to zero, so invocations fail immediately when
+         * no permit is available.
+         *
+         * @param maxWait maximal time to wait for a permit
+         * @return updated builder instance
+         */
+        public Builder maxWait(Duration maxWait) {
+            this.maxWait = Objects.requireNonNull(maxWait);
+            return this;
+        }
+
+        /**
+         * Algorithm to count permits with. Defaults to {@link Algorithm#TOKEN_BUCKET}.
+         *
+         * @param algorithm algorithm to use
+         * @return updated builder instance
+         */
+        public Builder algorithm(Algorithm algorithm) {
+            this.algorithm = Objects.requireNonNull(algorithm);
+            return this;
+        }
+
+        /**
+         * Executor service to schedule invocations that wait for a permit.
+         * By default uses an executor configured on
+         * {@link io.helidon.faulttolerance.FaultTolerance#scheduledExecutor(java.util.function.Supplier)}.
+         *
+         * @param scheduledExecutor executor to use
+         * @return updated builder instance
+         */
+        public Builder executor(ScheduledExecutorService scheduledExecutor) {
+            this.executor = LazyValue.create(scheduledExecutor);
+            return this;
+        }
+
+        /**
+         * A name assigned for debugging, error reporting or configuration purposes.
+         *
+         * @param name the name
+         * @return updated builder instance
+         */
+        public Builder name(String name) {
+            this.name = name;
+            return this;
+        }
+
+        // limiters of new keys are created from a copy, so later changes of this builder do not affect them
+        private Builder copy() {
+            Builder copy = new Builder();
+            copy.executor = executor;
+            copy.limit = limit;
+            copy.period = period;
+            copy.maxWait = maxWait;
+            copy.algorithm = algorithm;
+            copy.name = name;
+            return copy;
+        }
+
+        LazyValue<? extends ScheduledExecutorService> executor() {
+            return executor;
+        }
+
+        int limit() {
+            return limit;
+        }
+
+        Duration period() {
+            return period;
+        }
+
+        Duration maxWait() {
+            return maxWait;
+        }
+
+        Algorithm algorithm() {
+            return algorithm;
+        }
+
+        String name() {
+            return name;
+        }
+    }
+}
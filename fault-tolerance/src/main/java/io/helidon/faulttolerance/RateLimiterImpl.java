@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.faulttolerance;
+
+import java.time.Duration;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import io.helidon.common.LazyValue;
+import io.helidon.common.reactive.Multi;
+import io.helidon.common.reactive.Single;
+
+class RateLimiterImpl implements RateLimiter {
+    private final LazyValue<? extends ScheduledExecutorService> executor;
+    private final RatePermits permits;
+    private final long maxWaitNanos;
+    private final String name;
+
+    RateLimiterImpl(RateLimiter.Builder builder, String name) {
+        this.executor = builder.executor();
+        this.permits = RatePermits.create(builder, System.nanoTime());
+        this.maxWaitNanos = builder.maxWait().toNanos();
+        this.name = name;
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public <T> Single<T> invoke(Supplier<? extends CompletionStage<T>> supplier) {
+        return invokeTask(DelayedTask.createSingle(supplier));
+    }
+
+    @Override
+    public <T> Multi<T> invokeMulti(Supplier<? extends Flow.Publisher<T>> supplier) {
+        return invokeTask(DelayedTask.createMulti(supplier));
+    }
+
+    @Override
+    public boolean tryAcquire() {
+        return permits.reserve(System.nanoTime(), 0) == 0;
+    }
+
+    long untilIdle(long now) {
+        return permits.untilIdle(now);
+    }
+
+    private <U> U invokeTask(DelayedTask<U> task) {
+        long wait = permits.reserve(System.nanoTime(), maxWaitNanos);
+        if (wait < 0) {
+            return task.error(new RateLimitException("Rate limit of \"" + name + "\" exceeded",
+                                                     Duration.ofNanos(-(wait + 1))));
+        }
+        if (wait == 0) {
+            task.execute();
+        } else {
+            executor.get().schedule(task::execute, wait, TimeUnit.NANOSECONDS);
+        }
+        return task.result();
+    }
+}
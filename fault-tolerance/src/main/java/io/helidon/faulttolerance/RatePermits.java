@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.faulttolerance;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Permits of a {@link io.helidon.faulttolerance.RateLimiter}. All times are in nanoseconds as provided by
+ * {@link System#nanoTime()}.
+ */
+abstract class RatePermits {
+    static RatePermits create(RateLimiter.Builder builder, long now) {
+        long period = builder.period().toNanos();
+        switch (builder.algorithm()) {
+        case TOKEN_BUCKET:
+            return new TokenBucket(builder.limit(), period, now);
+        case SLIDING_LOG:
+            return new SlidingLog(builder.limit(), period, now);
+        default:
+            throw new IllegalArgumentException("Unsupported rate limiter algorithm " + builder.algorithm());
+        }
+    }
+
+    /**
+     * Reserve a permit that is available now, or within the maximal wait.
+     *
+     * @param now     current time
+     * @param maxWait how long the caller may wait for the permit
+     * @return how long to wait before using the reserved permit, {@code 0} if it may be used right away; if no
+     *         permit is available within the maximal wait, a negative value {@code -(retryAfter + 1)}, where
+     *         {@code retryAfter} is the time until a permit is available
+     */
+    abstract long reserve(long now, long maxWait);
+
+    /**
+     * Whether all permits are available, so these permits do not differ from new ones.
+     *
+     * @param now current time
+     * @return {@code true} if idle
+     */
+    boolean idle(long now) {
+        return untilIdle(now) <= 0;
+    }
+
+    /**
+     * Time until all permits are available again, unless more permits are reserved meanwhile.
+     *
+     * @param now current time
+     * @return time until idle, zero or negative if idle already
+     */
+    abstract long untilIdle(long now);
+
+    /**
+     * Token bucket implemented as a generic cell rate algorithm - instead of the number of tokens, it keeps the
+     * theoretical time the next permit is due at, which moves by the emission interval of a permit with each
+     * reservation. A permit is available when the due time is no further ahead than the period less one interval,
+     * which allows a burst of all the permits of a period. The state is a single atomic value.
+     */
+    static final class TokenBucket extends RatePermits {
+        private final long interval;
+        private final long tolerance;
+        private final AtomicLong due;
+
+        TokenBucket(int limit, long period, long now) {
+            this.interval = Math.max(1, period / limit);
+            this.tolerance = period - interval;
+            this.due = new AtomicLong(now);
+        }
+
+        @Override
+        long reserve(long now, long maxWait) {
+            while (true) {
+                long current = due.get();
+                long start = (current - now > 0) ? current : now;
+                long wait = start - tolerance - now;
+                if (wait > maxWait) {
+                    return -wait - 1;
+                }
+                if (due.compareAndSet(current, start + interval)) {
+                    return Math.max(0, wait);
+                }
+            }
+        }
+
+        @Override
+        long untilIdle(long now) {
+            return due.get() - now;
+        }
+    }
+
+    /**
+     * Sliding log of the times the last permits were used, one for each permit of a period.
+     * A permit is available once the oldest logged time is a period old.
+     */
+    static final class SlidingLog extends RatePermits {
+        private final long period;
+        // guarded by this
+        private final long[] log;
+        private int oldest;
+
+        SlidingLog(int limit, long period, long now) {
+            this.period = period;
+            this.log = new long[limit];
+            for (int i = 0; i < limit; i++) {
+                log[i] = now - period;
+            }
+        }
+
+        @Override
+        synchronized long reserve(long now, long maxWait) {
+            long wait = log[oldest] + period - now;
+            if (wait > maxWait) {
+                return -wait - 1;
+            }
+            wait = Math.max(0, wait);
+            log[oldest] = now + wait;
+            oldest = (oldest + 1) % log.length;
+            return wait;
+        }
+
+        @Override
+        synchronized long untilIdle(long now) {
+            int newest = (oldest == 0) ? log.length - 1 : oldest - 1;
+            return log[newest] + period - now;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.faulttolerance;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Sliding window of results over a period of time, split into buckets.
+ * Each bucket covers an equal part of the window and holds striped counters of calls, failures and slow calls,
+ * so concurrent updates do not contend on a single counter. Buckets are rotated lock-free - the first update
+ * in a new time slot replaces the outdated bucket of its index.
+ * <p>
+ * The circuit should open once at least the minimal number of calls was seen within the window, and either
+ * the failure ratio or the slow call ratio reaches its threshold.
+ * The status is eventually consistent, same as with {@link io.helidon.faulttolerance.ResultWindow}.
+ */
+final class TimeWindow implements CircuitWindow {
+    private final AtomicReferenceArray<Bucket> buckets;
+    private final long bucketNanos;
+    private final int errorRatio;
+    private final int minimumThroughput;
+    private final long slowCallNanos;
+    private final int slowCallRatio;
+    private final LongSupplier clock;
+
+    TimeWindow(Duration window,
+               int bucketCount,
+               int errorRatio,
+               int minimumThroughput,
+               Duration slowCallThreshold,
+               int slowCallRatio) {
+        this(window, bucketCount, errorRatio, minimumThroughput, slowCallThreshold, slowCallRatio, System::nanoTime);
+    }
+
+    TimeWindow(Duration window,
+               int bucketCount,
+               int errorRatio,
+               int minimumThroughput,
+               Duration slowCallThreshold,
+               int slowCallRatio,
+               LongSupplier clock) {
+        this.buckets = new AtomicReferenceArray<>(bucketCount);
+        this.bucketNanos = Math.max(1, window.toNanos() / bucketCount);
+        this.errorRatio = errorRatio;
+        this.minimumThroughput = Math.max(1, minimumThroughput);
+        this.slowCallNanos = (slowCallThreshold == null) ? Long.MAX_VALUE : slowCallThreshold.toNanos();
+        this.slowCallRatio = slowCallRatio;
+        this.clock = clock;
+    }
+
+    @Override
+    public void update(ResultWindow.Result result, long durationNanos) {
+        Bucket bucket = bucket(Math.floorDiv(clock.getAsLong(), bucketNanos));
+        bucket.calls.increment();
+        if (result == ResultWindow.Result.FAILURE) {
+            bucket.failures.increment();
+        }
+        if (durationNanos >= slowCallNanos) {
+            bucket.slowCalls.increment();
+        }
+    }
+
+    @Override
+    public boolean shouldOpen() {
+        long slot = Math.floorDiv(clock.getAsLong(), bucketNanos);
+        long oldest = slot - buckets.length();
+        long calls = 0;
+        long failures = 0;
+        long slowCalls = 0;
+        for (int i = 0; i < buckets.length(); i++) {
+            Bucket bucket = buckets.get(i);
+            if (bucket != null && bucket.slot > oldest && bucket.slot <= slot) {
+                calls += bucket.calls.sum();
+                failures += bucket.failures.sum();
+                slowCalls += bucket.slowCalls.sum();
+            }
+        }
+        if (calls < minimumThroughput) {
+            return false;
+        }
+        return failures * 100 >= errorRatio * calls
+                || (slowCalls > 0 && slowCalls * 100 >= slowCallRatio * calls);
+    }
+
+    @Override
+    public void reset() {
+        for (int i = 0; i < buckets.length(); i++) {
+            buckets.set(i, null);
+        }
+    }
+
+    private Bucket bucket(long slot) {
+        int index = (int) Math.floorMod(slot, (long) buckets.length());
+        while (true) {
+            Bucket current = buckets.get(index);
+            if (current != null && current.slot >= slot) {
+                // a delayed update of an already rotated bucket is counted in the newer slot
+                return current;
+            }
+            Bucket fresh = new Bucket(slot);
+            if (buckets.compareAndSet(index, current, fresh)) {
+                return fresh;
+            }
+        }
+    }
+
+    private static final class Bucket {
+        private final long slot;
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder slowCalls = new LongAdder();
+
+        private Bucket(long slot) {
+            this.slot = slot;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.faulttolerance;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+/**
+ * Simulation harness of adaptive limits against a backend that serves a fixed number of calls in parallel,
+ * queues the rest and fails calls that waited too long.
+ */
+class AdaptiveLimitTest {
+    private static final long SERVICE_TIME = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final int SAMPLES = 20_000;
+
+    @Test
+    void testAimd() {
+        simulate(new AdaptiveLimit.Aimd(5, 1, 1000));
+    }
+
+    @Test
+    void testVegas() {
+        simulate(new AdaptiveLimit.Vegas(5, 1, 1000));
+    }
+
+    @Test
+    void testGradient() {
+        simulate(new AdaptiveLimit.Gradient(5, 1, 1000));
+    }
+
+    @Test
+    void testLimitsAreRespected() {
+        AdaptiveLimit limit = new AdaptiveLimit.Aimd(50, 10, 20);
+        assertThat(limit.limit(), is(20));
+        for (int i = 0; i < 100; i++) {
+            limit.onSample(SERVICE_TIME, 20, true);
+        }
+        assertThat(limit.limit(), is(10));
+    }
+
+    @Test
+    void testApplicationLimited() {
+        AdaptiveLimit limit = new AdaptiveLimit.Aimd(20, 1, 1000);
+        for (int i = 0; i < 100; i++) {
+            limit.onSample(SERVICE_TIME, 2, false);
+        }
+        assertThat("Limit should not grow when not used", limit.limit(), is(20));
+    }
+
+    private static void simulate(AdaptiveLimit limit) {
+        // backend capacity is lowered and raised again, the limit should follow
+        Backend backend = new Backend(50);
+        run(limit, backend);
+        backend.capacity = 10;
+        run(limit, backend);
+        backend.capacity = 100;
+        run(limit, backend);
+    }
+
+    private static void run(AdaptiveLimit limit, Backend backend) {
+        int min = Integer.MAX_VALUE;
+        int max = 0;
+        for (int i = 0; i < SAMPLES; i++) {
+            // the client always has enough work to use the whole limit
+            int inFlight = limit.limit();
+            long rtt = backend.rtt(inFlight);
+            limit.onSample(rtt, inFlight, backend.failed(rtt));
+            if (i > SAMPLES / 2) {
+                min = Math.min(min, limit.limit());
+                max = Math.max(max, limit.limit());
+            }
+        }
+        // the limit should use the capacity, but not queue more calls than the backend serves before failing them
+        int capacity = backend.capacity;
+        assertThat("Limit for capacity " + capacity,
+                   min,
+                   is(greaterThanOrEqualTo(capacity * 8 / 10)));
+        assertThat("Limit for capacity " + capacity,
+                   max,
+                   is(lessThanOrEqualTo(2 * capacity + Math.max(3, capacity / 10))));
+    }
+
+    private static final class Backend {
+        private int capacity;
+
+        private Backend(int capacity) {
+            this.capacity = capacity;
+        }
+
+        long rtt(int inFlight) {
+            // calls over capacity wait in a queue
+            return SERVICE_TIME * Math.max(1, (inFlight + capacity - 1) / capacity);
+        }
+
+        boolean failed(long rtt) {
+            return rtt > 2 * SERVICE_TIME;
+        }
+    }
+}
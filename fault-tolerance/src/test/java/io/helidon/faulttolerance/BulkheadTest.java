@@ -169,6 +169,50 @@ class BulkheadTest {
         FaultToleranceTest.completionException(result, IllegalStateException.class);
     }
 
+    @Test
+    void testAdaptiveBulkhead() throws InterruptedException {
+        Bulkhead bulkhead = Bulkhead.builder()
+                .limitAlgorithm(Bulkhead.LimitAlgorithm.AIMD)
+                .limit(1)
+                .queueLength(1)
+                .build();
+        assertThat(bulkhead.stats().limit(), is(1L));
+
+        Request inProgress = new Request(0);
+        Request enqueued = new Request(1);
+        Single<Integer> inProgressResult = bulkhead.invoke(inProgress::invoke);
+        Single<Integer> enqueuedResult = bulkhead.invoke(enqueued::invoke);
+        Single<Integer> rejectedResult = bulkhead.invoke(() -> Single.just(2));
+
+        if (!inProgress.invokedCdl.await(1, TimeUnit.SECONDS)) {
+            fail("Invoke method of inProgress was not called");
+        }
+        assertThat(enqueued.invoked.get(), is(false));
+        assertThat(bulkhead.stats().waitingQueueSize(), is(1L));
+        FaultToleranceTest.completionException(rejectedResult, BulkheadException.class);
+
+        inProgress.releaseCdl.countDown();
+        enqueued.releaseCdl.countDown();
+        assertThat(inProgressResult.await(1, TimeUnit.SECONDS), is(0));
+        assertThat(enqueuedResult.await(1, TimeUnit.SECONDS), is(1));
+
+        // each successful call that used the limit increased it, the limit is updated after the result completes
+        for (int i = 0; i < 100 && bulkhead.stats().limit() != 3; i++) {
+            Thread.sleep(10);
+        }
+        assertThat(bulkhead.stats().limit(), is(3L));
+        assertThat(bulkhead.stats().callsAccepted(), is(2L));
+        assertThat(bulkhead.stats().callsRejected(), is(1L));
+
+        FaultToleranceTest.completionException(bulkhead.invoke(() -> Single.error(new IllegalStateException())),
+                                               IllegalStateException.class);
+        // the limit is updated after the failure is delivered
+        for (int i = 0; i < 100 && bulkhead.stats().limit() != 2; i++) {
+            Thread.sleep(10);
+        }
+        assertThat("Failed call should lower the limit", bulkhead.stats().limit(), is(2L));
+    }
+
     private static class MultiRequest {
         private final CountDownLatch releaseCdl = new CountDownLatch(1);
         private final CountDownLatch invokedCdl = new CountDownLatch(1);
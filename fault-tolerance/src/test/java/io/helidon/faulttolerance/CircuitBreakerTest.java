@@ -94,6 +94,26 @@ class CircuitBreakerTest {
         assertThat(breaker.state(), is(CircuitBreaker.State.OPEN));
     }
 
+    @Test
+    void testTimeWindowSlowCalls() {
+        CircuitBreaker breaker = CircuitBreaker.builder()
+                .window(Duration.ofSeconds(10))
+                .minimumThroughput(4)
+                .slowCallThreshold(Duration.ofMillis(20))
+                .slowCallRatio(50)
+                .delay(Duration.ofSeconds(10))
+                .build();
+
+        good(breaker);
+        good(breaker);
+        slow(breaker);
+        assertThat(breaker.state(), is(CircuitBreaker.State.CLOSED));
+        slow(breaker);      // should open - minimum throughput reached with 50 % of slow calls
+
+        breakerOpen(breaker);
+        assertThat(breaker.state(), is(CircuitBreaker.State.OPEN));
+    }
+
     private void breakerOpen(CircuitBreaker breaker) {
         Request good = new Request();
         Single<Integer> result = breaker.invoke(good::invoke);
@@ -149,6 +169,12 @@ class CircuitBreakerTest {
         result.await(1, TimeUnit.SECONDS);
     }
 
+    private void slow(CircuitBreaker breaker) {
+        Single<Integer> result = breaker.invoke(() -> Single.timer(50, TimeUnit.MILLISECONDS, FaultTolerance.scheduledExecutor().get())
+                .map(it -> 1));
+        result.await(1, TimeUnit.SECONDS);
+    }
+
     private void goodMulti(CircuitBreaker breaker) {
         Multi<Integer> good = Multi.just(0, 1, 2);
         Multi<Integer> result = breaker.invokeMulti(() -> good);
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.faulttolerance;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Compares recording call outcomes in the count based {@link ResultWindow} and in the time based
+ * {@link TimeWindow} under contention of 32 threads, including the check whether to open the circuit
+ * that follows each update.
+ */
+@State(Scope.Benchmark)
+@Threads(32)
+public class CircuitWindowJMH {
+    private final ResultWindow resultWindow = new ResultWindow(100, 60);
+    private final TimeWindow timeWindow = new TimeWindow(Duration.ofSeconds(10),
+                                                         10,
+                                                         60,
+                                                         100,
+                                                         Duration.ofMillis(100),
+                                                         60);
+
+    public static void main(String[] args) throws Throwable {
+        Options opt = new OptionsBuilder()
+                .include(CircuitWindowJMH.class.getSimpleName())
+                .forks(1)
+                .warmupIterations(5)
+                .warmupTime(TimeValue.seconds(1))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(1))
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    @Benchmark
+    public boolean resultWindow() {
+        resultWindow.update(result());
+        return resultWindow.shouldOpen();
+    }
+
+    @Benchmark
+    public boolean timeWindow() {
+        timeWindow.update(result(), 1000);
+        return timeWindow.shouldOpen();
+    }
+
+    @Benchmark
+    public void timeWindowUpdateOnly() {
+        timeWindow.update(result(), 1000);
+    }
+
+    private static ResultWindow.Result result() {
+        // 1 % of failures, so the circuit does not open
+        return ThreadLocalRandom.current().nextInt(100) == 0 ? ResultWindow.Result.FAILURE : ResultWindow.Result.SUCCESS;
+    }
+}
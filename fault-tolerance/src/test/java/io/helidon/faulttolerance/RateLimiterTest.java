@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.faulttolerance;
+
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+import io.helidon.common.reactive.Single;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RateLimiterTest {
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final long START = 42;
+
+    @Test
+    void testTokenBucket() {
+        RatePermits permits = new RatePermits.TokenBucket(4, SECOND, START);
+        // a burst of all permits
+        for (int i = 0; i < 4; i++) {
+            assertThat(permits.reserve(START, 0), is(0L));
+        }
+        // refilled continuously, a permit every quarter of a second
+        assertThat("Next permit in a quarter of a second", permits.reserve(START, 0), is(-(SECOND / 4) - 1));
+        assertThat("Wait for the next permit", permits.reserve(START, SECOND / 4), is(SECOND / 4));
+        assertThat("Wait for the next permit", permits.reserve(START, SECOND / 4), is(-(SECOND / 2) - 1));
+        assertThat(permits.reserve(START + SECOND / 2, 0), is(0L));
+        assertThat(permits.reserve(START + SECOND / 2, 0), is(-(SECOND / 4) - 1));
+        assertThat(permits.idle(START + SECOND / 2), is(false));
+        assertThat(permits.idle(START + 2 * SECOND), is(true));
+    }
+
+    @Test
+    void testSlidingLog() {
+        RatePermits permits = new RatePermits.SlidingLog(4, SECOND, START);
+        // a burst of all permits
+        for (int i = 0; i < 4; i++) {
+            assertThat(permits.reserve(START, 0), is(0L));
+        }
+        // available again once the burst leaves the window
+        assertThat("Next permit in a second", permits.reserve(START, 0), is(-SECOND - 1));
+        assertThat("Wait for the next permit", permits.reserve(START, SECOND), is(SECOND));
+        for (int i = 0; i < 3; i++) {
+            assertThat(permits.reserve(START + SECOND, 0), is(0L));
+        }
+        assertThat("Waited permit is in the log", permits.reserve(START + SECOND, 0), is(-SECOND - 1));
+        assertThat(permits.idle(START + SECOND), is(false));
+        assertThat(permits.idle(START + 2 * SECOND), is(true));
+    }
+
+    @Test
+    void testRateLimiter() {
+        RateLimiter limiter = RateLimiter.builder()
+                .limit(2)
+                .period(Duration.ofHours(1))
+                .build();
+
+        assertThat(limiter.invoke(() -> Single.just(1)).await(1, TimeUnit.SECONDS), is(1));
+        assertThat(limiter.tryAcquire(), is(true));
+        assertThat(limiter.tryAcquire(), is(false));
+
+        RateLimitException exception = FaultToleranceTest.completionException(limiter.invoke(() -> Single.just(1)),
+                                                                              RateLimitException.class);
+        assertThat(exception.retryAfter(), is(greaterThan(Duration.ofMinutes(29))));
+    }
+
+    @Test
+    void testRateLimiterWait() {
+        RateLimiter limiter = RateLimiter.builder()
+                .limit(1)
+                .period(Duration.ofMillis(100))
+                .maxWait(Duration.ofSeconds(1))
+                .algorithm(RateLimiter.Algorithm.SLIDING_LOG)
+                .build();
+
+        long started = System.nanoTime();
+        Single<Integer> first = limiter.invoke(() -> Single.just(1));
+        Single<Integer> second = limiter.invoke(() -> Single.just(2));
+        Single<Integer> third = limiter.invoke(() -> Single.just(3));
+
+        assertThat(first.await(1, TimeUnit.SECONDS), is(1));
+        assertThat(second.await(1, TimeUnit.SECONDS), is(2));
+        assertThat(third.await(1, TimeUnit.SECONDS), is(3));
+        assertThat(System.nanoTime() - started, is(greaterThan(TimeUnit.MILLISECONDS.toNanos(190))));
+    }
+
+    @Test
+    void testKeyedRateLimiter() {
+        KeyedRateLimiter<String> limiters = RateLimiter.builder()
+                .limit(1)
+                .period(Duration.ofHours(1))
+                .buildKeyed(10);
+
+        assertThat(limiters.limiter("first").tryAcquire(), is(true));
+        assertThat(limiters.limiter("first").tryAcquire(), is(false));
+        assertThat(limiters.limiter("second").tryAcquire(), is(true));
+
+        for (int i = 0; i < 100; i++) {
+            limiters.limiter("key-" + i).tryAcquire();
+        }
+        assertThat(limiters.size(), is(lessThanOrEqualTo(10)));
+        // limits of active keys are not reset by new keys
+        assertThat(limiters.limiter("first").tryAcquire(), is(false));
+
+        CompletionException exception = assertThrows(CompletionException.class,
+                                                     () -> limiters.limiter("new").invoke(() -> Single.just(1)).await());
+        assertThat(exception.getCause(), is(instanceOf(RateLimitException.class)));
+        Duration retryAfter = ((RateLimitException) exception.getCause()).retryAfter();
+        assertThat(retryAfter, is(greaterThan(Duration.ZERO)));
+        assertThat(retryAfter, is(lessThanOrEqualTo(Duration.ofHours(1))));
+    }
+
+    @Test
+    void testKeyedRateLimiterEvictsIdle() throws InterruptedException {
+        KeyedRateLimiter<String> limiters = RateLimiter.builder()
+                .limit(1)
+                .period(Duration.ofMillis(100))
+                .buildKeyed(2);
+
+        assertThat(limiters.limiter("first").tryAcquire(), is(true));
+        assertThat(limiters.limiter("second").tryAcquire(), is(true));
+        assertThat(limiters.limiter("third").tryAcquire(), is(false));
+
+        TimeUnit.MILLISECONDS.sleep(150);
+        assertThat(limiters.limiter("third").tryAcquire(), is(true));
+        assertThat(limiters.size(), is(1));
+    }
+
+    @Test
+    void testKeyedRateLimiterCopiesBuilder() {
+        RateLimiter.Builder builder = RateLimiter.builder()
+                .limit(1)
+                .period(Duration.ofHours(1));
+        KeyedRateLimiter<String> limiters = builder.buildKeyed(10);
+        builder.limit(2);
+
+        RateLimiter limiter = limiters.limiter("key");
+        assertThat(limiter.tryAcquire(), is(true));
+        assertThat(limiter.tryAcquire(), is(false));
+    }
+
+    @Test
+    void testFaultToleranceComposition() {
+        RateLimiter limiter = RateLimiter.builder()
+                .limit(1)
+                .period(Duration.ofHours(1))
+                .build();
+        FtHandlerTyped<Integer> handler = FaultTolerance.builder()
+                .addRateLimiter(limiter)
+                .addFallback(Fallback.create(throwable -> Single.just(-1)))
+                .build();
+
+        assertThat(handler.invoke(() -> Single.just(1)).await(1, TimeUnit.SECONDS), is(1));
+        assertThat(handler.invoke(() -> Single.just(1)).await(1, TimeUnit.SECONDS), is(-1));
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.faulttolerance;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class TimeWindowTest {
+    private static final long SECOND = Duration.ofSeconds(1).toNanos();
+    private static final long FAST = 1;
+    private static final long SLOW = 2 * SECOND;
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void testNotOpenBelowMinimumThroughput() {
+        TimeWindow window = window(null);
+        assertThat("Empty should not open", window.shouldOpen(), is(false));
+        for (int i = 0; i < 4; i++) {
+            window.update(ResultWindow.Result.FAILURE, FAST);
+        }
+        assertThat("Should not open below minimum throughput", window.shouldOpen(), is(false));
+        window.update(ResultWindow.Result.FAILURE, FAST);
+        assertThat("Should open at minimum throughput", window.shouldOpen(), is(true));
+    }
+
+    @Test
+    void testOpenOnErrorRatio() {
+        TimeWindow window = window(null);
+        window.update(ResultWindow.Result.SUCCESS, FAST);
+        window.update(ResultWindow.Result.SUCCESS, FAST);
+        window.update(ResultWindow.Result.SUCCESS, FAST);
+        window.update(ResultWindow.Result.SUCCESS, FAST);
+        window.update(ResultWindow.Result.FAILURE, FAST);
+        window.update(ResultWindow.Result.SUCCESS, FAST);
+        assertThat("Should not open below 50%", window.shouldOpen(), is(false));
+        window.update(ResultWindow.Result.FAILURE, FAST);
+        window.update(ResultWindow.Result.FAILURE, FAST);
+        assertThat("Should not open below 50%", window.shouldOpen(), is(false));
+        window.update(ResultWindow.Result.FAILURE, FAST);
+        window.update(ResultWindow.Result.FAILURE, FAST);
+        assertThat("Should open at 50%", window.shouldOpen(), is(true));
+    }
+
+    @Test
+    void testOldBucketsExpire() {
+        TimeWindow window = window(null);
+        for (int i = 0; i < 5; i++) {
+            window.update(ResultWindow.Result.FAILURE, FAST);
+        }
+        assertThat(window.shouldOpen(), is(true));
+        clock.addAndGet(4 * SECOND);
+        assertThat("Failures still within window", window.shouldOpen(), is(true));
+        for (int i = 0; i < 5; i++) {
+            window.update(ResultWindow.Result.SUCCESS, FAST);
+        }
+        assertThat("Should open at 50%", window.shouldOpen(), is(true));
+        clock.addAndGet(SECOND);
+        assertThat("Failures should have expired", window.shouldOpen(), is(false));
+        clock.addAndGet(10 * SECOND);
+        for (int i = 0; i < 4; i++) {
+            window.update(ResultWindow.Result.FAILURE, FAST);
+        }
+        assertThat("Rotated buckets should not keep old results", window.shouldOpen(), is(false));
+    }
+
+    @Test
+    void testOpenOnSlowCallRatio() {
+        TimeWindow window = window(Duration.ofSeconds(1));
+        window.update(ResultWindow.Result.SUCCESS, SLOW);
+        window.update(ResultWindow.Result.SUCCESS, SLOW);
+        window.update(ResultWindow.Result.SUCCESS, FAST);
+        window.update(ResultWindow.Result.SUCCESS, FAST);
+        window.update(ResultWindow.Result.SUCCESS, FAST);
+        assertThat("Should not open below 60% of slow calls", window.shouldOpen(), is(false));
+        window.update(ResultWindow.Result.SUCCESS, SLOW);
+        assertThat("Should not open below 60% of slow calls", window.shouldOpen(), is(false));
+        window.update(ResultWindow.Result.SUCCESS, SLOW);
+        window.update(ResultWindow.Result.SUCCESS, SLOW);
+        assertThat("Should open at 60% of slow calls", window.shouldOpen(), is(true));
+    }
+
+    @Test
+    void testReset() {
+        TimeWindow window = window(null);
+        for (int i = 0; i < 5; i++) {
+            window.update(ResultWindow.Result.FAILURE, FAST);
+        }
+        assertThat(window.shouldOpen(), is(true));
+        window.reset();
+        assertThat("Empty should not open", window.shouldOpen(), is(false));
+    }
+
+    private TimeWindow window(Duration slowCallThreshold) {
+        return new TimeWindow(Duration.ofSeconds(5), 5, 50, 5, slowCallThreshold, 60, clock::get);
+    }
+}
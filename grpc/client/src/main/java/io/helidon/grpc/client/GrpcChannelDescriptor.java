@@ -16,6 +16,8 @@
 
 package io.helidon.grpc.client;
 
+import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 
 import io.helidon.config.objectmapping.Value;
@@ -27,6 +29,16 @@ import io.grpc.NameResolver;
  * GrpcChannelDescriptor contains the configuration for a {@link io.grpc.Channel}.
  */
 public class GrpcChannelDescriptor {
+    /**
+     * Balancing policy that sends calls to the channels of a pool in turn.
+     */
+    public static final String BALANCING_ROUND_ROBIN = "round-robin";
+
+    /**
+     * Balancing policy that sends each call to the channel of a pool with the fewest calls in flight.
+     */
+    public static final String BALANCING_LEAST_LOADED = "least-loaded";
+
     private boolean inProcessChannel;
     private String host;
     private int port;
@@ -34,6 +46,9 @@ public class GrpcChannelDescriptor {
     private GrpcTlsDescriptor tlsDescriptor;
     private String loadBalancerPolicy;
     private NameResolver.Factory nameResolver;
+    private List<String> addresses;
+    private int poolSize;
+    private String balancingPolicy;
 
     private GrpcChannelDescriptor(Builder builder) {
         this.inProcessChannel = builder.inProcessChannel();
@@ -43,6 +58,9 @@ public class GrpcChannelDescriptor {
         this.tlsDescriptor = builder.tlsDescriptor();
         this.loadBalancerPolicy = builder.loadBalancerPolicy();
         this.nameResolver = builder.nameResolverFactory();
+        this.addresses = List.copyOf(builder.addresses());
+        this.poolSize = builder.poolSize();
+        this.balancingPolicy = builder.balancingPolicy();
     }
 
     /**
@@ -107,6 +125,35 @@ public class GrpcChannelDescriptor {
         return Optional.ofNullable(nameResolver);
     }
 
+    /**
+     * Get the static list of {@code host:port} addresses to balance calls over. If empty, the
+     * {@link #target() target} or {@link #host() host} and {@link #port() port} are used.
+     *
+     * @return the addresses to connect to
+     */
+    public List<String> addresses() {
+        return addresses;
+    }
+
+    /**
+     * Get the number of channels (each with its own connection) to open to each address.
+     *
+     * @return the number of channels per address
+     */
+    public int poolSize() {
+        return poolSize;
+    }
+
+    /**
+     * Get the policy used to balance calls over the channels of the pool, either
+     * {@link #BALANCING_ROUND_ROBIN} or {@link #BALANCING_LEAST_LOADED}.
+     *
+     * @return the balancing policy
+     */
+    public String balancingPolicy() {
+        return balancingPolicy;
+    }
+
     /**
      * Get the {@link io.helidon.grpc.core.GrpcTlsDescriptor}. If this method returns null or
      * if {@code tlsDescriptor.isEnabled()} is false, then no TLS will be used (and none of the other configuration
@@ -135,6 +182,9 @@ public class GrpcChannelDescriptor {
         private String target;
         private String loadBalancerPolicy;
         private NameResolver.Factory nameResolver;
+        private List<String> addresses = List.of();
+        private int poolSize = 1;
+        private String balancingPolicy = BALANCING_ROUND_ROBIN;
 
         /**
          * Set the host name to connect.
@@ -226,6 +276,52 @@ public class GrpcChannelDescriptor {
             return this;
         }
 
+        /**
+         * Set a static list of {@code host:port} addresses to balance calls over, a missing port defaults
+         * to the configured {@link #port(int) port}. IPv6 literals with a port are enclosed in brackets,
+         * such as {@code [::1]:1408}.
+         * @param addresses the addresses to connect to
+         *
+         * @return this instance for fluent API
+         */
+        @Value(key = "addresses")
+        public Builder addresses(List<String> addresses) {
+            this.addresses = List.copyOf(addresses);
+            return this;
+        }
+
+        /**
+         * Set the number of channels (each with its own connection) to open to each address, so that
+         * calls are not limited by the concurrent streams of a single HTTP/2 connection.
+         * @param poolSize the number of channels per address, defaults to {@code 1}
+         *
+         * @return this instance for fluent API
+         */
+        @Value(key = "pool-size", withDefault = "1")
+        public Builder poolSize(int poolSize) {
+            if (poolSize < 1) {
+                throw new IllegalArgumentException("Pool size must be at least 1, but is " + poolSize);
+            }
+            this.poolSize = poolSize;
+            return this;
+        }
+
+        /**
+         * Set the policy used to balance calls over the channels of the pool.
+         * @param policy either {@value #BALANCING_ROUND_ROBIN} (the default) or {@value #BALANCING_LEAST_LOADED}
+         *
+         * @return this instance for fluent API
+         */
+        @Value(key = "balancing-policy", withDefault = BALANCING_ROUND_ROBIN)
+        public Builder balancingPolicy(String policy) {
+            String normalized = policy.toLowerCase(Locale.ROOT);
+            if (!BALANCING_ROUND_ROBIN.equals(normalized) && !BALANCING_LEAST_LOADED.equals(normalized)) {
+                throw new IllegalArgumentException("Unsupported balancing policy: " + policy);
+            }
+            this.balancingPolicy = normalized;
+            return this;
+        }
+
         boolean inProcessChannel() {
             return inProcessChannel;
         }
@@ -254,6 +350,18 @@ public class GrpcChannelDescriptor {
             return nameResolver;
         }
 
+        List<String> addresses() {
+            return addresses;
+        }
+
+        int poolSize() {
+            return poolSize;
+        }
+
+        String balancingPolicy() {
+            return balancingPolicy;
+        }
+
         /**
          * Build and return a new GrpcChannelDescriptor.
          * @return a new GrpcChannelDescriptor
@@ -0,0 +1,388 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.grpc.client;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import io.grpc.CallOptions;
+import io.grpc.ClientCall;
+import io.grpc.ConnectivityState;
+import io.grpc.ForwardingClientCall;
+import io.grpc.ForwardingClientCallListener;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+
+/**
+ * A shared, reference counted pool of {@link ManagedChannel}s created for a single channel descriptor
+ * of a {@link GrpcChannelsProvider}.
+ * <p>
+ * Each channel returned by {@link GrpcChannelsProvider#channel(String)} is a lease on the pool of that name.
+ * Calls made through a lease are balanced over the channels of the pool, and shutting a lease down releases
+ * it. Once the last lease is released, the channels of the pool are shut down gracefully, letting calls in
+ * flight complete.
+ */
+public final class GrpcChannelPool {
+
+    private final String name;
+    private final ManagedChannel[] channels;
+    private final AtomicInteger[] inFlight;
+    private final boolean leastLoaded;
+    private final Consumer<GrpcChannelPool> onClose;
+    private final AtomicInteger next = new AtomicInteger();
+    private final AtomicInteger totalInFlight = new AtomicInteger();
+    private int references;
+    private boolean closed;
+
+    GrpcChannelPool(String name,
+                    List<ManagedChannel> channels,
+                    String balancingPolicy,
+                    Consumer<GrpcChannelPool> onClose) {
+        this.name = name;
+        this.channels = channels.toArray(new ManagedChannel[0]);
+        this.inFlight = new AtomicInteger[this.channels.length];
+        for (int i = 0; i < inFlight.length; i++) {
+            inFlight[i] = new AtomicInteger();
+        }
+        this.leastLoaded = GrpcChannelDescriptor.BALANCING_LEAST_LOADED.equals(balancingPolicy);
+        this.onClose = onClose;
+    }
+
+    /**
+     * The name of the channel descriptor of this pool.
+     *
+     * @return the channel name
+     */
+    public String name() {
+        return name;
+    }
+
+    /**
+     * The number of channels (connections) in this pool.
+     *
+     * @return the pool size
+     */
+    public int size() {
+        return channels.length;
+    }
+
+    /**
+     * The number of calls currently in flight over all channels of this pool.
+     *
+     * @return the number of calls in flight
+     */
+    public int inFlight() {
+        return totalInFlight.get();
+    }
+
+    /**
+     * The number of leases currently held on this pool.
+     *
+     * @return the number of references
+     */
+    public synchronized int references() {
+        return references;
+    }
+
+    /**
+     * The connectivity state of this pool, which is the best state of its channels: {@code READY} if any
+     * channel is ready, then {@code CONNECTING}, {@code TRANSIENT_FAILURE} and {@code IDLE}, and
+     * {@code SHUTDOWN} only once all channels are shut down.
+     *
+     * @return the connectivity state
+     */
+    public ConnectivityState state() {
+        return state(false);
+    }
+
+    /**
+     * Acquire a new lease on this pool.
+     *
+     * @return a new lease, or {@code null} if this pool has already been closed
+     */
+    synchronized ManagedChannel lease() {
+        if (closed) {
+            return null;
+        }
+        references++;
+        return new Lease();
+    }
+
+    /**
+     * Shut down all channels of this pool gracefully, regardless of the leases held.
+     */
+    void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        }
+        for (ManagedChannel channel : channels) {
+            channel.shutdown();
+        }
+        onClose.accept(this);
+    }
+
+    private void release() {
+        synchronized (this) {
+            references--;
+            if (references > 0) {
+                return;
+            }
+        }
+        close();
+    }
+
+    private ConnectivityState state(boolean requestConnection) {
+        boolean connecting = false;
+        boolean failure = false;
+        boolean idle = false;
+        for (ManagedChannel channel : channels) {
+            switch (channel.getState(requestConnection)) {
+            case READY:
+                return ConnectivityState.READY;
+            case CONNECTING:
+                connecting = true;
+                break;
+            case TRANSIENT_FAILURE:
+                failure = true;
+                break;
+            case IDLE:
+                idle = true;
+                break;
+            default:
+                break;
+            }
+        }
+        if (connecting) {
+            return ConnectivityState.CONNECTING;
+        }
+        if (failure) {
+            return ConnectivityState.TRANSIENT_FAILURE;
+        }
+        return idle ? ConnectivityState.IDLE : ConnectivityState.SHUTDOWN;
+    }
+
+    private int select() {
+        int start = Math.floorMod(next.getAndIncrement(), channels.length);
+        if (!leastLoaded) {
+            return start;
+        }
+        // start from the round robin position, so equally loaded channels are used in turn
+        int selected = start;
+        int min = inFlight[start].get();
+        for (int i = 1; i < channels.length && min > 0; i++) {
+            int candidate = (start + i) % channels.length;
+            int load = inFlight[candidate].get();
+            if (load < min) {
+                min = load;
+                selected = candidate;
+            }
+        }
+        return selected;
+    }
+
+    private <ReqT, RespT> ClientCall<ReqT, RespT> newCall(MethodDescriptor<ReqT, RespT> method,
+                                                         CallOptions callOptions,
+                                                         AtomicInteger leaseInFlight,
+                                                         Runnable leaseCallDone) {
+        int index = select();
+        AtomicInteger channelInFlight = inFlight[index];
+        return new ForwardingClientCall.SimpleForwardingClientCall<>(channels[index].newCall(method, callOptions)) {
+            @Override
+            public void start(Listener<RespT> responseListener, Metadata headers) {
+                AtomicBoolean done = new AtomicBoolean();
+                Runnable callDone = () -> {
+                    if (done.compareAndSet(false, true)) {
+                        channelInFlight.decrementAndGet();
+                        totalInFlight.decrementAndGet();
+                        leaseInFlight.decrementAndGet();
+                        leaseCallDone.run();
+                    }
+                };
+                channelInFlight.incrementAndGet();
+                totalInFlight.incrementAndGet();
+                leaseInFlight.incrementAndGet();
+                try {
+                    super.start(new ForwardingClientCallListener.SimpleForwardingClientCallListener<>(responseListener) {
+                        @Override
+                        public void onClose(Status status, Metadata trailers) {
+                            callDone.run();
+                            super.onClose(status, trailers);
+                        }
+                    }, headers);
+                } catch (RuntimeException e) {
+                    callDone.run();
+                    throw e;
+                }
+            }
+        };
+    }
+
+    /**
+     * A lease on the pool, shutting it down releases the lease and does not affect other leases.
+     */
+    private final class Lease extends ManagedChannel {
+        private final AtomicBoolean released = new AtomicBoolean();
+        private final AtomicInteger leaseInFlight = new AtomicInteger();
+
+        @Override
+        public <ReqT, RespT> ClientCall<ReqT, RespT> newCall(MethodDescriptor<ReqT, RespT> method,
+                                                             CallOptions callOptions) {
+            if (released.get()) {
+                return new FailingCall<>(Status.UNAVAILABLE.withDescription("Channel '" + name + "' was shut down"));
+            }
+            return GrpcChannelPool.this.newCall(method, callOptions, leaseInFlight, this::callDone);
+        }
+
+        @Override
+        public String authority() {
+            return channels[0].authority();
+        }
+
+        @Override
+        public ManagedChannel shutdown() {
+            if (released.compareAndSet(false, true)) {
+                release();
+            }
+            return this;
+        }
+
+        /**
+         * Releases this lease, calls in flight are not cancelled as the channels may be shared by other leases.
+         *
+         * @return this channel
+         */
+        @Override
+        public ManagedChannel shutdownNow() {
+            return shutdown();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return released.get();
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return released.get() && leaseInFlight.get() == 0;
+        }
+
+        @Override
+        public synchronized boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            long deadline = System.nanoTime() + unit.toNanos(timeout);
+            while (!isTerminated()) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                TimeUnit.NANOSECONDS.timedWait(this, remaining);
+            }
+            return true;
+        }
+
+        @Override
+        public ConnectivityState getState(boolean requestConnection) {
+            return state(requestConnection);
+        }
+
+        @Override
+        public void notifyWhenStateChanged(ConnectivityState source, Runnable callback) {
+            if (state(false) != source) {
+                callback.run();
+                return;
+            }
+            AtomicBoolean notified = new AtomicBoolean();
+            for (ManagedChannel channel : channels) {
+                watch(channel, source, callback, notified);
+            }
+        }
+
+        @Override
+        public void resetConnectBackoff() {
+            for (ManagedChannel channel : channels) {
+                channel.resetConnectBackoff();
+            }
+        }
+
+        @Override
+        public void enterIdle() {
+            for (ManagedChannel channel : channels) {
+                channel.enterIdle();
+            }
+        }
+
+        private void watch(ManagedChannel channel, ConnectivityState source, Runnable callback, AtomicBoolean notified) {
+            channel.notifyWhenStateChanged(channel.getState(false), () -> {
+                if (notified.get()) {
+                    return;
+                }
+                if (state(false) == source) {
+                    watch(channel, source, callback, notified);
+                } else if (notified.compareAndSet(false, true)) {
+                    callback.run();
+                }
+            });
+        }
+
+        private void callDone() {
+            if (released.get() && leaseInFlight.get() == 0) {
+                synchronized (this) {
+                    notifyAll();
+                }
+            }
+        }
+    }
+
+    /**
+     * A call on a released lease, which fails once started.
+     */
+    private static final class FailingCall<ReqT, RespT> extends ClientCall<ReqT, RespT> {
+        private final Status status;
+
+        private FailingCall(Status status) {
+            this.status = status;
+        }
+
+        @Override
+        public void start(Listener<RespT> responseListener, Metadata headers) {
+            responseListener.onClose(status, new Metadata());
+        }
+
+        @Override
+        public void request(int numMessages) {
+        }
+
+        @Override
+        public void cancel(String message, Throwable cause) {
+        }
+
+        @Override
+        public void halfClose() {
+        }
+
+        @Override
+        public void sendMessage(ReqT message) {
+        }
+    }
+}
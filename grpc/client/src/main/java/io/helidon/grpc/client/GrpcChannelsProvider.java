@@ -16,8 +16,13 @@
 
 package io.helidon.grpc.client;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.net.ssl.SSLException;
 
@@ -35,6 +40,9 @@ import io.netty.handler.ssl.SslContextBuilder;
 
 /**
  * GrpcChannelsProvider is a factory for pre-configured gRPC Channel instances.
+ * <p>
+ * Channels are cached and shared: all channels obtained for the same name are leases on a single
+ * {@link GrpcChannelPool}, which is shut down once all of its leases have been shut down.
  */
 public class GrpcChannelsProvider {
 
@@ -60,8 +68,10 @@ public class GrpcChannelsProvider {
 
     private Map<String, GrpcChannelDescriptor> channelConfigs;
 
+    private final Map<String, GrpcChannelPool> pools = new HashMap<>();
+
     private GrpcChannelsProvider(Map<String, GrpcChannelDescriptor> channelDescriptors) {
-        this.channelConfigs = new HashMap<>(channelDescriptors);
+        this.channelConfigs = new ConcurrentHashMap<>(channelDescriptors);
     }
 
     /**
@@ -130,10 +140,14 @@ public class GrpcChannelsProvider {
      * If the specified channel name does not exist in the configuration, we will assume
      * that it represents the name of the gRPC host to connect to and will create a plain text
      * channel to the host with the specified {@code name}, on a default port (1408).
+     * <p>
+     * The returned channel is a lease on the shared {@link GrpcChannelPool} of the name, which is created on
+     * first use. Shutting the returned channel down releases the lease; the connections of the pool are closed
+     * once all leases are released.
      *
      * @param name the name of the channel configuration as specified in the configuration file,
      *             or the name of the host to connect to
-     * @return a new instance of {@link io.grpc.ManagedChannel}
+     * @return a new lease on the shared channels of the name
      * @throws NullPointerException if name is null
      * @throws IllegalArgumentException if name is empty
      */
@@ -148,17 +162,139 @@ public class GrpcChannelsProvider {
         GrpcChannelDescriptor chCfg = channelConfigs.computeIfAbsent(name, hostName ->
                 GrpcChannelDescriptor.builder().host(name).build());
 
-        return createChannel(chCfg);
+        synchronized (pools) {
+            GrpcChannelPool pool = pools.get(name);
+            ManagedChannel lease = pool == null ? null : pool.lease();
+            if (lease == null) {
+                pool = createPool(name, chCfg);
+                pools.put(name, pool);
+                lease = pool.lease();
+            }
+            return lease;
+        }
+    }
+
+    /**
+     * Returns the names of the configured channels.
+     *
+     * @return the channel names
+     */
+    public Set<String> channelNames() {
+        return Set.copyOf(channelConfigs.keySet());
+    }
+
+    /**
+     * Returns the channel pool of the specified name, if any lease on it is currently held.
+     *
+     * @param name the channel name
+     * @return the channel pool, or an empty {@link Optional} if there is no open pool of the name
+     */
+    public Optional<GrpcChannelPool> channelPool(String name) {
+        synchronized (pools) {
+            return Optional.ofNullable(pools.get(name));
+        }
+    }
+
+    /**
+     * Shut down all channel pools gracefully, regardless of the leases held on them. Calls already
+     * in flight are allowed to complete.
+     */
+    public void shutdown() {
+        List<GrpcChannelPool> open;
+        synchronized (pools) {
+            open = new ArrayList<>(pools.values());
+        }
+        open.forEach(GrpcChannelPool::close);
     }
 
     Map<String, GrpcChannelDescriptor> channels() {
         return channelConfigs;
     }
 
-    private ManagedChannel createChannel(GrpcChannelDescriptor descriptor) {
+    private GrpcChannelPool createPool(String name, GrpcChannelDescriptor descriptor) {
+        List<ManagedChannel> channels = new ArrayList<>();
+        for (int i = 0; i < descriptor.poolSize(); i++) {
+            if (descriptor.addresses().isEmpty()) {
+                channels.add(createChannel(descriptor, descriptor.host(), descriptor.port()));
+            } else {
+                for (String address : descriptor.addresses()) {
+                    channels.add(createChannel(descriptor, addressHost(address), addressPort(address, descriptor.port())));
+                }
+            }
+        }
+        return new GrpcChannelPool(name, channels, descriptor.balancingPolicy(), this::poolClosed);
+    }
+
+    /**
+     * Host of an address in the form {@code host}, {@code host:port}, {@code [ipv6]} or {@code [ipv6]:port}.
+     * An IPv6 literal without brackets is a host without a port.
+     *
+     * @param address the address
+     * @return the host, IPv6 literals without brackets
+     * @throws IllegalArgumentException if the brackets of an IPv6 literal are not closed
+     */
+    static String addressHost(String address) {
+        if (address.startsWith("[")) {
+            return address.substring(1, closingBracket(address));
+        }
+        int index = address.indexOf(':');
+        if (index < 0 || index != address.lastIndexOf(':')) {
+            return address;
+        }
+        return address.substring(0, index);
+    }
+
+    /**
+     * Port of an address in the form {@code host}, {@code host:port}, {@code [ipv6]} or {@code [ipv6]:port}.
+     *
+     * @param address     the address
+     * @param defaultPort port to use if the address does not have one
+     * @return the port
+     * @throws IllegalArgumentException if the address is not valid
+     */
+    static int addressPort(String address, int defaultPort) {
+        String port;
+        if (address.startsWith("[")) {
+            int end = closingBracket(address);
+            if (end == address.length() - 1) {
+                return defaultPort;
+            }
+            if (address.charAt(end + 1) != ':') {
+                throw new IllegalArgumentException("Invalid address " + address + ", expected [host]:port");
+            }
+            port = address.substring(end + 2);
+        } else {
+            int index = address.indexOf(':');
+            if (index < 0 || index != address.lastIndexOf(':')) {
+                return defaultPort;
+            }
+            port = address.substring(index + 1);
+        }
+        try {
+            return Integer.parseInt(port);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid port of address " + address, e);
+        }
+    }
+
+    private static int closingBracket(String address) {
+        int end = address.indexOf(']');
+        if (end < 0) {
+            throw new IllegalArgumentException("Invalid address " + address + ", IPv6 literal is not closed by ]");
+        }
+        return end;
+    }
+
+    private void poolClosed(GrpcChannelPool pool) {
+        synchronized (pools) {
+            pools.remove(pool.name(), pool);
+        }
+    }
+
+    private ManagedChannel createChannel(GrpcChannelDescriptor descriptor, String host, int port) {
         ManagedChannelBuilder<?> builder = descriptor.tlsDescriptor()
-                .map(tlsDescriptor -> createNettyChannelBuilder(descriptor, tlsDescriptor))
-                .orElse(createManagedChannelBuilder(descriptor));
+                .map(tlsDescriptor -> createNettyChannelBuilder(descriptor, tlsDescriptor, host, port))
+                .orElse(createManagedChannelBuilder(descriptor, host, port));
 
         descriptor.loadBalancerPolicy().ifPresent(builder::defaultLoadBalancingPolicy);
         descriptor.nameResolverFactory().ifPresent(builder::nameResolverFactory);
@@ -170,14 +306,18 @@ public class GrpcChannelsProvider {
      * Create a TLS enabled {@link ManagedChannelBuilder}.
      *
      * @param descriptor the {@link GrpcChannelDescriptor} to use to configure the builder
+     * @param host       the host to connect to if the descriptor has no target
+     * @param port       the port to connect to if the descriptor has no target
      * @return a plain (non-TLS) ManagedChannelBuilder
      */
     @SuppressWarnings("rawtypes")
     private ManagedChannelBuilder createNettyChannelBuilder(GrpcChannelDescriptor descriptor,
-                                                               GrpcTlsDescriptor tlsDescriptor) {
+                                                               GrpcTlsDescriptor tlsDescriptor,
+                                                               String host,
+                                                               int port) {
         return descriptor.target()
                          .map(NettyChannelBuilder::forTarget)
-                         .orElse(NettyChannelBuilder.forAddress(descriptor.host(), descriptor.port()))
+                         .orElse(NettyChannelBuilder.forAddress(host, port))
                          .negotiationType(NegotiationType.TLS)
                          .sslContext(createClientSslContext(tlsDescriptor.tlsCaCert(),
                                                             tlsDescriptor.tlsCert(),
@@ -188,13 +328,15 @@ public class GrpcChannelsProvider {
      * Create a plain (non-TLS) {@link ManagedChannelBuilder}.
      *
      * @param descriptor the {@link GrpcChannelDescriptor} to use to configure the builder
+     * @param host       the host to connect to if the descriptor has no target
+     * @param port       the port to connect to if the descriptor has no target
      * @return a plain (non-TLS) ManagedChannelBuilder
      */
     @SuppressWarnings("rawtypes")
-    private ManagedChannelBuilder createManagedChannelBuilder(GrpcChannelDescriptor descriptor) {
+    private ManagedChannelBuilder createManagedChannelBuilder(GrpcChannelDescriptor descriptor, String host, int port) {
         return descriptor.target()
                          .map(ManagedChannelBuilder::forTarget)
-                         .orElse(ManagedChannelBuilder.forAddress(descriptor.host(), descriptor.port()))
+                         .orElse(ManagedChannelBuilder.forAddress(host, port))
                          .usePlaintext();
     }
 
@@ -15,6 +15,8 @@
  */
 package io.helidon.grpc.client;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import io.helidon.common.configurable.Resource;
@@ -23,6 +25,7 @@ import io.helidon.config.ConfigSources;
 import io.helidon.grpc.core.GrpcTlsDescriptor;
 
 import io.grpc.Channel;
+import io.grpc.ManagedChannel;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
@@ -30,10 +33,12 @@ import static org.hamcrest.CoreMatchers.endsWith;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.hasItems;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
 
 public class GrpcChannelsProviderTest {
@@ -263,4 +268,83 @@ public class GrpcChannelsProviderTest {
         assertThat(GrpcChannelsProvider.create().channels().size(), equalTo(1));
         assertThat(GrpcChannelsProvider.create().channel(GrpcChannelsProvider.DEFAULT_CHANNEL_NAME), notNullValue());
     }
+
+    @Test
+    public void testChannelsOfSameNameSharePool() {
+        GrpcChannelsProvider provider = GrpcChannelsProvider.create(Config.empty());
+        String name = GrpcChannelsProvider.DEFAULT_CHANNEL_NAME;
+
+        ManagedChannel first = provider.channel(name);
+        ManagedChannel second = provider.channel(name);
+        GrpcChannelPool pool = provider.channelPool(name).orElseThrow();
+        assertThat(pool.size(), is(1));
+        assertThat(pool.references(), is(2));
+
+        first.shutdown();
+        assertThat(first.isShutdown(), is(true));
+        assertThat(pool.references(), is(1));
+        assertThat(provider.channelPool(name).orElseThrow(), sameInstance(pool));
+
+        second.shutdown();
+        assertThat(pool.references(), is(0));
+        assertThat(provider.channelPool(name).isPresent(), is(false));
+
+        provider.channel(name);
+        assertThat(provider.channelPool(name).orElseThrow(), is(not(sameInstance(pool))));
+        provider.shutdown();
+        assertThat(provider.channelPool(name).isPresent(), is(false));
+    }
+
+    @Test
+    public void testPooledChannelConfiguration() {
+        Config config = Config.create(ConfigSources.create(Map.of(
+                "channels.pooled.addresses.0", "first.com:1409",
+                "channels.pooled.addresses.1", "second.com",
+                "channels.pooled.pool-size", "2",
+                "channels.pooled.balancing-policy", "Least-Loaded")));
+        GrpcChannelsProvider provider = GrpcChannelsProvider.create(config);
+
+        GrpcChannelDescriptor descriptor = provider.channels().get("pooled");
+        assertThat(descriptor.addresses(), is(List.of("first.com:1409", "second.com")));
+        assertThat(descriptor.poolSize(), is(2));
+        assertThat(descriptor.balancingPolicy(), is(GrpcChannelDescriptor.BALANCING_LEAST_LOADED));
+
+        ManagedChannel channel = provider.channel("pooled");
+        GrpcChannelPool pool = provider.channelPool("pooled").orElseThrow();
+        assertThat(pool.size(), is(4));
+        assertThat(pool.inFlight(), is(0));
+        channel.shutdown();
+        assertThat(provider.channelPool("pooled").isPresent(), is(false));
+    }
+
+    @Test
+    public void testDefaultPoolConfiguration() {
+        GrpcChannelDescriptor descriptor = GrpcChannelDescriptor.builder().build();
+        assertThat(descriptor.addresses().isEmpty(), is(true));
+        assertThat(descriptor.poolSize(), is(1));
+        assertThat(descriptor.balancingPolicy(), is(GrpcChannelDescriptor.BALANCING_ROUND_ROBIN));
+    }
+
+    @Test
+    public void testPoolAddresses() {
+        assertThat(GrpcChannelsProvider.addressHost("first.com:1409"), is("first.com"));
+        assertThat(GrpcChannelsProvider.addressPort("first.com:1409", DEFAULT_PORT), is(1409));
+        assertThat(GrpcChannelsProvider.addressHost("second.com"), is("second.com"));
+        assertThat(GrpcChannelsProvider.addressPort("second.com", DEFAULT_PORT), is(DEFAULT_PORT));
+        assertThat(GrpcChannelsProvider.addressHost("[2001:db8::1]:1409"), is("2001:db8::1"));
+        assertThat(GrpcChannelsProvider.addressPort("[2001:db8::1]:1409", DEFAULT_PORT), is(1409));
+        assertThat(GrpcChannelsProvider.addressHost("[::1]"), is("::1"));
+        assertThat(GrpcChannelsProvider.addressPort("[::1]", DEFAULT_PORT), is(DEFAULT_PORT));
+        assertThat(GrpcChannelsProvider.addressHost("2001:db8::1"), is("2001:db8::1"));
+        assertThat(GrpcChannelsProvider.addressPort("2001:db8::1", DEFAULT_PORT), is(DEFAULT_PORT));
+        assertThrows(IllegalArgumentException.class, () -> GrpcChannelsProvider.addressHost("[::1"));
+        assertThrows(IllegalArgumentException.class, () -> GrpcChannelsProvider.addressPort("[::1]1409", DEFAULT_PORT));
+        assertThrows(IllegalArgumentException.class, () -> GrpcChannelsProvider.addressPort("first.com:port", DEFAULT_PORT));
+    }
+
+    @Test
+    public void testInvalidPoolConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> GrpcChannelDescriptor.builder().poolSize(0));
+        assertThrows(IllegalArgumentException.class, () -> GrpcChannelDescriptor.builder().balancingPolicy("random"));
+    }
 }
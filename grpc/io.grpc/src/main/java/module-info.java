@@ -23,6 +23,7 @@ module io.grpc {
     exports io.grpc.internal;
     exports io.grpc.util;
 
+    requires transitive com.google.common;
     requires java.logging;
     requires java.naming;
 
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.grpc.metrics;
+
+import io.helidon.grpc.client.GrpcChannelPool;
+import io.helidon.grpc.client.GrpcChannelsProvider;
+
+import io.grpc.ConnectivityState;
+import org.eclipse.microprofile.metrics.Gauge;
+import org.eclipse.microprofile.metrics.Metadata;
+import org.eclipse.microprofile.metrics.MetricID;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.MetricType;
+import org.eclipse.microprofile.metrics.MetricUnits;
+import org.eclipse.microprofile.metrics.Tag;
+
+/**
+ * Exposes the channel pools of a {@link GrpcChannelsProvider} as vendor metrics.
+ * <p>
+ * For each channel the following gauges are registered, tagged with {@code channel=<name>}:
+ * <ul>
+ *     <li>{@code grpc.client.channel.inFlight} - number of calls currently in flight</li>
+ *     <li>{@code grpc.client.channel.references} - number of channels handed out and not yet shut down</li>
+ *     <li>{@code grpc.client.channel.state} - ordinal of the {@link ConnectivityState} of the pool,
+ *     {@link ConnectivityState#SHUTDOWN} when the channel is not open</li>
+ * </ul>
+ */
+public final class GrpcChannelMetrics {
+    static final String IN_FLIGHT = "grpc.client.channel.inFlight";
+    static final String REFERENCES = "grpc.client.channel.references";
+    static final String STATE = "grpc.client.channel.state";
+
+    private static final Metadata IN_FLIGHT_METADATA = Metadata.builder()
+            .withName(IN_FLIGHT)
+            .withDisplayName("gRPC client calls in flight")
+            .withDescription("Number of calls in flight on a gRPC client channel")
+            .withType(MetricType.GAUGE)
+            .withUnit(MetricUnits.NONE)
+            .build();
+
+    private static final Metadata REFERENCES_METADATA = Metadata.builder()
+            .withName(REFERENCES)
+            .withDisplayName("gRPC client channel references")
+            .withDescription("Number of references to a shared gRPC client channel")
+            .withType(MetricType.GAUGE)
+            .withUnit(MetricUnits.NONE)
+            .build();
+
+    private static final Metadata STATE_METADATA = Metadata.builder()
+            .withName(STATE)
+            .withDisplayName("gRPC client channel state")
+            .withDescription("Ordinal of the connectivity state of a gRPC client channel")
+            .withType(MetricType.GAUGE)
+            .withUnit(MetricUnits.NONE)
+            .build();
+
+    private GrpcChannelMetrics() {
+    }
+
+    /**
+     * Register gauges for all channels configured in the provider in the vendor registry.
+     *
+     * @param provider channels provider
+     */
+    public static void register(GrpcChannelsProvider provider) {
+        register(provider, GrpcMetrics.VENDOR_REGISTRY);
+    }
+
+    /**
+     * Register gauges for a single channel in the vendor registry.
+     *
+     * @param provider    channels provider
+     * @param channelName name of the channel
+     */
+    public static void register(GrpcChannelsProvider provider, String channelName) {
+        register(provider, channelName, GrpcMetrics.VENDOR_REGISTRY);
+    }
+
+    static void register(GrpcChannelsProvider provider, MetricRegistry registry) {
+        for (String name : provider.channelNames()) {
+            register(provider, name, registry);
+        }
+    }
+
+    static void register(GrpcChannelsProvider provider, String channelName, MetricRegistry registry) {
+        Tag tag = new Tag("channel", channelName);
+        if (registry.getMetrics().containsKey(new MetricID(STATE, tag))) {
+            return;
+        }
+        registry.register(IN_FLIGHT_METADATA,
+                          (Gauge<Integer>) () -> provider.channelPool(channelName)
+                                  .map(GrpcChannelPool::inFlight)
+                                  .orElse(0),
+                          tag);
+        registry.register(REFERENCES_METADATA,
+                          (Gauge<Integer>) () -> provider.channelPool(channelName)
+                                  .map(GrpcChannelPool::references)
+                                  .orElse(0),
+                          tag);
+        registry.register(STATE_METADATA,
+                          (Gauge<Integer>) () -> provider.channelPool(channelName)
+                                  .map(GrpcChannelPool::state)
+                                  .orElse(ConnectivityState.SHUTDOWN)
+                                  .ordinal(),
+                          tag);
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.grpc.metrics;
+
+import io.helidon.config.Config;
+import io.helidon.grpc.client.GrpcChannelsProvider;
+
+import io.grpc.ConnectivityState;
+import io.grpc.ManagedChannel;
+import org.eclipse.microprofile.metrics.Gauge;
+import org.eclipse.microprofile.metrics.MetricID;
+import org.eclipse.microprofile.metrics.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class GrpcChannelMetricsTest {
+
+    @Test
+    public void shouldExposeChannelPoolGauges() {
+        GrpcChannelsProvider provider = GrpcChannelsProvider.create(Config.empty());
+        String name = GrpcChannelsProvider.DEFAULT_CHANNEL_NAME;
+        Tag tag = new Tag("channel", name);
+
+        GrpcChannelMetrics.register(provider);
+        // registering twice is a no-op
+        GrpcChannelMetrics.register(provider);
+
+        assertThat(gauge(GrpcChannelMetrics.STATE, tag), is(ConnectivityState.SHUTDOWN.ordinal()));
+        assertThat(gauge(GrpcChannelMetrics.REFERENCES, tag), is(0));
+
+        ManagedChannel channel = provider.channel(name);
+        assertThat(gauge(GrpcChannelMetrics.REFERENCES, tag), is(1));
+        assertThat(gauge(GrpcChannelMetrics.IN_FLIGHT, tag), is(0));
+        assertThat(gauge(GrpcChannelMetrics.STATE, tag), is(ConnectivityState.IDLE.ordinal()));
+
+        channel.shutdown();
+        assertThat(gauge(GrpcChannelMetrics.REFERENCES, tag), is(0));
+        assertThat(gauge(GrpcChannelMetrics.STATE, tag), is(ConnectivityState.SHUTDOWN.ordinal()));
+    }
+
+    private static Object gauge(String name, Tag tag) {
+        Gauge<?> gauge = GrpcMetrics.VENDOR_REGISTRY.getGauges().get(new MetricID(name, tag));
+        return gauge.getValue();
+    }
+}
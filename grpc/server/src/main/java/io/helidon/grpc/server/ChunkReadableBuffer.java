@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.grpc.server;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.helidon.common.http.DataChunk;
+
+import io.grpc.internal.AbstractReadableBuffer;
+import io.grpc.internal.CompositeReadableBuffer;
+import io.grpc.internal.ReadableBuffer;
+
+/**
+ * A gRPC readable buffer reading an inbound chunk of the web server without copying it.
+ * <p>
+ * The deframer may split the buffer, for example when a chunk contains several messages. Each part shares the
+ * chunk, which is released once all of them are closed.
+ */
+final class ChunkReadableBuffer extends AbstractReadableBuffer {
+
+    private final ByteBuffer buffer;
+    private final Owner owner;
+    private boolean closed;
+
+    private ChunkReadableBuffer(ByteBuffer buffer, Owner owner) {
+        this.buffer = buffer;
+        this.owner = owner;
+    }
+
+    /**
+     * Create a readable buffer of a chunk, the chunk is released once the buffer is closed.
+     *
+     * @param chunk inbound chunk
+     * @return readable buffer
+     */
+    static ReadableBuffer create(DataChunk chunk) {
+        ByteBuffer[] data = chunk.data();
+        Owner owner = new Owner(chunk, data.length);
+        if (data.length == 1) {
+            return new ChunkReadableBuffer(data[0].slice(), owner);
+        }
+        CompositeReadableBuffer composite = new CompositeReadableBuffer();
+        for (ByteBuffer byteBuffer : data) {
+            composite.addBuffer(new ChunkReadableBuffer(byteBuffer.slice(), owner));
+        }
+        if (data.length == 0) {
+            chunk.release();
+        }
+        return composite;
+    }
+
+    @Override
+    public int readableBytes() {
+        return buffer.remaining();
+    }
+
+    @Override
+    public int readUnsignedByte() {
+        checkReadable(1);
+        return buffer.get() & 0xFF;
+    }
+
+    @Override
+    public void skipBytes(int length) {
+        checkReadable(length);
+        buffer.position(buffer.position() + length);
+    }
+
+    @Override
+    public void readBytes(byte[] dest, int destOffset, int length) {
+        checkReadable(length);
+        buffer.get(dest, destOffset, length);
+    }
+
+    @Override
+    public void readBytes(ByteBuffer dest) {
+        int length = dest.remaining();
+        checkReadable(length);
+        int limit = buffer.limit();
+        buffer.limit(buffer.position() + length);
+        dest.put(buffer);
+        buffer.limit(limit);
+    }
+
+    @Override
+    public void readBytes(OutputStream dest, int length) throws IOException {
+        checkReadable(length);
+        if (buffer.hasArray()) {
+            dest.write(buffer.array(), buffer.arrayOffset() + buffer.position(), length);
+            buffer.position(buffer.position() + length);
+        } else {
+            byte[] bytes = new byte[length];
+            buffer.get(bytes);
+            dest.write(bytes);
+        }
+    }
+
+    @Override
+    public ReadableBuffer readBytes(int length) {
+        checkReadable(length);
+        ByteBuffer part = buffer.slice();
+        part.limit(length);
+        buffer.position(buffer.position() + length);
+        owner.retain();
+        return new ChunkReadableBuffer(part, owner);
+    }
+
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            owner.release();
+        }
+    }
+
+    /**
+     * The chunk shared by the buffers reading it.
+     */
+    private static final class Owner {
+        private final DataChunk chunk;
+        private final AtomicInteger references;
+
+        private Owner(DataChunk chunk, int references) {
+            this.chunk = chunk;
+            this.references = new AtomicInteger(references);
+        }
+
+        private void retain() {
+            references.incrementAndGet();
+        }
+
+        private void release() {
+            if (references.decrementAndGet() == 0) {
+                chunk.release();
+            }
+        }
+    }
+}
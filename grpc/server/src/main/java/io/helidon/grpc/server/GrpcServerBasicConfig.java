@@ -39,6 +39,8 @@ public class GrpcServerBasicConfig
 
     private final int workers;
 
+    private final int maxInboundMessageSize;
+
     private final GrpcTlsDescriptor tlsConfig;
 
     private final Context context;
@@ -57,6 +59,7 @@ public class GrpcServerBasicConfig
         this.tracer = builder.tracer();
         this.tracingConfig = builder.tracingConfig();
         this.workers = builder.workers();
+        this.maxInboundMessageSize = builder.maxInboundMessageSize();
         this.tlsConfig = builder.tlsConfig();
     }
 
@@ -129,6 +132,11 @@ public class GrpcServerBasicConfig
         return workers;
     }
 
+    @Override
+    public int maxInboundMessageSize() {
+        return maxInboundMessageSize;
+    }
+
     @Override
     public GrpcTlsDescriptor tlsConfig() {
         return tlsConfig;
@@ -44,6 +44,11 @@ public interface GrpcServerConfiguration {
      */
     int DEFAULT_WORKER_COUNT = Runtime.getRuntime().availableProcessors();
 
+    /**
+     * The default maximal size of a message received by a call, in bytes.
+     */
+    int DEFAULT_MAX_INBOUND_MESSAGE_SIZE = 4 * 1024 * 1024;
+
     /**
      * Get the server name.
      *
@@ -98,6 +103,18 @@ public interface GrpcServerConfiguration {
      */
     int workers();
 
+    /**
+     * Returns the maximal size of a message received by a call, in bytes. Calls receiving a larger
+     * message fail with {@code RESOURCE_EXHAUSTED}.
+     * <p>
+     * Default value is {@link #DEFAULT_MAX_INBOUND_MESSAGE_SIZE}.
+     *
+     * @return maximal size of an inbound message
+     */
+    default int maxInboundMessageSize() {
+        return DEFAULT_MAX_INBOUND_MESSAGE_SIZE;
+    }
+
     /**
      * Returns a SslConfiguration to use with the server socket. If not {@code null} then
      * the server enforces an SSL communication.
@@ -162,6 +179,8 @@ public interface GrpcServerConfiguration {
 
         private int workers;
 
+        private int maxInboundMessageSize = DEFAULT_MAX_INBOUND_MESSAGE_SIZE;
+
         private GrpcTlsDescriptor tlsConfig = null;
 
         private Context context;
@@ -178,6 +197,7 @@ public interface GrpcServerConfiguration {
             port = config.get("port").asInt().orElse(DEFAULT_PORT);
             useNativeTransport = config.get("native").asBoolean().orElse(false);
             config.get("workers").asInt().ifPresent(this::workersCount);
+            config.get("max-inbound-message-size").asInt().ifPresent(this::maxInboundMessageSize);
 
             return this;
         }
@@ -266,6 +286,23 @@ public interface GrpcServerConfiguration {
             return this;
         }
 
+        /**
+         * Sets the maximal size of a message received by a call, in bytes.
+         * Default value is {@link #DEFAULT_MAX_INBOUND_MESSAGE_SIZE}.
+         * <p>
+         * Configuration key: {@code max-inbound-message-size}
+         *
+         * @param maxInboundMessageSize maximal size of an inbound message
+         * @return an updated builder
+         */
+        public Builder maxInboundMessageSize(int maxInboundMessageSize) {
+            if (maxInboundMessageSize <= 0) {
+                throw new IllegalArgumentException("Maximal inbound message size must be positive: " + maxInboundMessageSize);
+            }
+            this.maxInboundMessageSize = maxInboundMessageSize;
+            return this;
+        }
+
         /**
          * Configures TLS configuration to use with the server socket. If not {@code null} then
          * the server enforces an TLS communication.
@@ -310,6 +347,10 @@ public interface GrpcServerConfiguration {
             return workers;
         }
 
+        int maxInboundMessageSize() {
+            return maxInboundMessageSize;
+        }
+
         @Override
         public GrpcServerConfiguration build() {
             if (name == null || name.isEmpty()) {
@@ -57,6 +57,7 @@ import io.grpc.ServerMethodDefinition;
 import io.grpc.ServerServiceDefinition;
 import io.grpc.inprocess.InProcessChannelBuilder;
 import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.internal.ServerImplBuilder;
 import io.grpc.netty.GrpcSslContexts;
 import io.grpc.netty.NettyServerBuilder;
 import io.grpc.util.MutableHandlerRegistry;
@@ -126,6 +127,12 @@ public class GrpcServerImpl implements GrpcServer {
 
     private final Context context;
 
+    /**
+     * The transport used to serve calls on the HTTP/2 connections of a web server, {@code null} when
+     * this server listens on its own port.
+     */
+    private WebServerTransport webServerTransport;
+
     // ---- constructors ----------------------------------------------------
 
     /**
@@ -153,6 +160,10 @@ public class GrpcServerImpl implements GrpcServer {
 
     @Override
     public CompletionStage<GrpcServer> start() {
+        if (webServerTransport != null) {
+            return startOnWebServer();
+        }
+
         String sName = config.name();
         int port = config.port();
         boolean tls = false;
@@ -269,6 +280,47 @@ public class GrpcServerImpl implements GrpcServer {
 
     // ---- helper methods --------------------------------------------------
 
+    /**
+     * Serve calls on the HTTP/2 connections of a web server instead of listening on a port.
+     *
+     * @param transport the transport that receives calls from the web server
+     */
+    void webServerTransport(WebServerTransport transport) {
+        this.webServerTransport = transport;
+    }
+
+    private CompletionStage<GrpcServer> startOnWebServer() {
+        String sName = config.name();
+
+        try {
+            HandlerRegistry handlerRegistry = this.handlerRegistry;
+
+            server = new ServerImplBuilder(tracerFactories -> List.of(webServerTransport.streamTracerFactories(tracerFactories)))
+                    .directExecutor()
+                    .addService(healthService)
+                    .addService(ProtoReflectionService.newInstance())
+                    .fallbackHandlerRegistry(handlerRegistry)
+                    .build()
+                    .start();
+
+            inProcessServer = InProcessServerBuilder
+                    .forName(sName)
+                    .addService(healthService)
+                    .fallbackHandlerRegistry(handlerRegistry)
+                    .build()
+                    .start();
+
+            LOGGER.log(Level.INFO, () -> format("gRPC server [%s]: serving on web server HTTP/2 connections", sName));
+
+            Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown));
+            startFuture.complete(this);
+        } catch (Throwable e) {
+            LOGGER.log(Level.SEVERE, format("gRPC server [%s]: failed to start on web server", sName), e);
+            startFuture.completeExceptionally(e);
+        }
+        return startFuture;
+    }
+
     private NettyServerBuilder configureNetty(NettyServerBuilder builder) {
         int workersCount = config.workers();
 
@@ -290,6 +342,7 @@ public class GrpcServerImpl implements GrpcServer {
         }
 
         return builder
+                .maxInboundMessageSize(config.maxInboundMessageSize())
                 .channelType(channelType)
                 .bossEventLoopGroup(boss)
                 .workerEventLoopGroup(workers);
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.grpc.server;
+
+import java.util.Objects;
+
+import io.helidon.common.http.Http;
+import io.helidon.webserver.WebServer;
+import io.helidon.webserver.spi.Http2ServerStream;
+import io.helidon.webserver.spi.Http2StreamHandler;
+import io.helidon.webserver.spi.Http2StreamHandlers;
+import io.helidon.webserver.spi.Http2StreamHeaders;
+
+import io.grpc.internal.GrpcUtil;
+
+/**
+ * Serves gRPC services on the HTTP/2 sockets of a Helidon {@link io.helidon.webserver.WebServer}.
+ * <p>
+ * Instead of starting a separate Netty server with its own event loops, port and TLS configuration, the gRPC
+ * calls (requests with an {@code application/grpc} content type) are dispatched directly from the HTTP/2
+ * connections of the web server, while any other request is handled by the web server routing as usual.
+ * The gRPC server configuration is used for everything but the network settings (port, workers and TLS),
+ * which are those of the web server sockets.
+ * <pre>
+ * GrpcWebServerSupport grpc = GrpcWebServerSupport.create(grpcRouting);
+ * WebServer server = grpc.register(WebServer.builder(routing)
+ *                                          .experimental(ExperimentalConfiguration.builder()
+ *                                                                .http2(Http2Configuration.builder().enable(true).build())
+ *                                                                .build()))
+ *         .build();
+ * </pre>
+ * Requires HTTP/2 to be enabled on the web server. The gRPC server is started when this support is created
+ * and should be shut down together with the web server using {@link #server()}.
+ */
+public final class GrpcWebServerSupport {
+
+    private final GrpcServer server;
+
+    private final WebServerTransport transport;
+
+    private GrpcWebServerSupport(GrpcServer server, WebServerTransport transport) {
+        this.server = server;
+        this.transport = transport;
+    }
+
+    /**
+     * Create gRPC support for the web server with the default configuration.
+     *
+     * @param routing the routing of the gRPC services
+     * @return started gRPC support
+     */
+    public static GrpcWebServerSupport create(GrpcRouting routing) {
+        return create(GrpcServerConfiguration.create(), routing);
+    }
+
+    /**
+     * Create gRPC support for the web server.
+     *
+     * @param configuration the gRPC server configuration, network settings are ignored
+     * @param routing       the routing of the gRPC services
+     * @return started gRPC support
+     */
+    public static GrpcWebServerSupport create(GrpcServerConfiguration configuration, GrpcRouting routing) {
+        Objects.requireNonNull(routing, "Parameter 'routing' is null!");
+
+        WebServerTransport transport = new WebServerTransport(configuration.maxInboundMessageSize());
+        GrpcServerImpl server = (GrpcServerImpl) GrpcServer.builder(routing)
+                .config(configuration)
+                .build();
+        server.webServerTransport(transport);
+        server.start();
+        return new GrpcWebServerSupport(server, transport);
+    }
+
+    /**
+     * The gRPC server serving the calls, to obtain its services and health checks, or to shut it down.
+     *
+     * @return the gRPC server
+     */
+    public GrpcServer server() {
+        return server;
+    }
+
+    /**
+     * Serve the gRPC calls on the sockets of a web server. Requests that are not gRPC calls are handled by the
+     * routing of the web server.
+     * <p>
+     * HTTP/2 must be enabled through
+     * {@link WebServer.Builder#experimental(io.helidon.webserver.ExperimentalConfiguration)}, otherwise
+     * an {@link IllegalStateException} is thrown by the {@link WebServer.Builder#build()} method.
+     *
+     * @param builder web server builder
+     * @return the updated builder
+     */
+    public WebServer.Builder register(WebServer.Builder builder) {
+        Http2StreamHandlers.add(builder, new StreamHandler(transport));
+        return builder;
+    }
+
+    private static final class StreamHandler implements Http2StreamHandler {
+        private final WebServerTransport transport;
+
+        private StreamHandler(WebServerTransport transport) {
+            this.transport = transport;
+        }
+
+        @Override
+        public boolean accepts(Http2StreamHeaders headers) {
+            return headers.first(Http.Header.CONTENT_TYPE)
+                    .map(GrpcUtil::isGrpcContentType)
+                    .orElse(false);
+        }
+
+        @Override
+        public Listener stream(Http2ServerStream stream, Http2StreamHeaders headers, boolean endOfStream) {
+            return transport.stream(stream, headers, endOfStream);
+        }
+    }
+}
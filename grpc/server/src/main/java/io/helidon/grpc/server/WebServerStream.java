@@ -0,0 +1,357 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.grpc.server;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import io.helidon.common.http.DataChunk;
+import io.helidon.common.http.HashParameters;
+import io.helidon.common.http.Http;
+import io.helidon.common.http.Parameters;
+import io.helidon.media.common.DataChunkAllocator;
+import io.helidon.webserver.spi.Http2ServerStream;
+import io.helidon.webserver.spi.Http2StreamHandler;
+import io.helidon.webserver.spi.Http2StreamHeaders;
+
+import io.grpc.Attributes;
+import io.grpc.InternalMetadata;
+import io.grpc.InternalStatus;
+import io.grpc.Metadata;
+import io.grpc.Status;
+import io.grpc.internal.AbstractServerStream;
+import io.grpc.internal.GrpcUtil;
+import io.grpc.internal.StatsTraceContext;
+import io.grpc.internal.TransportFrameUtil;
+import io.grpc.internal.TransportTracer;
+import io.grpc.internal.WritableBuffer;
+import io.grpc.internal.WritableBufferAllocator;
+
+/**
+ * A gRPC server stream carried by an HTTP/2 stream of the Helidon {@link io.helidon.webserver.WebServer}.
+ * <p>
+ * Inbound frames are received on the event loop of the connection, outbound frames are written on it,
+ * regardless of the thread the call is served by. Received bytes are returned to the flow control window
+ * once the deframer has processed them, so a client cannot send faster than the call consumes its messages.
+ */
+class WebServerStream extends AbstractServerStream implements Http2StreamHandler.Listener {
+
+    /**
+     * Maximal size of a single outbound buffer, larger messages are split into several frames by the framer.
+     */
+    private static final int MAX_BUFFER = 1024 * 1024;
+
+    /**
+     * Minimal size of an outbound buffer, to avoid allocating many tiny buffers.
+     */
+    private static final int MIN_BUFFER = 4096;
+
+    private final Http2ServerStream stream;
+    private final Attributes attributes;
+    private final String authority;
+    private final State state;
+    private final Sink sink = new Sink();
+    private final Consumer<WebServerStream> onClosed;
+
+    WebServerStream(Http2ServerStream stream,
+                    int maxInboundMessageSize,
+                    StatsTraceContext statsTraceContext,
+                    TransportTracer transportTracer,
+                    Attributes attributes,
+                    String authority,
+                    Consumer<WebServerStream> onClosed) {
+        super(new BufferAllocator(stream.connection().allocator()), statsTraceContext);
+        this.stream = stream;
+        this.attributes = attributes;
+        this.authority = authority;
+        this.onClosed = onClosed;
+        this.state = new State(maxInboundMessageSize, statsTraceContext, transportTracer);
+    }
+
+    /**
+     * Convert request headers to gRPC metadata, pseudo headers are skipped.
+     *
+     * @param headers HTTP/2 request headers
+     * @return metadata of the request
+     */
+    static Metadata metadata(Http2StreamHeaders headers) {
+        List<byte[]> serialized = new ArrayList<>();
+        headers.forEach((name, value) -> {
+            serialized.add(name.getBytes(StandardCharsets.US_ASCII));
+            serialized.add(value.getBytes(StandardCharsets.ISO_8859_1));
+        });
+        return InternalMetadata.newMetadata(TransportFrameUtil.toRawSerializedHeaders(serialized.toArray(new byte[0][])));
+    }
+
+    /**
+     * Respond to a request that cannot be served as a gRPC call with a trailers-only response.
+     *
+     * @param stream     the HTTP/2 stream
+     * @param httpStatus HTTP status of the response
+     * @param status     gRPC status of the response
+     * @return listener discarding the inbound side of the stream
+     */
+    static Http2StreamHandler.Listener reject(Http2ServerStream stream, Http.ResponseStatus httpStatus, Status status) {
+        Metadata trailers = new Metadata();
+        trailers.put(InternalStatus.CODE_KEY, status);
+        if (status.getDescription() != null) {
+            trailers.put(InternalStatus.MESSAGE_KEY, status.getDescription());
+        }
+        stream.writeHeaders(httpStatus, addMetadata(responseHeaders(), trailers), true);
+        stream.flush();
+        return new Http2StreamHandler.Listener() {
+            @Override
+            public void onData(DataChunk data, boolean endOfStream) {
+                stream.consumeBytes(data.remaining());
+                data.release();
+            }
+
+            @Override
+            public void onClosed() {
+            }
+        };
+    }
+
+    @Override
+    public void onData(DataChunk data, boolean endOfStream) {
+        try {
+            state.inboundDataReceived(ChunkReadableBuffer.create(data), endOfStream);
+        } catch (Throwable e) {
+            state.deframeFailed(e);
+        }
+    }
+
+    @Override
+    public void onClosed() {
+        onClosed.accept(this);
+        if (!state.completed) {
+            state.completed = true;
+            state.transportReportStatus(Status.CANCELLED.withDescription("Stream closed before completion"));
+        }
+    }
+
+    @Override
+    public int streamId() {
+        return stream.id();
+    }
+
+    @Override
+    public Attributes getAttributes() {
+        return attributes;
+    }
+
+    @Override
+    public String getAuthority() {
+        return authority;
+    }
+
+    @Override
+    protected State transportState() {
+        return state;
+    }
+
+    @Override
+    protected Sink abstractServerStreamSink() {
+        return sink;
+    }
+
+    /**
+     * Notify the stream it was handed over to the gRPC server and may start sending.
+     */
+    void allocated() {
+        state.onStreamAllocated();
+    }
+
+    /**
+     * Reset the stream from the transport side, such as when the connection is forcefully shut down.
+     *
+     * @param status reason of the reset
+     */
+    void reset(Status status) {
+        state.completed = true;
+        state.transportReportStatus(status);
+        stream.reset();
+    }
+
+    private void onEventLoop(Runnable runnable) {
+        if (stream.connection().inEventLoop()) {
+            runnable.run();
+        } else {
+            stream.connection().executor().execute(runnable);
+        }
+    }
+
+    private static Parameters responseHeaders() {
+        Parameters headers = HashParameters.create();
+        headers.add(Http.Header.CONTENT_TYPE, GrpcUtil.CONTENT_TYPE_GRPC);
+        return headers;
+    }
+
+    private static Parameters addMetadata(Parameters headers, Metadata metadata) {
+        metadata.discardAll(GrpcUtil.CONTENT_TYPE_KEY);
+        byte[][] serialized = TransportFrameUtil.toHttp2Headers(metadata);
+        for (int i = 0; i < serialized.length; i += 2) {
+            headers.add(new String(serialized[i], StandardCharsets.US_ASCII),
+                        new String(serialized[i + 1], StandardCharsets.ISO_8859_1));
+        }
+        return headers;
+    }
+
+    /**
+     * Writes outbound frames of the call, invoked by gRPC on the thread serving the call.
+     */
+    private final class Sink implements AbstractServerStream.Sink {
+        @Override
+        public void writeHeaders(Metadata headers) {
+            stream.writeHeaders(Http.Status.OK_200, addMetadata(responseHeaders(), headers), false);
+            stream.flush();
+        }
+
+        @Override
+        public void writeFrame(WritableBuffer frame, boolean flush, int numMessages) {
+            if (frame == null) {
+                if (flush) {
+                    stream.flush();
+                }
+                return;
+            }
+            DataChunk chunk = ((Buffer) frame).flip();
+            int bytes = chunk.remaining();
+            onSendingBytes(bytes);
+            stream.writeData(chunk)
+                    .thenRun(() -> {
+                        state.onSentBytes(bytes);
+                        state.transportTracer.reportMessageSent(numMessages);
+                    });
+            if (flush) {
+                stream.flush();
+            }
+        }
+
+        @Override
+        public void writeTrailers(Metadata trailers, boolean headersSent, Status status) {
+            Parameters headers = addMetadata(headersSent ? HashParameters.create() : responseHeaders(), trailers);
+            (headersSent ? stream.writeTrailers(headers) : stream.writeHeaders(Http.Status.OK_200, headers, true))
+                    .whenComplete((it, throwable) -> {
+                        if (state.completed) {
+                            return;
+                        }
+                        state.completed = true;
+                        if (throwable == null) {
+                            state.complete();
+                        } else {
+                            state.transportReportStatus(Status.fromThrowable(throwable));
+                        }
+                    });
+            stream.flush();
+        }
+
+        @Override
+        public void cancel(Status status) {
+            onEventLoop(() -> reset(status));
+        }
+    }
+
+    /**
+     * Inbound state of the stream, only accessed from the event loop of the connection.
+     */
+    private final class State extends AbstractServerStream.TransportState {
+        private final TransportTracer transportTracer;
+        private boolean completed;
+
+        private State(int maxInboundMessageSize, StatsTraceContext statsTraceContext, TransportTracer transportTracer) {
+            super(maxInboundMessageSize, statsTraceContext, transportTracer);
+            this.transportTracer = transportTracer;
+        }
+
+        @Override
+        public void runOnTransportThread(Runnable runnable) {
+            onEventLoop(runnable);
+        }
+
+        @Override
+        public void bytesRead(int numBytes) {
+            stream.consumeBytes(numBytes);
+        }
+
+        @Override
+        public void deframeFailed(Throwable cause) {
+            reset(Status.fromThrowable(cause));
+        }
+    }
+
+    /**
+     * Outbound buffer backed by a chunk of the web server allocator, the chunk is released once written
+     * to the connection.
+     */
+    private static final class Buffer implements WritableBuffer {
+        private final DataChunk chunk;
+        private final ByteBuffer buffer;
+
+        private Buffer(DataChunk chunk) {
+            this.chunk = chunk;
+            this.buffer = chunk.data()[0];
+        }
+
+        @Override
+        public void write(byte[] src, int srcIndex, int length) {
+            buffer.put(src, srcIndex, length);
+        }
+
+        @Override
+        public void write(byte b) {
+            buffer.put(b);
+        }
+
+        @Override
+        public int writableBytes() {
+            return buffer.remaining();
+        }
+
+        @Override
+        public int readableBytes() {
+            return buffer.position();
+        }
+
+        @Override
+        public void release() {
+            chunk.release();
+        }
+
+        private DataChunk flip() {
+            buffer.flip();
+            return chunk;
+        }
+    }
+
+    private static final class BufferAllocator implements WritableBufferAllocator {
+        private final DataChunkAllocator allocator;
+
+        private BufferAllocator(DataChunkAllocator allocator) {
+            this.allocator = allocator;
+        }
+
+        @Override
+        public WritableBuffer allocate(int capacityHint) {
+            return new Buffer(allocator.allocate(false, Math.min(MAX_BUFFER, Math.max(MIN_BUFFER, capacityHint))));
+        }
+    }
+}
@@ -0,0 +1,288 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.grpc.server;
+
+import java.net.SocketAddress;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+
+import io.helidon.common.http.DataChunk;
+import io.helidon.common.http.Http;
+import io.helidon.webserver.spi.Http2ServerConnection;
+import io.helidon.webserver.spi.Http2ServerStream;
+import io.helidon.webserver.spi.Http2StreamHandler;
+import io.helidon.webserver.spi.Http2StreamHeaders;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import io.grpc.Attributes;
+import io.grpc.Grpc;
+import io.grpc.InternalChannelz;
+import io.grpc.InternalInstrumented;
+import io.grpc.InternalLogId;
+import io.grpc.Metadata;
+import io.grpc.ServerStreamTracer;
+import io.grpc.Status;
+import io.grpc.internal.InternalServer;
+import io.grpc.internal.ServerListener;
+import io.grpc.internal.ServerTransport;
+import io.grpc.internal.ServerTransportListener;
+import io.grpc.internal.StatsTraceContext;
+import io.grpc.internal.TransportTracer;
+
+/**
+ * A gRPC transport server that serves calls received on the HTTP/2 connections of the Helidon
+ * {@link io.helidon.webserver.WebServer}, instead of listening on a socket of its own.
+ * <p>
+ * Each connection of the web server that receives a gRPC call is represented by a gRPC server transport,
+ * so the gRPC server sees the same connection lifecycle as with a dedicated Netty server.
+ */
+class WebServerTransport implements InternalServer {
+
+    private static final SocketAddress LISTEN_ADDRESS = new WebServerAddress();
+
+    private final TransportTracer.Factory transportTracerFactory = TransportTracer.getDefaultFactory();
+
+    private final Map<Http2ServerConnection, Connection> connections = new ConcurrentHashMap<>();
+
+    private final int maxInboundMessageSize;
+
+    private volatile List<? extends ServerStreamTracer.Factory> streamTracerFactories = List.of();
+
+    private volatile ServerListener listener;
+
+    private volatile boolean shutdown;
+
+    /**
+     * Create a new transport server.
+     *
+     * @param maxInboundMessageSize maximal size of a message received by a call
+     */
+    WebServerTransport(int maxInboundMessageSize) {
+        this.maxInboundMessageSize = maxInboundMessageSize;
+    }
+
+    /**
+     * Configure the stream tracer factories of the gRPC server.
+     *
+     * @param streamTracerFactories the factories to create stream tracers with
+     * @return this transport server
+     */
+    WebServerTransport streamTracerFactories(List<? extends ServerStreamTracer.Factory> streamTracerFactories) {
+        this.streamTracerFactories = streamTracerFactories;
+        return this;
+    }
+
+    @Override
+    public void start(ServerListener listener) {
+        this.listener = listener;
+        this.shutdown = false;
+    }
+
+    @Override
+    public void shutdown() {
+        ServerListener current = listener;
+        if (!shutdown && current != null) {
+            shutdown = true;
+            current.serverShutdown();
+        }
+    }
+
+    @Override
+    public SocketAddress getListenSocketAddress() {
+        return LISTEN_ADDRESS;
+    }
+
+    @Override
+    public InternalInstrumented<InternalChannelz.SocketStats> getListenSocketStats() {
+        return null;
+    }
+
+    /**
+     * Start a gRPC call on a new HTTP/2 stream.
+     *
+     * @param stream      the new stream
+     * @param headers     request headers
+     * @param endOfStream whether the client has already closed its side of the stream
+     * @return listener of the inbound side of the stream
+     */
+    Http2StreamHandler.Listener stream(Http2ServerStream stream, Http2StreamHeaders headers, boolean endOfStream) {
+        if (shutdown || listener == null) {
+            return WebServerStream.reject(stream, Http.Status.SERVICE_UNAVAILABLE_503,
+                                          Status.UNAVAILABLE.withDescription("gRPC server is not running"));
+        }
+        if (!Http.Method.POST.name().equals(headers.method())) {
+            return WebServerStream.reject(stream, Http.Status.METHOD_NOT_ALLOWED_405,
+                                          Status.INTERNAL.withDescription("Method '" + headers.method()
+                                                                                  + "' is not supported"));
+        }
+        String path = headers.path();
+        if (path == null || path.length() < 2 || path.charAt(0) != '/') {
+            return WebServerStream.reject(stream, Http.Status.NOT_FOUND_404,
+                                          Status.UNIMPLEMENTED.withDescription("Expected path not found: " + path));
+        }
+
+        // streams of a connection are started on its event loop, so the connection is only created once
+        Connection connection = connections.get(stream.connection());
+        if (connection == null) {
+            connection = new Connection(stream.connection());
+            connections.put(stream.connection(), connection);
+            connection.start();
+        }
+        return connection.stream(stream, headers, path.substring(1), endOfStream);
+    }
+
+    /**
+     * A web server connection serving gRPC calls, only accessed from its event loop except for the
+     * {@link ServerTransport} methods.
+     */
+    private final class Connection implements ServerTransport {
+        private final Http2ServerConnection connection;
+        private final InternalLogId logId;
+        private final TransportTracer transportTracer = transportTracerFactory.create();
+        private final Set<WebServerStream> streams = new HashSet<>();
+        private ServerTransportListener transportListener;
+        private Attributes attributes;
+        private boolean draining;
+        private boolean terminated;
+
+        private Connection(Http2ServerConnection connection) {
+            this.connection = connection;
+            this.logId = InternalLogId.allocate(getClass(), String.valueOf(connection.remoteAddress()));
+        }
+
+        private void start() {
+            Attributes.Builder builder = Attributes.newBuilder()
+                    .set(Grpc.TRANSPORT_ATTR_REMOTE_ADDR, connection.remoteAddress())
+                    .set(Grpc.TRANSPORT_ATTR_LOCAL_ADDR, connection.localAddress());
+            connection.sslSession().ifPresent(session -> builder.set(Grpc.TRANSPORT_ATTR_SSL_SESSION, session));
+
+            transportListener = listener.transportCreated(this);
+            attributes = transportListener.transportReady(builder.build());
+            connection.whenClosed().thenRun(this::terminate);
+        }
+
+        private Http2StreamHandler.Listener stream(Http2ServerStream http2Stream,
+                                                   Http2StreamHeaders headers,
+                                                   String method,
+                                                   boolean endOfStream) {
+            if (draining) {
+                return WebServerStream.reject(http2Stream, Http.Status.SERVICE_UNAVAILABLE_503,
+                                              Status.UNAVAILABLE.withDescription("gRPC server is shutting down"));
+            }
+            Metadata metadata = WebServerStream.metadata(headers);
+            StatsTraceContext statsTraceContext = StatsTraceContext.newServerContext(streamTracerFactories,
+                                                                                    method,
+                                                                                    metadata);
+            WebServerStream stream = new WebServerStream(http2Stream,
+                                                         maxInboundMessageSize,
+                                                         statsTraceContext,
+                                                         transportTracer,
+                                                         attributes,
+                                                         headers.authority().orElse(null),
+                                                         this::streamClosed);
+            streams.add(stream);
+            transportTracer.reportRemoteStreamStarted();
+
+            transportListener.streamCreated(stream, method, metadata);
+            stream.allocated();
+            if (endOfStream) {
+                stream.onData(DataChunk.create(new byte[0]), true);
+            }
+            return stream;
+        }
+
+        private void streamClosed(WebServerStream stream) {
+            if (streams.remove(stream)) {
+                transportTracer.reportStreamClosed(true);
+            }
+            if (draining && streams.isEmpty()) {
+                terminate();
+            }
+        }
+
+        private void terminate() {
+            if (terminated) {
+                return;
+            }
+            terminated = true;
+            draining = true;
+            connections.remove(connection, this);
+            transportListener.transportTerminated();
+        }
+
+        @Override
+        public void shutdown() {
+            connection.executor().execute(() -> {
+                draining = true;
+                if (streams.isEmpty()) {
+                    terminate();
+                }
+            });
+        }
+
+        @Override
+        public void shutdownNow(Status reason) {
+            connection.executor().execute(() -> {
+                draining = true;
+                for (WebServerStream stream : new ArrayList<>(streams)) {
+                    stream.reset(reason);
+                }
+                streams.clear();
+                terminate();
+            });
+        }
+
+        @Override
+        public ScheduledExecutorService getScheduledExecutorService() {
+            return connection.executor();
+        }
+
+        @Override
+        public ListenableFuture<InternalChannelz.SocketStats> getStats() {
+            return Futures.immediateFuture(new InternalChannelz.SocketStats(transportTracer.getStats(),
+                                                                           connection.localAddress(),
+                                                                           connection.remoteAddress(),
+                                                                           new InternalChannelz.SocketOptions.Builder()
+                                                                                   .build(),
+                                                                           null));
+        }
+
+        @Override
+        public InternalLogId getLogId() {
+            return logId;
+        }
+    }
+
+    /**
+     * The address reported as the listen address of the gRPC server, calls are received on the
+     * sockets of the web server.
+     */
+    private static final class WebServerAddress extends SocketAddress {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public String toString() {
+            return "webserver";
+        }
+    }
+}
@@ -27,12 +27,14 @@ module io.helidon.grpc.server {
     requires transitive io.helidon.grpc.core;
     requires transitive io.helidon.health;
     requires io.helidon.tracing;
+    requires transitive io.helidon.webserver;
 
     requires transitive grpc.services;
     requires transitive microprofile.health.api;
     requires transitive io.opentracing.api;
     requires transitive opentracing.grpc;
 
+    requires com.google.common;
     requires java.annotation;
     requires java.logging;
 
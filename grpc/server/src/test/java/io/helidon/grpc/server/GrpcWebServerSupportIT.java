@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.grpc.server;
+
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.helidon.common.LogConfig;
+import io.helidon.grpc.server.test.Echo;
+import io.helidon.grpc.server.test.EchoServiceGrpc;
+import io.helidon.webserver.ExperimentalConfiguration;
+import io.helidon.webserver.Http2Configuration;
+import io.helidon.webserver.Routing;
+import io.helidon.webserver.WebServer;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import services.EchoService;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests of gRPC calls served on the HTTP/2 port of a {@link WebServer}.
+ */
+public class GrpcWebServerSupportIT {
+
+    private static final int MAX_MESSAGE_SIZE = 1024 * 1024;
+
+    private static GrpcWebServerSupport grpcSupport;
+
+    private static WebServer webServer;
+
+    private static ManagedChannel channel;
+
+    @BeforeAll
+    public static void startServer() throws Exception {
+        LogConfig.configureRuntime();
+
+        GrpcRouting grpcRouting = GrpcRouting.builder()
+                .register(new EchoService())
+                .build();
+        grpcSupport = GrpcWebServerSupport.create(GrpcServerConfiguration.builder()
+                                                          .maxInboundMessageSize(MAX_MESSAGE_SIZE)
+                                                          .build(),
+                                                  grpcRouting);
+
+        webServer = grpcSupport.register(WebServer.builder()
+                                                 .port(0)
+                                                 .experimental(ExperimentalConfiguration.builder()
+                                                                       .http2(Http2Configuration.builder()
+                                                                                      .enable(true)
+                                                                                      .build())
+                                                                       .build())
+                                                 .routing(Routing.builder()
+                                                                  .get("/hello", (req, res) -> res.send("Hello"))
+                                                                  .build()))
+                .build()
+                .start()
+                .toCompletableFuture()
+                .get(10, TimeUnit.SECONDS);
+
+        channel = ManagedChannelBuilder.forAddress("localhost", webServer.port())
+                .usePlaintext()
+                .build();
+    }
+
+    @AfterAll
+    public static void stopServer() throws Exception {
+        if (channel != null) {
+            channel.shutdownNow();
+        }
+        if (webServer != null) {
+            webServer.shutdown().toCompletableFuture().get(10, TimeUnit.SECONDS);
+        }
+        if (grpcSupport != null) {
+            grpcSupport.server().shutdown().toCompletableFuture().get(10, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void shouldCallUnaryMethod() {
+        Echo.EchoResponse response = EchoServiceGrpc.newBlockingStub(channel)
+                .echo(Echo.EchoRequest.newBuilder().setMessage("foo").build());
+
+        assertThat(response.getMessage(), is("foo"));
+    }
+
+    @Test
+    public void shouldCallWithMessageLargerThanFrame() {
+        String message = "x".repeat(100_000);
+        Echo.EchoResponse response = EchoServiceGrpc.newBlockingStub(channel)
+                .echo(Echo.EchoRequest.newBuilder().setMessage(message).build());
+
+        assertThat(response.getMessage(), is(message));
+    }
+
+    @Test
+    public void shouldCallWithMessageLargerThanWindow() {
+        // larger than the initial HTTP/2 window, only received if the window is updated as the call reads
+        String message = "x".repeat(MAX_MESSAGE_SIZE / 2);
+        Echo.EchoResponse response = EchoServiceGrpc.newBlockingStub(channel)
+                .echo(Echo.EchoRequest.newBuilder().setMessage(message).build());
+
+        assertThat(response.getMessage(), is(message));
+    }
+
+    @Test
+    public void shouldRejectMessageLargerThanMaximum() {
+        String message = "x".repeat(MAX_MESSAGE_SIZE + 1);
+        StatusRuntimeException e = assertThrows(StatusRuntimeException.class, () -> EchoServiceGrpc.newBlockingStub(channel)
+                .echo(Echo.EchoRequest.newBuilder().setMessage(message).build()));
+
+        assertThat(e.getStatus().getCode(), is(Status.Code.RESOURCE_EXHAUSTED));
+    }
+
+    @Test
+    public void shouldMultiplexConcurrentCalls() throws Exception {
+        EchoServiceGrpc.EchoServiceFutureStub stub = EchoServiceGrpc.newFutureStub(channel);
+        List<ListenableFuture<Echo.EchoResponse>> responses = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            responses.add(stub.echo(Echo.EchoRequest.newBuilder().setMessage("call-" + i).build()));
+        }
+
+        for (int i = 0; i < responses.size(); i++) {
+            assertThat(responses.get(i).get(10, TimeUnit.SECONDS).getMessage(), is("call-" + i));
+        }
+    }
+
+    @Test
+    public void shouldRouteOtherRequestsOnSamePort() throws Exception {
+        URL url = new URL("http://localhost:" + webServer.port() + "/hello");
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        try (InputStream in = connection.getInputStream()) {
+            assertThat(connection.getResponseCode(), is(200));
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8), is("Hello"));
+        } finally {
+            connection.disconnect();
+        }
+    }
+}
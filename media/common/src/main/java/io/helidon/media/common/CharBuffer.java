@@ -21,8 +21,11 @@ import java.lang.ref.SoftReference;
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.ConcurrentLinkedQueue;
 
+import io.helidon.common.http.DataChunk;
+
 /**
  * A character buffer that acts as a {@link Writer} and uses cached {@code char[]} arrays.
  * <p>
@@ -73,6 +76,21 @@ public class CharBuffer extends Writer {
         return result;
     }
 
+    /**
+     * Encodes the content into chunks obtained from the allocator.
+     *
+     * @param charset   the character set
+     * @param allocator allocator of the chunks
+     * @param flush     whether the chunks should be flushed when written
+     * @return encoded content
+     */
+    List<DataChunk> encode(Charset charset, DataChunkAllocator allocator, boolean flush) {
+        List<DataChunk> result = ContentWriters.encode(java.nio.CharBuffer.wrap(buffer, 0, count), charset, allocator, flush);
+        POOL.release(buffer);
+        buffer = null;
+        return result;
+    }
+
     private void ensureCapacity(int minCapacity) {
         if (minCapacity - buffer.length > 0) {
             grow(minCapacity);
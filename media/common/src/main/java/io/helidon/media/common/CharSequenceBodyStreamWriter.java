@@ -16,6 +16,7 @@
 
 package io.helidon.media.common;
 
+import java.nio.charset.Charset;
 import java.util.concurrent.Flow;
 
 import io.helidon.common.GenericType;
@@ -39,7 +40,10 @@ final class CharSequenceBodyStreamWriter implements MessageBodyStreamWriter<Char
                                            final GenericType<? extends CharSequence> type,
                                            final MessageBodyWriterContext context) {
         context.contentType(MediaType.TEXT_PLAIN);
-        return Multi.create(publisher).map(s -> DataChunk.create(true, context.charset().encode(s.toString())));
+        Charset charset = context.charset();
+        DataChunkAllocator allocator = context.allocator();
+        return Multi.create(publisher)
+                .flatMapIterable(s -> ContentWriters.encode(java.nio.CharBuffer.wrap(s), charset, allocator, true));
     }
 
     @Override
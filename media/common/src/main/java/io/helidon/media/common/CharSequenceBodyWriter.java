@@ -48,7 +48,7 @@ final class CharSequenceBodyWriter implements MessageBodyWriter<CharSequence> {
                                       MessageBodyWriterContext context) {
 
         context.contentType(MediaType.TEXT_PLAIN);
-        return content.flatMap(new CharSequenceToChunks(context.charset()));
+        return content.flatMap(new CharSequenceToChunks(context.charset(), context.allocator()));
     }
 
     /**
@@ -63,14 +63,16 @@ final class CharSequenceBodyWriter implements MessageBodyWriter<CharSequence> {
     private static final class CharSequenceToChunks implements Mapper<CharSequence, Publisher<DataChunk>> {
 
         private final Charset charset;
+        private final DataChunkAllocator allocator;
 
-        CharSequenceToChunks(Charset charset) {
+        CharSequenceToChunks(Charset charset, DataChunkAllocator allocator) {
             this.charset = charset;
+            this.allocator = allocator;
         }
 
         @Override
         public Publisher<DataChunk> map(CharSequence content) {
-            return ContentWriters.writeCharSequence(content, charset);
+            return ContentWriters.writeCharSequence(content, charset, allocator);
         }
     }
 }
@@ -23,6 +23,8 @@ import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Flow.Publisher;
 
@@ -58,6 +60,24 @@ public final class ContentReaders {
         return Multi.create(chunks).collect(new BytesCollector());
     }
 
+    /**
+     * Collect the {@link DataChunk} of the given publisher without copying their content and provide them
+     * as an {@link InputStream}.
+     * <p>
+     * Unlike {@link DataChunkInputStream}, reading from the returned stream never blocks, as the stream is
+     * provided once all chunks are received. Each chunk is released as soon as it is read, or when the stream
+     * is closed, so the content is held in memory only once.
+     *
+     * @param chunks source publisher
+     * @return Single
+     */
+    public static Single<InputStream> readInputStream(Publisher<DataChunk> chunks) {
+        ChunksCollector collector = new ChunksCollector();
+        return Multi.create(chunks)
+                .onError(throwable -> collector.release())
+                .collect(collector);
+    }
+
     /**
      * Convert the given publisher of {@link DataChunk} into a {@link String}.
      * @param chunks source publisher
@@ -209,4 +229,112 @@ public final class ContentReaders {
             return baos.toByteArray();
         }
     }
+
+    /**
+     * Implementation of {@link Collector} that keeps the chunks and provides them
+     * as an {@link InputStream}.
+     */
+    private static final class ChunksCollector implements Collector<DataChunk, InputStream> {
+
+        private final Deque<DataChunk> chunks = new ArrayDeque<>();
+
+        @Override
+        public void collect(DataChunk chunk) {
+            if (chunk.remaining() > 0) {
+                chunks.add(chunk);
+            } else {
+                chunk.release();
+            }
+        }
+
+        @Override
+        public InputStream value() {
+            return new ChunksInputStream(chunks);
+        }
+
+        void release() {
+            ChunksInputStream.release(chunks);
+        }
+    }
+
+    /**
+     * Non-blocking {@link InputStream} over already received chunks.
+     */
+    private static final class ChunksInputStream extends InputStream {
+
+        private final Deque<DataChunk> chunks;
+        private int bufferIndex;
+
+        ChunksInputStream(Deque<DataChunk> chunks) {
+            this.chunks = chunks;
+        }
+
+        @Override
+        public int read() {
+            ByteBuffer buffer = current();
+            if (buffer == null) {
+                return -1;
+            }
+            return buffer.get() & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            int count = 0;
+            while (count < len) {
+                ByteBuffer buffer = current();
+                if (buffer == null) {
+                    break;
+                }
+                int n = Math.min(buffer.remaining(), len - count);
+                buffer.get(b, off + count, n);
+                count += n;
+            }
+            return (count == 0) ? -1 : count;
+        }
+
+        @Override
+        public int available() {
+            ByteBuffer buffer = current();
+            return (buffer == null) ? 0 : buffer.remaining();
+        }
+
+        @Override
+        public void close() {
+            release(chunks);
+        }
+
+        /**
+         * Current buffer with remaining data, consumed chunks are released.
+         *
+         * @return buffer or {@code null} if all chunks were consumed
+         */
+        private ByteBuffer current() {
+            DataChunk chunk;
+            while ((chunk = chunks.peek()) != null) {
+                ByteBuffer[] buffers = chunk.data();
+                while (bufferIndex < buffers.length) {
+                    if (buffers[bufferIndex].hasRemaining()) {
+                        return buffers[bufferIndex];
+                    }
+                    bufferIndex++;
+                }
+                chunks.poll().release();
+                bufferIndex = 0;
+            }
+            return null;
+        }
+
+        private static void release(Deque<DataChunk> chunks) {
+            DataChunk chunk;
+            while ((chunk = chunks.poll()) != null) {
+                if (!chunk.isReleased()) {
+                    chunk.release();
+                }
+            }
+        }
+    }
 }
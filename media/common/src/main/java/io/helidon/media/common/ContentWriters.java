@@ -20,13 +20,21 @@ import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.nio.ByteBuffer;
 import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.CharacterCodingException;
 import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.Flow.Publisher;
 import java.util.function.Function;
 
 import io.helidon.common.http.DataChunk;
 import io.helidon.common.reactive.IoMulti;
+import io.helidon.common.reactive.Multi;
 import io.helidon.common.reactive.RetrySchema;
 import io.helidon.common.reactive.Single;
 
@@ -36,6 +44,10 @@ import io.helidon.common.reactive.Single;
  */
 public final class ContentWriters {
 
+    // minimal capacity of chunks allocated when the estimated size was not sufficient
+    private static final int MIN_OVERFLOW_CAPACITY = 256;
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
     /**
      * A utility class constructor.
      */
@@ -88,6 +100,104 @@ public final class ContentWriters {
         return Single.just(DataChunk.create(false, buffer.encode(charset)));
     }
 
+    /**
+     * Create a publisher of {@link DataChunk} with the given {@link CharSequence} encoded
+     * directly into chunks obtained from the allocator.
+     *
+     * @param cs the char sequence
+     * @param charset the charset to use to encode the char sequence
+     * @param allocator allocator of the chunks
+     * @return publisher of chunks, usually a single one
+     */
+    public static Multi<DataChunk> writeCharSequence(CharSequence cs, Charset charset, DataChunkAllocator allocator) {
+        return Multi.create(encode(java.nio.CharBuffer.wrap(cs), charset, allocator, false));
+    }
+
+    /**
+     * Create a publisher of {@link DataChunk} with the given {@link CharBuffer} encoded
+     * directly into chunks obtained from the allocator.
+     *
+     * @param buffer the char buffer
+     * @param charset the charset to use to encode the char sequence
+     * @param allocator allocator of the chunks
+     * @return publisher of chunks, usually a single one
+     */
+    public static Multi<DataChunk> writeCharBuffer(CharBuffer buffer, Charset charset, DataChunkAllocator allocator) {
+        return Multi.create(buffer.encode(charset, allocator, false));
+    }
+
+    /**
+     * Encode characters into chunks obtained from the allocator. The first chunk is sized to fit all the content,
+     * which is computed exactly for {@code UTF-8} and estimated from the maximal number of bytes per character
+     * otherwise; more chunks are allocated only if the estimate was not sufficient.
+     *
+     * @param chars characters to encode
+     * @param charset charset
+     * @param allocator allocator of the chunks
+     * @param flush whether the chunks should be flushed when written
+     * @return encoded chunks
+     */
+    static List<DataChunk> encode(java.nio.CharBuffer chars, Charset charset, DataChunkAllocator allocator, boolean flush) {
+        CharsetEncoder encoder = charset.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        List<DataChunk> chunks = new ArrayList<>(1);
+        DataChunk chunk = allocator.allocate(flush, encodedLength(chars, encoder));
+        try {
+            ByteBuffer out = chunk.data()[0];
+            boolean flushing = false;
+            while (true) {
+                CoderResult result = flushing ? encoder.flush(out) : encoder.encode(chars, out, true);
+                if (result.isUnderflow()) {
+                    if (flushing) {
+                        break;
+                    }
+                    flushing = true;
+                } else if (result.isOverflow()) {
+                    out.flip();
+                    chunks.add(chunk);
+                    long remaining = (long) Math.ceil(chars.remaining() * (double) encoder.maxBytesPerChar());
+                    chunk = allocator.allocate(flush, (int) Math.max(MIN_OVERFLOW_CAPACITY, Math.min(MAX_CAPACITY, remaining)));
+                    out = chunk.data()[0];
+                } else {
+                    result.throwException();
+                }
+            }
+            out.flip();
+            chunks.add(chunk);
+            return chunks;
+        } catch (CharacterCodingException e) {
+            // cannot happen, errors are replaced
+            chunk.release();
+            chunks.forEach(DataChunk::release);
+            throw new IllegalStateException(e);
+        } catch (RuntimeException e) {
+            chunk.release();
+            chunks.forEach(DataChunk::release);
+            throw e;
+        }
+    }
+
+    private static int encodedLength(java.nio.CharBuffer chars, CharsetEncoder encoder) {
+        if (!StandardCharsets.UTF_8.equals(encoder.charset())) {
+            long length = (long) Math.ceil(chars.remaining() * (double) encoder.maxBytesPerChar());
+            return (int) Math.min(MAX_CAPACITY, length);
+        }
+        long length = 0;
+        for (int i = chars.position(); i < chars.limit(); i++) {
+            char c = chars.get(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800 || Character.isSurrogate(c)) {
+                // a surrogate pair is encoded into four bytes
+                length += 2;
+            } else {
+                length += 3;
+            }
+        }
+        return (int) Math.min(MAX_CAPACITY, length);
+    }
+
     /**
      * Create a a publisher {@link DataChunk} with the given
      * {@link Throwable} / {@link Charset} and return a {@link Single}.
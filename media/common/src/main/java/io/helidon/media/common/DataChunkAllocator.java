@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.media.common;
+
+import java.nio.ByteBuffer;
+
+import io.helidon.common.http.DataChunk;
+
+/**
+ * Allocator of the data chunks writers serialize entities into.
+ * <p>
+ * A chunk is backed by a single writable {@link ByteBuffer}, obtained as the first element of {@link DataChunk#data()},
+ * with position {@code 0} and limit equal to its capacity. A writer fills the buffer and flips it before
+ * publishing the chunk, and must not modify it afterwards. Whoever consumes the chunk must {@link DataChunk#release()
+ * release} it, which allows pooling allocators to reuse the memory.
+ *
+ * @see MessageBodyWriterContext#allocator()
+ */
+@FunctionalInterface
+public interface DataChunkAllocator {
+
+    /**
+     * Allocator of chunks backed by heap buffers that are not pooled.
+     *
+     * @return heap allocator
+     */
+    static DataChunkAllocator heap() {
+        return HeapDataChunkAllocator.INSTANCE;
+    }
+
+    /**
+     * Allocate a new chunk.
+     *
+     * @param flush    whether the chunk should be flushed when written
+     * @param capacity required capacity in bytes
+     * @return chunk with a single writable buffer of at least the required capacity
+     */
+    DataChunk allocate(boolean flush, int capacity);
+}
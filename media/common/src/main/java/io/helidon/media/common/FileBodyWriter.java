@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2020, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -25,6 +25,7 @@ import java.util.concurrent.Flow.Publisher;
 
 import io.helidon.common.GenericType;
 import io.helidon.common.http.DataChunk;
+import io.helidon.common.http.FileChannelDataChunk;
 import io.helidon.common.http.MediaType;
 import io.helidon.common.mapper.Mapper;
 import io.helidon.common.reactive.Single;
@@ -80,8 +81,13 @@ final class FileBodyWriter implements MessageBodyWriter<File> {
             try {
                 Path path = file.toPath();
                 context.contentType(MediaType.APPLICATION_OCTET_STREAM);
-                context.contentLength(Files.size(path));
+                long size = Files.size(path);
+                context.contentLength(size);
                 FileChannel fc = FileChannel.open(path, StandardOpenOption.READ);
+                if (context.supportsFileChunks()) {
+                    // transferred by the consumer, content is not read here
+                    return Single.just(FileChannelDataChunk.create(fc, 0, size));
+                }
                 return ContentWriters.byteChannelWriter().apply(fc);
             } catch (IOException ex) {
                 return Single.<DataChunk>error(ex);
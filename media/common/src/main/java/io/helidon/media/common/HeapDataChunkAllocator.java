@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.media.common;
+
+import java.nio.ByteBuffer;
+
+import io.helidon.common.http.DataChunk;
+
+/**
+ * Allocator of chunks backed by heap buffers that are not pooled.
+ */
+final class HeapDataChunkAllocator implements DataChunkAllocator {
+
+    static final HeapDataChunkAllocator INSTANCE = new HeapDataChunkAllocator();
+
+    private HeapDataChunkAllocator() {
+    }
+
+    @Override
+    public DataChunk allocate(boolean flush, int capacity) {
+        return DataChunk.create(flush, true, ByteBuffer.allocate(capacity));
+    }
+}
@@ -223,6 +223,18 @@ public final class MediaContext {
             return this;
         }
 
+        /**
+         * Allocator of the chunks writers serialize entities into, {@link DataChunkAllocator#heap()} by default.
+         * The web server uses pooled buffers unless a different allocator is configured.
+         *
+         * @param allocator allocator to use
+         * @return this builder instance
+         */
+        public Builder allocator(DataChunkAllocator allocator) {
+            writerContext.allocator(allocator);
+            return this;
+        }
+
         /**
          * Whether defaults should be included.
          *
@@ -223,6 +223,15 @@ public abstract class MessageBodyContext implements MessageBodyFilters {
         return this;
     }
 
+    /**
+     * Whether any filters are registered in this context or its parents.
+     *
+     * @return {@code true} if there are filters to apply
+     */
+    boolean hasFilters() {
+        return !filters.isEmpty();
+    }
+
     /**
      * Apply the filters on the given input publisher to form a publisher chain.
      *
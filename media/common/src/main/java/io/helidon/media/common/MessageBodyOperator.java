@@ -27,6 +27,9 @@ public interface MessageBodyOperator<T extends MessageBodyContext> {
 
     /**
      * Test if the operator can convert the given type.
+     * <p>
+     * The result is cached per type and content type of the context, it must not depend on other state
+     * of the context.
      *
      * @param type the requested type
      * @param context the context providing the headers abstraction
@@ -17,25 +17,46 @@ package io.helidon.media.common;
 
 import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import io.helidon.common.GenericType;
+import io.helidon.common.http.MediaType;
 
 /**
  * Thread-safe hierarchical registry of message body operators.
+ * <p>
+ * Results of {@link #select(GenericType, MessageBodyContext, Optional, List)} are cached per type, content type
+ * and, if no content type is set, the accepted types, so that resolving an operator for an already seen combination
+ * is a single map lookup. The cache is invalidated whenever an operator is registered to this registry or to any of its parents. A registry without operators
+ * of its own delegates the selection to its parent, so short lived registries (such as the ones of a request
+ * context) share the cache of the long lived registries they are created from.
  * @param <T> operator type
  */
 final class MessageBodyOperators<T extends MessageBodyOperator<?>> implements Iterable<T>, AutoCloseable {
 
+    /**
+     * Maximal number of cached selections, stale selections are evicted when reached and no new selections
+     * are cached while the cache stays full.
+     */
+    static final int MAX_CACHE_SIZE = 256;
+
     private final LinkedList<T> operators;
     private final ReadWriteLock lock;
     private final AtomicBoolean readLocked;
+    private final Map<SelectionKey, Selection<T>> cache;
     private MessageBodyOperators<T> parent;
+    // number of registrations, only ever increases
+    private final AtomicLong version;
 
     /**
      * Create a new parented registry.
@@ -46,6 +67,8 @@ final class MessageBodyOperators<T extends MessageBodyOperator<?>> implements It
         this.operators = new LinkedList<>();
         this.lock = new ReentrantReadWriteLock();
         this.readLocked = new AtomicBoolean(false);
+        this.cache = new ConcurrentHashMap<>();
+        this.version = new AtomicLong();
     }
 
     /**
@@ -86,6 +109,7 @@ final class MessageBodyOperators<T extends MessageBodyOperator<?>> implements It
             } else {
                 operators.addLast(operator);
             }
+            version.incrementAndGet();
         } finally {
             lock.writeLock().unlock();
         }
@@ -93,14 +117,57 @@ final class MessageBodyOperators<T extends MessageBodyOperator<?>> implements It
 
     /**
      * Select an operator using {@link MessageBodyOperator#accept}.
+     * The result is cached, operators are expected to decide only based on the type, the content type
+     * and, if no content type is set, the accepted types.
      * @param type the type representation
      * @param context the message body context
+     * @param contentType content type of the context
+     * @param acceptedTypes accepted types of the context, only used if the content type is empty
      * @return operator, or {@code null} or no operator was found
      */
-    @SuppressWarnings("unchecked")
-    <U extends MessageBodyOperator<V>, V extends MessageBodyContext> T select(GenericType<?> type, V context) {
+    <U extends MessageBodyOperator<V>, V extends MessageBodyContext> T select(GenericType<?> type,
+                                                                               V context,
+                                                                               Optional<MediaType> contentType,
+                                                                               List<MediaType> acceptedTypes) {
         Objects.requireNonNull(type, "type is null!");
         Objects.requireNonNull(context, "context is null!");
+        Objects.requireNonNull(contentType, "contentType is null!");
+        Objects.requireNonNull(acceptedTypes, "acceptedTypes is null!");
+        if (version.get() == 0 && parent != null) {
+            return parent.select(type, context, contentType, acceptedTypes);
+        }
+        long stamp = stamp();
+        SelectionKey key = new SelectionKey(type, contentType, contentType.isPresent() ? List.of() : acceptedTypes);
+        Selection<T> selection = cache.get(key);
+        if (selection != null && selection.stamp == stamp) {
+            return selection.operator;
+        }
+        T operator = this.<U, V>resolve(type, context);
+        if (selection == null && cache.size() >= MAX_CACHE_SIZE) {
+            cache.values().removeIf(it -> it.stamp != stamp);
+        }
+        if (selection != null || cache.size() < MAX_CACHE_SIZE) {
+            cache.put(key, new Selection<>(operator, stamp));
+        }
+        return operator;
+    }
+
+    /**
+     * Number of cached selections.
+     * @return cache size
+     */
+    int cacheSize() {
+        return cache.size();
+    }
+
+    /**
+     * Select an operator without using the cache.
+     * @param type the type representation
+     * @param context the message body context
+     * @return operator, or {@code null} or no operator was found
+     */
+    @SuppressWarnings("unchecked")
+    <U extends MessageBodyOperator<V>, V extends MessageBodyContext> T resolve(GenericType<?> type, V context) {
         T assignableOperator = null;
         MessageBodyOperators<T> current = this;
 
@@ -123,6 +190,40 @@ final class MessageBodyOperators<T extends MessageBodyOperator<?>> implements It
         return assignableOperator;
     }
 
+    /**
+     * Sum of the versions of this registry and all its parents, changes with every registration in the hierarchy.
+     * @return stamp
+     */
+    private long stamp() {
+        long stamp = 0;
+        MessageBodyOperators<T> current = this;
+        while (current != null) {
+            stamp += current.version.get();
+            current = current.parent;
+        }
+        return stamp;
+    }
+
+    /**
+     * Whether there are no operators registered in this registry or any of its parents.
+     * @return {@code true} if there are no operators
+     */
+    boolean isEmpty() {
+        MessageBodyOperators<T> current = this;
+        while (current != null) {
+            try {
+                current.lock.readLock().lock();
+                if (!current.operators.isEmpty()) {
+                    return false;
+                }
+            } finally {
+                current.lock.readLock().unlock();
+            }
+            current = current.parent;
+        }
+        return true;
+    }
+
     @Override
     public Iterator<T> iterator() {
         return new ParentedIterator<>(this);
@@ -191,4 +292,51 @@ final class MessageBodyOperators<T extends MessageBodyOperator<?>> implements It
             throw new NoSuchElementException();
         }
     }
+
+    private static final class SelectionKey {
+        private final GenericType<?> type;
+        private final Optional<MediaType> contentType;
+        private final List<MediaType> acceptedTypes;
+        private final int hash;
+
+        private SelectionKey(GenericType<?> type, Optional<MediaType> contentType, List<MediaType> acceptedTypes) {
+            this.type = type;
+            this.contentType = contentType;
+            this.acceptedTypes = acceptedTypes;
+            this.hash = 31 * (31 * type.hashCode() + contentType.hashCode()) + acceptedTypes.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof SelectionKey)) {
+                return false;
+            }
+            SelectionKey other = (SelectionKey) o;
+            return type.equals(other.type)
+                    && contentType.equals(other.contentType)
+                    && acceptedTypes.equals(other.acceptedTypes);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * A cached selection, {@code operator} is {@code null} if no operator was found.
+     * @param <T> operator type
+     */
+    private static final class Selection<T> {
+        private final T operator;
+        private final long stamp;
+
+        private Selection(T operator, long stamp) {
+            this.operator = operator;
+            this.stamp = stamp;
+        }
+    }
 }
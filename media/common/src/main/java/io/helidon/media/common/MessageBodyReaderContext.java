@@ -19,6 +19,7 @@ import java.nio.charset.Charset;
 import java.nio.charset.IllegalCharsetNameException;
 import java.nio.charset.StandardCharsets;
 import java.nio.charset.UnsupportedCharsetException;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.Flow;
@@ -162,7 +163,7 @@ public final class MessageBodyReaderContext extends MessageBodyContext implement
             if (byte[].class.equals(type.rawType())) {
                 return (Single<T>) ContentReaders.readBytes(filteredPayload);
             }
-            MessageBodyReader<T> reader = (MessageBodyReader<T>) readers.select(type, this);
+            MessageBodyReader<T> reader = (MessageBodyReader<T>) readers.select(type, this, contentType, List.of());
             if (reader == null) {
                 return readerNotFound(type.getTypeName());
             }
@@ -218,7 +219,7 @@ public final class MessageBodyReaderContext extends MessageBodyContext implement
         }
         try {
             Publisher<DataChunk> filteredPayload = applyFilters(payload, type);
-            MessageBodyStreamReader<T> reader = (MessageBodyStreamReader<T>) sreaders.select(type, this);
+            MessageBodyStreamReader<T> reader = (MessageBodyStreamReader<T>) sreaders.select(type, this, contentType, List.of());
             if (reader == null) {
                 return readerNotFound(type.getTypeName());
             }
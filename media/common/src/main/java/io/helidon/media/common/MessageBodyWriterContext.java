@@ -28,6 +28,7 @@ import java.util.function.Predicate;
 
 import io.helidon.common.GenericType;
 import io.helidon.common.http.DataChunk;
+import io.helidon.common.http.FileChannelDataChunk;
 import io.helidon.common.http.Http;
 import io.helidon.common.http.MediaType;
 import io.helidon.common.http.Parameters;
@@ -59,6 +60,8 @@ public final class MessageBodyWriterContext extends MessageBodyContext implement
     private Optional<MediaType> contentTypeCache;
     private boolean charsetCached;
     private Charset charsetCache;
+    private volatile boolean fileChunks;
+    private volatile DataChunkAllocator allocator;
 
     /**
      * Private to enforce the use of the static factory methods.
@@ -77,9 +80,12 @@ public final class MessageBodyWriterContext extends MessageBodyContext implement
         if (parent != null) {
             this.writers = new MessageBodyOperators<>(parent.writers);
             this.swriters = new MessageBodyOperators<>(parent.swriters);
+            this.fileChunks = parent.fileChunks;
+            this.allocator = parent.allocator;
         } else {
             this.writers = new MessageBodyOperators<>();
             this.swriters = new MessageBodyOperators<>();
+            this.allocator = DataChunkAllocator.heap();
         }
     }
 
@@ -94,6 +100,7 @@ public final class MessageBodyWriterContext extends MessageBodyContext implement
         this.writers = new MessageBodyOperators<>();
         this.swriters = new MessageBodyOperators<>();
         this.acceptedTypes = List.of();
+        this.allocator = DataChunkAllocator.heap();
     }
 
     /**
@@ -109,6 +116,7 @@ public final class MessageBodyWriterContext extends MessageBodyContext implement
         this.contentTypeCached = true;
         this.charsetCache = DEFAULT_CHARSET;
         this.charsetCached = true;
+        this.allocator = DataChunkAllocator.heap();
     }
 
     private MessageBodyWriterContext(MessageBodyWriterContext writerContext, Parameters headers) {
@@ -122,6 +130,8 @@ public final class MessageBodyWriterContext extends MessageBodyContext implement
         this.contentTypeCached = writerContext.contentTypeCached;
         this.charsetCache = writerContext.charsetCache;
         this.charsetCached = writerContext.charsetCached;
+        this.fileChunks = writerContext.fileChunks;
+        this.allocator = writerContext.allocator;
     }
 
     /**
@@ -303,7 +313,7 @@ public final class MessageBodyWriterContext extends MessageBodyContext implement
                                                         + ".");
             }
 
-            MessageBodyWriter<T> writer = (MessageBodyWriter<T>) writers.select(type, this);
+            MessageBodyWriter<T> writer = (MessageBodyWriter<T>) writers.select(type, this, contentType(), acceptedTypes);
             if (writer == null) {
                 throw new IllegalStateException("No writer found for type: " + type
                         + ". This usually occurs when the appropriate MediaSupport has not been added.");
@@ -351,7 +361,10 @@ public final class MessageBodyWriterContext extends MessageBodyContext implement
             if (content == null) {
                 return applyFilters(Multi.empty());
             }
-            MessageBodyStreamWriter<T> writer = (MessageBodyStreamWriter<T>) swriters.select(type, this);
+            MessageBodyStreamWriter<T> writer = (MessageBodyStreamWriter<T>) swriters.select(type,
+                                                                                             this,
+                                                                                             contentType(),
+                                                                                             acceptedTypes);
             if (writer == null) {
                 throw new IllegalStateException("No stream writer found for type: " + type
                         + ". This usually occurs when the appropriate MediaSupport has not been added.");
@@ -446,6 +459,50 @@ public final class MessageBodyWriterContext extends MessageBodyContext implement
         }
     }
 
+    /**
+     * Whether the consumer of the marshalled publishers supports {@link FileChannelDataChunk}s
+     * and can transfer them without reading the file content into memory.
+     * If supported, file based writers emit a single chunk for the whole file instead of reading it.
+     * File chunks are never supported while filters are registered, as filters may read the content of the chunks.
+     * The value is inherited by child contexts.
+     *
+     * @return {@code true} if file chunks are supported and there are no filters, {@code false} by default
+     */
+    public boolean supportsFileChunks() {
+        return fileChunks && !hasFilters();
+    }
+
+    /**
+     * Configure whether the consumer of the marshalled publishers supports {@link FileChannelDataChunk}s.
+     *
+     * @param supported whether file chunks are supported
+     * @see #supportsFileChunks()
+     */
+    public void supportsFileChunks(boolean supported) {
+        this.fileChunks = supported;
+    }
+
+    /**
+     * Allocator of the chunks writers serialize entities into.
+     * The value is inherited by child contexts.
+     *
+     * @return allocator, {@link DataChunkAllocator#heap()} by default
+     */
+    public DataChunkAllocator allocator() {
+        return allocator;
+    }
+
+    /**
+     * Configure the allocator of the chunks writers serialize entities into. The consumer of the marshalled publishers
+     * must release the chunks.
+     *
+     * @param allocator allocator to use
+     * @see #allocator()
+     */
+    public void allocator(DataChunkAllocator allocator) {
+        this.allocator = Objects.requireNonNull(allocator, "allocator cannot be null!");
+    }
+
     /**
      * Find an media type in the inbound {@code Accept} header with the given
      * predicate and default value.
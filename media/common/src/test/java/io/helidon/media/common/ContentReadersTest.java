@@ -18,10 +18,12 @@ package io.helidon.media.common;
 
 import java.io.InputStream;
 import java.net.URLEncoder;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import io.helidon.common.http.DataChunk;
 import io.helidon.common.reactive.Multi;
@@ -76,6 +78,43 @@ class ContentReadersTest {
         assertThat(actualBytes, is(bytes));
     }
 
+    @Test
+    void testReadInputStream() throws Exception {
+        AtomicInteger released = new AtomicInteger();
+        Multi<DataChunk> chunks = Multi.just(
+                DataChunk.create(false, released::incrementAndGet, ByteBuffer.wrap("Popo".getBytes(StandardCharsets.UTF_8))),
+                DataChunk.create(false, released::incrementAndGet, ByteBuffer.allocate(0)),
+                DataChunk.create(false, released::incrementAndGet,
+                                 ByteBuffer.wrap("kate".getBytes(StandardCharsets.UTF_8)),
+                                 ByteBuffer.wrap("petl".getBytes(StandardCharsets.UTF_8))));
+
+        InputStream inputStream = ContentReaders.readInputStream(chunks).get(10, TimeUnit.SECONDS);
+        // empty chunk is released at once
+        assertThat(released.get(), is(1));
+        assertThat(inputStream.read(), is((int) 'P'));
+        byte[] buffer = new byte[5];
+        assertThat(inputStream.read(buffer, 0, 5), is(5));
+        assertThat(new String(buffer, StandardCharsets.UTF_8), is("opoka"));
+        // first chunk is released once consumed
+        assertThat(released.get(), is(2));
+        assertThat(new String(inputStream.readAllBytes(), StandardCharsets.UTF_8), is("tepetl"));
+        assertThat(inputStream.read(), is(-1));
+        assertThat(released.get(), is(3));
+    }
+
+    @Test
+    void testReadInputStreamClose() throws Exception {
+        AtomicInteger released = new AtomicInteger();
+        Multi<DataChunk> chunks = Multi.just(
+                DataChunk.create(false, released::incrementAndGet, ByteBuffer.wrap(new byte[] {1, 2})),
+                DataChunk.create(false, released::incrementAndGet, ByteBuffer.wrap(new byte[] {3, 4})));
+
+        InputStream inputStream = ContentReaders.readInputStream(chunks).get(10, TimeUnit.SECONDS);
+        assertThat(inputStream.read(), is(1));
+        inputStream.close();
+        assertThat(released.get(), is(2));
+    }
+
     @Test
     void testURLDecodingReader() throws Exception {
         String original = "myParam=\"Now@is'the/time";
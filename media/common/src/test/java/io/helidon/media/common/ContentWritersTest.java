@@ -16,11 +16,18 @@
 
 package io.helidon.media.common;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.Flow.Publisher;
 import java.util.concurrent.TimeUnit;
 
+import io.helidon.common.GenericType;
 import io.helidon.common.http.DataChunk;
+import io.helidon.common.http.HashParameters;
+import io.helidon.common.reactive.Multi;
+import io.helidon.common.reactive.Single;
 
 import org.junit.jupiter.api.Test;
 
@@ -64,4 +71,54 @@ public class ContentWritersTest {
         byte[] result = ContentReaders.readBytes(publisher).get(5, TimeUnit.SECONDS);
         assertThat(new String(result, StandardCharsets.UTF_8), is(data));
     }
+
+    @Test
+    public void charSequenceWriterAllocator() throws Exception {
+        String data = "a\u017e\u20ac\ud83d\ude00";
+        TestAllocator allocator = new TestAllocator();
+        List<DataChunk> chunks = ContentWriters.writeCharSequence(data, StandardCharsets.UTF_8, allocator)
+                .collectList()
+                .get(5, TimeUnit.SECONDS);
+        byte[] expected = data.getBytes(StandardCharsets.UTF_8);
+        assertThat(chunks.size(), is(1));
+        assertThat(allocator.capacities, is(List.of(expected.length)));
+        byte[] result = ContentReaders.readBytes(Multi.just(chunks)).get(5, TimeUnit.SECONDS);
+        assertThat(result, is(expected));
+    }
+
+    @Test
+    public void charBufferWriterAllocator() throws Exception {
+        CharBuffer buffer = new CharBuffer();
+        buffer.write("abc\u00e9");
+        TestAllocator allocator = new TestAllocator();
+        byte[] result = ContentReaders.readBytes(ContentWriters.writeCharBuffer(buffer, StandardCharsets.ISO_8859_1, allocator))
+                .get(5, TimeUnit.SECONDS);
+        assertThat(allocator.capacities, is(List.of(4)));
+        assertThat(result, is("abc\u00e9".getBytes(StandardCharsets.ISO_8859_1)));
+    }
+
+    @Test
+    public void writerContextAllocator() throws Exception {
+        TestAllocator allocator = new TestAllocator();
+        MessageBodyWriterContext context = MessageBodyWriterContext.create(MediaContext.builder()
+                                                                                   .allocator(allocator)
+                                                                                   .build(),
+                                                                           null,
+                                                                           HashParameters.create(),
+                                                                           null);
+        byte[] result = ContentReaders.readBytes(context.marshall(Single.just("abc"), GenericType.create(String.class)))
+                .get(5, TimeUnit.SECONDS);
+        assertThat(new String(result, StandardCharsets.UTF_8), is("abc"));
+        assertThat(allocator.capacities, is(List.of(3)));
+    }
+
+    private static final class TestAllocator implements DataChunkAllocator {
+        private final List<Integer> capacities = new ArrayList<>();
+
+        @Override
+        public DataChunk allocate(boolean flush, int capacity) {
+            capacities.add(capacity);
+            return DataChunk.create(flush, true, ByteBuffer.allocate(capacity));
+        }
+    }
 }
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.media.common;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Flow.Publisher;
+
+import io.helidon.common.GenericType;
+import io.helidon.common.http.DataChunk;
+import io.helidon.common.http.MediaType;
+import io.helidon.common.http.ReadOnlyParameters;
+import io.helidon.common.reactive.Single;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Compares resolving a reader by calling {@link MessageBodyOperator#accept} of every registered operator
+ * with the cached selection of {@link MessageBodyOperators}. The matching reader is registered last.
+ */
+@State(Scope.Benchmark)
+public class MessageBodyOperatorsJMH {
+
+    private static final GenericType<String> STRING = GenericType.create(String.class);
+
+    @Param({"1", "10", "30"})
+    private int operators;
+
+    private MessageBodyOperators<MessageBodyReader<?>> registry;
+    private MessageBodyReaderContext context;
+
+    public static void main(String[] args) throws Throwable {
+        Options opt = new OptionsBuilder()
+                .include(MessageBodyOperatorsJMH.class.getSimpleName())
+                .forks(1)
+                .warmupIterations(5)
+                .warmupTime(TimeValue.seconds(1))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(1))
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    @Setup
+    public void setup() {
+        registry = new MessageBodyOperators<>();
+        for (int i = 1; i < operators; i++) {
+            registry.registerLast(new TestReader(MediaType.parse("application/x-test-" + i)));
+        }
+        registry.registerLast(new TestReader(MediaType.APPLICATION_JSON));
+        context = MessageBodyReaderContext.create(MessageBodyReaderContext.create(),
+                                                  null,
+                                                  ReadOnlyParameters.empty(),
+                                                  Optional.of(MediaType.APPLICATION_JSON));
+    }
+
+    @Benchmark
+    public MessageBodyReader<?> resolve() {
+        return registry.resolve(STRING, context);
+    }
+
+    @Benchmark
+    public MessageBodyReader<?> select() {
+        // a registry per request, as created by a request context
+        MessageBodyOperators<MessageBodyReader<?>> request = new MessageBodyOperators<>(registry);
+        return request.select(STRING, context, context.contentType(), List.of());
+    }
+
+    private static final class TestReader implements MessageBodyReader<String> {
+        private final MediaType mediaType;
+
+        private TestReader(MediaType mediaType) {
+            this.mediaType = mediaType;
+        }
+
+        @Override
+        public PredicateResult accept(GenericType<?> type, MessageBodyReaderContext context) {
+            return context.contentType()
+                    .filter(mediaType::test)
+                    .map(it -> PredicateResult.supports(String.class, type))
+                    .orElse(PredicateResult.NOT_SUPPORTED);
+        }
+
+        @Override
+        public <U extends String> Single<U> read(Publisher<DataChunk> publisher,
+                                                 GenericType<U> type,
+                                                 MessageBodyReaderContext context) {
+            return Single.empty();
+        }
+    }
+}
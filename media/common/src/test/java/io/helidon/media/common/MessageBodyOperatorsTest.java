@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.media.common;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Flow.Publisher;
+
+import io.helidon.common.GenericType;
+import io.helidon.common.http.DataChunk;
+import io.helidon.common.http.HashParameters;
+import io.helidon.common.http.MediaType;
+import io.helidon.common.http.ReadOnlyParameters;
+import io.helidon.common.reactive.Multi;
+import io.helidon.common.reactive.Single;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests {@link MessageBodyOperators} selection and its cache.
+ */
+public class MessageBodyOperatorsTest {
+
+    private static final GenericType<String> STRING = GenericType.create(String.class);
+
+    @Test
+    public void testSelectByContentType() {
+        MessageBodyOperators<MessageBodyReader<?>> operators = new MessageBodyOperators<>();
+        TestReader json = new TestReader(MediaType.APPLICATION_JSON);
+        TestReader any = new TestReader(null);
+        operators.registerLast(json);
+        operators.registerLast(any);
+
+        assertThat(select(operators, MediaType.APPLICATION_JSON), is(sameInstance(json)));
+        assertThat(select(operators, MediaType.TEXT_PLAIN), is(sameInstance(any)));
+        assertThat(select(operators, MediaType.APPLICATION_JSON), is(sameInstance(json)));
+        assertThat(operators.cacheSize(), is(2));
+    }
+
+    @Test
+    public void testNotFoundIsCached() {
+        MessageBodyOperators<MessageBodyReader<?>> operators = new MessageBodyOperators<>();
+        TestReader json = new TestReader(MediaType.APPLICATION_JSON);
+        operators.registerLast(json);
+
+        assertThat(select(operators, MediaType.TEXT_PLAIN), is(nullValue()));
+        assertThat(select(operators, MediaType.TEXT_PLAIN), is(nullValue()));
+        assertThat(json.accepted, is(1));
+    }
+
+    @Test
+    public void testInvalidatedOnRegistration() {
+        MessageBodyOperators<MessageBodyReader<?>> operators = new MessageBodyOperators<>();
+        TestReader first = new TestReader(null);
+        operators.registerLast(first);
+        assertThat(select(operators, MediaType.TEXT_PLAIN), is(sameInstance(first)));
+
+        TestReader second = new TestReader(null);
+        operators.registerFirst(second);
+        assertThat(select(operators, MediaType.TEXT_PLAIN), is(sameInstance(second)));
+    }
+
+    @Test
+    public void testInvalidatedOnParentRegistration() {
+        MessageBodyOperators<MessageBodyReader<?>> parent = new MessageBodyOperators<>();
+        MessageBodyOperators<MessageBodyReader<?>> child = new MessageBodyOperators<>(parent);
+        TestReader childReader = new TestReader(MediaType.APPLICATION_JSON);
+        child.registerLast(childReader);
+
+        assertThat(select(child, MediaType.TEXT_PLAIN), is(nullValue()));
+
+        TestReader parentReader = new TestReader(null);
+        parent.registerLast(parentReader);
+        assertThat(select(child, MediaType.TEXT_PLAIN), is(sameInstance(parentReader)));
+        assertThat(select(child, MediaType.APPLICATION_JSON), is(sameInstance(childReader)));
+    }
+
+    @Test
+    public void testEmptyChildUsesParentCache() {
+        MessageBodyOperators<MessageBodyReader<?>> parent = new MessageBodyOperators<>();
+        TestReader reader = new TestReader(null);
+        parent.registerLast(reader);
+
+        for (int i = 0; i < 3; i++) {
+            MessageBodyOperators<MessageBodyReader<?>> child = new MessageBodyOperators<>(parent);
+            assertThat(select(child, MediaType.TEXT_PLAIN), is(sameInstance(reader)));
+            assertThat(child.cacheSize(), is(0));
+        }
+        assertThat(parent.cacheSize(), is(1));
+        assertThat(reader.accepted, is(1));
+    }
+
+    @Test
+    public void testFullCacheKeepsSelections() {
+        MessageBodyOperators<MessageBodyReader<?>> operators = new MessageBodyOperators<>();
+        TestReader reader = new TestReader(null);
+        operators.registerLast(reader);
+
+        for (int i = 0; i < MessageBodyOperators.MAX_CACHE_SIZE; i++) {
+            select(operators, MediaType.create("text", "type-" + i));
+        }
+        assertThat(operators.cacheSize(), is(MessageBodyOperators.MAX_CACHE_SIZE));
+
+        assertThat(select(operators, MediaType.create("text", "overflow")), is(sameInstance(reader)));
+        assertThat(operators.cacheSize(), is(MessageBodyOperators.MAX_CACHE_SIZE));
+
+        int accepted = reader.accepted;
+        assertThat(select(operators, MediaType.create("text", "type-0")), is(sameInstance(reader)));
+        assertThat(reader.accepted, is(accepted));
+    }
+
+    @Test
+    public void testFullCacheEvictsStaleSelections() {
+        MessageBodyOperators<MessageBodyReader<?>> operators = new MessageBodyOperators<>();
+        operators.registerLast(new TestReader(null));
+        for (int i = 0; i < MessageBodyOperators.MAX_CACHE_SIZE; i++) {
+            select(operators, MediaType.create("text", "type-" + i));
+        }
+
+        TestReader reader = new TestReader(null);
+        operators.registerFirst(reader);
+        assertThat(select(operators, MediaType.create("text", "overflow")), is(sameInstance(reader)));
+        assertThat(operators.cacheSize(), is(1));
+    }
+
+    @Test
+    public void testStreamWriterSelectedPerAcceptedTypes() throws Exception {
+        TestStreamWriter sse = new TestStreamWriter(MediaType.TEXT_EVENT_STREAM);
+        TestStreamWriter ndjson = new TestStreamWriter(MediaType.APPLICATION_X_NDJSON);
+        MediaContext mediaContext = MediaContext.builder()
+                .registerDefaults(false)
+                .addStreamWriter(sse)
+                .addStreamWriter(ndjson)
+                .build();
+
+        assertThat(write(mediaContext, MediaType.TEXT_EVENT_STREAM), is(MediaType.TEXT_EVENT_STREAM.toString()));
+        assertThat(write(mediaContext, MediaType.APPLICATION_X_NDJSON), is(MediaType.APPLICATION_X_NDJSON.toString()));
+        assertThat(write(mediaContext, MediaType.TEXT_EVENT_STREAM), is(MediaType.TEXT_EVENT_STREAM.toString()));
+        assertThat(sse.accepted, is(2));
+    }
+
+    private static String write(MediaContext mediaContext, MediaType accepted) throws Exception {
+        MessageBodyWriterContext context = MessageBodyWriterContext.create(mediaContext,
+                                                                           null,
+                                                                           HashParameters.create(),
+                                                                           List.of(accepted));
+        return Multi.create(context.marshallStream(Multi.just("a", "b"), STRING))
+                .map(chunk -> new String(chunk.bytes(), StandardCharsets.UTF_8))
+                .first()
+                .get();
+    }
+
+    private static MessageBodyReader<?> select(MessageBodyOperators<MessageBodyReader<?>> operators,
+                                               MediaType contentType) {
+        MessageBodyReaderContext context = MessageBodyReaderContext.create(MessageBodyReaderContext.create(),
+                                                                           null,
+                                                                           ReadOnlyParameters.empty(),
+                                                                           Optional.of(contentType));
+        return operators.select(STRING, context, context.contentType(), List.of());
+    }
+
+    private static final class TestStreamWriter implements MessageBodyStreamWriter<String> {
+        private final MediaType mediaType;
+        private int accepted;
+
+        private TestStreamWriter(MediaType mediaType) {
+            this.mediaType = mediaType;
+        }
+
+        @Override
+        public PredicateResult accept(GenericType<?> type, MessageBodyWriterContext context) {
+            accepted++;
+            try {
+                context.findAccepted(mediaType);
+                return PredicateResult.COMPATIBLE;
+            } catch (IllegalStateException e) {
+                return PredicateResult.NOT_SUPPORTED;
+            }
+        }
+
+        @Override
+        public Publisher<DataChunk> write(Publisher<? extends String> publisher,
+                                          GenericType<? extends String> type,
+                                          MessageBodyWriterContext context) {
+            return Single.just(DataChunk.create(mediaType.toString().getBytes(StandardCharsets.UTF_8)));
+        }
+    }
+
+    private static final class TestReader implements MessageBodyReader<String> {
+        private final MediaType mediaType;
+        private int accepted;
+
+        private TestReader(MediaType mediaType) {
+            this.mediaType = mediaType;
+        }
+
+        @Override
+        public PredicateResult accept(GenericType<?> type, MessageBodyReaderContext context) {
+            accepted++;
+            if (mediaType != null && !context.contentType().map(mediaType::test).orElse(false)) {
+                return PredicateResult.NOT_SUPPORTED;
+            }
+            return PredicateResult.supports(String.class, type);
+        }
+
+        @Override
+        public <U extends String> Single<U> read(Publisher<DataChunk> publisher,
+                                                 GenericType<U> type,
+                                                 MessageBodyReaderContext context) {
+            return Single.empty();
+        }
+    }
+}
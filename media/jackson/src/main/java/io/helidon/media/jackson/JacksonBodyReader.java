@@ -18,6 +18,8 @@ package io.helidon.media.jackson;
 import java.io.IOException;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.Objects;
 import java.util.concurrent.Flow.Publisher;
 
@@ -29,12 +31,17 @@ import io.helidon.media.common.ContentReaders;
 import io.helidon.media.common.MessageBodyReader;
 import io.helidon.media.common.MessageBodyReaderContext;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 
 /**
  * Message body reader supporting object binding with Jackson.
+ * <p>
+ * UTF-8 content is parsed incrementally as data chunks arrive, see {@link JacksonTokenizer}. Content in other
+ * charsets is collected into a byte array first.
  */
 final class JacksonBodyReader implements MessageBodyReader<Object> {
 
@@ -58,7 +65,26 @@ final class JacksonBodyReader implements MessageBodyReader<Object> {
     public <U extends Object> Single<U> read(Publisher<DataChunk> publisher,
             GenericType<U> type, MessageBodyReaderContext context) {
 
-        return ContentReaders.readBytes(publisher).map(new BytesToObject<>(type, objectMapper));
+        if (!isUtf8(context.charset())) {
+            return ContentReaders.readBytes(publisher).map(new BytesToObject<>(type, objectMapper));
+        }
+        JavaType javaType = objectMapper.constructType(type.type());
+        return JacksonTokenizer.tokenize(publisher, objectMapper, false)
+                .first()
+                .map(tokens -> readValue(objectMapper, tokens, javaType));
+    }
+
+    static boolean isUtf8(Charset charset) {
+        // the non-blocking parser supports UTF-8 only (and its subset US-ASCII)
+        return StandardCharsets.UTF_8.equals(charset) || StandardCharsets.US_ASCII.equals(charset);
+    }
+
+    static <T> T readValue(ObjectMapper objectMapper, TokenBuffer tokens, JavaType javaType) {
+        try (JsonParser parser = tokens.asParser(objectMapper)) {
+            return objectMapper.readValue(parser, javaType);
+        } catch (IOException e) {
+            throw new JacksonRuntimeException(e.getMessage(), e);
+        }
     }
 
     /**
@@ -62,7 +62,9 @@ class JacksonBodyStreamWriter implements MessageBodyStreamWriter<Object> {
         context.contentType(contentType);
 
         AtomicBoolean first = new AtomicBoolean(true);
-        JacksonBodyWriter.ObjectToChunks objectToChunks = new JacksonBodyWriter.ObjectToChunks(objectMapper, context.charset());
+        JacksonBodyWriter.ObjectToChunks objectToChunks = new JacksonBodyWriter.ObjectToChunks(objectMapper,
+                                                                                               context.charset(),
+                                                                                               context.allocator());
 
         return Multi.create(publisher)
                 .flatMap(objectToChunks)
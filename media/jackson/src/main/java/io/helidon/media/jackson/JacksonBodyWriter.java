@@ -27,6 +27,7 @@ import io.helidon.common.mapper.Mapper;
 import io.helidon.common.reactive.Single;
 import io.helidon.media.common.CharBuffer;
 import io.helidon.media.common.ContentWriters;
+import io.helidon.media.common.DataChunkAllocator;
 import io.helidon.media.common.MessageBodyWriter;
 import io.helidon.media.common.MessageBodyWriterContext;
 
@@ -58,7 +59,7 @@ final class JacksonBodyWriter implements MessageBodyWriter<Object> {
 
         MediaType contentType = context.findAccepted(MediaType.JSON_PREDICATE, MediaType.APPLICATION_JSON);
         context.contentType(contentType);
-        return content.flatMap(new ObjectToChunks(objectMapper, context.charset()));
+        return content.flatMap(new ObjectToChunks(objectMapper, context.charset(), context.allocator()));
     }
 
     /**
@@ -74,10 +75,12 @@ final class JacksonBodyWriter implements MessageBodyWriter<Object> {
 
         private final ObjectMapper objectMapper;
         private final Charset charset;
+        private final DataChunkAllocator allocator;
 
-        ObjectToChunks(ObjectMapper objectMapper, Charset charset) {
+        ObjectToChunks(ObjectMapper objectMapper, Charset charset, DataChunkAllocator allocator) {
             this.objectMapper = objectMapper;
             this.charset = charset;
+            this.allocator = allocator;
         }
 
         @Override
@@ -85,7 +88,7 @@ final class JacksonBodyWriter implements MessageBodyWriter<Object> {
             try {
                 CharBuffer buffer = new CharBuffer();
                 objectMapper.writeValue(buffer, content);
-                return ContentWriters.writeCharBuffer(buffer, charset);
+                return ContentWriters.writeCharBuffer(buffer, charset, allocator);
             } catch (IOException wrapMe) {
                 throw new JacksonRuntimeException(wrapMe.getMessage(), wrapMe);
             }
@@ -68,7 +68,9 @@ class JacksonEsBodyStreamWriter implements MessageBodyStreamWriter<Object> {
                 .or(() -> findMediaType(context))
                 .orElse(TEXT_EVENT_STREAM_JSON);
         context.contentType(contentType);
-        JacksonBodyWriter.ObjectToChunks objectToChunks = new JacksonBodyWriter.ObjectToChunks(objectMapper, context.charset());
+        JacksonBodyWriter.ObjectToChunks objectToChunks = new JacksonBodyWriter.ObjectToChunks(objectMapper,
+                                                                                               context.charset(),
+                                                                                               context.allocator());
         return Multi.create(publisher)
                 .flatMap(objectToChunks)
                 .flatMap(chunk -> Multi.just(
@@ -65,7 +65,9 @@ class JacksonNdBodyStreamWriter implements MessageBodyStreamWriter<Object> {
     public Multi<DataChunk> write(Flow.Publisher<?> publisher, GenericType<?> type, MessageBodyWriterContext context) {
         MediaType contentType = MediaType.APPLICATION_X_NDJSON;
         context.contentType(contentType);
-        JacksonBodyWriter.ObjectToChunks objectToChunks = new JacksonBodyWriter.ObjectToChunks(objectMapper, context.charset());
+        JacksonBodyWriter.ObjectToChunks objectToChunks = new JacksonBodyWriter.ObjectToChunks(objectMapper,
+                                                                                               context.charset(),
+                                                                                               context.allocator());
         AtomicBoolean first = new AtomicBoolean(true);
         return Multi.create(publisher)
                 .flatMap(objectToChunks)
@@ -22,6 +22,7 @@ import java.util.Objects;
 import io.helidon.common.LazyValue;
 import io.helidon.media.common.MediaSupport;
 import io.helidon.media.common.MessageBodyReader;
+import io.helidon.media.common.MessageBodyStreamReader;
 import io.helidon.media.common.MessageBodyStreamWriter;
 import io.helidon.media.common.MessageBodyWriter;
 
@@ -45,6 +46,7 @@ public final class JacksonSupport implements MediaSupport {
 
     private final JacksonBodyReader reader;
     private final JacksonBodyWriter writer;
+    private final JacksonBodyStreamReader streamReader;
     private final JacksonBodyStreamWriter streamWriter;
     private final JacksonEsBodyStreamWriter esStreamWriter;
     private final JacksonNdBodyStreamWriter ndStreamWriter;
@@ -52,6 +54,7 @@ public final class JacksonSupport implements MediaSupport {
     private JacksonSupport(final ObjectMapper objectMapper) {
         this.reader = JacksonBodyReader.create(objectMapper);
         this.writer = JacksonBodyWriter.create(objectMapper);
+        this.streamReader = JacksonBodyStreamReader.create(objectMapper);
         this.streamWriter = JacksonBodyStreamWriter.create(objectMapper);
         this.esStreamWriter = JacksonEsBodyStreamWriter.create(objectMapper);
         this.ndStreamWriter = JacksonNdBodyStreamWriter.create(objectMapper);
@@ -117,6 +120,28 @@ public final class JacksonSupport implements MediaSupport {
         return JacksonBodyWriter.create(objectMapper);
     }
 
+    /**
+     * Return a default Jackson entity stream reader.
+     * The reader provides the elements of a top-level JSON array as they are parsed.
+     *
+     * @return default Jackson body stream reader instance
+     */
+    public static MessageBodyStreamReader<Object> streamReader() {
+        return DEFAULT.get().streamReader;
+    }
+
+    /**
+     * Create a new Jackson entity stream reader based on {@link ObjectMapper} instance.
+     * The reader provides the elements of a top-level JSON array as they are parsed.
+     *
+     * @param objectMapper object mapper instance
+     * @return new Jackson body stream reader instance
+     */
+    public static MessageBodyStreamReader<Object> streamReader(ObjectMapper objectMapper) {
+        Objects.requireNonNull(objectMapper);
+        return JacksonBodyStreamReader.create(objectMapper);
+    }
+
     /**
      * Return a default Jackson entity stream writer.
      *
@@ -199,6 +224,15 @@ public final class JacksonSupport implements MediaSupport {
         return writer;
     }
 
+    /**
+     * Return Jackson stream reader instance.
+     *
+     * @return Jackson stream reader instance
+     */
+    public MessageBodyStreamReader<Object> streamReaderInstance() {
+        return streamReader;
+    }
+
     /**
      * Return Jackson stream writer instance.
      *
@@ -236,6 +270,11 @@ public final class JacksonSupport implements MediaSupport {
         return List.of(writer);
     }
 
+    @Override
+    public Collection<MessageBodyStreamReader<?>> streamReaders() {
+        return List.of(streamReader);
+    }
+
     @Override
     public Collection<MessageBodyStreamWriter<?>> streamWriters() {
         return List.of(streamWriter, ndStreamWriter, esStreamWriter);
@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.media.jackson;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow.Publisher;
+
+import io.helidon.common.http.DataChunk;
+import io.helidon.common.reactive.Multi;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+/**
+ * Splits the bytes of data chunks into JSON values using the Jackson non-blocking parser.
+ * <p>
+ * Chunks are parsed as they arrive and released at once, tokens of each value are collected into a
+ * {@link TokenBuffer}, which is then bound by the object mapper. Only the (compact) tokens of the current value are
+ * kept in memory, never the raw bytes of the whole content.
+ * <p>
+ * Floating point numbers with more than 15 significant characters are kept as {@link java.math.BigDecimal}
+ * so no precision is lost when bound to {@code BigDecimal} properties.
+ */
+final class JacksonTokenizer {
+
+    private static final int MAX_EXACT_DOUBLE_LENGTH = 15;
+
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+    private final boolean arrayElements;
+    private byte[] input = new byte[0];
+    private TokenBuffer tokens;
+    private int depth;
+    private boolean arrayStarted;
+    private boolean arrayEnded;
+    private boolean valueFound;
+
+    private JacksonTokenizer(ObjectMapper objectMapper, boolean arrayElements) {
+        try {
+            this.parser = objectMapper.getFactory().createNonBlockingByteArrayParser();
+        } catch (IOException e) {
+            throw new JacksonRuntimeException(e.getMessage(), e);
+        }
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+        this.arrayElements = arrayElements;
+    }
+
+    /**
+     * Parse the chunks into tokens of JSON values.
+     *
+     * @param publisher     chunks
+     * @param objectMapper  object mapper
+     * @param arrayElements {@code true} to provide each element of a top-level JSON array,
+     *                      {@code false} to provide the top-level value
+     * @return tokens of each value
+     */
+    static Multi<TokenBuffer> tokenize(Publisher<DataChunk> publisher, ObjectMapper objectMapper, boolean arrayElements) {
+        return Multi.defer(() -> {
+            JacksonTokenizer tokenizer = new JacksonTokenizer(objectMapper, arrayElements);
+            return Multi.create(publisher)
+                    .flatMapIterable(tokenizer::tokenize)
+                    .onCompleteResumeWith(Multi.defer(() -> Multi.create(tokenizer.endOfInput())));
+        });
+    }
+
+    private List<TokenBuffer> tokenize(DataChunk chunk) {
+        try {
+            List<TokenBuffer> result = new ArrayList<>(1);
+            for (ByteBuffer buffer : chunk.data()) {
+                int length = buffer.remaining();
+                if (length == 0) {
+                    continue;
+                }
+                if (buffer.hasArray()) {
+                    int start = buffer.arrayOffset() + buffer.position();
+                    feeder.feedInput(buffer.array(), start, start + length);
+                } else {
+                    if (input.length < length) {
+                        input = new byte[length];
+                    }
+                    // the parser is done with the previous input once it returns NOT_AVAILABLE, safe to reuse
+                    buffer.duplicate().get(input, 0, length);
+                    feeder.feedInput(input, 0, length);
+                }
+                parse(result);
+            }
+            return result;
+        } catch (IOException e) {
+            throw new JacksonRuntimeException(e.getMessage(), e);
+        } finally {
+            chunk.release();
+        }
+    }
+
+    private List<TokenBuffer> endOfInput() {
+        try {
+            feeder.endOfInput();
+            List<TokenBuffer> result = new ArrayList<>(1);
+            parse(result);
+            if (depth != 0 || tokens != null) {
+                throw new JsonParseException(parser, "Unexpected end of JSON content");
+            }
+            if (!arrayElements && !valueFound) {
+                throw new JsonParseException(parser, "No content to map due to end-of-input");
+            }
+            return result;
+        } catch (IOException e) {
+            throw new JacksonRuntimeException(e.getMessage(), e);
+        }
+    }
+
+    private void parse(List<TokenBuffer> result) throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            if (token.isStructStart()) {
+                depth++;
+            } else if (token.isStructEnd()) {
+                depth--;
+            }
+            if (arrayElements) {
+                arrayElement(token, result);
+            } else {
+                value(token, result);
+            }
+        }
+    }
+
+    private void value(JsonToken token, List<TokenBuffer> result) throws IOException {
+        copy(token);
+        if (depth == 0 && (token.isStructEnd() || token.isScalarValue())) {
+            if (!valueFound) {
+                // only the first top-level value is used, the same as when binding from bytes
+                result.add(tokens);
+                valueFound = true;
+            }
+            tokens = null;
+        }
+    }
+
+    private void arrayElement(JsonToken token, List<TokenBuffer> result) throws IOException {
+        if (!arrayStarted) {
+            if (token != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, "Expected a JSON array, but got " + token);
+            }
+            arrayStarted = true;
+            return;
+        }
+        if (arrayEnded) {
+            throw new JsonParseException(parser, "Unexpected JSON content after the top-level array: " + token);
+        }
+        if (depth == 0) {
+            // end of the top-level array
+            arrayEnded = true;
+            return;
+        }
+        copy(token);
+        if (depth == 1 && (token.isStructEnd() || token.isScalarValue())) {
+            result.add(tokens);
+            tokens = null;
+        }
+    }
+
+    private void copy(JsonToken token) throws IOException {
+        if (tokens == null) {
+            tokens = new TokenBuffer(parser, null);
+        }
+        if (token == JsonToken.VALUE_NUMBER_FLOAT && parser.getTextLength() > MAX_EXACT_DOUBLE_LENGTH) {
+            tokens.writeNumber(parser.getDecimalValue());
+        } else {
+            tokens.copyCurrentEvent(parser);
+        }
+    }
+}
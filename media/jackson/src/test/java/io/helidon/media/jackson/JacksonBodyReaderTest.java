@@ -15,12 +15,23 @@
  */
 package io.helidon.media.jackson;
 
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import io.helidon.common.GenericType;
 import io.helidon.common.http.DataChunk;
+import io.helidon.common.http.MediaType;
+import io.helidon.common.http.ReadOnlyParameters;
+import io.helidon.common.reactive.Multi;
 import io.helidon.common.reactive.Single;
+import io.helidon.media.common.MediaContext;
 import io.helidon.media.common.MessageBodyReaderContext;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -29,6 +40,7 @@ import org.junit.jupiter.api.Test;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class JacksonBodyReaderTest {
 
@@ -44,8 +56,90 @@ public class JacksonBodyReaderTest {
         assertThat(books.get(0), notNullValue());
     }
 
+    @Test
+    void testSplitChunks() throws Exception {
+        JacksonBodyReader reader = JacksonBodyReader.create(new ObjectMapper());
+        AtomicInteger released = new AtomicInteger();
+        String json = "{\"title\":\"Žluťoučký kůň\",\"pages\":1234,\"price\":12.5}";
+        List<DataChunk> chunks = splitDirect(json, 3, released);
+
+        Book book = reader.read(Multi.create(chunks), GenericType.create(Book.class), MessageBodyReaderContext.create())
+                .get();
+
+        assertThat(book.getTitle(), is("Žluťoučký kůň"));
+        assertThat(book.getPages(), is(1234));
+        assertThat(book.getPrice(), is(12.5));
+        assertThat(released.get(), is(chunks.size()));
+    }
+
+    @Test
+    void testBigDecimalPrecision() throws Exception {
+        JacksonBodyReader reader = JacksonBodyReader.create(new ObjectMapper());
+        String json = "{\"value\":3.14159265358979323846264338327950288}";
+
+        Decimal decimal = reader.read(Multi.create(splitDirect(json, 5, new AtomicInteger())),
+                                      GenericType.create(Decimal.class),
+                                      MessageBodyReaderContext.create())
+                .get();
+
+        assertThat(decimal.value, is(new BigDecimal("3.14159265358979323846264338327950288")));
+    }
+
+    @Test
+    void testOtherCharset() throws Exception {
+        JacksonBodyReader reader = JacksonBodyReader.create(new ObjectMapper());
+        MessageBodyReaderContext context = MessageBodyReaderContext.create((MediaContext) null,
+                                                                           null,
+                                                                           ReadOnlyParameters.empty(),
+                                                                           Optional.of(MediaType.APPLICATION_JSON
+                                                                                               .withCharset("UTF-16")));
+        DataChunk dataChunk = DataChunk.create("{\"title\":\"Dune\"}".getBytes(StandardCharsets.UTF_16));
+
+        Book book = reader.read(Single.just(dataChunk), GenericType.create(Book.class), context).get();
+
+        assertThat(book.getTitle(), is("Dune"));
+    }
+
+    @Test
+    void testEmptyContent() {
+        JacksonBodyReader reader = JacksonBodyReader.create(new ObjectMapper());
+
+        assertThrows(ExecutionException.class,
+                     () -> reader.read(Multi.empty(), GenericType.create(Book.class), MessageBodyReaderContext.create())
+                             .get());
+    }
+
+    @Test
+    void testInvalidContent() {
+        JacksonBodyReader reader = JacksonBodyReader.create(new ObjectMapper());
+        DataChunk dataChunk = DataChunk.create("{\"title\":".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(ExecutionException.class,
+                     () -> reader.read(Single.just(dataChunk), new GenericType<Map<String, Object>>() { },
+                                       MessageBodyReaderContext.create())
+                             .get());
+    }
+
+    static List<DataChunk> splitDirect(String json, int size, AtomicInteger released) {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        List<DataChunk> chunks = new ArrayList<>();
+        for (int i = 0; i < bytes.length; i += size) {
+            int length = Math.min(size, bytes.length - i);
+            ByteBuffer buffer = ByteBuffer.allocateDirect(length);
+            buffer.put(bytes, i, length).flip();
+            chunks.add(DataChunk.create(false, released::incrementAndGet, buffer));
+        }
+        return chunks;
+    }
+
+    public static class Decimal {
+        public BigDecimal value;
+    }
+
     public static class Book {
         private String title;
+        private int pages;
+        private double price;
 
         public String getTitle() {
             return title;
@@ -54,5 +148,21 @@ public class JacksonBodyReaderTest {
         public void setTitle(String title) {
             this.title = title;
         }
+
+        public int getPages() {
+            return pages;
+        }
+
+        public void setPages(int pages) {
+            this.pages = pages;
+        }
+
+        public double getPrice() {
+            return price;
+        }
+
+        public void setPrice(double price) {
+            this.price = price;
+        }
     }
 }
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.media.jackson;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.helidon.common.GenericType;
+import io.helidon.common.http.DataChunk;
+import io.helidon.common.reactive.Multi;
+import io.helidon.common.reactive.Single;
+import io.helidon.media.common.MessageBodyReaderContext;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class JacksonBodyStreamReaderTest {
+
+    private static final JacksonBodyStreamReader READER = JacksonBodyStreamReader.create(new ObjectMapper());
+
+    @Test
+    void testArrayElements() throws Exception {
+        AtomicInteger released = new AtomicInteger();
+        String json = "[{\"title\":\"The Stand\",\"pages\":1152},{\"title\":\"Dune\",\"pages\":412},{\"title\":\"It\"}]";
+        List<DataChunk> chunks = JacksonBodyReaderTest.splitDirect(json, 7, released);
+
+        List<String> titles = Multi.create(READER.read(Multi.create(chunks),
+                                                       GenericType.create(JacksonBodyReaderTest.Book.class),
+                                                       MessageBodyReaderContext.create()))
+                .map(JacksonBodyReaderTest.Book::getTitle)
+                .collectList()
+                .get();
+
+        assertThat(titles, contains("The Stand", "Dune", "It"));
+        assertThat(released.get(), is(chunks.size()));
+    }
+
+    @Test
+    void testScalarElements() throws Exception {
+        List<Integer> numbers = Multi.create(READER.read(Multi.create(JacksonBodyReaderTest.splitDirect("[1, 22, 333]",
+                                                                                                         2,
+                                                                                                         new AtomicInteger())),
+                                                         GenericType.create(Integer.class),
+                                                         MessageBodyReaderContext.create()))
+                .collectList()
+                .get();
+
+        assertThat(numbers, contains(1, 22, 333));
+    }
+
+    @Test
+    void testEmptyArray() throws Exception {
+        List<Integer> numbers = Multi.create(READER.read(Single.just(DataChunk.create("[ ]".getBytes(StandardCharsets.UTF_8))),
+                                                         GenericType.create(Integer.class),
+                                                         MessageBodyReaderContext.create()))
+                .collectList()
+                .get();
+
+        assertThat(numbers.size(), is(0));
+    }
+
+    @Test
+    void testNotArray() {
+        DataChunk chunk = DataChunk.create("{\"title\":\"Dune\"}".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(ExecutionException.class,
+                     () -> Multi.create(READER.read(Single.just(chunk),
+                                                    GenericType.create(JacksonBodyReaderTest.Book.class),
+                                                    MessageBodyReaderContext.create()))
+                             .collectList()
+                             .get());
+    }
+
+    @Test
+    void testUnterminatedArray() {
+        DataChunk chunk = DataChunk.create("[1, 2".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(ExecutionException.class,
+                     () -> Multi.create(READER.read(Single.just(chunk),
+                                                    GenericType.create(Integer.class),
+                                                    MessageBodyReaderContext.create()))
+                             .collectList()
+                             .get());
+    }
+}
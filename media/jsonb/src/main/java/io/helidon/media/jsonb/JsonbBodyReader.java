@@ -15,7 +15,6 @@
  */
 package io.helidon.media.jsonb;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Objects;
@@ -55,7 +54,7 @@ class JsonbBodyReader implements MessageBodyReader<Object> {
     public <U extends Object> Single<U> read(Publisher<DataChunk> publisher,
             GenericType<U> type, MessageBodyReaderContext context) {
 
-        return ContentReaders.readBytes(publisher).map(new BytesToObject<>(type, jsonb));
+        return ContentReaders.readInputStream(publisher).map(new InputStreamToObject<>(type, jsonb));
     }
 
     /**
@@ -67,19 +66,19 @@ class JsonbBodyReader implements MessageBodyReader<Object> {
         return new JsonbBodyReader(jsonb);
     }
 
-    private static final class BytesToObject<T> implements Mapper<byte[], T> {
+    private static final class InputStreamToObject<T> implements Mapper<InputStream, T> {
 
         private final GenericType<? super T> type;
         private final Jsonb jsonb;
 
-        BytesToObject(GenericType<? super T> type, Jsonb jsonb) {
+        InputStreamToObject(GenericType<? super T> type, Jsonb jsonb) {
             this.type = type;
             this.jsonb = jsonb;
         }
 
         @Override
-        public T map(byte[] bytes) {
-            try (InputStream inputStream = new ByteArrayInputStream(bytes)) {
+        public T map(InputStream inputStream) {
+            try (inputStream) {
                 return jsonb.fromJson(inputStream, type.type());
             } catch (IOException ex) {
                 throw new JsonbException(ex.getMessage(), ex);
@@ -65,7 +65,7 @@ class JsonbBodyStreamWriter implements MessageBodyStreamWriter<Object> {
 
         AtomicBoolean first = new AtomicBoolean(true);
 
-        ObjectToChunks jsonToChunks = new ObjectToChunks(jsonb, context.charset());
+        ObjectToChunks jsonToChunks = new ObjectToChunks(jsonb, context.charset(), context.allocator());
 
         return Multi.create(publisher)
                 .flatMap(jsonToChunks)
@@ -15,7 +15,7 @@
  */
 package io.helidon.media.jsonp;
 
-import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.Charset;
 import java.util.Objects;
@@ -55,17 +55,17 @@ final class JsonpBodyReader implements MessageBodyReader<JsonStructure> {
     public <U extends JsonStructure> Single<U> read(Publisher<DataChunk> publisher, GenericType<U> type,
             MessageBodyReaderContext context) {
 
-        return ContentReaders.readBytes(publisher)
-                .map(new BytesToJsonStructure<>(jsonFactory, type, context.charset()));
+        return ContentReaders.readInputStream(publisher)
+                .map(new InputStreamToJsonStructure<>(jsonFactory, type, context.charset()));
     }
 
-    private static final class BytesToJsonStructure<T extends JsonStructure> implements Mapper<byte[], T> {
+    private static final class InputStreamToJsonStructure<T extends JsonStructure> implements Mapper<InputStream, T> {
 
         private final JsonReaderFactory jsonFactory;
         private final GenericType<T> type;
         private final Charset charset;
 
-        BytesToJsonStructure(JsonReaderFactory jsonFactory, GenericType<T> type, Charset charset) {
+        InputStreamToJsonStructure(JsonReaderFactory jsonFactory, GenericType<T> type, Charset charset) {
             this.jsonFactory = jsonFactory;
             this.type = type;
             this.charset = charset;
@@ -73,14 +73,16 @@ final class JsonpBodyReader implements MessageBodyReader<JsonStructure> {
 
         @Override
         @SuppressWarnings("unchecked")
-        public T map(byte[] bytes) {
-            InputStream is = new ByteArrayInputStream(bytes);
-            JsonReader reader = jsonFactory.createReader(is, charset);
-            JsonStructure json = reader.read();
-            if (!type.rawType().isAssignableFrom(json.getClass())) {
-                throw new JsonException("Unable to convert " + json.getClass() + " to " + type.rawType());
+        public T map(InputStream is) {
+            try (is; JsonReader reader = jsonFactory.createReader(is, charset)) {
+                JsonStructure json = reader.read();
+                if (!type.rawType().isAssignableFrom(json.getClass())) {
+                    throw new JsonException("Unable to convert " + json.getClass() + " to " + type.rawType());
+                }
+                return (T) json;
+            } catch (IOException e) {
+                throw new JsonException(e.getMessage(), e);
             }
-            return (T) json;
         }
     }
 }
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.media.jsonp;
+
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.util.Objects;
+import java.util.concurrent.Flow.Publisher;
+
+import javax.json.JsonException;
+import javax.json.JsonValue;
+import javax.json.stream.JsonParser;
+import javax.json.stream.JsonParserFactory;
+
+import io.helidon.common.GenericType;
+import io.helidon.common.http.DataChunk;
+import io.helidon.common.reactive.Multi;
+import io.helidon.media.common.ContentReaders;
+import io.helidon.media.common.MessageBodyReaderContext;
+import io.helidon.media.common.MessageBodyStreamReader;
+
+/**
+ * Message body stream reader for {@link JsonValue} sub-classes (JSON-P), providing the elements of a top-level
+ * JSON array.
+ * <p>
+ * The elements are parsed one at a time as requested, directly from the received data chunks.
+ */
+class JsonpBodyStreamReader implements MessageBodyStreamReader<JsonValue> {
+
+    private final JsonParserFactory parserFactory;
+
+    JsonpBodyStreamReader(JsonParserFactory parserFactory) {
+        this.parserFactory = Objects.requireNonNull(parserFactory);
+    }
+
+    @Override
+    public PredicateResult accept(GenericType<?> type, MessageBodyReaderContext context) {
+        return PredicateResult.supports(JsonValue.class, type);
+    }
+
+    @Override
+    public <U extends JsonValue> Multi<U> read(Publisher<DataChunk> publisher,
+                                               GenericType<U> type,
+                                               MessageBodyReaderContext context) {
+        Charset charset = context.charset();
+        return ContentReaders.readInputStream(publisher)
+                .flatMap(is -> elements(is, charset, type));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <U extends JsonValue> Multi<U> elements(InputStream is, Charset charset, GenericType<U> type) {
+        JsonParser parser = parserFactory.createParser(is, charset);
+        if (!parser.hasNext() || parser.next() != JsonParser.Event.START_ARRAY) {
+            parser.close();
+            return Multi.error(new JsonException("Expected a JSON array"));
+        }
+        Class<U> clazz = (Class<U>) type.rawType();
+        return Multi.create(parser.getArrayStream().onClose(parser::close))
+                .map(value -> {
+                    if (!clazz.isInstance(value)) {
+                        throw new JsonException("Unable to convert " + value.getClass() + " to " + clazz);
+                    }
+                    return clazz.cast(value);
+                });
+    }
+}
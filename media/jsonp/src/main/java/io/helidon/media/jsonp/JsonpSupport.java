@@ -23,11 +23,14 @@ import java.util.Map;
 import javax.json.Json;
 import javax.json.JsonReaderFactory;
 import javax.json.JsonStructure;
+import javax.json.JsonValue;
 import javax.json.JsonWriterFactory;
+import javax.json.stream.JsonParserFactory;
 
 import io.helidon.common.LazyValue;
 import io.helidon.media.common.MediaSupport;
 import io.helidon.media.common.MessageBodyReader;
+import io.helidon.media.common.MessageBodyStreamReader;
 import io.helidon.media.common.MessageBodyStreamWriter;
 import io.helidon.media.common.MessageBodyWriter;
 
@@ -39,17 +42,22 @@ import io.helidon.media.common.MessageBodyWriter;
 public final class JsonpSupport implements MediaSupport {
     private static final LazyValue<JsonpSupport> DEFAULT =
             LazyValue.create(() -> new JsonpSupport(Builder.readerFactory(null),
-                                                    Builder.writerFactory(null)));
+                                                    Builder.writerFactory(null),
+                                                    Builder.parserFactory(null)));
 
     private final JsonpBodyReader reader;
     private final JsonpBodyWriter writer;
+    private final JsonpBodyStreamReader streamReader;
     private final JsonpBodyStreamWriter streamWriter;
     private final JsonpEsBodyStreamWriter esStreamWriter;
     private final JsonpNdBodyStreamWriter ndStreamWriter;
 
-    private JsonpSupport(JsonReaderFactory readerFactory, JsonWriterFactory writerFactory) {
+    private JsonpSupport(JsonReaderFactory readerFactory,
+                         JsonWriterFactory writerFactory,
+                         JsonParserFactory parserFactory) {
         reader = new JsonpBodyReader(readerFactory);
         writer = new JsonpBodyWriter(writerFactory);
+        streamReader = new JsonpBodyStreamReader(parserFactory);
         streamWriter = new JsonpBodyStreamWriter(writerFactory);
         esStreamWriter = new JsonpEsBodyStreamWriter(writerFactory);
         ndStreamWriter = new JsonpNdBodyStreamWriter(writerFactory);
@@ -121,6 +129,27 @@ public final class JsonpSupport implements MediaSupport {
         return new JsonpBodyWriter(writerFactory);
     }
 
+    /**
+     * Return a default JSON-P entity stream reader.
+     * The reader provides the elements of a top-level JSON array.
+     *
+     * @return default JSON-P body stream reader instance
+     */
+    public static MessageBodyStreamReader<JsonValue> streamReader() {
+        return DEFAULT.get().streamReader;
+    }
+
+    /**
+     * Create a new JSON-P entity stream reader based on {@link JsonParserFactory}.
+     * The reader provides the elements of a top-level JSON array.
+     *
+     * @param parserFactory json parser factory
+     * @return new JSON-P body stream reader instance
+     */
+    public static MessageBodyStreamReader<JsonValue> streamReader(JsonParserFactory parserFactory) {
+        return new JsonpBodyStreamReader(parserFactory);
+    }
+
     /**
      * Return a default JSON-P entity stream writer.
      *
@@ -200,6 +229,18 @@ public final class JsonpSupport implements MediaSupport {
         return writer;
     }
 
+    /**
+     * Return JSON-P stream reader.
+     * <p>
+     * This stream reader provides the elements of a top-level JSON array
+     * as {@link javax.json.JsonValue} (such as {@link javax.json.JsonObject}).
+     *
+     * @return JSON processing stream reader.
+     */
+    public MessageBodyStreamReader<JsonValue> streamReaderInstance() {
+        return streamReader;
+    }
+
     /**
      * Return JSON-P stream writer.
      * <p>
@@ -263,6 +304,11 @@ public final class JsonpSupport implements MediaSupport {
         return List.of(writer);
     }
 
+    @Override
+    public Collection<MessageBodyStreamReader<?>> streamReaders() {
+        return List.of(streamReader);
+    }
+
     @Override
     public Collection<MessageBodyStreamWriter<?>> streamWriters() {
         return List.of(streamWriter, ndStreamWriter, esStreamWriter);
@@ -275,11 +321,15 @@ public final class JsonpSupport implements MediaSupport {
 
         private JsonWriterFactory jsonWriterFactory;
         private JsonReaderFactory jsonReaderFactory;
+        private JsonParserFactory jsonParserFactory;
         private Map<String, ?> jsonPConfig;
 
         @Override
         public JsonpSupport build() {
-            if ((null == jsonReaderFactory) && (null == jsonWriterFactory) && (null == jsonPConfig)) {
+            if ((null == jsonReaderFactory)
+                    && (null == jsonWriterFactory)
+                    && (null == jsonParserFactory)
+                    && (null == jsonPConfig)) {
                 return DEFAULT.get();
             }
 
@@ -295,7 +345,11 @@ public final class JsonpSupport implements MediaSupport {
                 jsonReaderFactory = readerFactory(jsonPConfig);
             }
 
-            return new JsonpSupport(jsonReaderFactory, jsonWriterFactory);
+            if (null == jsonParserFactory) {
+                jsonParserFactory = parserFactory(jsonPConfig);
+            }
+
+            return new JsonpSupport(jsonReaderFactory, jsonWriterFactory, jsonParserFactory);
         }
 
         private static JsonReaderFactory readerFactory(Map<String, ?> jsonPConfig) {
@@ -306,6 +360,10 @@ public final class JsonpSupport implements MediaSupport {
             return Json.createWriterFactory(jsonPConfig);
         }
 
+        private static JsonParserFactory parserFactory(Map<String, ?> jsonPConfig) {
+            return Json.createParserFactory(jsonPConfig);
+        }
+
         /**
          * Configuration to use when creating reader and writer factories.
          *
@@ -316,6 +374,7 @@ public final class JsonpSupport implements MediaSupport {
             this.jsonPConfig = config;
             this.jsonWriterFactory = null;
             this.jsonReaderFactory = null;
+            this.jsonParserFactory = null;
             return this;
         }
 
@@ -340,5 +399,16 @@ public final class JsonpSupport implements MediaSupport {
             this.jsonReaderFactory = factory;
             return this;
         }
+
+        /**
+         * Explicit JSON-P Parser factory instance, used by the stream reader.
+         *
+         * @param factory parser factory
+         * @return updated builder instance
+         */
+        public Builder jsonParserFactory(JsonParserFactory factory) {
+            this.jsonParserFactory = factory;
+            return this;
+        }
     }
 }
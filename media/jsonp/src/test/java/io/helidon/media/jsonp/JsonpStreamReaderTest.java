@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.media.jsonp;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+import javax.json.JsonObject;
+import javax.json.JsonValue;
+
+import io.helidon.common.GenericType;
+import io.helidon.common.http.DataChunk;
+import io.helidon.common.reactive.Multi;
+import io.helidon.media.common.MessageBodyReaderContext;
+import io.helidon.media.common.MessageBodyStreamReader;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests {@link JsonpBodyStreamReader}.
+ */
+public class JsonpStreamReaderTest {
+
+    private static final MessageBodyReaderContext CONTEXT = MessageBodyReaderContext.create();
+
+    private static final MessageBodyStreamReader<JsonValue> READER = JsonpSupport.streamReader();
+
+    @Test
+    public void arrayElements() throws Exception {
+        List<String> names = read(JsonObject.class, "[{\"name\":\"first\"},", "{\"na", "me\":\"second\"}]")
+                .map(it -> it.getString("name"))
+                .collectList()
+                .get();
+
+        assertThat(names, contains("first", "second"));
+    }
+
+    @Test
+    public void emptyArray() throws Exception {
+        assertThat(read(JsonValue.class, "[]").collectList().get().size(), is(0));
+    }
+
+    @Test
+    public void notArray() {
+        assertThrows(ExecutionException.class, () -> read(JsonValue.class, "{\"name\":\"first\"}").collectList().get());
+    }
+
+    @Test
+    public void incompatibleTypes() {
+        assertThrows(ExecutionException.class, () -> read(JsonObject.class, "[1, 2]").collectList().get());
+    }
+
+    private static <T extends JsonValue> Multi<T> read(Class<T> type, String... parts) {
+        DataChunk[] chunks = new DataChunk[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            chunks[i] = DataChunk.create(parts[i].getBytes(StandardCharsets.UTF_8));
+        }
+        return Multi.create(READER.read(Multi.just(chunks), GenericType.create(type), CONTEXT));
+    }
+}
@@ -100,6 +100,15 @@ abstract class AbstractJmsMessage<T> implements JmsMessage<T> {
 
     @Override
     public CompletionStage<Void> ack() {
+        AckBatch ackBatch = (sharedSessionEntry == null) ? null : sharedSessionEntry.ackBatch();
+        if (ackBatch != null) {
+            // Acknowledged with the whole batch by the session poller
+            if (!acked) {
+                acked = true;
+                ackBatch.acked();
+            }
+            return CompletableFuture.completedFuture(null);
+        }
         Runnable ackRunnable = () -> {
             try {
                 getJmsMessage().acknowledge();
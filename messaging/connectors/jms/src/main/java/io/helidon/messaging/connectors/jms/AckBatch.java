@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.messaging.connectors.jms;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.Session;
+
+/**
+ * Acknowledges received messages of one session in batches.
+ * <p>
+ * A batch is acknowledged, or committed when the session is transacted, once all of its messages were acknowledged
+ * by {@link org.eclipse.microprofile.reactive.messaging.Message#ack()} and either the batch is full or its timeout
+ * elapsed. No more messages are received while the batch is full, so that acknowledging the session does not
+ * acknowledge messages that were not processed yet.
+ * <p>
+ * Except for {@link #acked()}, methods are invoked by the thread polling the session.
+ */
+final class AckBatch {
+
+    private final Session session;
+    private final boolean transacted;
+    private final int size;
+    private final long timeoutNanos;
+    private final AtomicInteger acked = new AtomicInteger();
+    private final Runnable onReady;
+
+    private Message last;
+    private int received;
+    private long started;
+
+    AckBatch(Session session, boolean transacted, int size, long timeoutMillis, Runnable onReady) {
+        this.session = session;
+        this.transacted = transacted;
+        this.size = size;
+        this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        this.onReady = onReady;
+    }
+
+    void received(Message message) {
+        if (received++ == 0) {
+            started = System.nanoTime();
+        }
+        last = message;
+    }
+
+    void acked() {
+        // Do not wait for the next poll when the full batch is acknowledged
+        if (acked.incrementAndGet() == size) {
+            onReady.run();
+        }
+    }
+
+    boolean isFull() {
+        return received >= size;
+    }
+
+    /**
+     * Acknowledges or commits the batch, if it is complete.
+     *
+     * @throws JMSException when acknowledgement fails
+     */
+    void completeIfReady() throws JMSException {
+        if (received == 0 || acked.get() < received) {
+            return;
+        }
+        if (received < size && System.nanoTime() - started < timeoutNanos) {
+            return;
+        }
+        if (transacted) {
+            session.commit();
+        } else {
+            last.acknowledge();
+        }
+        acked.addAndGet(-received);
+        received = 0;
+        last = null;
+    }
+}
@@ -245,6 +245,76 @@ public final class JmsConfigBuilder extends ConnectorConfigBuilder {
         return this;
     }
 
+    /**
+     * Number of sessions consuming messages of the incoming channel concurrently,
+     * each of them polled by its own poll cycle.
+     * Consumers of a topic share the subscription named by subscriber-name, or by the channel name.
+     *
+     * <ul>
+     * <li>Type: int</li>
+     * <li>Default: 1</li>
+     * </ul>
+     *
+     * @param consumerConcurrency number of consuming sessions
+     * @return this builder
+     */
+    public JmsConfigBuilder consumerConcurrency(int consumerConcurrency) {
+        super.property("consumer-concurrency", String.valueOf(consumerConcurrency));
+        return this;
+    }
+
+    /**
+     * Number of messages acknowledged at once with {@link AcknowledgeMode#CLIENT_ACKNOWLEDGE},
+     * or committed at once by transacted session. Messages of a batch are acknowledged when
+     * all of them were acked, no more messages are received meanwhile.
+     *
+     * <ul>
+     * <li>Type: int</li>
+     * <li>Default: 1</li>
+     * </ul>
+     *
+     * @param ackBatchSize number of messages in acknowledgement batch
+     * @return this builder
+     */
+    public JmsConfigBuilder ackBatchSize(int ackBatchSize) {
+        super.property("ack-batch-size", String.valueOf(ackBatchSize));
+        return this;
+    }
+
+    /**
+     * Time after which acknowledgement batch is acknowledged even if not full, counted from
+     * reception of its first message.
+     *
+     * <ul>
+     * <li>Type: milliseconds</li>
+     * <li>Default: 100</li>
+     * </ul>
+     *
+     * @param ackBatchTimeout timeout of acknowledgement batch in millis
+     * @return this builder
+     */
+    public JmsConfigBuilder ackBatchTimeout(long ackBatchTimeout) {
+        super.property("ack-batch-timeout", String.valueOf(ackBatchTimeout));
+        return this;
+    }
+
+    /**
+     * Number of sessions sending messages of the outgoing channel.
+     * With more than one session, messages are sent concurrently and their order is not kept.
+     *
+     * <ul>
+     * <li>Type: int</li>
+     * <li>Default: 1</li>
+     * </ul>
+     *
+     * @param producerPoolSize number of sending sessions
+     * @return this builder
+     */
+    public JmsConfigBuilder producerPoolSize(int producerPoolSize) {
+        super.property("producer-pool-size", String.valueOf(producerPoolSize));
+        return this;
+    }
+
     /**
      * When multiple channels share same session-group-id,
      * they share same JMS session.
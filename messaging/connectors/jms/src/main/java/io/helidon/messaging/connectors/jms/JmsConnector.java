@@ -17,7 +17,9 @@
 
 package io.helidon.messaging.connectors.jms;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
@@ -25,9 +27,12 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.BiConsumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -123,6 +128,10 @@ public class JmsConnector implements IncomingConnectorFactory, OutgoingConnector
     static final String TYPE_ATTRIBUTE = "type";
     static final String DESTINATION_ATTRIBUTE = "destination";
     static final String SESSION_GROUP_ID_ATTRIBUTE = "session-group-id";
+    static final String CONSUMER_CONCURRENCY_ATTRIBUTE = "consumer-concurrency";
+    static final String ACK_BATCH_SIZE_ATTRIBUTE = "ack-batch-size";
+    static final String ACK_BATCH_TIMEOUT_ATTRIBUTE = "ack-batch-timeout";
+    static final String PRODUCER_POOL_SIZE_ATTRIBUTE = "producer-pool-size";
     static final String JNDI_ATTRIBUTE = "jndi";
     static final String JNDI_PROPS_ATTRIBUTE = "env-properties";
     static final String JNDI_JMS_FACTORY_ATTRIBUTE = "jms-factory";
@@ -133,6 +142,10 @@ public class JmsConnector implements IncomingConnectorFactory, OutgoingConnector
     static final boolean AWAIT_ACK_DEFAULT = false;
     static final long POLL_TIMEOUT_DEFAULT = 50L;
     static final long PERIOD_EXECUTIONS_DEFAULT = 100L;
+    static final int CONSUMER_CONCURRENCY_DEFAULT = 1;
+    static final int ACK_BATCH_SIZE_DEFAULT = 1;
+    static final long ACK_BATCH_TIMEOUT_DEFAULT = 100L;
+    static final int PRODUCER_POOL_SIZE_DEFAULT = 1;
     static final String TYPE_PROP_DEFAULT = "queue";
     static final String JNDI_JMS_FACTORY_DEFAULT = "ConnectionFactory";
 
@@ -325,43 +338,36 @@ public class JmsConnector implements IncomingConnectorFactory, OutgoingConnector
         ConnectionFactory factory = getFactory(ctx)
                 .orElseThrow(() -> new MessagingException("No ConnectionFactory found."));
 
+        int concurrency = config.get(CONSUMER_CONCURRENCY_ATTRIBUTE)
+                .asInt()
+                .orElse(CONSUMER_CONCURRENCY_DEFAULT);
+        Long pollTimeout = config.get(POLL_TIMEOUT_ATTRIBUTE)
+                .asLong()
+                .orElse(POLL_TIMEOUT_DEFAULT);
+        long periodExecutions = config.get(PERIOD_EXECUTIONS_ATTRIBUTE)
+                .asLong()
+                .orElse(PERIOD_EXECUTIONS_DEFAULT);
+
         try {
             SessionMetadata sessionEntry = prepareSession(config, factory);
-
             Destination destination = createDestination(sessionEntry.session(), ctx);
-            String messageSelector = config.get(MESSAGE_SELECTOR_ATTRIBUTE).asString().orElse(null);
-            String subscriberName = config.get(SUBSCRIBER_NAME_ATTRIBUTE).asString().orElse(null);
-
-            MessageConsumer consumer;
-            if (config.get(DURABLE_ATTRIBUTE).asBoolean().orElse(false)) {
-                if (!(destination instanceof Topic)) {
-                    throw new MessagingException("Can't create durable consumer. Only topic can be durable!");
-                }
-                consumer = sessionEntry.session().createDurableSubscriber(
-                        (Topic) destination,
-                        subscriberName,
-                        messageSelector,
-                        config.get(NON_LOCAL_ATTRIBUTE).asBoolean().orElse(false));
-            } else {
-                consumer = sessionEntry.session().createConsumer(destination, messageSelector);
-            }
-
 
             BufferedEmittingPublisher<Message<?>> emitter = BufferedEmittingPublisher.create();
 
-            Long pollTimeout = config.get(POLL_TIMEOUT_ATTRIBUTE)
-                    .asLong()
-                    .orElse(POLL_TIMEOUT_DEFAULT);
-
-            AtomicReference<JmsMessage<?>> lastMessage = new AtomicReference<>();
-
-            scheduler.scheduleAtFixedRate(
-                    () -> produce(emitter, sessionEntry, consumer, ackMode, awaitAck, pollTimeout, lastMessage),
-                    0,
-                    config.get(PERIOD_EXECUTIONS_ATTRIBUTE)
-                            .asLong()
-                            .orElse(PERIOD_EXECUTIONS_DEFAULT),
-                    TimeUnit.MILLISECONDS);
+            // Each session is polled by its own task, JMS sessions are single threaded
+            for (int i = 0; i < concurrency; i++) {
+                SessionMetadata consumerSession = (i == 0) ? sessionEntry : prepareAdditionalSession(config, sessionEntry);
+                MessageConsumer consumer = createConsumer(config, consumerSession.session(), destination, concurrency);
+                ConsumerTask task = new ConsumerTask(emitter,
+                                                     consumerSession,
+                                                     consumer,
+                                                     ackMode,
+                                                     awaitAck,
+                                                     pollTimeout,
+                                                     periodExecutions);
+                consumerSession.ackBatch(createAckBatch(config, consumerSession.session(), task));
+                scheduler.scheduleAtFixedRate(task, 0, periodExecutions, TimeUnit.MILLISECONDS);
+            }
             sessionEntry.connection().start();
             return ReactiveStreams.fromPublisher(FlowAdapters.toPublisher(Multi.create(emitter)));
         } catch (JMSException e) {
@@ -370,6 +376,63 @@ public class JmsConnector implements IncomingConnectorFactory, OutgoingConnector
         }
     }
 
+    private MessageConsumer createConsumer(io.helidon.config.Config config,
+                                           Session session,
+                                           Destination destination,
+                                           int concurrency) throws JMSException {
+        String messageSelector = config.get(MESSAGE_SELECTOR_ATTRIBUTE).asString().orElse(null);
+        String subscriberName = config.get(SUBSCRIBER_NAME_ATTRIBUTE).asString().orElse(null);
+        boolean durable = config.get(DURABLE_ATTRIBUTE).asBoolean().orElse(false);
+
+        if (durable && !(destination instanceof Topic)) {
+            throw new MessagingException("Can't create durable consumer. Only topic can be durable!");
+        }
+        if (concurrency > 1 && destination instanceof Topic) {
+            // Concurrent consumers of a topic share the subscription, so that a message is received only once
+            String subscriptionName = Optional.ofNullable(subscriberName)
+                    .orElseGet(() -> config.get(CHANNEL_NAME_ATTRIBUTE).asString().get());
+            if (durable) {
+                return session.createSharedDurableConsumer((Topic) destination, subscriptionName, messageSelector);
+            }
+            return session.createSharedConsumer((Topic) destination, subscriptionName, messageSelector);
+        }
+        if (durable) {
+            return session.createDurableSubscriber(
+                    (Topic) destination,
+                    subscriberName,
+                    messageSelector,
+                    config.get(NON_LOCAL_ATTRIBUTE).asBoolean().orElse(false));
+        }
+        return session.createConsumer(destination, messageSelector);
+    }
+
+    private AckBatch createAckBatch(io.helidon.config.Config config, Session session, Runnable poll) {
+        boolean transacted = config.get(TRANSACTED_ATTRIBUTE)
+                .asBoolean()
+                .orElse(TRANSACTED_DEFAULT);
+        int batchSize = config.get(ACK_BATCH_SIZE_ATTRIBUTE)
+                .asInt()
+                .orElse(ACK_BATCH_SIZE_DEFAULT);
+        AcknowledgeMode ackMode = config.get(ACK_MODE_ATTRIBUTE)
+                .asString()
+                .map(AcknowledgeMode::parse)
+                .orElse(ACK_MODE_DEFAULT);
+        // Transacted sessions have to be committed, batches only make sense for acknowledgement by client
+        if (!transacted && (batchSize <= 1 || ackMode != AcknowledgeMode.CLIENT_ACKNOWLEDGE)) {
+            return null;
+        }
+        long timeout = config.get(ACK_BATCH_TIMEOUT_ATTRIBUTE)
+                .asLong()
+                .orElse(ACK_BATCH_TIMEOUT_DEFAULT);
+        return new AckBatch(session, transacted, Math.max(1, batchSize), timeout, () -> {
+            try {
+                executor.execute(poll);
+            } catch (RejectedExecutionException e) {
+                // stopped
+            }
+        });
+    }
+
     @Override
     public SubscriberBuilder<? extends Message<?>, Void> getSubscriberBuilder(Config mpConfig) {
         io.helidon.config.Config config = MpConfig.toHelidonConfig(mpConfig);
@@ -380,12 +443,22 @@ public class JmsConnector implements IncomingConnectorFactory, OutgoingConnector
 
         try {
             SessionMetadata sessionEntry = prepareSession(config, factory);
-            Session session = sessionEntry.session();
-            Destination destination = createDestination(session, ctx);
-            MessageProducer producer = session.createProducer(destination);
+            Destination destination = createDestination(sessionEntry.session(), ctx);
+            int poolSize = config.get(PRODUCER_POOL_SIZE_ATTRIBUTE)
+                    .asInt()
+                    .orElse(PRODUCER_POOL_SIZE_DEFAULT);
+            List<ProducerPool.PooledProducer> producers = new ArrayList<>(poolSize);
+            for (int i = 0; i < Math.max(1, poolSize); i++) {
+                Session session = (i == 0) ? sessionEntry.session() : prepareAdditionalSession(config, sessionEntry).session();
+                producers.add(new ProducerPool.PooledProducer(session, session.createProducer(destination)));
+            }
+            ProducerPool pool = new ProducerPool(producers);
             AtomicReference<MessageMappers.MessageMapper> mapper = new AtomicReference<>();
+            AtomicReference<Throwable> failure = new AtomicReference<>();
             return ReactiveStreams.<Message<?>>builder()
-                    .flatMapCompletionStage(m -> consume(m, session, mapper, producer, config))
+                    .flatMapCompletionStage(m -> pool.size() == 1
+                            ? consume(m, producers.get(0).session(), mapper, producers.get(0).producer(), config)
+                            : consume(m, pool, mapper, failure, config))
                     .onError(t -> LOGGER.log(Level.SEVERE, t, () -> "Error intercepted from channel "
                             + config.get(CHANNEL_NAME_ATTRIBUTE).asString().orElse("unknown")))
                     .ignore();
@@ -394,36 +467,89 @@ public class JmsConnector implements IncomingConnectorFactory, OutgoingConnector
         }
     }
 
-    private void produce(
-            BufferedEmittingPublisher<Message<?>> emitter,
-            SessionMetadata sessionEntry,
-            MessageConsumer consumer,
-            AcknowledgeMode ackMode,
-            Boolean awaitAck,
-            Long pollTimeout,
-            AtomicReference<JmsMessage<?>> lastMessage) {
-
-        if (!emitter.hasRequests()) {
-            return;
+    /**
+     * Polls one session, receiving messages for as long as there is demand, up to the period of executions.
+     */
+    private final class ConsumerTask implements Runnable {
+        private final Lock lock = new ReentrantLock();
+        private final AtomicReference<JmsMessage<?>> lastMessage = new AtomicReference<>();
+        private final BufferedEmittingPublisher<Message<?>> emitter;
+        private final SessionMetadata sessionEntry;
+        private final MessageConsumer consumer;
+        private final AcknowledgeMode ackMode;
+        private final Boolean awaitAck;
+        private final Long pollTimeout;
+        private final long periodNanos;
+
+        private ConsumerTask(BufferedEmittingPublisher<Message<?>> emitter,
+                             SessionMetadata sessionEntry,
+                             MessageConsumer consumer,
+                             AcknowledgeMode ackMode,
+                             Boolean awaitAck,
+                             Long pollTimeout,
+                             long periodExecutions) {
+            this.emitter = emitter;
+            this.sessionEntry = sessionEntry;
+            this.consumer = consumer;
+            this.ackMode = ackMode;
+            this.awaitAck = awaitAck;
+            this.pollTimeout = pollTimeout;
+            this.periodNanos = TimeUnit.MILLISECONDS.toNanos(periodExecutions);
         }
-        // When await-ack is true, no message is received until previous one is acked
-        if (ackMode != AcknowledgeMode.AUTO_ACKNOWLEDGE
-                && awaitAck
-                && lastMessage.get() != null
-                && !lastMessage.get().isAck()) {
-            return;
+
+        @Override
+        public void run() {
+            // Also run by the executor once an acknowledgement batch is ready
+            if (!lock.tryLock()) {
+                return;
+            }
+            try {
+                long start = System.nanoTime();
+                do {
+                    if (!receive()) {
+                        return;
+                    }
+                } while (System.nanoTime() - start < periodNanos);
+            } catch (Throwable e) {
+                emitter.fail(e);
+            } finally {
+                lock.unlock();
+            }
         }
-        try {
+
+        private boolean receive() throws JMSException {
+            AckBatch ackBatch = sessionEntry.ackBatch();
+            if (ackBatch != null) {
+                ackBatch.completeIfReady();
+                if (ackBatch.isFull()) {
+                    return false;
+                }
+            }
+            if (!emitter.hasRequests()) {
+                return false;
+            }
+            // When await-ack is true, no message is received until previous one is acked
+            if (ackMode != AcknowledgeMode.AUTO_ACKNOWLEDGE
+                    && awaitAck
+                    && lastMessage.get() != null
+                    && !lastMessage.get().isAck()) {
+                return false;
+            }
             javax.jms.Message message = consumer.receive(pollTimeout);
             if (message == null) {
-                return;
+                return false;
             }
             LOGGER.fine(() -> "Received message: " + message.toString());
+            if (ackBatch != null) {
+                ackBatch.received(message);
+            }
             JmsMessage<?> preparedMessage = createMessage(message, executor, sessionEntry);
             lastMessage.set(preparedMessage);
-            emitter.emit(preparedMessage);
-        } catch (Throwable e) {
-            emitter.fail(e);
+            // Sessions of the channel are polled concurrently
+            synchronized (emitter) {
+                emitter.emit(preparedMessage);
+            }
+            return true;
         }
     }
 
@@ -462,6 +588,58 @@ public class JmsConnector implements IncomingConnectorFactory, OutgoingConnector
                 .thenApply(aVoid -> m);
     }
 
+    private CompletionStage<?> consume(
+            Message<?> m,
+            ProducerPool pool,
+            AtomicReference<MessageMappers.MessageMapper> mapper,
+            AtomicReference<Throwable> failure,
+            io.helidon.config.Config config) {
+
+        Throwable failed = failure.get();
+        if (failed != null) {
+            return CompletableFuture.failedFuture(failed);
+        }
+        //lookup mapper only the first time
+        if (mapper.get() == null) {
+            mapper.set(MessageMappers.getJmsMessageMapper(m));
+        }
+
+        // Next message is sent as soon as there is a free producer, so messages can be sent out of order
+        CompletableFuture<Message<?>> acquired = new CompletableFuture<>();
+        executor.execute(() -> {
+            ProducerPool.PooledProducer pooled;
+            try {
+                pooled = pool.acquire();
+            } catch (InterruptedException e) {
+                acquired.completeExceptionally(e);
+                return;
+            }
+            acquired.complete(m);
+            try {
+                javax.jms.Message jmsMessage;
+                if (m instanceof OutgoingJmsMessage) {
+                    jmsMessage = ((OutgoingJmsMessage<?>) m).toJmsMessage(pooled.session(), mapper.get());
+                } else {
+                    jmsMessage = mapper.get().apply(pooled.session(), m);
+                }
+                pooled.producer().send(jmsMessage);
+                m.ack();
+            } catch (JMSException e) {
+                try {
+                    sendingErrorHandler(config).accept(m, e);
+                } catch (RuntimeException handlerException) {
+                    // fails the next message, this one was already passed
+                    failure.compareAndSet(null, handlerException);
+                }
+            } catch (RuntimeException e) {
+                failure.compareAndSet(null, e);
+            } finally {
+                pool.release(pooled);
+            }
+        });
+        return acquired;
+    }
+
     /**
      * Customizable handler for errors during sending.
      *
@@ -511,6 +689,26 @@ public class JmsConnector implements IncomingConnectorFactory, OutgoingConnector
         }
     }
 
+    /**
+     * Creates another session on the connection of the provided session, configured the same way.
+     */
+    private SessionMetadata prepareAdditionalSession(io.helidon.config.Config config,
+                                                     SessionMetadata sessionEntry) throws JMSException {
+        boolean transacted = config.get(TRANSACTED_ATTRIBUTE)
+                .asBoolean()
+                .orElse(TRANSACTED_DEFAULT);
+
+        int acknowledgeMode = config.get(ACK_MODE_ATTRIBUTE).asString()
+                .map(AcknowledgeMode::parse)
+                .orElse(ACK_MODE_DEFAULT)
+                .getAckMode();
+
+        Session session = sessionEntry.connection().createSession(transacted, acknowledgeMode);
+        SessionMetadata additional = new SessionMetadata(session, sessionEntry.connection(), sessionEntry.connectionFactory());
+        sessionRegister.put(UUID.randomUUID().toString(), additional);
+        return additional;
+    }
+
     Destination createDestination(Session session, ConnectionContext ctx) {
         io.helidon.config.Config config = ctx.config();
 
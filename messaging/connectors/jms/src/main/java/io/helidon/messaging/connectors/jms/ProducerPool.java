@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.messaging.connectors.jms;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import javax.jms.MessageProducer;
+import javax.jms.Session;
+
+/**
+ * Sessions with their producers used to send messages of one outgoing channel.
+ * A JMS session must not be used by more threads at once, a producer is used by one sender at a time.
+ */
+final class ProducerPool {
+
+    private final BlockingQueue<PooledProducer> producers;
+    private final int size;
+
+    ProducerPool(List<PooledProducer> producers) {
+        this.size = producers.size();
+        this.producers = new ArrayBlockingQueue<>(size, false, producers);
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Waits for a free producer.
+     *
+     * @return producer, to be released once the message is sent
+     * @throws InterruptedException if interrupted while waiting
+     */
+    PooledProducer acquire() throws InterruptedException {
+        return producers.take();
+    }
+
+    void release(PooledProducer producer) {
+        producers.offer(producer);
+    }
+
+    static final class PooledProducer {
+        private final Session session;
+        private final MessageProducer producer;
+
+        PooledProducer(Session session, MessageProducer producer) {
+            this.session = session;
+            this.producer = producer;
+        }
+
+        Session session() {
+            return session;
+        }
+
+        MessageProducer producer() {
+            return producer;
+        }
+    }
+}
@@ -27,6 +27,7 @@ public class SessionMetadata {
     private final Session session;
     private final Connection connection;
     private final ConnectionFactory connectionFactory;
+    private volatile AckBatch ackBatch;
 
     SessionMetadata(Session session, Connection connection, ConnectionFactory connectionFactory) {
         this.session = session;
@@ -60,4 +61,17 @@ public class SessionMetadata {
     public ConnectionFactory connectionFactory() {
         return connectionFactory;
     }
+
+    /**
+     * Batch acknowledging the messages received by the session, {@code null} if messages are acknowledged one by one.
+     *
+     * @return acknowledgement batch or {@code null}
+     */
+    AckBatch ackBatch() {
+        return ackBatch;
+    }
+
+    void ackBatch(AckBatch ackBatch) {
+        this.ackBatch = ackBatch;
+    }
 }
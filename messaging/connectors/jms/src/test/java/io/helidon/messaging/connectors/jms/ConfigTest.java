@@ -58,6 +58,8 @@ public class ConfigTest {
 
     private static JmsConnector conn;
     private static final HashMap<String, Object> results = new HashMap<>();
+    private static final String SESSIONS = "sessions";
+    private static javax.jms.Message msg;
 
     @BeforeEach
     void before() throws JMSException {
@@ -70,7 +72,7 @@ public class ConfigTest {
         Topic topic = Mockito.mock(Topic.class);
         MessageConsumer consumer = Mockito.mock(MessageConsumer.class);
         MessageProducer producer = Mockito.mock(MessageProducer.class);
-        javax.jms.Message msg = Mockito.mock(javax.jms.Message.class);
+        msg = Mockito.mock(javax.jms.Message.class);
         Mockito.when(connectionFactory.createConnection()).thenReturn(jmsConnection);
         Mockito.when(instance.select(NamedLiteral.of("test-factory"))).thenReturn(instance);
         Mockito.when(instance.stream()).thenReturn(Stream.of(connectionFactory));
@@ -82,6 +84,7 @@ public class ConfigTest {
         Mockito.when(jmsConnection.createSession(Mockito.anyBoolean(), Mockito.anyInt())).thenAnswer(i -> {
             results.put(JmsConnector.TRANSACTED_ATTRIBUTE, i.getArgument(0));
             results.put(JmsConnector.ACK_MODE_ATTRIBUTE, i.getArgument(1));
+            results.merge(SESSIONS, 1, (a, b) -> (Integer) a + (Integer) b);
             return session;
         });
         Mockito.when(session.createConsumer(Mockito.any(), Mockito.any())).thenAnswer(i -> {
@@ -199,6 +202,34 @@ public class ConfigTest {
         assertThat(results, hasEntry(JmsConnector.TRANSACTED_ATTRIBUTE, JmsConnector.TRANSACTED_DEFAULT));
     }
 
+    @Test
+    void consumerConcurrencyPub() {
+        await(conn.getPublisherBuilder(conf(Map.of(
+                JmsConnector.CHANNEL_NAME_ATTRIBUTE, "test-1",
+                JmsConnector.CONNECTOR_ATTRIBUTE, JmsConnector.CONNECTOR_NAME,
+                JmsConnector.NAMED_FACTORY_ATTRIBUTE, "test-factory",
+                JmsConnector.DESTINATION_ATTRIBUTE, "testQueue1",
+                JmsConnector.CONSUMER_CONCURRENCY_ATTRIBUTE, "3"
+        ))).findFirst().run());
+
+        assertThat(results, hasEntry(SESSIONS, 3));
+    }
+
+    @Test
+    void ackBatchPub() throws JMSException {
+        await(conn.getPublisherBuilder(conf(Map.of(
+                JmsConnector.CHANNEL_NAME_ATTRIBUTE, "test-1",
+                JmsConnector.CONNECTOR_ATTRIBUTE, JmsConnector.CONNECTOR_NAME,
+                JmsConnector.NAMED_FACTORY_ATTRIBUTE, "test-factory",
+                JmsConnector.DESTINATION_ATTRIBUTE, "testQueue1",
+                JmsConnector.ACK_MODE_ATTRIBUTE, AcknowledgeMode.CLIENT_ACKNOWLEDGE.toString(),
+                JmsConnector.ACK_BATCH_SIZE_ATTRIBUTE, "3"
+        ))).limit(3).forEach(Message::ack).run());
+
+        // Three messages are acknowledged at once
+        Mockito.verify(msg, Mockito.timeout(500).times(1)).acknowledge();
+    }
+
     @Test
     void missingDestinationPub() {
         assertThrows(MessagingException.class, () -> await(conn.getPublisherBuilder(conf(Map.of(
@@ -200,6 +200,25 @@ public final class KafkaConfigBuilder extends ConnectorConfigBuilder {
         return this;
     }
 
+    /**
+     * Order in which the consumed messages have to be processed, see {@link ProcessingOrder}.
+     * Keeping the order of partitions or keys allows downstream to process messages of different
+     * partitions or keys concurrently.
+     *
+     * <ul>
+     * <li>Type: string</li>
+     * <li>Default: unordered</li>
+     * <li>Valid Values: [unordered, partition, key]</li>
+     * </ul>
+     *
+     * @param processingOrder processing order
+     * @return this builder
+     */
+    public KafkaConfigBuilder processingOrder(ProcessingOrder processingOrder) {
+        super.property("processing.order", processingOrder.name().toLowerCase());
+        return this;
+    }
+
     /**
      * What to do when there is no initial offset in Kafka or if the current offset does not exist any more on the server
      * (e.g. because that data has been deleted):
@@ -242,6 +261,25 @@ public final class KafkaConfigBuilder extends ConnectorConfigBuilder {
         NONE
     }
 
+    /**
+     * Order in which the consumed messages have to be processed.
+     */
+    public enum ProcessingOrder {
+        /**
+         * Records are emitted as requested by downstream, regardless of the acknowledgement of previous records.
+         */
+        UNORDERED,
+        /**
+         * Next record of a partition is emitted after the previous record of the partition is acknowledged.
+         */
+        PARTITION,
+        /**
+         * Next record of a key is emitted after the previous record of the key in the same partition
+         * is acknowledged.
+         */
+        KEY
+    }
+
     /**
      * The producer will attempt to batch records together into fewer requests whenever multiple records
      * are being sent to the same partition. This helps performance on both the client and the server.
@@ -367,4 +405,89 @@ public final class KafkaConfigBuilder extends ConnectorConfigBuilder {
         super.property("retries", String.valueOf(retries));
         return this;
     }
+
+    /**
+     * When set to true, the producer will ensure that exactly one copy of each message is written in the stream.
+     * If false, producer retries due to broker failures, etc., may write duplicates of the retried message
+     * in the stream. Note that enabling idempotence requires {@code max.in.flight.requests.per.connection}
+     * to be less than or equal to 5, retries to be greater than 0 and acks must be 'all'.
+     *
+     * <ul>
+     * <li>Type: boolean</li>
+     * <li>Default: false</li>
+     * </ul>
+     *
+     * @param enableIdempotence whether the producer is idempotent
+     * @return this builder
+     */
+    public KafkaConfigBuilder enableIdempotence(boolean enableIdempotence) {
+        super.property("enable.idempotence", String.valueOf(enableIdempotence));
+        return this;
+    }
+
+    /**
+     * The transactional id to use for transactional delivery. Messages are then sent in transactions
+     * of up to {@link #transactionBatchSize(int)} messages. Requires idempotence to be enabled.
+     *
+     * <ul>
+     * <li>Type: string</li>
+     * <li>Default: null</li>
+     * </ul>
+     *
+     * @param transactionalId transactional id
+     * @return this builder
+     */
+    public KafkaConfigBuilder transactionalId(String transactionalId) {
+        super.property("transactional.id", transactionalId);
+        return this;
+    }
+
+    /**
+     * Maximal number of messages sent in one transaction, applies only if {@link #transactionalId(String)}
+     * is configured.
+     *
+     * <ul>
+     * <li>Type: int</li>
+     * <li>Default: 100</li>
+     * </ul>
+     *
+     * @param transactionBatchSize number of messages in one transaction
+     * @return this builder
+     */
+    public KafkaConfigBuilder transactionBatchSize(int transactionBatchSize) {
+        super.property("transaction.batch.size", String.valueOf(transactionBatchSize));
+        return this;
+    }
+
+    /**
+     * Maximal number of messages sent and not completed by Kafka yet.
+     *
+     * <ul>
+     * <li>Type: long</li>
+     * <li>Default: the value of {@code backpressure.size}, which defaults to 5</li>
+     * </ul>
+     *
+     * @param inFlightRecords number of messages in flight
+     * @return this builder
+     */
+    public KafkaConfigBuilder inFlightRecords(long inFlightRecords) {
+        super.property("in.flight.records", String.valueOf(inFlightRecords));
+        return this;
+    }
+
+    /**
+     * Maximal estimated size in bytes of the messages sent and not completed by Kafka yet.
+     *
+     * <ul>
+     * <li>Type: long</li>
+     * <li>Default: not limited</li>
+     * </ul>
+     *
+     * @param inFlightBytes size of messages in flight
+     * @return this builder
+     */
+    public KafkaConfigBuilder inFlightBytes(long inFlightBytes) {
+        super.property("in.flight.bytes", String.valueOf(inFlightBytes));
+        return this;
+    }
 }
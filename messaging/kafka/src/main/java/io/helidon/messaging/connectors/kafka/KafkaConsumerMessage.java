@@ -38,6 +38,7 @@ class KafkaConsumerMessage<K, V> implements KafkaMessage<K, V> {
     private final long millisWaitingTimeout;
     private final AtomicBoolean ack = new AtomicBoolean();
     private final ConsumerRecord<K, V> consumerRecord;
+    private final Runnable ackListener;
 
     /**
      * Kafka specific MP messaging message.
@@ -48,10 +49,27 @@ class KafkaConsumerMessage<K, V> implements KafkaMessage<K, V> {
      *                             the commit in Kafka. Applies only if autoCommit is false.
      */
     KafkaConsumerMessage(ConsumerRecord<K, V> consumerRecord, CompletableFuture<Void> kafkaCommit, long millisWaitingTimeout) {
+        this(consumerRecord, kafkaCommit, millisWaitingTimeout, null);
+    }
+
+    /**
+     * Kafka specific MP messaging message.
+     *
+     * @param consumerRecord       obtained from Kafka topic
+     * @param kafkaCommit          it will complete when Kafka commit is done.
+     * @param millisWaitingTimeout this is the time in milliseconds that the ack will be waiting
+     *                             the commit in Kafka. Applies only if autoCommit is false.
+     * @param ackListener          invoked once when the message is acknowledged, may be {@code null}
+     */
+    KafkaConsumerMessage(ConsumerRecord<K, V> consumerRecord,
+                         CompletableFuture<Void> kafkaCommit,
+                         long millisWaitingTimeout,
+                         Runnable ackListener) {
         Objects.requireNonNull(consumerRecord);
         this.consumerRecord = consumerRecord;
         this.kafkaCommit = kafkaCommit;
         this.millisWaitingTimeout = millisWaitingTimeout;
+        this.ackListener = ackListener;
     }
 
     @Override
@@ -91,7 +109,9 @@ class KafkaConsumerMessage<K, V> implements KafkaMessage<K, V> {
 
     @Override
     public CompletionStage<Void> ack() {
-        ack.getAndSet(true);
+        if (!ack.getAndSet(true) && ackListener != null) {
+            ackListener.run();
+        }
         return kafkaCommit.orTimeout(millisWaitingTimeout, TimeUnit.MILLISECONDS);
     }
 
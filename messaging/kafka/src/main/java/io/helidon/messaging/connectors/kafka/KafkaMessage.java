@@ -20,6 +20,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import org.apache.kafka.clients.consumer.ConsumerRecord;
@@ -79,6 +80,17 @@ public interface KafkaMessage<K, V> extends Message<V> {
      */
     Headers getHeaders();
 
+    /**
+     * Negatively acknowledge the message, when it could not be processed, such as when the Kafka connector
+     * fails to send it. Does nothing unless the message was created with a nack function.
+     *
+     * @param reason the reason of the failure
+     * @return completion stage completed once the failure is handled
+     */
+    default CompletionStage<Void> nack(Throwable reason) {
+        return CompletableFuture.completedFuture(null);
+    }
+
     /**
      * Create a message with the given payload and ack function.
      *
@@ -94,6 +106,27 @@ public interface KafkaMessage<K, V> extends Message<V> {
         return new KafkaProducerMessage<>(key, payload, ack);
     }
 
+    /**
+     * Create a message with the given payload, ack and nack functions.
+     *
+     * @param key     Kafka record key
+     * @param payload Kafka record value
+     * @param ack     The ack function, this will be invoked when the returned messages {@link #ack()} method is invoked
+     * @param nack    The nack function, this will be invoked when the returned messages {@link #nack(Throwable)} method
+     *                is invoked
+     * @param <K>     the type of Kafka record key
+     * @param <V>     the type of Kafka record value
+     * @return A message with the given payload, ack and nack functions
+     */
+    static <K, V> KafkaMessage<K, V> of(K key,
+                                        V payload,
+                                        Supplier<CompletionStage<Void>> ack,
+                                        Function<Throwable, CompletionStage<Void>> nack) {
+        Objects.requireNonNull(payload);
+        Objects.requireNonNull(nack);
+        return new KafkaProducerMessage<>(key, payload, ack, nack);
+    }
+
     /**
      * Create a message with the given payload and ack function.
      *
@@ -18,7 +18,9 @@ package io.helidon.messaging.connectors.kafka;
 
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import org.apache.kafka.clients.consumer.ConsumerRecord;
@@ -37,12 +39,21 @@ public class KafkaProducerMessage<K, V> implements KafkaMessage<K, V> {
     private final K key;
     private final V payload;
     private final Supplier<CompletionStage<Void>> ack;
+    private final Function<Throwable, CompletionStage<Void>> nack;
 
     KafkaProducerMessage(K key, V payload, Supplier<CompletionStage<Void>> ack) {
+        this(key, payload, ack, reason -> CompletableFuture.completedFuture(null));
+    }
+
+    KafkaProducerMessage(K key,
+                         V payload,
+                         Supplier<CompletionStage<Void>> ack,
+                         Function<Throwable, CompletionStage<Void>> nack) {
         Objects.requireNonNull(payload);
         this.key = key;
         this.payload = payload;
         this.ack = ack;
+        this.nack = nack;
         headers = new RecordHeaders();
     }
 
@@ -85,4 +96,9 @@ public class KafkaProducerMessage<K, V> implements KafkaMessage<K, V> {
     public CompletionStage<Void> ack() {
         return ack.get();
     }
+
+    @Override
+    public CompletionStage<Void> nack(Throwable reason) {
+        return nack.apply(reason);
+    }
 }
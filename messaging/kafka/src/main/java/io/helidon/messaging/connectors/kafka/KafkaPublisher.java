@@ -17,7 +17,10 @@
 package io.helidon.messaging.connectors.kafka;
 
 import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
@@ -26,11 +29,14 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Queue;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -45,7 +51,9 @@ import io.helidon.common.reactive.EmittingPublisher;
 import io.helidon.config.Config;
 
 import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
 import org.apache.kafka.clients.consumer.OffsetAndMetadata;
 import org.apache.kafka.common.TopicPartition;
@@ -71,11 +79,17 @@ public class KafkaPublisher<K, V> implements Publisher<KafkaMessage<K, V>> {
     private static final String ENABLE_AUTOCOMMIT = "enable.auto.commit";
     private static final String ACK_TIMEOUT = "ack.timeout.millis";
     private static final String LIMIT_NO_ACK = "limit.no.ack";
+    private static final String PROCESSING_ORDER = "processing.order";
 
     private final Lock taskLock = new ReentrantLock();
-    private final Queue<ConsumerRecord<K, V>> backPressureBuffer = new LinkedList<>();
+    // Polled records that were not emitted yet. A partition is paused while it has buffered records.
+    private final Map<TopicPartition, Queue<ConsumerRecord<K, V>>> backPressureBuffer = new LinkedHashMap<>();
+    private final Set<TopicPartition> pausedPartitions = new HashSet<>();
     private final Map<TopicPartition, List<KafkaConsumerMessage<K, V>>> pendingCommits = new HashMap<>();
+    // Emitted messages that were not acknowledged yet, only used when the processing order is kept
+    private final Map<TopicPartition, List<KafkaConsumerMessage<K, V>>> inProgress = new HashMap<>();
     private final PartitionsAssignedLatch partitionsAssignedLatch = new PartitionsAssignedLatch();
+    private final AtomicBoolean executionScheduled = new AtomicBoolean();
     private final ScheduledExecutorService scheduler;
     private final AtomicLong requests = new AtomicLong();
     private final EmittingPublisher<KafkaMessage<K, V>> emitter = EmittingPublisher.create();
@@ -86,14 +100,17 @@ public class KafkaPublisher<K, V> implements Publisher<KafkaMessage<K, V>> {
     private final boolean autoCommit;
     private final long ackTimeout;
     private final int limitNoAck;
+    private final KafkaConfigBuilder.ProcessingOrder processingOrder;
+    private final Runnable ackListener;
     private final Supplier<Consumer<K, V>> consumerSupplier;
 
     private Consumer<K, V> kafkaConsumer;
     private boolean stopped;
+    private List<KafkaConsumerMessage<K, V>> committing = List.of();
 
     private KafkaPublisher(ScheduledExecutorService scheduler, Supplier<Consumer<K, V>> consumerSupplier,
             List<String> topics, Pattern topicPattern, long pollTimeout, long periodExecutions, boolean autoCommit,
-            long ackTimeout, int limitNoAck) {
+            long ackTimeout, int limitNoAck, KafkaConfigBuilder.ProcessingOrder processingOrder) {
         this.scheduler = scheduler;
         this.topics = topics;
         this.topicPattern = topicPattern;
@@ -102,6 +119,9 @@ public class KafkaPublisher<K, V> implements Publisher<KafkaMessage<K, V>> {
         this.autoCommit = autoCommit;
         this.ackTimeout = ackTimeout;
         this.limitNoAck = limitNoAck;
+        this.processingOrder = processingOrder;
+        // When the order is kept, the next record of the partition (or key) can be emitted once the previous one is acked
+        this.ackListener = processingOrder == KafkaConfigBuilder.ProcessingOrder.UNORDERED ? null : this::scheduleExecution;
         this.consumerSupplier = consumerSupplier;
         this.emitter.onRequest((n, demand) -> requests.updateAndGet(r -> Long.MAX_VALUE - r > n ? n + r : Long.MAX_VALUE));
     }
@@ -117,67 +137,12 @@ public class KafkaPublisher<K, V> implements Publisher<KafkaMessage<K, V>> {
         try {
             kafkaConsumer = consumerSupplier.get();
             if (topicPattern != null) {
-                kafkaConsumer.subscribe(topicPattern, partitionsAssignedLatch);
+                kafkaConsumer.subscribe(topicPattern, new RebalanceListener());
             } else {
-                kafkaConsumer.subscribe(topics, partitionsAssignedLatch);
+                kafkaConsumer.subscribe(topics, new RebalanceListener());
             }
             // This thread reads from Kafka topics and push in kafkaBufferedEvents
-            scheduler.scheduleAtFixedRate(() -> {
-                try {
-                    // Need to lock to avoid onClose() is executed meanwhile task is running
-                    taskLock.lock();
-                    if (!scheduler.isShutdown() && !(emitter.isCompleted() || emitter.isFailed())) {
-                        int currentNoAck = currentNoAck();
-                        if (currentNoAck < limitNoAck) {
-                            if (backPressureBuffer.isEmpty()) {
-                                try {
-                                    kafkaConsumer.poll(Duration.ofMillis(pollTimeout)).forEach(backPressureBuffer::add);
-                                    if (!backPressureBuffer.isEmpty()) {
-                                        LOGGER.fine(() -> String.format("%s Poll: %s", topics, backPressureBuffer));
-                                    }
-                                } catch (WakeupException e) {
-                                    LOGGER.fine(() -> String.format("%s It was requested to stop polling from channel", topics));
-                                }
-                            } else {
-                                long totalToEmit = requests.get();
-                                // Avoid index out bound exceptions
-                                long eventsToEmit = Math.min(totalToEmit, backPressureBuffer.size());
-                                if (eventsToEmit > 0) {
-                                    LOGGER.fine(() -> String.format("%s %s messages to emit. %s in buffer and %s requested",
-                                            topics, eventsToEmit, backPressureBuffer.size(), totalToEmit));
-                                }
-                                for (long i = 0; i < eventsToEmit; i++) {
-                                    ConsumerRecord<K, V> cr = backPressureBuffer.poll();
-                                    CompletableFuture<Void> kafkaCommit = new CompletableFuture<>();
-                                    KafkaConsumerMessage<K, V> kafkaMessage =
-                                            new KafkaConsumerMessage<>(cr, kafkaCommit, ackTimeout);
-                                    if (!autoCommit) {
-                                        TopicPartition key = new TopicPartition(cr.topic(), cr.partition());
-                                        pendingCommits.computeIfAbsent(key, k -> new LinkedList<>()).add(kafkaMessage);
-                                    } else {
-                                        kafkaCommit.complete(null);
-                                    }
-                                    requests.decrementAndGet();
-                                    runInNewContext(() ->  emitter.emit(kafkaMessage));
-                                }
-                            }
-                        } else {
-                            throw new IllegalStateException(
-                                    String.format("Current pending %s acks has overflown the limit of %s ",
-                                            currentNoAck, limitNoAck));
-                        }
-                    }
-                    cleanResourcesIfTerminated(emitter.isCompleted() || emitter.isFailed());
-                    if (!stopped && !autoCommit) {
-                        processACK();
-                    }
-                } catch (Exception e) {
-                    LOGGER.log(Level.SEVERE, "KafkaPublisher " + topics + " failed", e);
-                    emitter.fail(e);
-                } finally {
-                    taskLock.unlock();
-                }
-            }, 0, periodExecutions, TimeUnit.MILLISECONDS);
+            scheduler.scheduleAtFixedRate(this::execute, 0, periodExecutions, TimeUnit.MILLISECONDS);
         } catch (RuntimeException e) {
             partitionsAssignedLatch.countDown();
             // The failure must be emitted in a different thread or the rest of connectors
@@ -186,6 +151,168 @@ public class KafkaPublisher<K, V> implements Publisher<KafkaMessage<K, V>> {
         }
     }
 
+    private void execute() {
+        executionScheduled.set(false);
+        try {
+            // Need to lock to avoid onClose() is executed meanwhile task is running
+            taskLock.lock();
+            if (!scheduler.isShutdown() && !(emitter.isCompleted() || emitter.isFailed())) {
+                int currentNoAck = currentNoAck();
+                if (currentNoAck < limitNoAck) {
+                    releaseAcknowledged();
+                    poll();
+                    emit();
+                    pauseOrResume();
+                } else {
+                    throw new IllegalStateException(
+                            String.format("Current pending %s acks has overflown the limit of %s ",
+                                    currentNoAck, limitNoAck));
+                }
+            }
+            cleanResourcesIfTerminated(emitter.isCompleted() || emitter.isFailed());
+            if (!stopped && !autoCommit) {
+                processACK(false);
+            }
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "KafkaPublisher " + topics + " failed", e);
+            emitter.fail(e);
+        } finally {
+            taskLock.unlock();
+        }
+    }
+
+    private void scheduleExecution() {
+        if (executionScheduled.compareAndSet(false, true)) {
+            try {
+                scheduler.execute(this::execute);
+            } catch (RejectedExecutionException e) {
+                // Stopped, nothing else to emit
+                executionScheduled.set(false);
+            }
+        }
+    }
+
+    private void poll() {
+        // Do not block when there are records to emit
+        Duration timeout = requests.get() > 0 && !backPressureBuffer.isEmpty()
+                ? Duration.ZERO
+                : Duration.ofMillis(pollTimeout);
+        try {
+            ConsumerRecords<K, V> records = kafkaConsumer.poll(timeout);
+            for (TopicPartition partition : records.partitions()) {
+                backPressureBuffer.computeIfAbsent(partition, k -> new ArrayDeque<>())
+                        .addAll(records.records(partition));
+            }
+            if (!records.isEmpty()) {
+                LOGGER.fine(() -> String.format("%s Poll: %s records", topics, records.count()));
+            }
+        } catch (WakeupException e) {
+            LOGGER.fine(() -> String.format("%s It was requested to stop polling from channel", topics));
+        }
+    }
+
+    private void emit() {
+        long totalToEmit = requests.get();
+        Iterator<Entry<TopicPartition, Queue<ConsumerRecord<K, V>>>> partitions = backPressureBuffer.entrySet().iterator();
+        while (totalToEmit > 0 && partitions.hasNext()) {
+            Entry<TopicPartition, Queue<ConsumerRecord<K, V>>> entry = partitions.next();
+            Queue<ConsumerRecord<K, V>> buffered = entry.getValue();
+            List<KafkaConsumerMessage<K, V>> partitionInProgress = inProgress.get(entry.getKey());
+            switch (processingOrder) {
+            case PARTITION:
+                // One message of the partition at a time
+                if (partitionInProgress == null) {
+                    emit(entry.getKey(), buffered.poll());
+                    totalToEmit--;
+                }
+                break;
+            case KEY:
+                // One message of each key at a time, keys of skipped records are blocked to keep their order
+                Set<K> blockedKeys = new HashSet<>();
+                if (partitionInProgress != null) {
+                    partitionInProgress.forEach(message -> blockedKeys.add(message.getConsumerRecord().get().key()));
+                }
+                Iterator<ConsumerRecord<K, V>> records = buffered.iterator();
+                while (totalToEmit > 0 && records.hasNext()) {
+                    ConsumerRecord<K, V> cr = records.next();
+                    if (blockedKeys.add(cr.key())) {
+                        records.remove();
+                        emit(entry.getKey(), cr);
+                        totalToEmit--;
+                    }
+                }
+                break;
+            default:
+                while (totalToEmit > 0 && !buffered.isEmpty()) {
+                    emit(entry.getKey(), buffered.poll());
+                    totalToEmit--;
+                }
+            }
+            if (buffered.isEmpty()) {
+                partitions.remove();
+            }
+        }
+    }
+
+    private void emit(TopicPartition partition, ConsumerRecord<K, V> cr) {
+        CompletableFuture<Void> kafkaCommit = new CompletableFuture<>();
+        KafkaConsumerMessage<K, V> kafkaMessage = new KafkaConsumerMessage<>(cr, kafkaCommit, ackTimeout, ackListener);
+        if (!autoCommit) {
+            pendingCommits.computeIfAbsent(partition, k -> new LinkedList<>()).add(kafkaMessage);
+        } else {
+            kafkaCommit.complete(null);
+        }
+        if (ackListener != null) {
+            inProgress.computeIfAbsent(partition, k -> new LinkedList<>()).add(kafkaMessage);
+        }
+        requests.decrementAndGet();
+        runInNewContext(() -> emitter.emit(kafkaMessage));
+    }
+
+    /**
+     * Releases the partitions and keys of acknowledged messages, so that their next records can be emitted.
+     */
+    private void releaseAcknowledged() {
+        Iterator<List<KafkaConsumerMessage<K, V>>> iterator = inProgress.values().iterator();
+        while (iterator.hasNext()) {
+            List<KafkaConsumerMessage<K, V>> messages = iterator.next();
+            messages.removeIf(KafkaConsumerMessage::isAck);
+            if (messages.isEmpty()) {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Back-pressure. Partitions with buffered records are paused, so that the next poll does not fetch
+     * more of them, and resumed once all their records are emitted.
+     */
+    private void pauseOrResume() {
+        List<TopicPartition> toPause = new LinkedList<>();
+        for (TopicPartition partition : backPressureBuffer.keySet()) {
+            if (pausedPartitions.add(partition)) {
+                toPause.add(partition);
+            }
+        }
+        List<TopicPartition> toResume = new LinkedList<>();
+        Iterator<TopicPartition> paused = pausedPartitions.iterator();
+        while (paused.hasNext()) {
+            TopicPartition partition = paused.next();
+            if (!backPressureBuffer.containsKey(partition)) {
+                paused.remove();
+                toResume.add(partition);
+            }
+        }
+        if (!toPause.isEmpty()) {
+            LOGGER.fine(() -> String.format("%s Pause %s", topics, toPause));
+            kafkaConsumer.pause(toPause);
+        }
+        if (!toResume.isEmpty()) {
+            LOGGER.fine(() -> String.format("%s Resume %s", topics, toResume));
+            kafkaConsumer.resume(toResume);
+        }
+    }
+
     private int currentNoAck() {
         return pendingCommits.values().stream()
                 .map(List::size)
@@ -197,8 +324,16 @@ public class KafkaPublisher<K, V> implements Publisher<KafkaMessage<K, V>> {
      * Process the ACKs.
      * This will search ACK events and it will commit them to Kafka.
      * Those events that are committed will complete KafkaMessage#ack().
+     * <p>
+     * Offsets are committed asynchronously, acknowledgements received while a commit is in progress are
+     * committed together by the next commit.
+     *
+     * @param sync whether to wait for the commit, such as when partitions are revoked
      */
-    private void processACK() {
+    private void processACK(boolean sync) {
+        if (!sync && !committing.isEmpty()) {
+            return;
+        }
         Map<TopicPartition, OffsetAndMetadata> offsets = new LinkedHashMap<>();
         List<KafkaConsumerMessage<K, V>> messagesToCommit = new LinkedList<>();
         // Commit highest offset + 1 of each partition that was ACK, and remove from pending
@@ -225,16 +360,35 @@ public class KafkaPublisher<K, V> implements Publisher<KafkaMessage<K, V>> {
         }
         if (!messagesToCommit.isEmpty()) {
             LOGGER.fine(() -> String.format("%s Offsets %s", topics, offsets));
-            try {
-                kafkaConsumer.commitSync(offsets);
-                messagesToCommit.forEach(message -> message.kafkaCommit().complete(null));
-            } catch (RuntimeException e) {
-                LOGGER.log(Level.SEVERE, "Unable to commit in Kafka " + offsets, e);
-                messagesToCommit.forEach(message -> message.kafkaCommit().completeExceptionally(e));
+            if (sync) {
+                try {
+                    kafkaConsumer.commitSync(offsets);
+                    committed(offsets, messagesToCommit, null);
+                } catch (RuntimeException e) {
+                    committed(offsets, messagesToCommit, e);
+                }
+            } else {
+                committing = messagesToCommit;
+                // The callback is invoked by the polling thread
+                kafkaConsumer.commitAsync(offsets, (committedOffsets, exception) -> {
+                    committing = List.of();
+                    committed(offsets, messagesToCommit, exception);
+                });
             }
         }
     }
 
+    private void committed(Map<TopicPartition, OffsetAndMetadata> offsets,
+                           List<KafkaConsumerMessage<K, V>> messages,
+                           Exception exception) {
+        if (exception == null) {
+            messages.forEach(message -> message.kafkaCommit().complete(null));
+        } else {
+            LOGGER.log(Level.SEVERE, "Unable to commit in Kafka " + offsets, exception);
+            messages.forEach(message -> message.kafkaCommit().completeExceptionally(exception));
+        }
+    }
+
     /**
      * Closes the opened resources to Kafka and completes exceptionally the pending {@link KafkaMessage#ack()}.
      *
@@ -250,6 +404,7 @@ public class KafkaPublisher<K, V> implements Publisher<KafkaMessage<K, V>> {
                 taskLock.lock();
                 cleanResourcesIfTerminated(true);
                 LOGGER.fine(() -> String.format("%s Buffered events that were not processed %s", topics, backPressureBuffer));
+                backPressureBuffer.clear();
                 emitter.complete();
             } catch (RuntimeException e) {
                 emitter.fail(e);
@@ -274,7 +429,10 @@ public class KafkaPublisher<K, V> implements Publisher<KafkaMessage<K, V>> {
             pendingCommits.values().stream().flatMap(List::stream)
             .forEach(message -> message.kafkaCommit()
                     .completeExceptionally(new TimeoutException(topics + " Aborted because KafkaPublisher is terminated")));
+            // Pending asynchronous commit is completed when closing, unless it fails
             kafkaConsumer.close();
+            committing.forEach(message -> message.kafkaCommit()
+                    .completeExceptionally(new TimeoutException(topics + " Aborted because KafkaPublisher is terminated")));
         }
     }
 
@@ -310,6 +468,31 @@ public class KafkaPublisher<K, V> implements Publisher<KafkaMessage<K, V>> {
         return topics;
     }
 
+    /**
+     * Keeps the buffers consistent with the assigned partitions.
+     * Invoked by the polling thread.
+     */
+    private final class RebalanceListener implements ConsumerRebalanceListener {
+
+        @Override
+        public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+            if (!stopped && !autoCommit) {
+                // Commit what was acknowledged so far, the new owner of the partitions continues from there
+                processACK(true);
+            }
+            // Records of revoked partitions are polled again by their new owner
+            backPressureBuffer.keySet().removeAll(partitions);
+            pausedPartitions.removeAll(partitions);
+            inProgress.keySet().removeAll(partitions);
+            partitionsAssignedLatch.onPartitionsRevoked(partitions);
+        }
+
+        @Override
+        public void onPartitionsAssigned(Collection<TopicPartition> partitions) {
+            partitionsAssignedLatch.onPartitionsAssigned(partitions);
+        }
+    }
+
     /**
      * A builder for KafkaPublisher.
      *
@@ -345,6 +528,7 @@ public class KafkaPublisher<K, V> implements Publisher<KafkaMessage<K, V>> {
         private Boolean autoCommit;
         private long ackTimeout = Long.MAX_VALUE;
         private int limitNoAck = Integer.MAX_VALUE;
+        private KafkaConfigBuilder.ProcessingOrder processingOrder = KafkaConfigBuilder.ProcessingOrder.UNORDERED;
         private List<String> topics;
         private Pattern topicPattern;
         private ScheduledExecutorService scheduler;
@@ -369,6 +553,9 @@ public class KafkaPublisher<K, V> implements Publisher<KafkaMessage<K, V>> {
             config.get(ENABLE_AUTOCOMMIT).asBoolean().ifPresent(this::autoCommit);
             config.get(ACK_TIMEOUT).asLong().ifPresent(this::ackTimeout);
             config.get(LIMIT_NO_ACK).asInt().ifPresent(this::limitNoAck);
+            config.get(PROCESSING_ORDER).asString()
+                    .map(order -> KafkaConfigBuilder.ProcessingOrder.valueOf(order.toUpperCase()))
+                    .ifPresent(this::processingOrder);
             return this;
         }
 
@@ -500,6 +687,22 @@ public class KafkaPublisher<K, V> implements Publisher<KafkaMessage<K, V>> {
             return this;
         }
 
+        /**
+         * Order in which the emitted messages have to be processed.
+         * When the order of a partition (or of a key within a partition) is kept, its next record is emitted only
+         * after the previous one is acknowledged by {@link KafkaMessage#ack()}, meanwhile records of other
+         * partitions (or keys) are emitted. Downstream can then process messages concurrently.
+         *
+         * The default value is {@link KafkaConfigBuilder.ProcessingOrder#UNORDERED}.
+         *
+         * @param processingOrder processing order
+         * @return updated builder instance
+         */
+        public Builder<K, V> processingOrder(KafkaConfigBuilder.ProcessingOrder processingOrder) {
+            this.processingOrder = Objects.requireNonNull(processingOrder);
+            return this;
+        }
+
         @Override
         public KafkaPublisher<K, V> build() {
             if (Objects.isNull(topicPattern) && (Objects.isNull(topics) || topics.isEmpty())) {
@@ -517,7 +720,7 @@ public class KafkaPublisher<K, V> implements Publisher<KafkaMessage<K, V>> {
                 throw new IllegalArgumentException("The kafkaConsumerSupplier is a required value");
             }
             KafkaPublisher<K, V> publisher = new KafkaPublisher<>(scheduler, consumerSupplier, topics, topicPattern,
-                    pollTimeout, periodExecutions, autoCommit, ackTimeout, limitNoAck);
+                    pollTimeout, periodExecutions, autoCommit, ackTimeout, limitNoAck, processingOrder);
             return publisher;
         }
     }
@@ -16,10 +16,17 @@
 
 package io.helidon.messaging.connectors.kafka;
 
+import java.time.Duration;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 import java.util.logging.Level;
@@ -27,14 +34,31 @@ import java.util.logging.Logger;
 
 import io.helidon.config.Config;
 
+import org.apache.kafka.clients.producer.Callback;
 import org.apache.kafka.clients.producer.KafkaProducer;
 import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.KafkaException;
 import org.eclipse.microprofile.reactive.messaging.Message;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 /**
  * Reactive streams subscriber implementation.
+ * <p>
+ * Messages are sent without waiting for the previous ones, up to a window of in-flight messages
+ * (and optionally of their estimated size in bytes). More messages are requested from upstream as
+ * sends are completed by Kafka, and each message is acknowledged once it was sent to all the topics.
+ * <p>
+ * When the producer is transactional (it has {@code transactional.id} configured), messages are sent
+ * in transactions of up to {@link Builder#transactionBatchSize(int)} messages and acknowledged once
+ * their transaction is committed. A transaction is also committed as soon as there is no message in flight,
+ * so messages are not held back when upstream is slower.
+ * <p>
+ * When a message cannot be sent, the subscription is cancelled and the message is negatively acknowledged
+ * by {@link KafkaMessage#nack(Throwable)}, together with the other messages of its transaction if any.
+ *
  * @param <K> kafka record key type
  * @param <V> kafka record value type
  */
@@ -42,19 +66,51 @@ public class KafkaSubscriber<K, V> implements Subscriber<Message<V>> {
 
     private static final Logger LOGGER = Logger.getLogger(KafkaSubscriber.class.getName());
     private static final String BACKPRESSURE_SIZE_KEY = "backpressure.size";
+    private static final String IN_FLIGHT_RECORDS_KEY = "in.flight.records";
+    private static final String IN_FLIGHT_BYTES_KEY = "in.flight.bytes";
+    private static final String TRANSACTION_BATCH_SIZE_KEY = "transaction.batch.size";
+    private static final Duration CLOSE_TIMEOUT = Duration.ofMillis(Long.MAX_VALUE);
 
-    private final long backpressure;
     private final Supplier<Producer<K, V>> producerSupplier;
     private final List<String> topics;
-    private final AtomicLong backpressureCounter = new AtomicLong();
+    private final long inFlightRecords;
+    private final long inFlightBytes;
+    private final boolean transactional;
+    private final int transactionBatchSize;
+    // Sends that were not completed yet, and their estimated size
+    private final AtomicLong inFlight = new AtomicLong();
+    private final AtomicLong inFlightSize = new AtomicLong();
+    // Requested from upstream and not received yet
+    private final AtomicLong requested = new AtomicLong();
+    private final Deque<SendTracker> trackers = new ArrayDeque<>();
+    // Confines the transaction demarcation to a single thread
+    private final ExecutorService transactionExecutor;
+
+    private final AtomicBoolean closed = new AtomicBoolean();
 
+    private volatile long recordSize;
+    private volatile Throwable failure;
     private Subscription subscription;
     private Producer<K, V> kafkaProducer;
 
-    private KafkaSubscriber(Supplier<Producer<K, V>> producerSupplier, List<String> topics, long backpressure){
-        this.backpressure = backpressure;
-        this.producerSupplier = producerSupplier;
-        this.topics = topics;
+    // Accessed by the transaction thread only
+    private final List<Message<V>> transactionBatch = new ArrayList<>();
+    private boolean transactionOpen;
+
+    private KafkaSubscriber(Builder<K, V> builder) {
+        this.producerSupplier = builder.producerSupplier;
+        this.topics = builder.topics;
+        this.inFlightRecords = Math.max(1, (builder.inFlightRecords > 0) ? builder.inFlightRecords : builder.backpressure);
+        this.inFlightBytes = builder.inFlightBytes;
+        this.transactional = builder.transactional;
+        this.transactionBatchSize = builder.transactionBatchSize;
+        this.transactionExecutor = transactional
+                ? Executors.newSingleThreadExecutor(r -> {
+                    Thread thread = new Thread(r, "kafka-transaction-" + topics);
+                    thread.setDaemon(true);
+                    return thread;
+                })
+                : null;
     }
 
     @Override
@@ -63,23 +119,130 @@ public class KafkaSubscriber<K, V> implements Subscriber<Message<V>> {
             if (this.subscription == null) {
                 this.kafkaProducer = producerSupplier.get();
                 this.subscription = subscription;
-                this.subscription.request(backpressure);
+                if (transactional) {
+                    transactionExecutor.execute(() -> {
+                        try {
+                            kafkaProducer.initTransactions();
+                            requestMore();
+                        } catch (KafkaException e) {
+                            LOGGER.log(Level.SEVERE, "Cannot initialize the Kafka transactions", e);
+                            fail(e);
+                            close(CLOSE_TIMEOUT);
+                        }
+                    });
+                } else {
+                    requestMore();
+                }
             } else {
                 subscription.cancel();
             }
         } catch (RuntimeException e) {
             LOGGER.log(Level.SEVERE, "Cannot start the Kafka producer", e);
             subscription.cancel();
+            close(CLOSE_TIMEOUT);
         }
     }
 
     @Override
     public void onNext(Message<V> message) {
         Objects.requireNonNull(message);
-        List<CompletableFuture<Void>> futureList = new ArrayList<>(topics.size());
+        Throwable currentFailure = failure;
+        if (currentFailure != null) {
+            // Cancelled, upstream may still deliver what was requested before
+            nack(message, currentFailure);
+            return;
+        }
+        requested.decrementAndGet();
+        inFlight.incrementAndGet();
+        SendTracker tracker = tracker(message);
+        inFlightSize.addAndGet(tracker.estimatedSize);
+        if (transactional) {
+            onTransactionThread(() -> sendInTransaction(tracker),
+                                () -> tracker.fail(new IllegalStateException("The Kafka producer is closed")));
+        } else {
+            send(tracker);
+        }
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        Objects.requireNonNull(t);
+        LOGGER.log(Level.SEVERE, "The Kafka subscription has failed", t);
+        if (transactional) {
+            onTransactionThread(() -> {
+                abortTransaction(t);
+                close(CLOSE_TIMEOUT);
+            }, () -> { });
+        } else {
+            close(CLOSE_TIMEOUT);
+        }
+    }
+
+    @Override
+    public void onComplete() {
+        LOGGER.fine(() -> "Subscriber has finished");
+        if (transactional) {
+            onTransactionThread(() -> {
+                commitTransaction();
+                close(CLOSE_TIMEOUT);
+            }, () -> { });
+        } else {
+            // Waits for the messages in flight, they are acknowledged by the producer I/O thread
+            close(CLOSE_TIMEOUT);
+        }
+    }
+
+    /**
+     * Closes the producer and stops the transaction thread, only the first invocation on any of the terminal
+     * paths has an effect.
+     *
+     * @param timeout maximal time to wait for the messages in flight
+     */
+    private void close(Duration timeout) {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            if (kafkaProducer != null) {
+                kafkaProducer.close(timeout);
+            }
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Cannot close the Kafka producer", e);
+        } finally {
+            if (transactional) {
+                transactionExecutor.shutdown();
+            }
+        }
+    }
+
+    private void onTransactionThread(Runnable task, Runnable onClosed) {
+        try {
+            transactionExecutor.execute(task);
+        } catch (RejectedExecutionException e) {
+            onClosed.run();
+        }
+    }
+
+    private void fail(Throwable throwable) {
+        if (failure == null) {
+            failure = throwable;
+            subscription.cancel();
+        }
+    }
+
+    private void nack(Message<V> message, Throwable reason) {
+        if (message instanceof KafkaMessage) {
+            try {
+                ((KafkaMessage<K, V>) message).nack(reason);
+            } catch (RuntimeException e) {
+                LOGGER.log(Level.WARNING, "Negative acknowledgement of a Kafka message has failed", e);
+            }
+        }
+    }
+
+    private void send(SendTracker tracker) {
+        Message<V> message = tracker.message;
         for (String topic : topics) {
-            CompletableFuture<Void> completableFuture = new CompletableFuture<>();
-            futureList.add(completableFuture);
             ProducerRecord<K, V> record;
             if (message instanceof KafkaMessage) {
                 KafkaMessage<K, V> kafkaMessage = (KafkaMessage<K, V>) message;
@@ -93,43 +256,210 @@ public class KafkaSubscriber<K, V> implements Subscriber<Message<V>> {
             } else {
                 record = new ProducerRecord<>(topic, message.getPayload());
             }
-            kafkaProducer.send(record, (metadata, exception) -> {
-                if (exception != null) {
-                    subscription.cancel();
-                    LOGGER.log(Level.WARNING, "Error when sending kafka message to topic: " + topic, exception);
-                    completableFuture.completeExceptionally(exception);
-                } else {
-                    completableFuture.complete(null);
-                }
-            });
-        }
-        CompletableFuture.allOf(futureList.toArray(new CompletableFuture[0]))
-                .whenComplete((success, exception) -> {
-                    if (exception == null) {
-                        message.ack().whenComplete((a, b) -> {
-                            // Atomically increment
-                            // or reset backpressureCounter if incrementing would reach threshold
-                            if (backpressureCounter.getAndUpdate(n -> ++n == backpressure ? 0 : n)
-                                    >= backpressure - 1) {
-                                // configured backpressure threshold reached
-                                subscription.request(backpressure);
-                            }
-                        });
-                    }
-                });
+            try {
+                kafkaProducer.send(record, tracker);
+            } catch (KafkaException | IllegalStateException e) {
+                // Serialization, buffer exhaustion or closed producer, the callback is not invoked
+                tracker.onCompletion(null, e);
+            }
+        }
     }
 
-    @Override
-    public void onError(Throwable t) {
-        Objects.requireNonNull(t);
-        LOGGER.log(Level.SEVERE, "The Kafka subscription has failed", t);
-        kafkaProducer.close();
+    private void sendInTransaction(SendTracker tracker) {
+        Throwable currentFailure = failure;
+        if (currentFailure != null) {
+            // Aborted, the subscription is cancelled
+            tracker.fail(currentFailure);
+            return;
+        }
+        try {
+            if (!transactionOpen) {
+                kafkaProducer.beginTransaction();
+                transactionOpen = true;
+            }
+        } catch (KafkaException e) {
+            tracker.fail(e);
+            return;
+        }
+        transactionBatch.add(tracker.message);
+        send(tracker);
+        if (transactionBatch.size() >= transactionBatchSize) {
+            commitTransaction();
+        }
     }
 
-    @Override
-    public void onComplete() {
-        LOGGER.fine(() -> "Subscriber has finished");
-        kafkaProducer.close();
+    private void commitTransaction() {
+        if (!transactionOpen) {
+            return;
+        }
+        Throwable currentFailure = failure;
+        if (currentFailure != null) {
+            abortTransaction(currentFailure);
+            return;
+        }
+        try {
+            // Flushes the messages of the transaction
+            kafkaProducer.commitTransaction();
+        } catch (KafkaException e) {
+            LOGGER.log(Level.WARNING, "Error when committing Kafka transaction to topics: " + topics, e);
+            fail(e);
+            abortTransaction(e);
+            close(CLOSE_TIMEOUT);
+            return;
+        }
+        List<Message<V>> messages = new ArrayList<>(transactionBatch);
+        transactionBatch.clear();
+        transactionOpen = false;
+        messages.forEach(Message::ack);
+    }
+
+    /**
+     * Aborts the open transaction, if any, and negatively acknowledges its messages.
+     *
+     * @param reason the reason of the abort
+     */
+    private void abortTransaction(Throwable reason) {
+        if (!transactionOpen) {
+            return;
+        }
+        List<Message<V>> messages = new ArrayList<>(transactionBatch);
+        transactionBatch.clear();
+        transactionOpen = false;
+        try {
+            kafkaProducer.abortTransaction();
+        } catch (KafkaException e) {
+            // Fatal errors, such as a fenced producer, do not allow to abort
+            LOGGER.log(Level.FINE, "Cannot abort Kafka transaction", e);
+        }
+        messages.forEach(message -> nack(message, reason));
+    }
+
+    /**
+     * Invoked by the producer I/O thread once a message is sent to all the topics.
+     */
+    private void sent(SendTracker tracker, Throwable exception) {
+        Message<V> message = tracker.message;
+        inFlightSize.addAndGet(-tracker.estimatedSize);
+        recycle(tracker);
+        long remaining = inFlight.decrementAndGet();
+        if (exception != null) {
+            LOGGER.log(Level.WARNING, "Error when sending kafka message to topics: " + topics, exception);
+            fail(exception);
+        }
+        if (transactional) {
+            if (exception != null) {
+                // The transaction cannot be committed any more, the message may not be part of it yet
+                onTransactionThread(() -> {
+                    transactionBatch.remove(message);
+                    nack(message, exception);
+                    abortTransaction(exception);
+                    close(CLOSE_TIMEOUT);
+                }, () -> nack(message, exception));
+            } else if (remaining == 0) {
+                // Nothing else to wait for, do not hold the messages back
+                onTransactionThread(this::commitTransaction, () -> { });
+            }
+        } else {
+            if (exception == null) {
+                message.ack();
+            } else {
+                nack(message, exception);
+            }
+            if (failure != null && remaining == 0) {
+                // The producer I/O thread cannot wait for the producer to close, nothing is in flight anyway
+                close(Duration.ZERO);
+            }
+        }
+        requestMore();
+    }
+
+    /**
+     * Requests from upstream what fits into the window of in-flight messages.
+     */
+    private void requestMore() {
+        if (failure != null) {
+            return;
+        }
+        long window = inFlightRecords;
+        long size = recordSize;
+        if (size > 0) {
+            window = Math.max(1, Math.min(window, (inFlightBytes - inFlightSize.get()) / size + inFlight.get()));
+        }
+        while (true) {
+            long current = requested.get();
+            long demand = window - inFlight.get() - current;
+            if (demand <= 0) {
+                return;
+            }
+            if (requested.compareAndSet(current, current + demand)) {
+                subscription.request(demand);
+                return;
+            }
+        }
+    }
+
+    private SendTracker tracker(Message<V> message) {
+        SendTracker tracker;
+        synchronized (trackers) {
+            tracker = trackers.poll();
+        }
+        if (tracker == null) {
+            tracker = new SendTracker();
+        }
+        tracker.reset(message, topics.size(), recordSize * topics.size());
+        return tracker;
+    }
+
+    private void recycle(SendTracker tracker) {
+        tracker.message = null;
+        synchronized (trackers) {
+            if (trackers.size() < inFlightRecords) {
+                trackers.push(tracker);
+            }
+        }
+    }
+
+    private void recordSize(RecordMetadata metadata) {
+        long size = Math.max(0, metadata.serializedKeySize()) + Math.max(0, metadata.serializedValueSize());
+        long current = recordSize;
+        // Moving average, races lose a sample
+        recordSize = (current == 0) ? size : current + (size - current) / 8;
+    }
+
+    /**
+     * Completion of the sends of one message to all the topics, used as the producer callback.
+     * Reused for next messages once completed.
+     */
+    private final class SendTracker implements Callback {
+        private final AtomicInteger remaining = new AtomicInteger();
+        private volatile Throwable exception;
+        private Message<V> message;
+        private long estimatedSize;
+
+        private void reset(Message<V> message, int sends, long estimatedSize) {
+            this.message = message;
+            this.estimatedSize = estimatedSize;
+            this.exception = null;
+            this.remaining.set(sends);
+        }
+
+        private void fail(Throwable exception) {
+            // None of the records was sent
+            remaining.set(0);
+            sent(this, exception);
+        }
+
+        @Override
+        public void onCompletion(RecordMetadata metadata, Exception exception) {
+            if (exception != null) {
+                this.exception = exception;
+            } else if (metadata != null && inFlightBytes != Long.MAX_VALUE) {
+                recordSize(metadata);
+            }
+            if (remaining.decrementAndGet() == 0) {
+                sent(this, this.exception);
+            }
+        }
     }
 
     /**
@@ -165,6 +495,10 @@ public class KafkaSubscriber<K, V> implements Subscriber<Message<V>> {
         private Supplier<Producer<K, V>> producerSupplier;
         private List<String> topics;
         private long backpressure = 5L;
+        private long inFlightRecords;
+        private long inFlightBytes = Long.MAX_VALUE;
+        private boolean transactional;
+        private int transactionBatchSize = 100;
 
         private Builder() {
         }
@@ -177,7 +511,7 @@ public class KafkaSubscriber<K, V> implements Subscriber<Message<V>> {
             if (Objects.isNull(producerSupplier)) {
                 throw new IllegalArgumentException("The producerSupplier is a required value");
             }
-            return new KafkaSubscriber<>(producerSupplier, topics, backpressure);
+            return new KafkaSubscriber<>(this);
         }
 
         /**
@@ -191,6 +525,10 @@ public class KafkaSubscriber<K, V> implements Subscriber<Message<V>> {
             producerSupplier(() -> new KafkaProducer<>(kafkaConfig.asMap()));
             topics(kafkaConfig.topics());
             config.get(BACKPRESSURE_SIZE_KEY).asLong().ifPresent(this::backpressure);
+            config.get(IN_FLIGHT_RECORDS_KEY).asLong().ifPresent(this::inFlightRecords);
+            config.get(IN_FLIGHT_BYTES_KEY).asLong().ifPresent(this::inFlightBytes);
+            config.get(TRANSACTION_BATCH_SIZE_KEY).asInt().ifPresent(this::transactionBatchSize);
+            transactional(kafkaConfig.asMap().containsKey(ProducerConfig.TRANSACTIONAL_ID_CONFIG));
             return this;
         }
 
@@ -210,6 +548,7 @@ public class KafkaSubscriber<K, V> implements Subscriber<Message<V>> {
 
         /**
          * Specifies the number of messages that are requested after processing them.
+         * Used as the window of in-flight messages when {@link #inFlightRecords(long)} is not set.
          *
          * The default value is 5.
          *
@@ -221,6 +560,62 @@ public class KafkaSubscriber<K, V> implements Subscriber<Message<V>> {
             return this;
         }
 
+        /**
+         * Maximal number of messages sent and not completed by Kafka yet. More messages are requested
+         * from upstream as the sends complete.
+         *
+         * The default value is the {@link #backpressure(long)}.
+         *
+         * @param inFlightRecords number of messages in flight
+         * @return updated builder instance
+         */
+        public Builder<K, V> inFlightRecords(long inFlightRecords) {
+            this.inFlightRecords = inFlightRecords;
+            return this;
+        }
+
+        /**
+         * Maximal size in bytes of the messages sent and not completed by Kafka yet. The size of a message is
+         * estimated from the serialized sizes of the previously sent records.
+         *
+         * Not limited by default.
+         *
+         * @param inFlightBytes size of messages in flight
+         * @return updated builder instance
+         */
+        public Builder<K, V> inFlightBytes(long inFlightBytes) {
+            this.inFlightBytes = inFlightBytes;
+            return this;
+        }
+
+        /**
+         * Whether the messages are sent in transactions, the producer must have {@code transactional.id}
+         * configured. Set automatically when loaded from a configuration with {@code transactional.id}.
+         *
+         * The default value is false.
+         *
+         * @param transactional whether to send in transactions
+         * @return updated builder instance
+         */
+        public Builder<K, V> transactional(boolean transactional) {
+            this.transactional = transactional;
+            return this;
+        }
+
+        /**
+         * Maximal number of messages sent in one transaction. Applies only if the messages
+         * are sent in transactions.
+         *
+         * The default value is 100.
+         *
+         * @param transactionBatchSize number of messages in one transaction
+         * @return updated builder instance
+         */
+        public Builder<K, V> transactionBatchSize(int transactionBatchSize) {
+            this.transactionBatchSize = transactionBatchSize;
+            return this;
+        }
+
         /**
          * The list of topics the messages should be sent to.
          *
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.messaging.connectors.kafka;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.helidon.common.reactive.Multi;
+
+import org.apache.kafka.clients.producer.Callback;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.eclipse.microprofile.reactive.messaging.Message;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.reactivestreams.FlowAdapters;
+
+/**
+ * Sends ten thousand messages through {@link KafkaSubscriber} and directly through the producer.
+ * The mock producer completes the sends in batches every millisecond, as a broker with a short round trip would.
+ * A window of 5 in-flight messages is the previous default.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+public class KafkaSubscriberJMH {
+
+    private static final int MESSAGES = 10_000;
+
+    @Param({"5", "1000"})
+    private long inFlightRecords;
+
+    private ScheduledExecutorService broker;
+    private volatile DelayedProducer producer;
+
+    public static void main(String[] args) throws Throwable {
+        Options opt = new OptionsBuilder()
+                .include(KafkaSubscriberJMH.class.getSimpleName())
+                .forks(1)
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    @Setup
+    public void setup() {
+        producer = newProducer();
+        broker = Executors.newSingleThreadScheduledExecutor();
+        broker.scheduleAtFixedRate(() -> {
+            producer.completeSent();
+        }, 1, 1, TimeUnit.MILLISECONDS);
+    }
+
+    @TearDown
+    public void tearDown() {
+        broker.shutdownNow();
+    }
+
+    @Benchmark
+    public void subscriber() throws InterruptedException {
+        DelayedProducer mockProducer = newProducer();
+        producer = mockProducer;
+        CountDownLatch acked = new CountDownLatch(MESSAGES);
+        KafkaSubscriber<String, String> subscriber = KafkaSubscriber.<String, String>builder()
+                .producerSupplier(() -> mockProducer)
+                .topics(List.of("benchmark"))
+                .inFlightRecords(inFlightRecords)
+                .build();
+        Multi.range(0, MESSAGES)
+                .map(i -> Message.of(String.valueOf(i), () -> {
+                    acked.countDown();
+                    return CompletableFuture.completedFuture(null);
+                }))
+                .subscribe(FlowAdapters.toFlowSubscriber(subscriber));
+        acked.await();
+    }
+
+    @Benchmark
+    public void producer() throws InterruptedException {
+        DelayedProducer mockProducer = newProducer();
+        producer = mockProducer;
+        CountDownLatch acked = new CountDownLatch(MESSAGES);
+        for (int i = 0; i < MESSAGES; i++) {
+            mockProducer.send(new ProducerRecord<>("benchmark", String.valueOf(i)), (metadata, e) -> acked.countDown());
+        }
+        acked.await();
+    }
+
+    private static DelayedProducer newProducer() {
+        return new DelayedProducer();
+    }
+
+    /**
+     * Completes only the records sent before the broker tick, the records sent by the callbacks wait
+     * for the next one.
+     */
+    private static final class DelayedProducer extends MockProducer<String, String> {
+        private final AtomicInteger sent = new AtomicInteger();
+        private int completed;
+
+        private DelayedProducer() {
+            super(false, new StringSerializer(), new StringSerializer());
+        }
+
+        @Override
+        public synchronized Future<RecordMetadata> send(ProducerRecord<String, String> record, Callback callback) {
+            sent.incrementAndGet();
+            return super.send(record, callback);
+        }
+
+        private void completeSent() {
+            int toComplete = sent.get();
+            while (completed < toComplete && completeNext()) {
+                completed++;
+            }
+        }
+    }
+}
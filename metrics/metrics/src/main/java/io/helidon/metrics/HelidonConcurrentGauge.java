@@ -94,25 +94,27 @@ final class HelidonConcurrentGauge extends MetricImpl implements ConcurrentGauge
 
     @Override
     public void prometheusData(StringBuilder sb, MetricID metricID, boolean withHelpType) {
-        String name = prometheusNameWithUnits(metricID);
+        PrometheusName prometheusName = prometheusName(metricID);
+        String name = prometheusName.metricNameUnits();
+        String tags = prometheusName.prometheusTags();
         final String nameCurrent = name + "_current";
         if (withHelpType) {
             prometheusType(sb, nameCurrent, metadata().getType());
             prometheusHelp(sb, nameCurrent);
         }
-        sb.append(nameCurrent).append(prometheusTags(metricID.getTags()))
+        sb.append(nameCurrent).append(tags)
                 .append(" ").append(prometheusValue()).append('\n');
         final String nameMin = name + "_min";
         if (withHelpType) {
             prometheusType(sb, nameMin, metadata().getType());
         }
-        sb.append(nameMin).append(prometheusTags(metricID.getTags()))
+        sb.append(nameMin).append(tags)
                 .append(" ").append(getMin()).append('\n');
         final String nameMax = name + "_max";
         if (withHelpType) {
             prometheusType(sb, nameMax, metadata().getType());
         }
-        sb.append(nameMax).append(prometheusTags(metricID.getTags()))
+        sb.append(nameMax).append(tags)
                 .append(" ").append(getMax()).append('\n');
     }
 
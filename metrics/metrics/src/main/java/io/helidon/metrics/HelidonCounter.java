@@ -68,7 +68,7 @@ final class HelidonCounter extends MetricImpl implements Counter {
 
     @Override
     public void prometheusData(StringBuilder sb, MetricID metricID, boolean withHelpType) {
-        prometheusData(sb, metricID, withHelpType, prometheusNameWithUnits(metricID));
+        prometheusData(sb, metricID, withHelpType, prometheusName(metricID).metricNameUnits());
     }
 
     void prometheusData(StringBuilder sb, MetricID metricID, boolean withHelpType, String prometheusName) {
@@ -77,7 +77,7 @@ final class HelidonCounter extends MetricImpl implements Counter {
             prometheusHelp(sb, prometheusName);
         }
         sb.append(prometheusName)
-                .append(prometheusTags(metricID.getTags()))
+                .append(prometheusName(metricID).prometheusTags())
                 .append(" ")
                 .append(prometheusValue());
         if (delegate instanceof CounterImpl) {
@@ -45,6 +45,16 @@ final class HelidonHistogram extends MetricImpl implements Histogram {
         return new HelidonHistogram(type, metadata, new HistogramImpl(clock));
     }
 
+    static HelidonHistogram create(String type, Metadata metadata, HistogramSettings settings) {
+        return create(type, metadata, settings, Clock.system());
+    }
+
+    static HelidonHistogram create(String type, Metadata metadata, HistogramSettings settings, Clock clock) {
+        return settings.logLinear(metadata.getName())
+                ? new HelidonHistogram(type, metadata, settings.logLinearHistogram(clock))
+                : create(type, metadata, clock);
+    }
+
     static HelidonHistogram create(String type, Metadata metadata, Histogram delegate) {
         return new HelidonHistogram(type, metadata, delegate);
     }
@@ -70,9 +80,13 @@ final class HelidonHistogram extends MetricImpl implements Histogram {
     }
 
     DisplayableLabeledSnapshot snapshot() {
-        return (delegate instanceof HistogramImpl)
-                ? ((HistogramImpl) delegate).snapshot()
-                : WrappedSnapshot.create(delegate.getSnapshot());
+        if (delegate instanceof HistogramImpl) {
+            return ((HistogramImpl) delegate).snapshot();
+        }
+        if (delegate instanceof LogLinearHistogram) {
+            return ((LogLinearHistogram) delegate).snapshot();
+        }
+        return WrappedSnapshot.create(delegate.getSnapshot());
     }
 
     @Override
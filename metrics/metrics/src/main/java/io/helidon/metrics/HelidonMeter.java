@@ -17,7 +17,6 @@
 package io.helidon.metrics;
 
 import java.util.Objects;
-import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.LongAdder;
@@ -78,9 +77,9 @@ final class HelidonMeter extends MetricImpl implements Meter {
     */
     @Override
     public void prometheusData(StringBuilder sb, MetricID metricID, boolean withHelpType) {
-        String name = metricID.getName();
-        String nameUnits = prometheusNameWithUnits(name, Optional.empty()) + "_total";
-        String tags = prometheusTags(metricID.getTags());
+        PrometheusName name = prometheusName(metricID);
+        String nameUnits = name.nameStat("total");
+        String tags = name.prometheusTags();
 
         if (withHelpType) {
             prometheusType(sb, nameUnits, "counter");
@@ -92,7 +91,7 @@ final class HelidonMeter extends MetricImpl implements Meter {
                 .append(getCount())
                 .append("\n");
 
-        nameUnits = prometheusNameWithUnits(name, Optional.empty()) + "_rate_per_second";
+        nameUnits = name.nameStat("rate_per_second");
         if (withHelpType) {
             prometheusType(sb, nameUnits, "gauge");
         }
@@ -102,7 +101,7 @@ final class HelidonMeter extends MetricImpl implements Meter {
                 .append(getMeanRate())
                 .append("\n");
 
-        nameUnits = prometheusNameWithUnits(name, Optional.empty()) + "_one_min_rate_per_second";
+        nameUnits = name.nameStat("one_min_rate_per_second");
         if (withHelpType) {
             prometheusType(sb, nameUnits, "gauge");
         }
@@ -112,7 +111,7 @@ final class HelidonMeter extends MetricImpl implements Meter {
                 .append(getOneMinuteRate())
                 .append("\n");
 
-        nameUnits = prometheusNameWithUnits(name, Optional.empty()) + "_five_min_rate_per_second";
+        nameUnits = name.nameStat("five_min_rate_per_second");
         if (withHelpType) {
             prometheusType(sb, nameUnits, "gauge");
         }
@@ -122,7 +121,7 @@ final class HelidonMeter extends MetricImpl implements Meter {
                 .append(getFiveMinuteRate())
                 .append("\n");
 
-        nameUnits = prometheusNameWithUnits(name, Optional.empty()) + "_fifteen_min_rate_per_second";
+        nameUnits = name.nameStat("fifteen_min_rate_per_second");
         if (withHelpType) {
             prometheusType(sb, nameUnits, "gauge");
         }
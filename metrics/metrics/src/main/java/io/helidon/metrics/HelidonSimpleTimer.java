@@ -87,8 +87,9 @@ final class HelidonSimpleTimer extends MetricImpl implements SimpleTimer {
     public void prometheusData(StringBuilder sb, MetricID metricID, boolean withHelpType) {
         String promName;
         String name = metricID.getName();
-        String tags = prometheusTags(metricID.getTags());
-        promName = prometheusName(name) + "_total";
+        PrometheusName prometheusName = prometheusName(metricID);
+        String tags = prometheusName.prometheusTags();
+        promName = prometheusName.nameStat("total");
         if (withHelpType) {
             prometheusType(sb, promName, "counter");
             prometheusHelp(sb, promName);
@@ -47,7 +47,15 @@ final class HelidonTimer extends MetricImpl implements Timer {
     }
 
     static HelidonTimer create(String repoType, Metadata metadata, Clock clock) {
-        return create(repoType, metadata, new TimerImpl(repoType, metadata.getName(), clock));
+        return create(repoType, metadata, HistogramSettings.DEFAULT, clock);
+    }
+
+    static HelidonTimer create(String repoType, Metadata metadata, HistogramSettings settings) {
+        return create(repoType, metadata, settings, Clock.system());
+    }
+
+    static HelidonTimer create(String repoType, Metadata metadata, HistogramSettings settings, Clock clock) {
+        return create(repoType, metadata, new TimerImpl(repoType, metadata.getName(), settings, clock));
     }
 
     static HelidonTimer create(String repoType, Metadata metadata, Timer metric) {
@@ -113,7 +121,7 @@ final class HelidonTimer extends MetricImpl implements Timer {
     @Override
     public void prometheusData(StringBuilder sb, MetricID metricID, boolean withHelpType) {
 
-        PrometheusName name = PrometheusName.create(this, metricID);
+        PrometheusName name = prometheusName(metricID);
 
         appendPrometheusTimerStatElement(sb, name, "rate_per_second", withHelpType, "gauge", getMeanRate());
         appendPrometheusTimerStatElement(sb, name, "one_min_rate_per_second", withHelpType, "gauge", getOneMinuteRate());
@@ -247,7 +255,7 @@ final class HelidonTimer extends MetricImpl implements Timer {
         private final HelidonHistogram histogram;
         private final Clock clock;
 
-        TimerImpl(String repoType, String name, Clock clock) {
+        TimerImpl(String repoType, String name, HistogramSettings settings, Clock clock) {
             this.meter = HelidonMeter.create(repoType, Metadata.builder()
                     .withName(name)
                     .withType(MetricType.METERED)
@@ -255,7 +263,7 @@ final class HelidonTimer extends MetricImpl implements Timer {
             this.histogram = HelidonHistogram.create(repoType, Metadata.builder()
                     .withName(name)
                     .withType(MetricType.HISTOGRAM)
-                    .build(), clock);
+                    .build(), settings, clock);
             this.clock = clock;
         }
 
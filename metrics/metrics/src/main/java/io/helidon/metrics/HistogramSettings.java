@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.metrics;
+
+import java.util.List;
+import java.util.Set;
+
+import io.helidon.config.Config;
+
+/**
+ * Selects the implementation of histograms and timers created by a {@link Registry}.
+ * <p>
+ * By default histograms use an exponentially decaying reservoir. The {@code histogram} configuration
+ * selects {@link LogLinearHistogram} either for all histograms and timers, or only for the listed
+ * metric names.
+ */
+final class HistogramSettings {
+    static final String CONFIG_KEY = "histogram";
+    static final String EXPONENTIALLY_DECAYING = "exponentially-decaying";
+    static final String LOG_LINEAR = "log-linear";
+
+    static final HistogramSettings DEFAULT = new HistogramSettings(false, Set.of(), LogLinearHistogram.builder());
+
+    private final boolean logLinear;
+    private final Set<String> logLinearNames;
+    private final LogLinearHistogram.Builder builder;
+
+    private HistogramSettings(boolean logLinear, Set<String> logLinearNames, LogLinearHistogram.Builder builder) {
+        this.logLinear = logLinear;
+        this.logLinearNames = logLinearNames;
+        this.builder = builder;
+    }
+
+    /**
+     * Create settings from the {@code histogram} node of metrics configuration.
+     *
+     * @param config histogram configuration
+     * @return settings
+     */
+    static HistogramSettings create(Config config) {
+        String type = config.get("type").asString().orElse(EXPONENTIALLY_DECAYING);
+        if (!type.equals(EXPONENTIALLY_DECAYING) && !type.equals(LOG_LINEAR)) {
+            throw new IllegalArgumentException("Unsupported histogram type " + type + ", expected "
+                                                       + EXPONENTIALLY_DECAYING + " or " + LOG_LINEAR);
+        }
+        Set<String> names = Set.copyOf(config.get("log-linear-names").asList(String.class).orElse(List.of()));
+        return new HistogramSettings(type.equals(LOG_LINEAR), names, LogLinearHistogram.builder().config(config));
+    }
+
+    /**
+     * Whether a histogram or timer with the provided name uses {@link LogLinearHistogram}.
+     *
+     * @param metricName name of the metric
+     * @return {@code true} for log-linear histogram
+     */
+    boolean logLinear(String metricName) {
+        return logLinear || logLinearNames.contains(metricName);
+    }
+
+    LogLinearHistogram logLinearHistogram(Clock clock) {
+        return builder.build(clock);
+    }
+}
@@ -0,0 +1,340 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.metrics;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.helidon.config.Config;
+
+import org.eclipse.microprofile.metrics.Histogram;
+
+/**
+ * Histogram that records values into log-linear buckets over a sliding time window.
+ * <p>
+ * Values are counted in buckets whose width grows with the value, so that each bucket covers a range
+ * of at most {@code 10^-significantDigits} relative to its lower bound. Small values up to
+ * {@code 2 * 10^significantDigits} are counted exactly. Buckets are allocated lazily per power of two,
+ * so memory is bounded by the range of recorded values and not by their number.
+ * <p>
+ * The window is split into intervals. Each value is recorded into the interval of the current time without
+ * locking, and an interval is replaced with an empty one once the window moves past it. A snapshot merges
+ * the intervals within the window, so percentiles reflect the values recorded during the last window,
+ * while {@link #getCount()} is the exact number of all values ever recorded.
+ * <p>
+ * Instances can be registered with a {@link org.eclipse.microprofile.metrics.MetricRegistry} to use this
+ * histogram for a single metric, or configured for all histograms and timers of a registry using the
+ * {@code histogram} configuration of metrics:
+ * <pre>
+ * metrics:
+ *   histogram:
+ *     # log-linear or exponentially-decaying (default)
+ *     type: log-linear
+ *     # alternatively use log-linear histograms only for listed metric names
+ *     log-linear-names: ["requests.latency"]
+ *     window: PT1M
+ *     window-intervals: 6
+ *     significant-digits: 2
+ * </pre>
+ */
+public final class LogLinearHistogram implements Histogram {
+    private final LongAdder counter = new LongAdder();
+    private final Clock clock;
+    private final long intervalNanos;
+    private final int subBucketBits;
+    private final AtomicReferenceArray<Interval> intervals;
+
+    private LogLinearHistogram(Builder builder, Clock clock) {
+        this.clock = clock;
+        this.intervalNanos = Math.max(1, builder.window.toNanos() / builder.windowIntervals);
+        this.subBucketBits = subBucketBits(builder.significantDigits);
+        this.intervals = new AtomicReferenceArray<>(builder.windowIntervals);
+        long epoch = epoch();
+        for (int i = 0; i < builder.windowIntervals; i++) {
+            // intervals not yet used are outside of the window
+            intervals.set(i, new Interval(epoch - builder.windowIntervals, subBucketBits));
+        }
+    }
+
+    /**
+     * A new fluent API builder.
+     *
+     * @return builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Create a histogram with a window of one minute, split into 6 intervals, with precision of 2 significant
+     * digits.
+     *
+     * @return a new histogram
+     */
+    public static LogLinearHistogram create() {
+        return builder().build();
+    }
+
+    @Override
+    public void update(int value) {
+        update((long) value);
+    }
+
+    @Override
+    public void update(long value) {
+        counter.increment();
+        current().record(value);
+    }
+
+    @Override
+    public long getCount() {
+        return counter.sum();
+    }
+
+    @Override
+    public LogLinearSnapshot getSnapshot() {
+        return snapshot();
+    }
+
+    LogLinearSnapshot snapshot() {
+        long epoch = epoch();
+        List<Interval> window = new ArrayList<>(intervals.length());
+        for (int i = 0; i < intervals.length(); i++) {
+            Interval interval = intervals.get(i);
+            if (epoch - interval.epoch < intervals.length()) {
+                window.add(interval);
+            }
+        }
+        return LogLinearSnapshot.create(window, subBucketBits);
+    }
+
+    private Interval current() {
+        long epoch = epoch();
+        int slot = (int) Math.floorMod(epoch, (long) intervals.length());
+        Interval interval = intervals.get(slot);
+        while (interval.epoch < epoch) {
+            // the window moved past this interval, replace it unless another thread already did
+            Interval next = new Interval(epoch, subBucketBits);
+            if (intervals.compareAndSet(slot, interval, next)) {
+                return next;
+            }
+            interval = intervals.get(slot);
+        }
+        return interval;
+    }
+
+    private long epoch() {
+        return Math.floorDiv(clock.nanoTick(), intervalNanos);
+    }
+
+    private static int subBucketBits(int significantDigits) {
+        long required = 2 * (long) Math.pow(10, significantDigits);
+        return 64 - Long.numberOfLeadingZeros(required - 1);
+    }
+
+    /**
+     * Values recorded during one interval of the window.
+     * <p>
+     * Chunk {@code 0} counts values below {@code 2^subBucketBits} exactly, chunk {@code k > 0} counts values
+     * of {@code [2^(subBucketBits + k - 1), 2^(subBucketBits + k))} in buckets of width {@code 2^k}.
+     */
+    static final class Interval {
+        private final long epoch;
+        private final int subBucketBits;
+        private final AtomicReferenceArray<AtomicLongArray> chunks;
+        private final LongAdder sum = new LongAdder();
+        private final AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+        private final AtomicLong max = new AtomicLong(Long.MIN_VALUE);
+
+        private Interval(long epoch, int subBucketBits) {
+            this.epoch = epoch;
+            this.subBucketBits = subBucketBits;
+            this.chunks = new AtomicReferenceArray<>(64 - subBucketBits);
+        }
+
+        void record(long value) {
+            long bucketValue = Math.max(0, value);
+            int chunk;
+            int offset;
+            if (bucketValue < (1L << subBucketBits)) {
+                chunk = 0;
+                offset = (int) bucketValue;
+            } else {
+                int exponent = 63 - Long.numberOfLeadingZeros(bucketValue);
+                chunk = exponent - subBucketBits + 1;
+                offset = (int) (bucketValue >>> chunk) - (1 << (subBucketBits - 1));
+            }
+            sum.add(value);
+            updateMin(value);
+            updateMax(value);
+            chunk(chunk).incrementAndGet(offset);
+        }
+
+        AtomicLongArray chunkIfPresent(int chunk) {
+            return chunks.get(chunk);
+        }
+
+        int chunkCount() {
+            return chunks.length();
+        }
+
+        long sum() {
+            return sum.sum();
+        }
+
+        long min() {
+            return min.get();
+        }
+
+        long max() {
+            return max.get();
+        }
+
+        private AtomicLongArray chunk(int chunk) {
+            AtomicLongArray counts = chunks.get(chunk);
+            if (counts == null) {
+                int length = (chunk == 0) ? (1 << subBucketBits) : (1 << (subBucketBits - 1));
+                chunks.compareAndSet(chunk, null, new AtomicLongArray(length));
+                counts = chunks.get(chunk);
+            }
+            return counts;
+        }
+
+        private void updateMin(long value) {
+            long current = min.get();
+            while (value < current && !min.compareAndSet(current, value)) {
+                current = min.get();
+            }
+        }
+
+        private void updateMax(long value) {
+            long current = max.get();
+            while (value > current && !max.compareAndSet(current, value)) {
+                current = max.get();
+            }
+        }
+    }
+
+    /**
+     * Fluent API builder for {@link LogLinearHistogram}.
+     */
+    public static final class Builder implements io.helidon.common.Builder<LogLinearHistogram> {
+        private Duration window = Duration.ofMinutes(1);
+        private int windowIntervals = 6;
+        private int significantDigits = 2;
+
+        private Builder() {
+        }
+
+        @Override
+        public LogLinearHistogram build() {
+            return build(Clock.system());
+        }
+
+        LogLinearHistogram build(Clock clock) {
+            return new LogLinearHistogram(this, clock);
+        }
+
+        /**
+         * Update builder from configuration.
+         * <table class="config">
+         * <caption>Optional configuration parameters</caption>
+         * <tr>
+         *     <th>key</th>
+         *     <th>default value</th>
+         *     <th>description</th>
+         * </tr>
+         * <tr>
+         *     <td>window</td>
+         *     <td>{@code PT1M}</td>
+         *     <td>Time window of snapshots</td>
+         * </tr>
+         * <tr>
+         *     <td>window-intervals</td>
+         *     <td>{@code 6}</td>
+         *     <td>Number of intervals the window is split into</td>
+         * </tr>
+         * <tr>
+         *     <td>significant-digits</td>
+         *     <td>{@code 2}</td>
+         *     <td>Precision of recorded values</td>
+         * </tr>
+         * </table>
+         *
+         * @param config configuration of the histogram
+         * @return updated builder instance
+         */
+        public Builder config(Config config) {
+            config.get("window").as(Duration.class).ifPresent(this::window);
+            config.get("window-intervals").asInt().ifPresent(this::windowIntervals);
+            config.get("significant-digits").asInt().ifPresent(this::significantDigits);
+            return this;
+        }
+
+        /**
+         * Time window of snapshots, values recorded earlier do not affect percentiles.
+         * Defaults to one minute.
+         *
+         * @param window time window
+         * @return updated builder instance
+         */
+        public Builder window(Duration window) {
+            if (window.isNegative() || window.isZero()) {
+                throw new IllegalArgumentException("Histogram window must be positive, but is " + window);
+            }
+            this.window = window;
+            return this;
+        }
+
+        /**
+         * Number of intervals the window is split into. The window moves by one interval at a time.
+         * Defaults to {@code 6}.
+         *
+         * @param windowIntervals number of intervals
+         * @return updated builder instance
+         */
+        public Builder windowIntervals(int windowIntervals) {
+            if (windowIntervals < 1) {
+                throw new IllegalArgumentException("Histogram window intervals must be at least 1, but is "
+                                                           + windowIntervals);
+            }
+            this.windowIntervals = windowIntervals;
+            return this;
+        }
+
+        /**
+         * Number of significant decimal digits of recorded values, between {@code 1} and {@code 3}.
+         * Higher precision requires more memory. Defaults to {@code 2}.
+         *
+         * @param significantDigits number of significant digits
+         * @return updated builder instance
+         */
+        public Builder significantDigits(int significantDigits) {
+            if (significantDigits < 1 || significantDigits > 3) {
+                throw new IllegalArgumentException("Histogram significant digits must be between 1 and 3, but is "
+                                                           + significantDigits);
+            }
+            this.significantDigits = significantDigits;
+            return this;
+        }
+    }
+}
@@ -0,0 +1,256 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.metrics;
+
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import io.helidon.metrics.Sample.Derived;
+import io.helidon.metrics.Sample.Labeled;
+
+import org.eclipse.microprofile.metrics.Snapshot;
+
+import static io.helidon.metrics.Sample.derived;
+import static io.helidon.metrics.Sample.labeled;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Snapshot of a {@link LogLinearHistogram}, with one value per non-empty bucket.
+ * <p>
+ * The value of a bucket is its midpoint, limited by the minimum and maximum recorded value.
+ * {@link #size()} is the number of recorded values, while {@link #getValues()} returns the value of each
+ * non-empty bucket once.
+ */
+final class LogLinearSnapshot extends Snapshot implements DisplayableLabeledSnapshot {
+    private final long[] values;
+    private final long[] counts;
+    private final long total;
+    private final long min;
+    private final long max;
+    private final double mean;
+
+    private LogLinearSnapshot(long[] values, long[] counts, long total, long min, long max, double mean) {
+        this.values = values;
+        this.counts = counts;
+        this.total = total;
+        this.min = min;
+        this.max = max;
+        this.mean = mean;
+    }
+
+    static LogLinearSnapshot create(List<LogLinearHistogram.Interval> intervals, int subBucketBits) {
+        long[] values = new long[16];
+        long[] counts = new long[16];
+        int size = 0;
+        long total = 0;
+        long sum = 0;
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+
+        int chunkCount = 64 - subBucketBits;
+        for (int chunk = 0; chunk < chunkCount; chunk++) {
+            long[] merged = null;
+            for (LogLinearHistogram.Interval interval : intervals) {
+                AtomicLongArray chunkCounts = interval.chunkIfPresent(chunk);
+                if (chunkCounts == null) {
+                    continue;
+                }
+                if (merged == null) {
+                    merged = new long[chunkCounts.length()];
+                }
+                for (int i = 0; i < merged.length; i++) {
+                    merged[i] += chunkCounts.get(i);
+                }
+            }
+            if (merged == null) {
+                continue;
+            }
+            for (int i = 0; i < merged.length; i++) {
+                if (merged[i] == 0) {
+                    continue;
+                }
+                if (size == values.length) {
+                    values = Arrays.copyOf(values, size * 2);
+                    counts = Arrays.copyOf(counts, size * 2);
+                }
+                values[size] = bucketValue(chunk, i, subBucketBits);
+                counts[size] = merged[i];
+                total += merged[i];
+                size++;
+            }
+        }
+
+        if (total == 0) {
+            return new LogLinearSnapshot(new long[0], new long[0], 0, 0, 0, 0);
+        }
+        // read after counts, as values are included in these before they are counted
+        for (LogLinearHistogram.Interval interval : intervals) {
+            sum += interval.sum();
+            min = Math.min(min, interval.min());
+            max = Math.max(max, interval.max());
+        }
+        // bucket midpoints are within the recorded range
+        for (int i = 0; i < size; i++) {
+            values[i] = Math.max(min, Math.min(max, values[i]));
+        }
+        return new LogLinearSnapshot(Arrays.copyOf(values, size),
+                                     Arrays.copyOf(counts, size),
+                                     total,
+                                     min,
+                                     max,
+                                     (double) sum / total);
+    }
+
+    private static long bucketValue(int chunk, int offset, int subBucketBits) {
+        if (chunk == 0) {
+            return offset;
+        }
+        long lowerBound = ((1L << (subBucketBits - 1)) + offset) << chunk;
+        return lowerBound + (1L << (chunk - 1));
+    }
+
+    @Override
+    public double getValue(double quantile) {
+        if ((quantile < 0.0) || (quantile > 1.0) || Double.isNaN(quantile)) {
+            throw new IllegalArgumentException(quantile + " is not in [0..1]");
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(quantile * total);
+        if (rank <= 1) {
+            return min;
+        }
+        if (rank >= total) {
+            return max;
+        }
+        long cumulative = 0;
+        for (int i = 0; i < values.length; i++) {
+            cumulative += counts[i];
+            if (cumulative >= rank) {
+                return values[i];
+            }
+        }
+        return max;
+    }
+
+    @Override
+    public Derived value(double quantile) {
+        return derived(getValue(quantile));
+    }
+
+    @Override
+    public long[] getValues() {
+        return Arrays.copyOf(values, values.length);
+    }
+
+    @Override
+    public int size() {
+        return (int) Math.min(total, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public long getMax() {
+        return max;
+    }
+
+    @Override
+    public Labeled max() {
+        return labeled(max);
+    }
+
+    @Override
+    public double getMean() {
+        return mean;
+    }
+
+    @Override
+    public Derived mean() {
+        return derived(mean);
+    }
+
+    @Override
+    public long getMin() {
+        return min;
+    }
+
+    @Override
+    public Labeled min() {
+        return labeled(min);
+    }
+
+    @Override
+    public double getStdDev() {
+        if (total <= 1) {
+            return 0;
+        }
+        double variance = 0;
+        for (int i = 0; i < values.length; i++) {
+            double diff = values[i] - mean;
+            variance += counts[i] * diff * diff;
+        }
+        return Math.sqrt(variance / (total - 1));
+    }
+
+    @Override
+    public Derived stdDev() {
+        return derived(getStdDev());
+    }
+
+    @Override
+    public Derived median() {
+        return value(0.5);
+    }
+
+    @Override
+    public Derived sample75thPercentile() {
+        return value(0.75);
+    }
+
+    @Override
+    public Derived sample95thPercentile() {
+        return value(0.95);
+    }
+
+    @Override
+    public Derived sample98thPercentile() {
+        return value(0.98);
+    }
+
+    @Override
+    public Derived sample99thPercentile() {
+        return value(0.99);
+    }
+
+    @Override
+    public Derived sample999thPercentile() {
+        return value(0.999);
+    }
+
+    @Override
+    public void dump(OutputStream output) {
+        try (PrintWriter out = new PrintWriter(new OutputStreamWriter(output, UTF_8))) {
+            for (int i = 0; i < values.length; i++) {
+                out.printf("%d,%d%n", values[i], counts[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.metrics;
+
+import java.util.function.Supplier;
+
+import org.eclipse.microprofile.metrics.Metric;
+
+/**
+ * A metric bound to its registry, name and tags.
+ * <p>
+ * Looking a metric up in a {@link Registry} creates a {@link org.eclipse.microprofile.metrics.MetricID},
+ * which sorts the tags, and searches the registry for it. A handle does so once and then returns the same
+ * metric, so code that updates a metric on each request can obtain it from the handle instead of from
+ * the registry. If the metric is removed from the registry, the handle registers it again on next use.
+ *
+ * @param <T> type of the metric
+ * @see Registry#handle(org.eclipse.microprofile.metrics.Metadata, Class, org.eclipse.microprofile.metrics.Tag...)
+ */
+public final class MetricHandle<T extends Metric> {
+    private final Registry registry;
+    private final Class<T> metricType;
+    private final Supplier<Metric> lookup;
+    private volatile Bound<T> bound;
+
+    MetricHandle(Registry registry, Class<T> metricType, Supplier<Metric> lookup) {
+        this.registry = registry;
+        this.metricType = metricType;
+        this.lookup = lookup;
+        this.bound = bind();
+    }
+
+    /**
+     * The metric registered in the registry.
+     *
+     * @return the metric
+     */
+    public T get() {
+        Bound<T> current = bound;
+        if (current.removals != registry.removals()) {
+            current = bind();
+            bound = current;
+        }
+        return current.metric;
+    }
+
+    private Bound<T> bind() {
+        // read before the lookup, so a concurrent removal is detected on next use
+        long removals = registry.removals();
+        return new Bound<>(metricType.cast(lookup.get()), removals);
+    }
+
+    private static final class Bound<T> {
+        private final T metric;
+        private final long removals;
+
+        private Bound(T metric, long removals) {
+            this.metric = metric;
+            this.removals = removals;
+        }
+    }
+}
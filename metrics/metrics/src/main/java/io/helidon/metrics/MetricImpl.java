@@ -124,6 +124,8 @@ abstract class MetricImpl implements HelidonMetric {
 
     private final String registryType;
     private final Metadata metadata;
+    // Prometheus name and tags rendered for the last exported metric ID
+    private volatile PrometheusName prometheusName;
 
     MetricImpl(String registryType, Metadata metadata) {
         this.metadata = metadata;
@@ -226,18 +228,24 @@ abstract class MetricImpl implements HelidonMetric {
         sb.append("# HELP ")
                 .append(nameWithUnits)
                 .append(" ")
-                .append(metadata.getDescription().orElse(""))
+                .append(escapeHelp(metadata.getDescription().orElse("")))
                 .append('\n');
     }
 
+    // backslash and line feed must be escaped in HELP text so the description stays on its line
+    private static String escapeHelp(String description) {
+        return description.replace("\\", "\\\\").replace("\n", "\\n");
+    }
+
     @Override
     public void prometheusData(StringBuilder sb, MetricID metricID, boolean withHelpType) {
-        String nameWithUnits = prometheusNameWithUnits(metricID);
+        PrometheusName name = prometheusName(metricID);
+        String nameWithUnits = name.metricNameUnits();
         if (withHelpType) {
             prometheusType(sb, nameWithUnits, metadata.getType());
             prometheusHelp(sb, nameWithUnits);
         }
-        sb.append(nameWithUnits).append(prometheusTags(metricID.getTags())).append(" ").append(prometheusValue()).append('\n');
+        sb.append(nameWithUnits).append(name.prometheusTags()).append(" ").append(prometheusValue()).append('\n');
     }
 
     @Override
@@ -313,7 +321,7 @@ abstract class MetricImpl implements HelidonMetric {
 
     void appendPrometheusHistogramElements(StringBuilder sb, MetricID metricID,
             boolean withHelpType, long count, DisplayableLabeledSnapshot snap) {
-        PrometheusName name = PrometheusName.create(this, metricID);
+        PrometheusName name = prometheusName(metricID);
         appendPrometheusHistogramElements(sb, name, withHelpType, count, snap);
     }
 
@@ -391,6 +399,24 @@ abstract class MetricImpl implements HelidonMetric {
         return prometheusClean(name, registryType + "_");
     }
 
+    /**
+     * Prometheus name and tags for the metric ID.
+     * <p>
+     * A metric is almost always exported under a single ID, so the rendered name and tags are kept and reused by
+     * subsequent exports of the same ID instead of being cleaned and formatted again.
+     *
+     * @param metricID metric ID
+     * @return Prometheus name
+     */
+    final PrometheusName prometheusName(MetricID metricID) {
+        PrometheusName name = prometheusName;
+        if (name == null || !name.metricID().equals(metricID)) {
+            name = PrometheusName.create(this, metricID);
+            prometheusName = name;
+        }
+        return name;
+    }
+
     static String prometheusClean(String name, String prefix) {
         name = name.replaceAll("[^a-zA-Z0-9_]", "_");
 
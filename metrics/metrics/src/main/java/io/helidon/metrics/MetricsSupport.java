@@ -54,6 +54,7 @@ import io.helidon.servicecommon.rest.HelidonRestServiceSupport;
 import io.helidon.webserver.Handler;
 import io.helidon.webserver.KeyPerformanceIndicatorSupport;
 import io.helidon.webserver.RequestHeaders;
+import io.helidon.webserver.ResponseHeaders;
 import io.helidon.webserver.Routing;
 import io.helidon.webserver.ServerRequest;
 import io.helidon.webserver.ServerResponse;
@@ -158,10 +159,43 @@ public final class MetricsSupport extends HelidonRestServiceSupport {
     }
 
     private static MediaType findBestAccepted(RequestHeaders headers) {
-        Optional<MediaType> mediaType = headers.bestAccepted(MediaType.TEXT_PLAIN, MediaType.APPLICATION_JSON);
+        Optional<MediaType> mediaType = headers.bestAccepted(MediaType.TEXT_PLAIN,
+                                                             MediaType.APPLICATION_JSON,
+                                                             PrometheusExporter.OPENMETRICS);
         return mediaType.orElse(null);
     }
 
+    private static boolean isPrometheus(MediaType mediaType) {
+        return mediaType == MediaType.TEXT_PLAIN || mediaType == PrometheusExporter.OPENMETRICS;
+    }
+
+    private static void sendPrometheus(ServerRequest req, ServerResponse res, MediaType mediaType, Registry... registries) {
+        boolean openMetrics = mediaType == PrometheusExporter.OPENMETRICS;
+        res.send(PrometheusExporter.create(openMetrics, preparePrometheus(req, res, openMetrics), registries));
+    }
+
+    private static void sendPrometheus(ServerRequest req,
+                                       ServerResponse res,
+                                       MediaType mediaType,
+                                       Registry registry,
+                                       String metricName) {
+        boolean openMetrics = mediaType == PrometheusExporter.OPENMETRICS;
+        res.send(PrometheusExporter.create(openMetrics, preparePrometheus(req, res, openMetrics), registry, metricName));
+    }
+
+    // sets the response headers and returns whether to compress the content
+    private static boolean preparePrometheus(ServerRequest req, ServerResponse res, boolean openMetrics) {
+        ResponseHeaders headers = res.headers();
+        headers.contentType(openMetrics ? PrometheusExporter.OPENMETRICS_CONTENT_TYPE
+                                    : PrometheusExporter.PROMETHEUS_CONTENT_TYPE);
+        headers.add(Http.Header.VARY, Http.Header.ACCEPT_ENCODING);
+        boolean gzip = PrometheusExporter.acceptsGzip(req.headers().first(Http.Header.ACCEPT_ENCODING).orElse(null));
+        if (gzip) {
+            headers.put(Http.Header.CONTENT_ENCODING, "gzip");
+        }
+        return gzip;
+    }
+
     /**
      * Derives the name prefix for KPI metrics based on the routing name (if any).
      *
@@ -183,8 +217,8 @@ public final class MetricsSupport extends HelidonRestServiceSupport {
         MediaType mediaType = findBestAccepted(req.headers());
         if (mediaType == MediaType.APPLICATION_JSON) {
             sendJson(res, toJsonData(registry));
-        } else if (mediaType == MediaType.TEXT_PLAIN) {
-            res.send(toPrometheusData(registry));
+        } else if (isPrometheus(mediaType)) {
+            sendPrometheus(req, res, mediaType, registry);
         } else {
             res.status(Http.Status.NOT_ACCEPTABLE_406);
             res.send();
@@ -440,8 +474,8 @@ public final class MetricsSupport extends HelidonRestServiceSupport {
                     MediaType mediaType = findBestAccepted(req.headers());
                     if (mediaType == MediaType.APPLICATION_JSON) {
                         sendJson(res, jsonDataByName(registry, metricName));
-                    } else if (mediaType == MediaType.TEXT_PLAIN) {
-                        res.send(prometheusDataByName(registry, metricName));
+                    } else if (isPrometheus(mediaType)) {
+                        sendPrometheus(req, res, mediaType, registry, metricName);
                     } else {
                         res.status(Http.Status.NOT_ACCEPTABLE_406);
                         res.send();
@@ -480,8 +514,8 @@ public final class MetricsSupport extends HelidonRestServiceSupport {
         MediaType mediaType = findBestAccepted(req.headers());
         if (mediaType == MediaType.APPLICATION_JSON) {
             sendJson(res, toJsonData(registries));
-        } else if (mediaType == MediaType.TEXT_PLAIN) {
-            res.send(toPrometheusData(registries));
+        } else if (isPrometheus(mediaType)) {
+            sendPrometheus(req, res, mediaType, registries);
         } else {
             res.status(Http.Status.NOT_ACCEPTABLE_406);
             res.send();
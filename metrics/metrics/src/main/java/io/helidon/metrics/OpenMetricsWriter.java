@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.eclipse.microprofile.metrics.MetricID;
+
+/**
+ * Converts the Prometheus text of metrics to OpenMetrics metric families.
+ * <p>
+ * The Prometheus text of all metrics added since the last {@link #writeTo(StringBuilder)} is regrouped by family, so
+ * samples of a family are never interleaved with other families, and converted as follows:
+ * <ul>
+ *     <li>counter families are named without the {@code _total} suffix that their samples keep</li>
+ *     <li>{@code # UNIT} is written for families whose name ends with the unit of the metric (such as
+ *     {@code _seconds})</li>
+ *     <li>{@code # HELP} text escapes double quotes as well</li>
+ *     <li>exemplars are kept on counter samples only</li>
+ *     <li>a sample repeated within a family (the untagged timer and histogram statistics of metrics with several
+ *     tag sets) is written once</li>
+ *     <li>types other than counter, gauge and summary are written as {@code unknown}</li>
+ * </ul>
+ * {@link PrometheusExporter} terminates the exposition with {@code # EOF}.
+ * <p>
+ * The following OpenMetrics features are not rendered: {@code _created} samples, {@code _sum} samples of summaries
+ * (the sum is not tracked), histogram buckets and the info, stateset and gaugehistogram types.
+ */
+final class OpenMetricsWriter {
+    private static final String TYPE = "# TYPE ";
+    private static final String HELP = "# HELP ";
+    private static final String TOTAL = "_total";
+    private static final Set<String> TYPES = Set.of("counter", "gauge", "summary");
+    private static final Set<String> BASE_UNITS = Set.of("seconds", "bytes", "celsius", "meters");
+
+    private final Map<String, Family> families = new LinkedHashMap<>();
+    private final StringBuilder text = new StringBuilder();
+
+    /**
+     * Add the samples of a metric.
+     *
+     * @param metric   metric to add
+     * @param metricID ID of the metric
+     */
+    void add(HelidonMetric metric, MetricID metricID) {
+        text.setLength(0);
+        metric.prometheusData(text, metricID, true);
+        Optional<String> unit = (metric instanceof MetricImpl)
+                ? ((MetricImpl) metric).getUnits().getPrometheusUnit()
+                : Optional.empty();
+
+        Family family = null;
+        int start = 0;
+        while (start < text.length()) {
+            int end = text.indexOf("\n", start);
+            if (end < 0) {
+                end = text.length();
+            }
+            String line = text.substring(start, end);
+            start = end + 1;
+            if (line.startsWith(TYPE)) {
+                int separator = line.indexOf(' ', TYPE.length());
+                String type = line.substring(separator + 1);
+                family = families.computeIfAbsent(line.substring(TYPE.length(), separator),
+                                                  name -> new Family(name, type, unit));
+            } else if (line.startsWith(HELP)) {
+                int separator = line.indexOf(' ', HELP.length());
+                Family described = families.get(line.substring(HELP.length(), separator));
+                if (described != null && described.help == null) {
+                    described.help = line.substring(separator + 1).replace("\"", "\\\"");
+                }
+            } else if (family != null && !line.isEmpty() && !line.startsWith("#")) {
+                family.add(line);
+            }
+        }
+    }
+
+    /**
+     * Write the families added since the last call and forget them.
+     *
+     * @param sb builder to write to
+     */
+    void writeTo(StringBuilder sb) {
+        for (Family family : families.values()) {
+            family.writeTo(sb);
+        }
+        families.clear();
+    }
+
+    private static final class Family {
+        private final String prometheusName;
+        private final String name;
+        private final String type;
+        private final String unit;
+        // sample name with labels to the whole sample line
+        private final Map<String, String> samples = new LinkedHashMap<>();
+        private String help;
+
+        private Family(String prometheusName, String type, Optional<String> metricUnit) {
+            this.prometheusName = prometheusName;
+            this.type = TYPES.contains(type) ? type : "unknown";
+            this.name = (isCounter() && prometheusName.endsWith(TOTAL))
+                    ? prometheusName.substring(0, prometheusName.length() - TOTAL.length())
+                    : prometheusName;
+            this.unit = metricUnit.filter(it -> name.endsWith("_" + it))
+                    .or(() -> BASE_UNITS.stream()
+                            .filter(it -> name.endsWith("_" + it))
+                            .findFirst())
+                    .orElse(null);
+        }
+
+        private boolean isCounter() {
+            return type.equals("counter");
+        }
+
+        private void add(String line) {
+            int labelsEnd = labelsEnd(line);
+            String sample = line.substring(0, labelsEnd);
+            String rest = line.substring(labelsEnd);
+            if (isCounter()) {
+                // counter samples must be named <family>_total
+                int nameEnd = sample.indexOf('{');
+                String sampleName = (nameEnd < 0) ? sample : sample.substring(0, nameEnd);
+                if (sampleName.equals(prometheusName) && !sampleName.endsWith(TOTAL)) {
+                    sample = name + TOTAL + sample.substring(sampleName.length());
+                }
+            } else {
+                int exemplar = rest.indexOf(" # ");
+                if (exemplar >= 0) {
+                    rest = rest.substring(0, exemplar);
+                }
+            }
+            samples.putIfAbsent(sample, sample + rest);
+        }
+
+        private void writeTo(StringBuilder sb) {
+            sb.append(TYPE).append(name).append(' ').append(type).append('\n');
+            if (unit != null) {
+                sb.append("# UNIT ").append(name).append(' ').append(unit).append('\n');
+            }
+            if (help != null && !help.isEmpty()) {
+                sb.append(HELP).append(name).append(' ').append(help).append('\n');
+            }
+            for (String sample : samples.values()) {
+                sb.append(sample).append('\n');
+            }
+        }
+
+        // index after the sample name and labels, label values may contain escaped quotes and braces
+        private static int labelsEnd(String line) {
+            int index = 0;
+            while (index < line.length() && line.charAt(index) != '{' && line.charAt(index) != ' ') {
+                index++;
+            }
+            if (index == line.length() || line.charAt(index) == ' ') {
+                return index;
+            }
+            boolean quoted = false;
+            for (index++; index < line.length(); index++) {
+                char c = line.charAt(index);
+                if (quoted) {
+                    if (c == '\\') {
+                        index++;
+                    } else if (c == '"') {
+                        quoted = false;
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == '}') {
+                    return index + 1;
+                }
+            }
+            return line.length();
+        }
+    }
+}
@@ -0,0 +1,330 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.metrics;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+import io.helidon.common.http.DataChunk;
+import io.helidon.common.http.MediaType;
+import io.helidon.common.reactive.Multi;
+
+import org.eclipse.microprofile.metrics.MetricID;
+
+/**
+ * Streaming Prometheus or OpenMetrics exposition of registries.
+ * <p>
+ * Metrics are rendered lazily as the response requests more data: text of a few metrics at a time is encoded (and
+ * optionally compressed) directly into pooled buffers that are sent as data chunks and returned to the pool once
+ * written, so the whole exposition is never held in memory at once.
+ * <p>
+ * The OpenMetrics exposition is converted from the Prometheus text by {@link OpenMetricsWriter}, see there for the
+ * features it does not support.
+ */
+final class PrometheusExporter implements Iterator<DataChunk> {
+    /**
+     * Content type of the Prometheus text format.
+     */
+    static final MediaType PROMETHEUS_CONTENT_TYPE = MediaType.parse("text/plain; version=0.0.4; charset=utf-8");
+    /**
+     * OpenMetrics media type used for content negotiation.
+     */
+    static final MediaType OPENMETRICS = MediaType.create("application", "openmetrics-text");
+    /**
+     * Content type of the OpenMetrics text format.
+     */
+    static final MediaType OPENMETRICS_CONTENT_TYPE =
+            MediaType.parse("application/openmetrics-text; version=1.0.0; charset=utf-8");
+
+    static final int BUFFER_SIZE = 16 * 1024;
+    private static final int MAX_POOLED_BUFFERS = 64;
+    private static final BlockingQueue<ByteBuffer> POOL = new ArrayBlockingQueue<>(MAX_POOLED_BUFFERS);
+    private static final byte[] GZIP_HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, 0};
+    private static final String EOF = "# EOF\n";
+
+    private final Iterator<Iterator<Map.Entry<MetricID, HelidonMetric>>> sections;
+    private final OpenMetricsWriter openMetrics;
+    private final StringBuilder text = new StringBuilder(BUFFER_SIZE);
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private final Queue<DataChunk> ready = new ArrayDeque<>(2);
+    private final Deflater deflater;
+    private final CRC32 crc;
+    private final ByteBuffer uncompressed;
+
+    private Iterator<Map.Entry<MetricID, HelidonMetric>> metrics;
+    private String previousName;
+    private char[] chars = new char[BUFFER_SIZE];
+    private ByteBuffer out;
+    private boolean finished;
+
+    private PrometheusExporter(List<Iterator<Map.Entry<MetricID, HelidonMetric>>> sections,
+                               boolean openMetrics,
+                               boolean gzip) {
+        this.sections = sections.iterator();
+        this.openMetrics = openMetrics ? new OpenMetricsWriter() : null;
+        if (gzip) {
+            this.deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+            this.crc = new CRC32();
+            this.uncompressed = ByteBuffer.allocate(BUFFER_SIZE);
+        } else {
+            this.deflater = null;
+            this.crc = null;
+            this.uncompressed = null;
+        }
+    }
+
+    /**
+     * Exposition of all metrics of the registries, each registry sorted by metric ID.
+     *
+     * @param openMetrics whether to use the OpenMetrics format instead of the Prometheus format
+     * @param gzip        whether to compress the exposition using gzip
+     * @param registries  registries to export, empty registries are skipped
+     * @return publisher of the exposition
+     */
+    static Multi<DataChunk> create(boolean openMetrics, boolean gzip, Registry... registries) {
+        return Multi.create(() -> {
+            List<Iterator<Map.Entry<MetricID, HelidonMetric>>> sections = new ArrayList<>(registries.length);
+            for (Registry registry : registries) {
+                if (!registry.empty()) {
+                    sections.add(registry.stream()
+                                         .sorted(Map.Entry.comparingByKey())
+                                         .iterator());
+                }
+            }
+            return new PrometheusExporter(sections, openMetrics, gzip);
+        });
+    }
+
+    /**
+     * Exposition of metrics with the name.
+     *
+     * @param openMetrics whether to use the OpenMetrics format instead of the Prometheus format
+     * @param gzip        whether to compress the exposition using gzip
+     * @param registry    registry to export
+     * @param metricName  name of the metrics to export
+     * @return publisher of the exposition
+     */
+    static Multi<DataChunk> create(boolean openMetrics, boolean gzip, Registry registry, String metricName) {
+        return Multi.create(() -> new PrometheusExporter(List.of(registry.getMetricsByName(metricName).iterator()),
+                                                         openMetrics,
+                                                         gzip));
+    }
+
+    /**
+     * Whether the {@code Accept-Encoding} header value allows a gzip response.
+     *
+     * @param acceptEncoding header value, may be {@code null}
+     * @return {@code true} if gzip is accepted
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            int separator = coding.indexOf(';');
+            String name = (separator < 0 ? coding : coding.substring(0, separator)).trim();
+            if (name.equalsIgnoreCase("gzip")) {
+                return separator < 0 || !isZeroQuality(coding.substring(separator + 1));
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (ready.isEmpty() && !finished) {
+            render();
+        }
+        return !ready.isEmpty();
+    }
+
+    @Override
+    public DataChunk next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return ready.poll();
+    }
+
+    private void render() {
+        if (out == null) {
+            out = acquire();
+            if (deflater != null) {
+                out.put(GZIP_HEADER);
+            }
+        }
+        while (ready.isEmpty()) {
+            if (metrics == null || !metrics.hasNext()) {
+                if (openMetrics != null) {
+                    openMetrics.writeTo(text);
+                }
+                if (!sections.hasNext()) {
+                    finish();
+                    return;
+                }
+                metrics = sections.next();
+                // HELP and TYPE are written once per name within each registry
+                previousName = null;
+                continue;
+            }
+            Map.Entry<MetricID, HelidonMetric> entry = metrics.next();
+            MetricID metricID = entry.getKey();
+            boolean withHelpType = !metricID.getName().equals(previousName);
+            previousName = metricID.getName();
+            if (openMetrics == null) {
+                entry.getValue().prometheusData(text, metricID, withHelpType);
+            } else {
+                if (withHelpType) {
+                    // all metrics of the previous name are complete, write their families
+                    openMetrics.writeTo(text);
+                }
+                openMetrics.add(entry.getValue(), metricID);
+            }
+            if (text.length() >= BUFFER_SIZE / 2) {
+                flushText();
+            }
+        }
+    }
+
+    private void finish() {
+        if (openMetrics != null) {
+            text.append(EOF);
+        }
+        flushText();
+        if (deflater != null) {
+            deflater.finish();
+            while (!deflater.finished()) {
+                deflate();
+            }
+            putInt((int) crc.getValue());
+            putInt((int) deflater.getBytesRead());
+            deflater.end();
+        }
+        finished = true;
+        if (out.position() > 0) {
+            ready.add(chunk(out));
+        } else {
+            release(out);
+        }
+        out = null;
+    }
+
+    private void flushText() {
+        int length = text.length();
+        if (length == 0) {
+            return;
+        }
+        if (chars.length < length) {
+            chars = new char[length];
+        }
+        text.getChars(0, length, chars, 0);
+        text.setLength(0);
+        CharBuffer source = CharBuffer.wrap(chars, 0, length);
+        ByteBuffer target = (deflater == null) ? out : uncompressed;
+        while (source.hasRemaining()) {
+            if (encoder.encode(source, target, false).isOverflow()) {
+                if (deflater == null) {
+                    nextBuffer();
+                    target = out;
+                } else {
+                    compress();
+                }
+            }
+        }
+        if (deflater != null) {
+            compress();
+        }
+    }
+
+    private void compress() {
+        uncompressed.flip();
+        crc.update(uncompressed.array(), 0, uncompressed.limit());
+        deflater.setInput(uncompressed.array(), 0, uncompressed.limit());
+        while (!deflater.needsInput()) {
+            deflate();
+        }
+        uncompressed.clear();
+    }
+
+    private void deflate() {
+        int written = deflater.deflate(out.array(), out.arrayOffset() + out.position(), out.remaining());
+        out.position(out.position() + written);
+        if (!out.hasRemaining()) {
+            nextBuffer();
+        }
+    }
+
+    private void putInt(int value) {
+        // gzip trailer is little endian
+        for (int i = 0; i < 4; i++) {
+            if (!out.hasRemaining()) {
+                nextBuffer();
+            }
+            out.put((byte) (value >>> (8 * i)));
+        }
+    }
+
+    private void nextBuffer() {
+        ready.add(chunk(out));
+        out = acquire();
+    }
+
+    private static DataChunk chunk(ByteBuffer buffer) {
+        buffer.flip();
+        return DataChunk.create(false, () -> release(buffer), buffer);
+    }
+
+    private static ByteBuffer acquire() {
+        ByteBuffer buffer = POOL.poll();
+        return (buffer == null) ? ByteBuffer.allocate(BUFFER_SIZE) : buffer;
+    }
+
+    private static void release(ByteBuffer buffer) {
+        buffer.clear();
+        POOL.offer(buffer);
+    }
+
+    private static boolean isZeroQuality(String parameters) {
+        for (String parameter : parameters.split(";")) {
+            int separator = parameter.indexOf('=');
+            if (separator > 0 && parameter.substring(0, separator).trim().equals("q")) {
+                try {
+                    return Double.parseDouble(parameter.substring(separator + 1).trim()) == 0;
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+}
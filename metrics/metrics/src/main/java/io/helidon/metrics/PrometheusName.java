@@ -30,6 +30,7 @@ class PrometheusName {
     private final MetricImpl metricImpl;
     private final MetricID metricID;
     private final String prometheusNameWithUnits;
+    private final String metricNameWithUnits;
     private final String prometheusName;
     private final String prometheusUnit;
     private final Units units;
@@ -49,12 +50,17 @@ class PrometheusName {
         prometheusName = MetricImpl.prometheusClean(metricID.getName(), metricImpl.registryType() + "_");
         this.prometheusTags = metricImpl.prometheusTags(metricID.getTags());
         prometheusNameWithUnits = nameUnits(units);
+        metricNameWithUnits = metricImpl.prometheusNameWithUnits(metricID);
 
         prometheusUnit = units
                 .getPrometheusUnit()
                 .orElse("");
     }
 
+    MetricID metricID() {
+        return metricID;
+    }
+
     Units units() {
         return units;
     }
@@ -68,6 +74,16 @@ class PrometheusName {
         return prometheusNameWithUnits;
     }
 
+    /**
+     * Returns the Prometheus metric name with units as the metric itself exposes it, which may differ from
+     * {@link #nameUnits()} (for example counters add the {@code _total} suffix).
+     *
+     * @return metric name with units
+     */
+    String metricNameUnits() {
+        return metricNameWithUnits;
+    }
+
     String nameUnits(Units units) {
         return metricImpl.prometheusNameWithUnits(metricID.getName(), units.getPrometheusUnit());
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2018, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -21,6 +21,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -30,6 +31,8 @@ import java.util.SortedSet;
 import java.util.TreeMap;
 import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiFunction;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -52,6 +55,11 @@ import org.eclipse.microprofile.metrics.Timer;
 
 /**
  * Metrics registry.
+ * <p>
+ * Lookups of metrics that are already registered do not lock, only registration and removal
+ * are synchronized. Code that updates the same metric frequently can obtain a
+ * {@link MetricHandle} through {@link #handle(Metadata, Class, Tag...)} to also avoid
+ * creating a {@link MetricID} on each use.
  */
 public class Registry extends MetricRegistry {
 
@@ -62,6 +70,8 @@ public class Registry extends MetricRegistry {
     private final Map<MetricID, HelidonMetric> allMetrics = new ConcurrentHashMap<>();
     private final Map<String, List<MetricID>> allMetricIDsByName = new ConcurrentHashMap<>();
     private final Map<String, Metadata> allMetadata = new ConcurrentHashMap<>(); // metric name -> metadata
+    private final AtomicLong removals = new AtomicLong();
+    private volatile HistogramSettings histogramSettings = HistogramSettings.DEFAULT;
 
     /**
      * Create a registry of a certain type.
@@ -129,12 +139,12 @@ public class Registry extends MetricRegistry {
 
     @Override
     public Histogram histogram(String name, Tag... tags) {
-        return getOrRegisterMetric(name, HelidonHistogram::create, HelidonHistogram.class, tags);
+        return getOrRegisterMetric(name, this::createHistogram, HelidonHistogram.class, tags);
     }
 
     @Override
     public Histogram histogram(Metadata metadata, Tag... tags) {
-        return getOrRegisterMetric(metadata, HelidonHistogram::create, HelidonHistogram.class, tags);
+        return getOrRegisterMetric(metadata, this::createHistogram, HelidonHistogram.class, tags);
     }
 
     @Override
@@ -169,12 +179,12 @@ public class Registry extends MetricRegistry {
 
     @Override
     public Timer timer(String name, Tag... tags) {
-        return getOrRegisterMetric(name, HelidonTimer::create, HelidonTimer.class, tags);
+        return getOrRegisterMetric(name, this::createTimer, HelidonTimer.class, tags);
     }
 
     @Override
     public Timer timer(Metadata metadata, Tag... tags) {
-        return getOrRegisterMetric(metadata, HelidonTimer::create, HelidonTimer.class, tags);
+        return getOrRegisterMetric(metadata, this::createTimer, HelidonTimer.class, tags);
     }
 
     @Override
@@ -217,6 +227,44 @@ public class Registry extends MetricRegistry {
         return getOrRegisterMetric(metadata, HelidonSimpleTimer::create, HelidonSimpleTimer.class, tags);
     }
 
+    /**
+     * Creates a handle of a counter, histogram, meter, timer, simple timer or concurrent gauge,
+     * registering the metric if it does not exist. The handle returns the metric without
+     * looking it up again, until the metric is removed from this registry.
+     *
+     * @param metadata metadata describing the metric
+     * @param metricType type of the metric, such as {@code Counter.class}
+     * @param tags tags of the metric
+     * @param <T> type of the metric
+     * @return handle of the metric
+     * @throws IllegalArgumentException if the metric type is not supported, or if the metric
+     * is inconsistent with a previously-registered metric
+     */
+    public <T extends Metric> MetricHandle<T> handle(Metadata metadata, Class<T> metricType, Tag... tags) {
+        MetricType type = MetricType.from(metricType);
+        Tag[] boundTags = tags.clone();
+        return new MetricHandle<>(this, metricType, () -> getOrRegisterMetric(metadata, type, boundTags));
+    }
+
+    /**
+     * Creates a handle of a counter, histogram, meter, timer, simple timer or concurrent gauge,
+     * registering the metric if it does not exist. The handle returns the metric without
+     * looking it up again, until the metric is removed from this registry.
+     *
+     * @param name name of the metric
+     * @param metricType type of the metric, such as {@code Counter.class}
+     * @param tags tags of the metric
+     * @param <T> type of the metric
+     * @return handle of the metric
+     * @throws IllegalArgumentException if the metric type is not supported, or if the metric
+     * is inconsistent with a previously-registered metric
+     */
+    public <T extends Metric> MetricHandle<T> handle(String name, Class<T> metricType, Tag... tags) {
+        MetricType type = MetricType.from(metricType);
+        Tag[] boundTags = tags.clone();
+        return new MetricHandle<>(this, metricType, () -> getOrRegisterMetric(name, type, boundTags));
+    }
+
     /**
      * Removes a metric by name. Synchronized for atomic update of more than one internal map.
      *
@@ -235,6 +283,7 @@ public class Registry extends MetricRegistry {
                 .orElse(false);
         allMetricIDsByName.remove(name);
         allMetadata.remove(name);
+        removals.incrementAndGet();
         return result;
     }
 
@@ -255,8 +304,9 @@ public class Registry extends MetricRegistry {
             allMetricIDsByName.remove(metricID.getName());
             allMetadata.remove(metricID.getName());
         }
-
-        return allMetrics.remove(metricID) != null;
+        final boolean result = allMetrics.remove(metricID) != null;
+        removals.incrementAndGet();
+        return result;
     }
 
     @Override
@@ -431,19 +481,23 @@ public class Registry extends MetricRegistry {
     }
 
     /**
-     * Get internal map entry given a metric name. Synchronized for atomic access of more than
-     * one internal map.
+     * Get internal map entry given a metric name.
      *
      * @param metricName The metric name.
      * @return Optional map entry..
      */
-    public synchronized Optional<Map.Entry<? extends Metric, List<MetricID>>> getOptionalMetricWithIDsEntry(String metricName) {
+    public Optional<Map.Entry<? extends Metric, List<MetricID>>> getOptionalMetricWithIDsEntry(String metricName) {
         final List<MetricID> metricIDs = allMetricIDsByName.get(metricName);
-        if (metricIDs == null || metricIDs.isEmpty()) {
+        if (metricIDs == null) {
+            return Optional.empty();
+        }
+        // the list may be modified concurrently, its iterator works on a snapshot
+        Iterator<MetricID> iterator = metricIDs.iterator();
+        if (!iterator.hasNext()) {
             return Optional.empty();
         }
         return Optional.of(
-                new AbstractMap.SimpleEntry<>(allMetrics.get(metricIDs.get(0)), metricIDs));
+                new AbstractMap.SimpleEntry<>(allMetrics.get(iterator.next()), metricIDs));
     }
 
     <T extends HelidonMetric> Optional<T> getOptionalMetric(MetricID metricID, Class<T> clazz) {
@@ -459,6 +513,25 @@ public class Registry extends MetricRegistry {
         return allMetricIDsByName.get(metricName);
     }
 
+    /**
+     * Number of removals from this registry, used by {@link MetricHandle} to detect
+     * that its metric may no longer be registered.
+     *
+     * @return number of removals
+     */
+    long removals() {
+        return removals.get();
+    }
+
+    /**
+     * Configure implementation of histograms and timers registered from now on.
+     *
+     * @param histogramSettings histogram settings
+     */
+    void histogramSettings(HistogramSettings histogramSettings) {
+        this.histogramSettings = histogramSettings;
+    }
+
     static <T extends Metadata, U extends Metadata> boolean  metadataMatches(T a, U b) {
         if (a == b) {
             return true;
@@ -508,7 +581,8 @@ public class Registry extends MetricRegistry {
      * Returns an existing metric (if one is already registered with the name
      * from the metadata plus the tags, and if the existing metadata is
      * consistent with the new metadata) or a new metric, registered using the metadata and tags.
-     * Synchronized for atomic access of more than one internal map.
+     * An existing metric is found without locking, registration is synchronized for atomic
+     * access of more than one internal map.
      *
      * @param <T> type of the metric
      * @param newMetadata metadata describing the metric
@@ -521,7 +595,7 @@ public class Registry extends MetricRegistry {
      * previously-registered metadata or if the metric is being reused and the
      * metadata prohibits reuse
      */
-    private synchronized <T extends HelidonMetric> T getOrRegisterMetric(Metadata newMetadata,
+    private <T extends HelidonMetric> T getOrRegisterMetric(Metadata newMetadata,
             BiFunction<String, Metadata, T> metricFactory,
             Class<T> clazz,
             Tag... tags) throws IllegalArgumentException {
@@ -531,14 +605,22 @@ public class Registry extends MetricRegistry {
          * new to register; the existing registration is enough so return that
          * previously-registered metric.
          */
-        return getOptionalMetric(metricName, clazz, tags)
-                .filter(existingMetric -> enforceConsistentMetadata(existingMetric, newMetadata, tags))
-                .orElseGet(() -> {
-                    final Metadata metadata = getOrRegisterMetadata(metricName, newMetadata, tags);
-                    return registerMetric(metricName,
-                                    metricFactory.apply(type.getName(), metadata),
-                                    tags);
-                });
+        HelidonMetric existingMetric = allMetrics.get(new MetricID(metricName, tags));
+        if (existingMetric != null) {
+            T metric = toType(existingMetric, clazz);
+            enforceConsistentMetadata(metric, newMetadata, tags);
+            return metric;
+        }
+        synchronized (this) {
+            return getOptionalMetric(metricName, clazz, tags)
+                    .filter(metric -> enforceConsistentMetadata(metric, newMetadata, tags))
+                    .orElseGet(() -> {
+                        final Metadata metadata = getOrRegisterMetadata(metricName, newMetadata, tags);
+                        return registerMetric(metricName,
+                                        metricFactory.apply(type.getName(), metadata),
+                                        tags);
+                    });
+        }
     }
 
     /**
@@ -546,7 +628,8 @@ public class Registry extends MetricRegistry {
      * is already registered registers a new metric using the name and type. If
      * metadata with the same name already exists it is used and checked for
      * consistency with the metric type {@code T}.
-     * Synchronized for atomic access of more than one internal map.
+     * An existing metric is found without locking, registration is synchronized for atomic
+     * access of more than one internal map.
      *
      * @param <T> type of the metric
      * @param metricName name of the metric
@@ -555,21 +638,65 @@ public class Registry extends MetricRegistry {
      * @param tags tags for refining the identity of the metric
      * @return the existing or newly-created metric
      */
-    private synchronized <T extends HelidonMetric> T getOrRegisterMetric(String metricName,
+    private <T extends HelidonMetric> T getOrRegisterMetric(String metricName,
             BiFunction<String, Metadata, T> metricFactory,
             Class<T> clazz,
             Tag... tags) {
+        HelidonMetric existingMetric = allMetrics.get(new MetricID(metricName, tags));
+        if (existingMetric != null) {
+            return toType(existingMetric, clazz);
+        }
         final MetricType newType = METRIC_TO_TYPE_MAP.get(clazz);
-        return getOptionalMetric(metricName, clazz, tags)
-                .orElseGet(() -> {
-                    final Metadata metadata = getOrRegisterMetadata(metricName, newType,
-                            () ->  Metadata.builder()
-                                    .withName(metricName)
-                                    .withType(newType)
-                                    .build(), tags);
-                    return registerMetric(metricName, metricFactory.apply(type.getName(), metadata),
-                            tags);
-                });
+        synchronized (this) {
+            return getOptionalMetric(metricName, clazz, tags)
+                    .orElseGet(() -> {
+                        final Metadata metadata = getOrRegisterMetadata(metricName, newType,
+                                () ->  Metadata.builder()
+                                        .withName(metricName)
+                                        .withType(newType)
+                                        .build(), tags);
+                        return registerMetric(metricName, metricFactory.apply(type.getName(), metadata),
+                                tags);
+                    });
+        }
+    }
+
+    private Metric getOrRegisterMetric(Metadata metadata, MetricType metricType, Tag... tags) {
+        switch (metricType) {
+            case COUNTER:
+                return counter(metadata, tags);
+            case HISTOGRAM:
+                return histogram(metadata, tags);
+            case METERED:
+                return meter(metadata, tags);
+            case TIMER:
+                return timer(metadata, tags);
+            case SIMPLE_TIMER:
+                return simpleTimer(metadata, tags);
+            case CONCURRENT_GAUGE:
+                return concurrentGauge(metadata, tags);
+            default:
+                throw new IllegalArgumentException("Cannot create a handle of metric type " + metricType);
+        }
+    }
+
+    private Metric getOrRegisterMetric(String metricName, MetricType metricType, Tag... tags) {
+        switch (metricType) {
+            case COUNTER:
+                return counter(metricName, tags);
+            case HISTOGRAM:
+                return histogram(metricName, tags);
+            case METERED:
+                return meter(metricName, tags);
+            case TIMER:
+                return timer(metricName, tags);
+            case SIMPLE_TIMER:
+                return simpleTimer(metricName, tags);
+            case CONCURRENT_GAUGE:
+                return concurrentGauge(metricName, tags);
+            default:
+                throw new IllegalArgumentException("Cannot create a handle of metric type " + metricType);
+        }
     }
 
     /**
@@ -700,7 +827,8 @@ public class Registry extends MetricRegistry {
 
     /**
      * Register a metric using name and tags. Synchronized for atomic access of more than
-     * one internal map.
+     * one internal map. Lists of metric IDs are copied on write so that they can be
+     * read without locking.
      *
      * @param metricName Name of metric.
      * @param metric The metric instance.
@@ -711,16 +839,20 @@ public class Registry extends MetricRegistry {
     private synchronized <T extends HelidonMetric> T registerMetric(String metricName, T metric, Tag... tags) {
         final MetricID metricID = new MetricID(metricName, tags);
         allMetrics.put(metricID, metric);
-        List<MetricID> metricIDsWithSameName = allMetricIDsByName.get(metricName);
-        if (metricIDsWithSameName == null) {
-            metricIDsWithSameName = new ArrayList<>();
-            allMetricIDsByName.put(metricName, metricIDsWithSameName);
-        }
-        metricIDsWithSameName.add(metricID);
+        allMetricIDsByName.computeIfAbsent(metricName, name -> new CopyOnWriteArrayList<>())
+                .add(metricID);
         return metric;
     }
 
 
+    private HelidonHistogram createHistogram(String registryType, Metadata metadata) {
+        return HelidonHistogram.create(registryType, metadata, histogramSettings);
+    }
+
+    private HelidonTimer createTimer(String registryType, Metadata metadata) {
+        return HelidonTimer.create(registryType, metadata, histogramSettings);
+    }
+
     private <T extends Metric> HelidonMetric toImpl(Metadata metadata, T metric) {
 
         MetricType metricType = deriveType(metadata.getTypeRaw(), metric);
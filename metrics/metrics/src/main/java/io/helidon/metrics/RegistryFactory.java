@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2018, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -55,6 +55,7 @@ public final class RegistryFactory {
         registries.put(Type.VENDOR, registry);
 
         this.config = new AtomicReference<>(config);
+        configureHistograms(config);
     }
 
 
@@ -126,11 +127,18 @@ public final class RegistryFactory {
 
     private void update(Config config) {
         this.config.set(config);
+        configureHistograms(config);
+    }
+
+    private synchronized void configureHistograms(Config config) {
+        HistogramSettings settings = HistogramSettings.create(config.get(HistogramSettings.CONFIG_KEY));
+        registries.values().forEach(registry -> registry.histogramSettings(settings));
     }
 
     private synchronized void ensureBase() {
         if (null == registries.get(Type.BASE)) {
             Registry registry = BaseRegistry.create(config.get());
+            registry.histogramSettings(HistogramSettings.create(config.get().get(HistogramSettings.CONFIG_KEY)));
             registries.put(Type.BASE, registry);
         }
     }
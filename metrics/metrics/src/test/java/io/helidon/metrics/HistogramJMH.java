@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.metrics;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.eclipse.microprofile.metrics.Metadata;
+import org.eclipse.microprofile.metrics.MetricType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Compares recording values and taking snapshots of a histogram backed by the exponentially decaying
+ * reservoir and of a {@link LogLinearHistogram}, under contention of 32 threads.
+ */
+@State(Scope.Benchmark)
+@Threads(32)
+public class HistogramJMH {
+    private static final Metadata METADATA = Metadata.builder()
+            .withName("latency")
+            .withType(MetricType.HISTOGRAM)
+            .build();
+
+    private final HelidonHistogram reservoir = HelidonHistogram.create("application", METADATA);
+    private final HelidonHistogram logLinear = HelidonHistogram.create("application", METADATA, LogLinearHistogram.create());
+
+    public static void main(String[] args) throws Throwable {
+        Options opt = new OptionsBuilder()
+                .include(HistogramJMH.class.getSimpleName())
+                .forks(1)
+                .warmupIterations(5)
+                .warmupTime(TimeValue.seconds(1))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(1))
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    @Setup
+    public void setup() {
+        for (int i = 0; i < 100_000; i++) {
+            reservoir.update(value());
+            logLinear.update(value());
+        }
+    }
+
+    @Benchmark
+    public void reservoirUpdate() {
+        reservoir.update(value());
+    }
+
+    @Benchmark
+    public void logLinearUpdate() {
+        logLinear.update(value());
+    }
+
+    @Benchmark
+    @Threads(1)
+    public double reservoirSnapshot() {
+        return reservoir.snapshot().sample99thPercentile().value();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public double logLinearSnapshot() {
+        return logLinear.snapshot().sample99thPercentile().value();
+    }
+
+    private static long value() {
+        // latency in nanoseconds, between 100 microseconds and 100 milliseconds
+        return ThreadLocalRandom.current().nextLong(100_000, 100_000_000);
+    }
+}
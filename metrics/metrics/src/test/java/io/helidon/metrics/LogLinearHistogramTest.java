@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.metrics;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import io.helidon.config.Config;
+import io.helidon.config.ConfigSources;
+
+import org.eclipse.microprofile.metrics.Histogram;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.Snapshot;
+import org.eclipse.microprofile.metrics.Timer;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit test for {@link LogLinearHistogram}.
+ */
+class LogLinearHistogramTest {
+
+    @Test
+    void testPercentiles() {
+        LogLinearHistogram histogram = LogLinearHistogram.create();
+        Random random = new Random(42);
+        long[] values = new long[100_000];
+        for (int i = 0; i < values.length; i++) {
+            // log-normal distribution, similar to request latency in nanoseconds
+            values[i] = (long) Math.exp(13 + 1.5 * random.nextGaussian());
+            histogram.update(values[i]);
+        }
+        Arrays.sort(values);
+
+        Snapshot snapshot = histogram.getSnapshot();
+        assertThat(histogram.getCount(), is(100_000L));
+        assertThat(snapshot.size(), is(100_000));
+        assertThat(snapshot.getMin(), is(values[0]));
+        assertThat(snapshot.getMax(), is(values[values.length - 1]));
+        assertThat(snapshot.getMean(), closeTo(Arrays.stream(values).average().orElseThrow(), 0.0001));
+        for (double quantile : new double[] {0.5, 0.75, 0.95, 0.99, 0.999}) {
+            long expected = values[(int) Math.ceil(quantile * values.length) - 1];
+            assertThat("Quantile " + quantile, snapshot.getValue(quantile), closeTo(expected, expected * 0.01));
+        }
+    }
+
+    @Test
+    void testSmallValuesExact() {
+        LogLinearHistogram histogram = LogLinearHistogram.create();
+        for (int i = 1; i <= 100; i++) {
+            histogram.update(i);
+        }
+
+        Snapshot snapshot = histogram.getSnapshot();
+        assertThat(snapshot.getMedian(), is(50.0));
+        assertThat(snapshot.get99thPercentile(), is(99.0));
+        assertThat(snapshot.getValues().length, is(100));
+        assertThat(snapshot.getStdDev(), closeTo(29.01, 0.01));
+    }
+
+    @Test
+    void testWindow() {
+        TestClock clock = TestClock.create();
+        LogLinearHistogram histogram = LogLinearHistogram.builder()
+                .window(Duration.ofSeconds(60))
+                .windowIntervals(6)
+                .build(clock);
+
+        histogram.update(1000);
+        clock.add(30, TimeUnit.SECONDS);
+        histogram.update(2000);
+        assertThat(histogram.getSnapshot().size(), is(2));
+
+        clock.add(35, TimeUnit.SECONDS);
+        Snapshot snapshot = histogram.getSnapshot();
+        assertThat(snapshot.size(), is(1));
+        assertThat(snapshot.getMin(), is(2000L));
+
+        clock.add(60, TimeUnit.SECONDS);
+        snapshot = histogram.getSnapshot();
+        assertThat(snapshot.size(), is(0));
+        assertThat(snapshot.getValue(0.99), is(0.0));
+        // count is never reset
+        assertThat(histogram.getCount(), is(2L));
+
+        histogram.update(3000);
+        assertThat(histogram.getSnapshot().getMax(), is(3000L));
+    }
+
+    @Test
+    void testConcurrentUpdates() throws InterruptedException {
+        LogLinearHistogram histogram = LogLinearHistogram.create();
+        Thread[] threads = new Thread[8];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < 10_000; j++) {
+                    histogram.update(j);
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertThat(histogram.getCount(), is(80_000L));
+        assertThat(histogram.getSnapshot().size(), is(80_000));
+        assertThat(histogram.getSnapshot().getMax(), is(9_999L));
+    }
+
+    @Test
+    void testInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> LogLinearHistogram.builder().significantDigits(4));
+        assertThrows(IllegalArgumentException.class, () -> LogLinearHistogram.builder().windowIntervals(0));
+        assertThrows(IllegalArgumentException.class, () -> LogLinearHistogram.builder().window(Duration.ZERO));
+    }
+
+    @Test
+    void testConfiguredRegistry() {
+        RegistryFactory factory = RegistryFactory.create(Config.create(ConfigSources.create(Map.of(
+                "histogram.type", "log-linear",
+                "histogram.window", "PT10S"))));
+        MetricRegistry registry = factory.getRegistry(MetricRegistry.Type.APPLICATION);
+
+        HelidonHistogram histogram = (HelidonHistogram) registry.histogram("configuredHistogram");
+        histogram.update(42);
+        assertThat(histogram.getSnapshot(), instanceOf(LogLinearSnapshot.class));
+        assertThat(histogram.snapshot(), instanceOf(LogLinearSnapshot.class));
+
+        Timer timer = registry.timer("configuredTimer");
+        timer.update(10, TimeUnit.MILLISECONDS);
+        assertThat(timer.getSnapshot(), instanceOf(LogLinearSnapshot.class));
+    }
+
+    @Test
+    void testConfiguredNames() {
+        RegistryFactory factory = RegistryFactory.create(Config.create(ConfigSources.create(Map.of(
+                "histogram.log-linear-names.0", "selectedHistogram"))));
+        MetricRegistry registry = factory.getRegistry(MetricRegistry.Type.APPLICATION);
+
+        assertThat(registry.histogram("selectedHistogram").getSnapshot(), instanceOf(LogLinearSnapshot.class));
+        assertThat(registry.histogram("otherHistogram").getSnapshot(), not(instanceOf(LogLinearSnapshot.class)));
+    }
+
+    @Test
+    void testRegisteredHistogram() {
+        Registry registry = Registry.create(MetricRegistry.Type.APPLICATION);
+        registry.register("registeredHistogram", LogLinearHistogram.create());
+
+        Histogram histogram = registry.histogram("registeredHistogram");
+        histogram.update(7);
+        assertThat(histogram.getSnapshot().getMax(), is(7L));
+        assertThat(((HelidonHistogram) histogram).snapshot(), instanceOf(LogLinearSnapshot.class));
+    }
+}
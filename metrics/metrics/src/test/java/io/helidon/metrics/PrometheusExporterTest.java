@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.metrics;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import io.helidon.common.http.DataChunk;
+import io.helidon.common.reactive.Multi;
+
+import org.eclipse.microprofile.metrics.Metadata;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.MetricType;
+import org.eclipse.microprofile.metrics.MetricUnits;
+import org.eclipse.microprofile.metrics.Tag;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+/**
+ * Unit test for {@link PrometheusExporter}.
+ */
+class PrometheusExporterTest {
+
+    private static Registry app;
+    private static Registry vendor;
+
+    @BeforeAll
+    static void initClass() {
+        app = new Registry(MetricRegistry.Type.APPLICATION);
+        vendor = new Registry(MetricRegistry.Type.VENDOR);
+
+        for (int i = 0; i < 2_000; i++) {
+            app.counter("requests", new Tag("path", "/resource/" + i), new Tag("method", "GET")).inc(i);
+        }
+        app.histogram("sizes").update(42);
+        app.concurrentGauge("inFlight", new Tag("quote", "\"é\"")).inc();
+        vendor.counter("requests").inc();
+    }
+
+    @Test
+    void testMatchesPrometheusData() {
+        List<DataChunk> chunks = PrometheusExporter.create(false, false, app, vendor).collectList().await();
+
+        assertThat(chunks.size(), greaterThan(1));
+        assertThat(text(chunks), is(MetricsSupport.toPrometheusData(app, vendor)));
+    }
+
+    @Test
+    void testByName() {
+        String text = text(PrometheusExporter.create(false, false, app, "inFlight"));
+
+        assertThat(text, is(MetricsSupport.prometheusDataByName(app, "inFlight")));
+    }
+
+    @Test
+    void testOpenMetrics() {
+        Registry registry = new Registry(MetricRegistry.Type.APPLICATION);
+        registry.counter(Metadata.builder()
+                                 .withName("served")
+                                 .withDescription("Requests \"served\"")
+                                 .withType(MetricType.COUNTER)
+                                 .build(),
+                         new Tag("path", "/a"))
+                .inc();
+        registry.counter("served", new Tag("path", "/b")).inc(2);
+        registry.histogram(Metadata.builder()
+                                   .withName("sizes")
+                                   .withType(MetricType.HISTOGRAM)
+                                   .withUnit(MetricUnits.BYTES)
+                                   .build())
+                .update(42);
+
+        String text = text(PrometheusExporter.create(true, false, registry));
+
+        assertThat(text, containsString("# TYPE application_served counter\n"
+                                                + "# HELP application_served Requests \\\"served\\\"\n"
+                                                + "application_served_total{path=\"/a\"} 1\n"
+                                                + "application_served_total{path=\"/b\"} 2\n"));
+        assertThat(text, containsString("# TYPE application_sizes_bytes summary\n"
+                                                + "# UNIT application_sizes_bytes bytes\n"));
+        assertThat(text, containsString("# TYPE application_sizes_mean_bytes gauge\n"
+                                                + "# UNIT application_sizes_mean_bytes bytes\n"));
+        assertThat(text, not(containsString("_total counter")));
+        assertThat(text, endsWith("# EOF\n"));
+    }
+
+    @Test
+    void testOpenMetricsFamilies() {
+        String text = text(PrometheusExporter.create(true, false, app, vendor));
+
+        // each family is described once per registry, with its samples following it
+        assertThat(text.split("# TYPE application_requests counter\n", -1).length, is(2));
+        assertThat(text.split("# TYPE vendor_requests counter\n", -1).length, is(2));
+        assertThat(text, containsString("application_requests_total{method=\"GET\",path=\"/resource/1999\"} 1999\n"));
+        assertThat(text, endsWith("# EOF\n"));
+    }
+
+    @Test
+    void testGzip() throws IOException {
+        byte[] compressed = bytes(PrometheusExporter.create(false, true, app, vendor).collectList().await());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            gzip.transferTo(out);
+        }
+        String text = out.toString(StandardCharsets.UTF_8);
+
+        assertThat(text, is(MetricsSupport.toPrometheusData(app, vendor)));
+    }
+
+    @Test
+    void testEmpty() {
+        Registry empty = new Registry(MetricRegistry.Type.APPLICATION);
+
+        assertThat(text(PrometheusExporter.create(false, false, empty)), is(""));
+        assertThat(text(PrometheusExporter.create(true, false, empty)), is("# EOF\n"));
+    }
+
+    @Test
+    void testAcceptsGzip() {
+        assertThat(PrometheusExporter.acceptsGzip(null), is(false));
+        assertThat(PrometheusExporter.acceptsGzip("identity"), is(false));
+        assertThat(PrometheusExporter.acceptsGzip("gzip"), is(true));
+        assertThat(PrometheusExporter.acceptsGzip("deflate, GZIP;q=0.5"), is(true));
+        assertThat(PrometheusExporter.acceptsGzip("gzip;q=0, deflate"), is(false));
+        assertThat(PrometheusExporter.acceptsGzip("gzip; q=0.0"), is(false));
+    }
+
+    private static String text(Multi<DataChunk> exposition) {
+        return text(exposition.collectList().await());
+    }
+
+    private static String text(List<DataChunk> chunks) {
+        return new String(bytes(chunks), StandardCharsets.UTF_8);
+    }
+
+    private static byte[] bytes(List<DataChunk> chunks) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (DataChunk chunk : chunks) {
+            for (ByteBuffer buffer : chunk.data()) {
+                byte[] bytes = new byte[buffer.remaining()];
+                buffer.get(bytes);
+                out.writeBytes(bytes);
+            }
+            chunk.release();
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.metrics;
+
+import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.Metadata;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.MetricType;
+import org.eclipse.microprofile.metrics.Tag;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Compares obtaining and incrementing a tagged counter by looking it up in the {@link Registry}
+ * on each use, as request handling code does, and through a {@link MetricHandle}, under contention
+ * of 32 threads.
+ */
+@State(Scope.Benchmark)
+@Threads(32)
+public class RegistryJMH {
+    private static final Tag[] TAGS = {new Tag("method", "GET"), new Tag("status", "200"), new Tag("path", "/greet")};
+    private static final Metadata METADATA = Metadata.builder()
+            .withName("requests")
+            .withType(MetricType.COUNTER)
+            .build();
+
+    private final Registry registry = Registry.create(MetricRegistry.Type.APPLICATION);
+    private final MetricHandle<Counter> handle = registry.handle(METADATA, Counter.class, TAGS);
+
+    public static void main(String[] args) throws Throwable {
+        Options opt = new OptionsBuilder()
+                .include(RegistryJMH.class.getSimpleName())
+                .forks(1)
+                .warmupIterations(5)
+                .warmupTime(TimeValue.seconds(1))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(1))
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    @Benchmark
+    public void counterByName() {
+        registry.counter("requests", TAGS).inc();
+    }
+
+    @Benchmark
+    public void counterByMetadata() {
+        registry.counter(METADATA, TAGS).inc();
+    }
+
+    @Benchmark
+    public void counterByHandle() {
+        handle.get().inc();
+    }
+}
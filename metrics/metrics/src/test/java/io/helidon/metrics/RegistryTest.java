@@ -17,7 +17,9 @@
 package io.helidon.metrics;
 
 import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.Gauge;
 import org.eclipse.microprofile.metrics.Metadata;
+import org.eclipse.microprofile.metrics.Meter;
 import org.eclipse.microprofile.metrics.Metric;
 import org.eclipse.microprofile.metrics.MetricFilter;
 import org.eclipse.microprofile.metrics.MetricID;
@@ -29,11 +31,17 @@ import org.hamcrest.core.IsSame;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
@@ -200,6 +208,55 @@ public class RegistryTest {
         assertThat(result, is(false));
     }
 
+    @Test
+    void testHandle() {
+        MetricHandle<Counter> handle = registry.handle("counter8", Counter.class, tag1, tag2);
+        handle.get().inc();
+        Counter counter = registry.counter("counter8", tag2, tag1);
+        assertThat(handle.get(), IsSame.sameInstance(counter));
+        assertThat(counter.getCount(), is(1L));
+    }
+
+    @Test
+    void testHandleAfterRemoval() {
+        Metadata metadata = Metadata.builder()
+                .withName("counter9")
+                .withType(MetricType.COUNTER)
+                .build();
+        MetricHandle<Counter> handle = registry.handle(metadata, Counter.class, tag1);
+        Counter removed = handle.get();
+        registry.remove(new MetricID("counter9", tag1));
+
+        Counter counter = handle.get();
+        assertThat(counter, not(IsSame.sameInstance(removed)));
+        assertThat(registry.getCounters().get(new MetricID("counter9", tag1)), IsSame.sameInstance(counter));
+    }
+
+    @Test
+    void testHandleIncompatibleType() {
+        registry.counter("counter10");
+        assertThrows(IllegalArgumentException.class, () -> registry.handle("counter10", Meter.class));
+        assertThrows(IllegalArgumentException.class, () -> registry.handle("gauge1", Gauge.class));
+    }
+
+    @Test
+    void testConcurrentRegistration() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Counter>> futures = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                futures.add(executor.submit(() -> registry.counter("counter11", tag1)));
+            }
+            Counter expected = registry.counter("counter11", tag1);
+            for (Future<Counter> future : futures) {
+                assertThat(future.get(), IsSame.sameInstance(expected));
+            }
+            assertThat(registry.metricIDsForName("counter11").size(), is(1));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
     private static class MetricNameFilter implements MetricFilter {
 
         private final String name;
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.metrics;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.Tag;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Compares rendering a registry to a single Prometheus string, as the metrics endpoint used to, with the
+ * streaming {@link PrometheusExporter}, with and without compression, for registries of 1k, 10k and 100k
+ * series.
+ */
+@State(Scope.Benchmark)
+public class ScrapeJMH {
+    private static final int SERIES_PER_NAME = 100;
+
+    @Param({"1000", "10000", "100000"})
+    private int series;
+
+    private Registry registry;
+
+    public static void main(String[] args) throws Throwable {
+        Options opt = new OptionsBuilder()
+                .include(ScrapeJMH.class.getSimpleName())
+                .forks(1)
+                .warmupIterations(5)
+                .warmupTime(TimeValue.seconds(1))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(1))
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    @Setup
+    public void setup() {
+        registry = Registry.create(MetricRegistry.Type.APPLICATION);
+        for (int i = 0; i < series; i++) {
+            registry.counter("requests_" + (i / SERIES_PER_NAME),
+                             new Tag("path", "/resource/" + i),
+                             new Tag("method", "GET"),
+                             new Tag("status", "200"))
+                    .inc(i);
+        }
+    }
+
+    @Benchmark
+    public int prometheusString() {
+        return MetricsSupport.toPrometheusData(registry).getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    @Benchmark
+    public long streaming() {
+        return consume(false);
+    }
+
+    @Benchmark
+    public long streamingGzip() {
+        return consume(true);
+    }
+
+    private long consume(boolean gzip) {
+        AtomicLong length = new AtomicLong();
+        PrometheusExporter.create(false, gzip, registry)
+                .forEach(chunk -> {
+                    for (ByteBuffer buffer : chunk.data()) {
+                        length.addAndGet(buffer.remaining());
+                    }
+                    chunk.release();
+                })
+                .await();
+        return length.get();
+    }
+}
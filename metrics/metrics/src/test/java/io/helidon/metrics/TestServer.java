@@ -40,6 +40,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.endsWith;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.is;
 
@@ -140,6 +142,26 @@ public class TestServer {
         }
     }
 
+    @Test
+    void checkOpenMetrics() {
+        WebClientResponse response = webClientBuilder
+                .build()
+                .get()
+                .accept(PrometheusExporter.OPENMETRICS)
+                .path("metrics/vendor")
+                .submit()
+                .await();
+
+        assertThat("OpenMetrics URL HTTP response", response.status().code(), is(200));
+        assertThat("OpenMetrics content type",
+                   response.headers().contentType().map(MediaType::subtype),
+                   is(Optional.of("openmetrics-text")));
+
+        String metrics = response.content().as(String.class).await();
+        assertThat("Vendor metrics in returned entity", metrics, containsString("vendor_requests_count_total"));
+        assertThat("OpenMetrics terminator", metrics, endsWith("# EOF\n"));
+    }
+
     @Test
     void checkKPIDisabledByDefault() {
         boolean isKPIEnabled = MetricsSupport.keyPerformanceIndicatorMetricsConfig().isExtended();
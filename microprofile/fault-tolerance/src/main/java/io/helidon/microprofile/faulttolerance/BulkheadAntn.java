@@ -17,6 +17,7 @@
 package io.helidon.microprofile.faulttolerance;
 
 import java.lang.reflect.Method;
+import java.util.Locale;
 
 import org.eclipse.microprofile.faulttolerance.Bulkhead;
 import org.eclipse.microprofile.faulttolerance.exceptions.FaultToleranceDefinitionException;
@@ -46,6 +47,12 @@ class BulkheadAntn extends MethodAntn implements Bulkhead {
             throw new FaultToleranceDefinitionException("Invalid @Bulkhead annotation, "
                                                         + "waitingTaskQueue must be > 0");
         }
+        try {
+            limitAlgorithm();
+        } catch (IllegalArgumentException e) {
+            throw new FaultToleranceDefinitionException("Invalid @Bulkhead annotation, "
+                                                        + "unknown limitAlgorithm", e);
+        }
     }
 
     @Override
@@ -61,4 +68,19 @@ class BulkheadAntn extends MethodAntn implements Bulkhead {
         final String override = getParamOverride("waitingTaskQueue", lookupResult.getType());
         return override != null ? Integer.parseInt(override) : lookupResult.getAnnotation().waitingTaskQueue();
     }
+
+    /**
+     * Algorithm to adjust the limit of the bulkhead with, configured using the {@code limitAlgorithm}
+     * parameter override, such as {@code com.acme.Service/call/Bulkhead/limitAlgorithm=gradient}.
+     * With an adaptive algorithm, {@link #value()} is the maximal limit.
+     *
+     * @return limit algorithm, {@link io.helidon.faulttolerance.Bulkhead.LimitAlgorithm#FIXED} by default
+     */
+    io.helidon.faulttolerance.Bulkhead.LimitAlgorithm limitAlgorithm() {
+        LookupResult<Bulkhead> lookupResult = lookupAnnotation(Bulkhead.class);
+        final String override = getParamOverride("limitAlgorithm", lookupResult.getType());
+        return override != null
+                ? io.helidon.faulttolerance.Bulkhead.LimitAlgorithm.valueOf(override.trim().toUpperCase(Locale.ROOT))
+                : io.helidon.faulttolerance.Bulkhead.LimitAlgorithm.FIXED;
+    }
 }
@@ -48,7 +48,7 @@ class MethodIntrospector {
 
     private final Timeout timeout;
 
-    private final Bulkhead bulkhead;
+    private final BulkheadAntn bulkhead;
 
     /**
      * Constructor.
@@ -146,7 +146,7 @@ class MethodIntrospector {
         return bulkhead != null;
     }
 
-    Bulkhead getBulkhead() {
+    BulkheadAntn getBulkhead() {
         return bulkhead;
     }
 
@@ -26,6 +26,8 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 
 import javax.interceptor.InvocationContext;
@@ -47,6 +49,7 @@ import org.eclipse.microprofile.faulttolerance.exceptions.BulkheadException;
 import org.eclipse.microprofile.faulttolerance.exceptions.CircuitBreakerOpenException;
 import org.eclipse.microprofile.faulttolerance.exceptions.TimeoutException;
 import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.Histogram;
 
 import static io.helidon.microprofile.faulttolerance.FaultToleranceExtension.isFaultToleranceMetricsEnabled;
 import static io.helidon.microprofile.faulttolerance.FaultToleranceMetrics.BREAKER_CALLS_FAILED_TOTAL;
@@ -118,6 +121,11 @@ class MethodInvoker implements FtSupplier<Object> {
      */
     private long invocationStartNanos;
 
+    /**
+     * State of the circuit breaker when handler is called.
+     */
+    private State breakerStateBefore;
+
     /**
      * Helidon context in which to run business method.
      */
@@ -148,11 +156,136 @@ class MethodInvoker implements FtSupplier<Object> {
         private Bulkhead bulkhead;
         private CircuitBreaker breaker;
         private Timeout timeout;
-        private State lastBreakerState;
-        private long breakerTimerOpen;
-        private long breakerTimerClosed;
-        private long breakerTimerHalfOpen;
-        private long startNanos;
+        private MethodMetrics metrics;
+    }
+
+    /**
+     * Metrics associated with a method in {@code METHOD_STATES}. Counters and histograms
+     * are looked up once when the method state is created, and all values are updated
+     * without locking so that concurrent invocations of the same method do not contend.
+     */
+    private static class MethodMetrics {
+        private final Counter invocationsTotal;
+        private final Counter invocationsFailedTotal;
+        private Counter retryCallsSucceededNotRetriedTotal;
+        private Counter retryCallsSucceededRetriedTotal;
+        private Counter retryCallsFailedTotal;
+        private Counter retryRetriesTotal;
+        private Histogram timeoutExecutionDuration;
+        private Counter timeoutCallsTimedOutTotal;
+        private Counter timeoutCallsNotTimedOutTotal;
+        private Counter breakerCallsSucceededTotal;
+        private Counter breakerCallsFailedTotal;
+        private Counter breakerCallsPreventedTotal;
+        private Counter breakerOpenedTotal;
+        private Counter bulkheadCallsAcceptedTotal;
+        private Counter bulkheadCallsRejectedTotal;
+        private Histogram bulkheadExecutionDuration;
+        private Histogram bulkheadWaitingDuration;
+
+        // last values reported from handler statistics, counters are updated by the difference
+        private final AtomicLong retriesReported = new AtomicLong();
+        private final AtomicLong bulkheadAcceptedReported = new AtomicLong();
+        private final AtomicLong bulkheadRejectedReported = new AtomicLong();
+
+        // time spent in each breaker state, and the state the breaker is in since the last update
+        private final AtomicLong breakerTimerOpen = new AtomicLong();
+        private final AtomicLong breakerTimerClosed = new AtomicLong();
+        private final AtomicLong breakerTimerHalfOpen = new AtomicLong();
+        private final AtomicReference<BreakerTime> breakerTime =
+                new AtomicReference<>(new BreakerTime(State.CLOSED, System.nanoTime()));
+
+        MethodMetrics(Method method, MethodIntrospector introspector, MethodState methodState) {
+            invocationsTotal = getCounter(method, INVOCATIONS_TOTAL);
+            invocationsFailedTotal = getCounter(method, INVOCATIONS_FAILED_TOTAL);
+
+            if (introspector.hasRetry()) {
+                retryCallsSucceededNotRetriedTotal = getCounter(method, RETRY_CALLS_SUCCEEDED_NOT_RETRIED_TOTAL);
+                retryCallsSucceededRetriedTotal = getCounter(method, RETRY_CALLS_SUCCEEDED_RETRIED_TOTAL);
+                retryCallsFailedTotal = getCounter(method, RETRY_CALLS_FAILED_TOTAL);
+                retryRetriesTotal = getCounter(method, RETRY_RETRIES_TOTAL);
+            }
+
+            if (introspector.hasTimeout()) {
+                timeoutExecutionDuration = getHistogram(method, TIMEOUT_EXECUTION_DURATION);
+                timeoutCallsTimedOutTotal = getCounter(method, TIMEOUT_CALLS_TIMED_OUT_TOTAL);
+                timeoutCallsNotTimedOutTotal = getCounter(method, TIMEOUT_CALLS_NOT_TIMED_OUT_TOTAL);
+            }
+
+            if (introspector.hasCircuitBreaker()) {
+                breakerCallsSucceededTotal = getCounter(method, BREAKER_CALLS_SUCCEEDED_TOTAL);
+                breakerCallsFailedTotal = getCounter(method, BREAKER_CALLS_FAILED_TOTAL);
+                breakerCallsPreventedTotal = getCounter(method, BREAKER_CALLS_PREVENTED_TOTAL);
+                breakerOpenedTotal = getCounter(method, BREAKER_OPENED_TOTAL);
+                registerGauge(method, BREAKER_OPEN_TOTAL,
+                        "Amount of time the circuit breaker has spent in open state",
+                        breakerTimerOpen::get);
+                registerGauge(method, BREAKER_HALF_OPEN_TOTAL,
+                        "Amount of time the circuit breaker has spent in half-open state",
+                        breakerTimerHalfOpen::get);
+                registerGauge(method, BREAKER_CLOSED_TOTAL,
+                        "Amount of time the circuit breaker has spent in closed state",
+                        breakerTimerClosed::get);
+            }
+
+            if (introspector.hasBulkhead()) {
+                bulkheadCallsAcceptedTotal = getCounter(method, BULKHEAD_CALLS_ACCEPTED_TOTAL);
+                bulkheadCallsRejectedTotal = getCounter(method, BULKHEAD_CALLS_REJECTED_TOTAL);
+                bulkheadExecutionDuration = getHistogram(method, BULKHEAD_EXECUTION_DURATION);
+                registerGauge(method, BULKHEAD_CONCURRENT_EXECUTIONS,
+                        "Number of currently running executions",
+                        () -> methodState.bulkhead.stats().concurrentExecutions());
+                if (introspector.isAsynchronous()) {
+                    registerGauge(method, BULKHEAD_WAITING_QUEUE_POPULATION,
+                            "Number of executions currently waiting in the queue",
+                            () -> methodState.bulkhead.stats().waitingQueueSize());
+                    bulkheadWaitingDuration = registerHistogram(
+                            String.format(METRIC_NAME_TEMPLATE,
+                                    method.getDeclaringClass().getName(),
+                                    method.getName(),
+                                    BULKHEAD_WAITING_DURATION),
+                            "Histogram of the time executions spend waiting in the queue.");
+                }
+            }
+        }
+
+        /**
+         * Adds the time since the last update to the timer of the state the breaker
+         * was in, and records the current state.
+         *
+         * @param state Current breaker state.
+         */
+        void updateBreakerTime(State state) {
+            long now = System.nanoTime();
+            BreakerTime previous = breakerTime.getAndSet(new BreakerTime(state, now));
+            long elapsed = now - previous.sinceNanos;
+            switch (previous.state) {
+                case OPEN:
+                    breakerTimerOpen.addAndGet(elapsed);
+                    break;
+                case CLOSED:
+                    breakerTimerClosed.addAndGet(elapsed);
+                    break;
+                case HALF_OPEN:
+                    breakerTimerHalfOpen.addAndGet(elapsed);
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown breaker state " + previous.state);
+            }
+        }
+    }
+
+    /**
+     * Breaker state and the time it was first observed.
+     */
+    private static class BreakerTime {
+        private final State state;
+        private final long sinceNanos;
+
+        BreakerTime(State state, long sinceNanos) {
+            this.state = state;
+            this.sinceNanos = sinceNanos;
+        }
     }
 
     /**
@@ -283,14 +416,10 @@ class MethodInvoker implements FtSupplier<Object> {
         MethodStateKey methodStateKey = new MethodStateKey(ccl, context.getTarget().getClass(), method);
         this.methodState = METHOD_STATES.computeIfAbsent(methodStateKey, key -> {
             MethodState methodState = new MethodState();
-            methodState.lastBreakerState = State.CLOSED;
-            if (introspector.hasCircuitBreaker()) {
-                methodState.breakerTimerOpen = 0L;
-                methodState.breakerTimerClosed = 0L;
-                methodState.breakerTimerHalfOpen = 0L;
-                methodState.startNanos = System.nanoTime();
-            }
             initMethodHandler(methodState);
+            if (isFaultToleranceMetricsEnabled()) {
+                methodState.metrics = new MethodMetrics(method, introspector, methodState);
+            }
             return methodState;
         });
 
@@ -300,37 +429,6 @@ class MethodInvoker implements FtSupplier<Object> {
         // Gather information about current request scope if active
         requestScopeHelper = new RequestScopeHelper();
         requestScopeHelper.saveScope();
-
-        // Gauges and other metrics for bulkhead and circuit breakers
-        if (isFaultToleranceMetricsEnabled()) {
-            if (introspector.hasCircuitBreaker()) {
-                registerGauge(method, BREAKER_OPEN_TOTAL,
-                        "Amount of time the circuit breaker has spent in open state",
-                        () -> methodState.breakerTimerOpen);
-                registerGauge(method, BREAKER_HALF_OPEN_TOTAL,
-                        "Amount of time the circuit breaker has spent in half-open state",
-                        () -> methodState.breakerTimerHalfOpen);
-                registerGauge(method, BREAKER_CLOSED_TOTAL,
-                        "Amount of time the circuit breaker has spent in closed state",
-                        () -> methodState.breakerTimerClosed);
-            }
-            if (introspector.hasBulkhead()) {
-                registerGauge(method, BULKHEAD_CONCURRENT_EXECUTIONS,
-                        "Number of currently running executions",
-                        () -> methodState.bulkhead.stats().concurrentExecutions());
-                if (introspector.isAsynchronous()) {
-                    registerGauge(method, BULKHEAD_WAITING_QUEUE_POPULATION,
-                            "Number of executions currently waiting in the queue",
-                            () -> methodState.bulkhead.stats().waitingQueueSize());
-                    registerHistogram(
-                            String.format(METRIC_NAME_TEMPLATE,
-                                    method.getDeclaringClass().getName(),
-                                    method.getName(),
-                                    BULKHEAD_WAITING_DURATION),
-                            "Histogram of the time executions spend waiting in the queue.");
-                }
-            }
-        }
     }
 
     @Override
@@ -451,6 +549,8 @@ class MethodInvoker implements FtSupplier<Object> {
         if (introspector.hasBulkhead()) {
             methodState.bulkhead = Bulkhead.builder()
                     .limit(introspector.getBulkhead().value())
+                    .maxLimit(introspector.getBulkhead().value())
+                    .limitAlgorithm(introspector.getBulkhead().limitAlgorithm())
                     .queueLength(introspector.isAsynchronous() ? introspector.getBulkhead().waitingTaskQueue() : 0)
                     .build();
         }
@@ -621,11 +721,8 @@ class MethodInvoker implements FtSupplier<Object> {
     private void updateMetricsBefore() {
         handlerStartNanos = System.nanoTime();
 
-        if (introspector.hasCircuitBreaker()) {
-            synchronized (method) {
-                // Breaker state may have changed since we recorded it last
-                methodState.lastBreakerState = methodState.breaker.state();
-            }
+        if (methodState.metrics != null && introspector.hasCircuitBreaker()) {
+            breakerStateBefore = methodState.breaker.state();
         }
     }
 
@@ -635,127 +732,114 @@ class MethodInvoker implements FtSupplier<Object> {
      * @param cause Exception cause or {@code null} if execution successful.
      */
     private void updateMetricsAfter(Throwable cause) {
-        if (!isFaultToleranceMetricsEnabled()) {
+        MethodMetrics metrics = methodState.metrics;
+        if (metrics == null) {
             return;
         }
 
-        synchronized (method) {
-            // Calculate execution time
-            long executionTime = System.nanoTime() - handlerStartNanos;
+        // Calculate execution time
+        long executionTime = System.nanoTime() - handlerStartNanos;
 
-            // Metrics for retries
-            if (introspector.hasRetry()) {
-                // Have retried the last call?
-                long newValue = methodState.retry.retryCounter();
-                if (updateCounter(method, RETRY_RETRIES_TOTAL, newValue)) {
-                    if (cause == null) {
-                        getCounter(method, RETRY_CALLS_SUCCEEDED_RETRIED_TOTAL).inc();
-                    }
-                } else {
-                    getCounter(method, RETRY_CALLS_SUCCEEDED_NOT_RETRIED_TOTAL).inc();
-                }
-
-                // Update failed calls
-                if (cause != null) {
-                    getCounter(method, RETRY_CALLS_FAILED_TOTAL).inc();
+        // Metrics for retries
+        if (introspector.hasRetry()) {
+            // Have retried the last call?
+            long newValue = methodState.retry.retryCounter();
+            if (updateCounter(metrics.retryRetriesTotal, metrics.retriesReported, newValue)) {
+                if (cause == null) {
+                    metrics.retryCallsSucceededRetriedTotal.inc();
                 }
+            } else {
+                metrics.retryCallsSucceededNotRetriedTotal.inc();
             }
 
-            // Timeout
-            if (introspector.hasTimeout()) {
-                getHistogram(method, TIMEOUT_EXECUTION_DURATION).update(executionTime);
-                getCounter(method, cause instanceof TimeoutException
-                        ? TIMEOUT_CALLS_TIMED_OUT_TOTAL
-                        : TIMEOUT_CALLS_NOT_TIMED_OUT_TOTAL).inc();
+            // Update failed calls
+            if (cause != null) {
+                metrics.retryCallsFailedTotal.inc();
             }
+        }
 
-            // Circuit breaker
-            if (introspector.hasCircuitBreaker()) {
-                Objects.requireNonNull(methodState.breaker);
-
-                // Update counters based on state changes
-                if (methodState.lastBreakerState == State.OPEN) {
-                    getCounter(method, BREAKER_CALLS_PREVENTED_TOTAL).inc();
-                } else if (methodState.breaker.state() == State.OPEN) {     // closed -> open
-                    getCounter(method, BREAKER_OPENED_TOTAL).inc();
-                }
-
-                // Update succeeded and failed
-                if (cause == null) {
-                    getCounter(method, BREAKER_CALLS_SUCCEEDED_TOTAL).inc();
-                } else if (!(cause instanceof CircuitBreakerOpenException)) {
-                    boolean failure = false;
-                    Class<? extends Throwable>[] failOn = introspector.getCircuitBreaker().failOn();
-                    for (Class<? extends Throwable> c : failOn) {
-                        if (c.isAssignableFrom(cause.getClass())) {
-                            failure = true;
-                            break;
-                        }
-                    }
+        // Timeout
+        if (introspector.hasTimeout()) {
+            metrics.timeoutExecutionDuration.update(executionTime);
+            (cause instanceof TimeoutException
+                    ? metrics.timeoutCallsTimedOutTotal
+                    : metrics.timeoutCallsNotTimedOutTotal).inc();
+        }
 
-                    getCounter(method, failure ? BREAKER_CALLS_FAILED_TOTAL
-                            : BREAKER_CALLS_SUCCEEDED_TOTAL).inc();
-                }
+        // Circuit breaker
+        if (introspector.hasCircuitBreaker()) {
+            Objects.requireNonNull(methodState.breaker);
+            State breakerState = methodState.breaker.state();
+
+            // Update counters based on state changes
+            if (breakerStateBefore == State.OPEN) {
+                metrics.breakerCallsPreventedTotal.inc();
+            } else if (breakerState == State.OPEN) {     // closed -> open
+                metrics.breakerOpenedTotal.inc();
+            }
 
-                // Update times for gauges
-                switch (methodState.lastBreakerState) {
-                    case OPEN:
-                        methodState.breakerTimerOpen += System.nanoTime() - methodState.startNanos;
+            // Update succeeded and failed
+            if (cause == null) {
+                metrics.breakerCallsSucceededTotal.inc();
+            } else if (!(cause instanceof CircuitBreakerOpenException)) {
+                boolean failure = false;
+                Class<? extends Throwable>[] failOn = introspector.getCircuitBreaker().failOn();
+                for (Class<? extends Throwable> c : failOn) {
+                    if (c.isAssignableFrom(cause.getClass())) {
+                        failure = true;
                         break;
-                    case CLOSED:
-                        methodState.breakerTimerClosed += System.nanoTime() - methodState.startNanos;
-                        break;
-                    case HALF_OPEN:
-                        methodState.breakerTimerHalfOpen += System.nanoTime() - methodState.startNanos;
-                        break;
-                    default:
-                        throw new IllegalStateException("Unknown breaker state " + methodState.lastBreakerState);
+                    }
                 }
 
-                // Update internal state
-                methodState.lastBreakerState = methodState.breaker.state();
-                methodState.startNanos = System.nanoTime();
+                (failure ? metrics.breakerCallsFailedTotal : metrics.breakerCallsSucceededTotal).inc();
             }
 
-            // Bulkhead
-            if (introspector.hasBulkhead()) {
-                Objects.requireNonNull(methodState.bulkhead);
-                Bulkhead.Stats stats = methodState.bulkhead.stats();
-                updateCounter(method, BULKHEAD_CALLS_ACCEPTED_TOTAL, stats.callsAccepted());
-                updateCounter(method, BULKHEAD_CALLS_REJECTED_TOTAL, stats.callsRejected());
-
-                // Update histograms if task accepted
-                if (!(cause instanceof BulkheadException)) {
-                    long waitingTime = invocationStartNanos - handlerStartNanos;
-                    getHistogram(method, BULKHEAD_EXECUTION_DURATION).update(executionTime - waitingTime);
-                    if (introspector.isAsynchronous()) {
-                        getHistogram(method, BULKHEAD_WAITING_DURATION).update(waitingTime);
-                    }
+            // Update times for gauges
+            metrics.updateBreakerTime(breakerState);
+        }
+
+        // Bulkhead
+        if (introspector.hasBulkhead()) {
+            Objects.requireNonNull(methodState.bulkhead);
+            Bulkhead.Stats stats = methodState.bulkhead.stats();
+            updateCounter(metrics.bulkheadCallsAcceptedTotal, metrics.bulkheadAcceptedReported, stats.callsAccepted());
+            updateCounter(metrics.bulkheadCallsRejectedTotal, metrics.bulkheadRejectedReported, stats.callsRejected());
+
+            // Update histograms if task accepted
+            if (!(cause instanceof BulkheadException)) {
+                long waitingTime = invocationStartNanos - handlerStartNanos;
+                metrics.bulkheadExecutionDuration.update(executionTime - waitingTime);
+                if (introspector.isAsynchronous()) {
+                    metrics.bulkheadWaitingDuration.update(waitingTime);
                 }
             }
+        }
 
-            // Global method counters
-            getCounter(method, INVOCATIONS_TOTAL).inc();
-            if (cause != null) {
-                getCounter(method, INVOCATIONS_FAILED_TOTAL).inc();
-            }
+        // Global method counters
+        metrics.invocationsTotal.inc();
+        if (cause != null) {
+            metrics.invocationsFailedTotal.inc();
         }
     }
 
     /**
-     * Sets the value of a monotonically increasing counter using {@code inc()}.
+     * Brings a monotonically increasing counter up to a new value using {@code inc()}.
+     * Only the caller that advances the last reported value increments the counter,
+     * so concurrent callers observing the same value do not count it twice.
      *
-     * @param method The method.
-     * @param name The counter's name.
+     * @param counter The counter.
+     * @param reported The last value reported to the counter.
      * @param newValue The new value.
      * @return A value of {@code true} if counter updated, {@code false} otherwise.
      */
-    private static boolean updateCounter(Method method, String name, long newValue) {
-        Counter counter = getCounter(method, name);
-        long oldValue = counter.getCount();
-        if (newValue > oldValue) {
-            counter.inc(newValue - oldValue);
-            return true;
+    private static boolean updateCounter(Counter counter, AtomicLong reported, long newValue) {
+        long oldValue = reported.get();
+        while (newValue > oldValue) {
+            if (reported.compareAndSet(oldValue, newValue)) {
+                counter.inc(newValue - oldValue);
+                return true;
+            }
+            oldValue = reported.get();
         }
         return false;
     }
@@ -91,6 +91,23 @@ class BulkheadBean {
         }
     }
 
+    @Asynchronous
+    @Bulkhead(value = CONCURRENT_CALLS, waitingTaskQueue = WAITING_TASK_QUEUE)
+    CompletableFuture<String> executeAdaptive(long sleepMillis) {
+        try {
+            counter.increment();
+            FaultToleranceTest.printStatus("BulkheadBean::executeAdaptive", "success");
+            try {
+                Thread.sleep(sleepMillis);
+            } catch (InterruptedException e) {
+                // falls through
+            }
+            return CompletableFuture.completedFuture(Thread.currentThread().getName());
+        } finally {
+            counter.decrement();
+        }
+    }
+
     @Asynchronous
     @Bulkhead(value = CONCURRENT_CALLS + 1, waitingTaskQueue = WAITING_TASK_QUEUE + 1)
     CompletableFuture<String> executePlusOne(long sleepMillis) {
@@ -23,6 +23,7 @@ import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 
 import io.helidon.microprofile.tests.junit5.AddBean;
+import io.helidon.microprofile.tests.junit5.AddConfig;
 import org.eclipse.microprofile.faulttolerance.exceptions.BulkheadException;
 import org.junit.jupiter.api.Test;
 
@@ -37,6 +38,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
  * Test for beans whose methods are protected by bulkheads.
  */
 @AddBean(BulkheadBean.class)
+@AddConfig(key = "io.helidon.microprofile.faulttolerance.BulkheadBean/executeAdaptive/Bulkhead/limitAlgorithm",
+           value = "vegas")
 class BulkheadTest extends FaultToleranceTest {
 
     @Inject
@@ -56,6 +59,16 @@ class BulkheadTest extends FaultToleranceTest {
         assertThat(bean.getCounter().totalCalls(), is(BulkheadBean.TOTAL_CALLS));
     }
 
+    @Test
+    void testAdaptiveBulkhead() {
+        CompletableFuture<String>[] calls = getAsyncConcurrentCalls(
+            () -> bean.executeAdaptive(100), BulkheadBean.TOTAL_CALLS);
+        waitFor(calls);
+        // the value of the annotation is the maximal limit of an adaptive bulkhead
+        assertThat(bean.getCounter().concurrentCalls() <= BulkheadBean.CONCURRENT_CALLS, is(true));
+        assertThat(bean.getCounter().totalCalls(), is(BulkheadBean.TOTAL_CALLS));
+    }
+
     @Test
     void testBulkheadPlusOne() {
         CompletableFuture<String>[] calls = getAsyncConcurrentCalls(
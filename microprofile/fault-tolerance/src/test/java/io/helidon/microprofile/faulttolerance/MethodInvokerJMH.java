@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.microprofile.faulttolerance;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.inject.spi.CDI;
+
+import io.helidon.microprofile.server.Server;
+
+import org.eclipse.microprofile.faulttolerance.Bulkhead;
+import org.eclipse.microprofile.faulttolerance.CircuitBreaker;
+import org.eclipse.microprofile.faulttolerance.Retry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Invocations of a single fault tolerance method by an increasing number of threads, all
+ * of which update the same per-method metrics.
+ */
+@State(Scope.Benchmark)
+public class MethodInvokerJMH {
+    private static final int[] THREADS = {1, 4, 16, 64};
+
+    private Server server;
+    private FaultToleranceBean bean;
+
+    public static void main(String[] args) throws Throwable {
+        for (int threads : THREADS) {
+            Options opt = new OptionsBuilder()
+                    .include(MethodInvokerJMH.class.getSimpleName())
+                    .forks(1)
+                    .threads(threads)
+                    .warmupIterations(5)
+                    .warmupTime(TimeValue.seconds(1))
+                    .measurementIterations(5)
+                    .measurementTime(TimeValue.seconds(1))
+                    .build();
+
+            new Runner(opt).run();
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        server = Server.builder()
+                .port(0)
+                .build()
+                .start();
+        bean = CDI.current().select(FaultToleranceBean.class).get();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        server.stop();
+    }
+
+    @Benchmark
+    public String invoke() {
+        return bean.invoke();
+    }
+
+    /**
+     * Bean with a method that has its retry, circuit breaker and bulkhead metrics updated
+     * on every call.
+     */
+    @ApplicationScoped
+    public static class FaultToleranceBean {
+        @Retry
+        @CircuitBreaker
+        @Bulkhead(100)
+        public String invoke() {
+            return "success";
+        }
+    }
+}
@@ -16,16 +16,31 @@
 
 package io.helidon.security.abac.policy.el;
 
+import java.beans.FeatureDescriptor;
 import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import javax.el.ArrayELResolver;
+import javax.el.BeanELResolver;
+import javax.el.CompositeELResolver;
+import javax.el.ELContext;
 import javax.el.ELException;
+import javax.el.ELResolver;
 import javax.el.ExpressionFactory;
 import javax.el.FunctionMapper;
-import javax.el.StandardELContext;
+import javax.el.ListELResolver;
+import javax.el.MapELResolver;
+import javax.el.PropertyNotWritableException;
+import javax.el.ResourceBundleELResolver;
+import javax.el.StaticFieldELResolver;
 import javax.el.ValueExpression;
 import javax.el.VariableMapper;
 
@@ -33,7 +48,6 @@ import io.helidon.common.Errors;
 import io.helidon.config.Config;
 import io.helidon.security.ProviderRequest;
 import io.helidon.security.SecurityContext;
-import io.helidon.security.SecurityEnvironment;
 import io.helidon.security.Subject;
 import io.helidon.security.abac.policy.spi.PolicyExecutor;
 
@@ -42,17 +56,43 @@ import io.helidon.security.abac.policy.spi.PolicyExecutor;
  *
  * See tutorial for details of the EL: <a href="https://docs.oracle.com/javaee/7/tutorial/jsf-el005.htm#BNAIK">https://docs
  * .oracle.com/javaee/7/tutorial/jsf-el005.htm#BNAIK</a>
+ * <p>
+ * Policy statements are parsed once and the parsed expressions are reused, only the request variables are bound for
+ * each execution.
  */
 public final class JavaxElPolicyExecutor implements PolicyExecutor {
     private static final Logger LOGGER = Logger.getLogger(JavaxElPolicyExecutor.class.getName());
     private static final AttributeResolver ATTRIBUTE_RESOLVER = new AttributeResolver();
+    private static final Set<String> VARIABLES = Set.of("user", "subject", "service", "env", "object", "request");
+    private static final VariableResolver VARIABLE_RESOLVER = new VariableResolver();
+    private static final VariableMapper NO_VARIABLES = new NoVariables();
+    // policy statements usually come from configuration or annotations, the limit protects against dynamic statements
+    private static final int MAX_CACHED_POLICIES = 1024;
 
     private final ExpressionFactory ef;
-    private final List<CustomFunction> customMethods = new LinkedList<>();
+    private final FunctionMapper functions;
+    private final ELResolver resolver;
+    private final Map<String, ValueExpression> policies = new ConcurrentHashMap<>();
 
     private JavaxElPolicyExecutor(Builder builder) {
         this.ef = builder.expressionFactory;
-        this.customMethods.addAll(builder.customMethods);
+        this.functions = new CustomFunctions(builder.customMethods);
+
+        // same resolvers as StandardELContext, with policy variables resolved first
+        CompositeELResolver resolvers = new CompositeELResolver();
+        resolvers.add(VARIABLE_RESOLVER);
+        resolvers.add(ATTRIBUTE_RESOLVER);
+        ELResolver streamResolver = ef.getStreamELResolver();
+        if (null != streamResolver) {
+            resolvers.add(streamResolver);
+        }
+        resolvers.add(new StaticFieldELResolver());
+        resolvers.add(new MapELResolver());
+        resolvers.add(new ResourceBundleELResolver());
+        resolvers.add(new ListELResolver());
+        resolvers.add(new ArrayELResolver());
+        resolvers.add(new BeanELResolver());
+        this.resolver = resolvers;
     }
 
     /**
@@ -85,28 +125,9 @@ public final class JavaxElPolicyExecutor implements PolicyExecutor {
 
     @Override
     public void executePolicy(String policyStatement, Errors.Collector collector, ProviderRequest request) {
-        StandardELContext context = new StandardELContext(ef);
-        context.addELResolver(ATTRIBUTE_RESOLVER);
-
-        FunctionMapper functions = context.getFunctionMapper();
-        VariableMapper variables = context.getVariableMapper();
-
-        customMethods.forEach(customFunction -> functions.mapFunction(customFunction.prefix,
-                                                                      customFunction.localName,
-                                                                      customFunction.method));
-
-        Subject userSubject = request.subject().orElse(SecurityContext.ANONYMOUS);
-
-        variable(variables, "user", userSubject, Subject.class);
-        variable(variables, "subject", userSubject, Subject.class);
-        variable(variables, "service", request.service().orElse(SecurityContext.ANONYMOUS), Subject.class);
-        variable(variables, "env", request.env(), SecurityEnvironment.class);
-        variable(variables, "object", request.getObject().orElse(null), Object.class);
-        variable(variables, "request", request, ProviderRequest.class);
-
         try {
-            ValueExpression expression = ef.createValueExpression(context, policyStatement, boolean.class);
-            boolean value = (boolean) expression.getValue(context);
+            ValueExpression expression = policy(policyStatement);
+            boolean value = (boolean) expression.getValue(new PolicyContext(this, request));
             if (!value) {
                 collector.fatal(this, "Policy statement \"" + policyStatement + "\" evaluated to false");
             }
@@ -116,9 +137,16 @@ public final class JavaxElPolicyExecutor implements PolicyExecutor {
         }
     }
 
-    private <T> void variable(VariableMapper variables, String varName, T object, Class<T> objectClass) {
-        ValueExpression variable = ef.createValueExpression(object, objectClass);
-        variables.setVariable(varName, variable);
+    private ValueExpression policy(String policyStatement) {
+        ValueExpression expression = policies.get(policyStatement);
+        if (expression == null) {
+            // variables are not bound when parsing, so the expression resolves them from the context it is evaluated with
+            expression = ef.createValueExpression(new PolicyContext(this, null), policyStatement, boolean.class);
+            if (policies.size() < MAX_CACHED_POLICIES) {
+                policies.putIfAbsent(policyStatement, expression);
+            }
+        }
+        return expression;
     }
 
     /**
@@ -221,6 +249,136 @@ public final class JavaxElPolicyExecutor implements PolicyExecutor {
         }
     }
 
+    /**
+     * Evaluation context of a single policy execution, providing the request variables.
+     */
+    private static final class PolicyContext extends ELContext {
+        private final JavaxElPolicyExecutor executor;
+
+        private PolicyContext(JavaxElPolicyExecutor executor, ProviderRequest request) {
+            this.executor = executor;
+            if (null != request) {
+                // EL implementations may wrap this context, the request is available to resolvers as a context object
+                putContext(ProviderRequest.class, request);
+            }
+        }
+
+        @Override
+        public ELResolver getELResolver() {
+            return executor.resolver;
+        }
+
+        @Override
+        public FunctionMapper getFunctionMapper() {
+            return executor.functions;
+        }
+
+        @Override
+        public VariableMapper getVariableMapper() {
+            return NO_VARIABLES;
+        }
+    }
+
+    /**
+     * Resolves the policy variables ({@code user}, {@code subject}, {@code service}, {@code env}, {@code object}
+     * and {@code request}) from the request of the {@link PolicyContext}.
+     */
+    private static final class VariableResolver extends ELResolver {
+        @Override
+        public Object getValue(ELContext context, Object base, Object property) {
+            if (null != base) {
+                return null;
+            }
+            ProviderRequest request = (ProviderRequest) context.getContext(ProviderRequest.class);
+            if (null == request) {
+                return null;
+            }
+            Object value;
+            switch (String.valueOf(property)) {
+            case "user":
+            case "subject":
+                value = request.subject().orElse(SecurityContext.ANONYMOUS);
+                break;
+            case "service":
+                value = request.service().orElse(SecurityContext.ANONYMOUS);
+                break;
+            case "env":
+                value = request.env();
+                break;
+            case "object":
+                value = request.getObject().orElse(null);
+                break;
+            case "request":
+                value = request;
+                break;
+            default:
+                return null;
+            }
+            context.setPropertyResolved(true);
+            return value;
+        }
+
+        @Override
+        public Class<?> getType(ELContext context, Object base, Object property) {
+            return null;
+        }
+
+        @Override
+        public void setValue(ELContext context, Object base, Object property, Object value) {
+            if (null == base && VARIABLES.contains(String.valueOf(property))) {
+                throw new PropertyNotWritableException("Cannot write: " + property + ", as security expressions are read-only");
+            }
+        }
+
+        @Override
+        public boolean isReadOnly(ELContext context, Object base, Object property) {
+            if (null == base && VARIABLES.contains(String.valueOf(property))) {
+                context.setPropertyResolved(true);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public Iterator<FeatureDescriptor> getFeatureDescriptors(ELContext context, Object base) {
+            return null;
+        }
+
+        @Override
+        public Class<?> getCommonPropertyType(ELContext context, Object base) {
+            return (null == base) ? String.class : null;
+        }
+    }
+
+    /**
+     * Policy variables are resolved by {@link VariableResolver} when evaluated, rather than captured when parsed.
+     */
+    private static final class NoVariables extends VariableMapper {
+        @Override
+        public ValueExpression resolveVariable(String variable) {
+            return null;
+        }
+
+        @Override
+        public ValueExpression setVariable(String variable, ValueExpression expression) {
+            throw new UnsupportedOperationException("Security expressions cannot define variables");
+        }
+    }
+
+    private static final class CustomFunctions extends FunctionMapper {
+        private final Map<String, Method> functions = new HashMap<>();
+
+        private CustomFunctions(List<CustomFunction> customMethods) {
+            customMethods.forEach(customFunction -> functions.put(customFunction.prefix + ":" + customFunction.localName,
+                                                                  customFunction.method));
+        }
+
+        @Override
+        public Method resolveFunction(String prefix, String localName) {
+            return functions.get(prefix + ":" + localName);
+        }
+    }
+
     private static final class CustomFunction {
         private final String prefix;
         private final String localName;
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.security.abac.policy.el;
+
+import java.util.Optional;
+
+import io.helidon.common.Errors;
+import io.helidon.security.Principal;
+import io.helidon.security.ProviderRequest;
+import io.helidon.security.Role;
+import io.helidon.security.SecurityEnvironment;
+import io.helidon.security.Subject;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Authorization throughput of {@link JavaxElPolicyExecutor} when requests are authorized by 1, 10 and 100
+ * distinct policy statements, used in turns.
+ */
+@State(Scope.Thread)
+public class JavaxElPolicyExecutorJMH {
+    @Param({"1", "10", "100"})
+    private int policies;
+
+    private JavaxElPolicyExecutor executor;
+    private ProviderRequest request;
+    private String[] statements;
+    private int next;
+
+    public static void main(String[] args) throws Throwable {
+        Options opt = new OptionsBuilder()
+                .include(JavaxElPolicyExecutorJMH.class.getSimpleName())
+                .forks(1)
+                .warmupIterations(5)
+                .warmupTime(TimeValue.seconds(1))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(1))
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    @Setup
+    public void setup() {
+        executor = JavaxElPolicyExecutor.create();
+
+        Subject user = Subject.builder()
+                .principal(Principal.create("owner"))
+                .addGrant(Role.create("role-0"))
+                .build();
+        request = mock(ProviderRequest.class, withSettings().stubOnly());
+        when(request.service()).thenReturn(Optional.empty());
+        when(request.subject()).thenReturn(Optional.of(user));
+        when(request.env()).thenReturn(SecurityEnvironment.create());
+        when(request.getObject()).thenReturn(Optional.of(new JavaxElPolicyExecutorTest.MyResource("owner")));
+
+        statements = new String[policies];
+        for (int i = 0; i < policies; i++) {
+            statements[i] = "${inRole(user, 'role-" + i + "') || user.principal.id == object.owner}";
+        }
+    }
+
+    @Benchmark
+    public Errors.Collector authorize() {
+        String statement = statements[next];
+        next = (next + 1) % statements.length;
+        Errors.Collector collector = Errors.collector();
+        executor.executePolicy(statement, collector, request);
+        return collector;
+    }
+}
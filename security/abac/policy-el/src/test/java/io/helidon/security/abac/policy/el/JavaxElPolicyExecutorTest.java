@@ -27,6 +27,7 @@ import io.helidon.security.Subject;
 
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -83,6 +84,69 @@ public class JavaxElPolicyExecutorTest {
         collector.collect().checkValid();
     }
 
+    @Test
+    public void testVariablesBoundPerRequest() {
+        JavaxElPolicyExecutor ex = JavaxElPolicyExecutor.create();
+        String statement = "${user.principal.id == object.owner}";
+
+        Errors.Collector collector = Errors.collector();
+        ex.executePolicy(statement, collector, request("first", new MyResource("first")));
+        collector.collect().checkValid();
+
+        // the parsed statement is reused, but must not keep the variables of the previous request
+        collector = Errors.collector();
+        ex.executePolicy(statement, collector, request("second", new MyResource("first")));
+        if (collector.collect().isValid()) {
+            fail("Should have failed, as second user is not the owner of the object");
+        }
+
+        collector = Errors.collector();
+        ex.executePolicy(statement, collector, request("second", new MyResource("second")));
+        collector.collect().checkValid();
+    }
+
+    @Test
+    public void testCustomFunction() throws NoSuchMethodException {
+        JavaxElPolicyExecutor ex = JavaxElPolicyExecutor.builder()
+                .addMethod("test", "isOwner", JavaxElPolicyExecutorTest.class.getMethod("isOwner", Subject.class, Object.class))
+                .build();
+
+        Errors.Collector collector = Errors.collector();
+        ex.executePolicy("${test:isOwner(user, object)}", collector, request("owner", new MyResource("owner")));
+        collector.collect().checkValid();
+
+        collector = Errors.collector();
+        ex.executePolicy("${test:isOwner(user, object)}", collector, request("other", new MyResource("owner")));
+        if (collector.collect().isValid()) {
+            fail("Should have failed, as user is not the owner of the object");
+        }
+    }
+
+    @Test
+    public void testInvalidStatement() {
+        JavaxElPolicyExecutor ex = JavaxElPolicyExecutor.create();
+        ProviderRequest request = request("user", new MyResource("user"));
+
+        // invalid statements are not cached, so each execution fails the same way
+        for (int i = 0; i < 2; i++) {
+            assertThrows(SecurityException.class,
+                         () -> ex.executePolicy("${user.principal.id ==}", Errors.collector(), request));
+        }
+    }
+
+    public static boolean isOwner(Subject subject, Object object) {
+        return ((MyResource) object).getOwner().equals(subject.principal().id());
+    }
+
+    private static ProviderRequest request(String userName, MyResource object) {
+        ProviderRequest request = mock(ProviderRequest.class);
+        when(request.service()).thenReturn(Optional.empty());
+        when(request.subject()).thenReturn(Optional.of(Subject.create(Principal.create(userName))));
+        when(request.env()).thenReturn(SecurityEnvironment.create());
+        when(request.getObject()).thenReturn(Optional.of(object));
+        return request;
+    }
+
     // bean must be public, as otherwise EL cannot access properties
     public static class MyResource {
         private String owner;
@@ -0,0 +1,384 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.helidon.messaging.connectors.kafka;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.LongDeserializer;
+import org.apache.kafka.common.serialization.LongSerializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * Tests of the {@link KafkaPublisher} processing order, back-pressure and commits.
+ */
+public class KafkaPublisherTest extends AbstractKafkaTest {
+    private static final String TEST_TOPIC_PARTITION_ORDER = "publisher-partition-order";
+    private static final String TEST_TOPIC_KEY_ORDER = "publisher-key-order";
+    private static final String TEST_TOPIC_BACK_PRESSURE = "publisher-back-pressure";
+    private static final String TEST_TOPIC_COMMIT = "publisher-commit";
+    private static final long PERIOD_EXECUTIONS = 10L;
+
+    @BeforeAll
+    static void prepareTopics() {
+        kafkaResource.getKafkaTestUtils().createTopic(TEST_TOPIC_PARTITION_ORDER, 2, (short) 2);
+        kafkaResource.getKafkaTestUtils().createTopic(TEST_TOPIC_KEY_ORDER, 1, (short) 2);
+        kafkaResource.getKafkaTestUtils().createTopic(TEST_TOPIC_BACK_PRESSURE, 2, (short) 2);
+        kafkaResource.getKafkaTestUtils().createTopic(TEST_TOPIC_COMMIT, 1, (short) 2);
+        KAFKA_SERVER = kafkaResource.getKafkaConnectString();
+    }
+
+    @Test
+    void partitionOrder() throws Exception {
+        List<ProducerRecord<Long, String>> records = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            records.add(new ProducerRecord<>(TEST_TOPIC_PARTITION_ORDER, 0, (long) i, "p0-" + i));
+            records.add(new ProducerRecord<>(TEST_TOPIC_PARTITION_ORDER, 1, (long) i, "p1-" + i));
+        }
+        produceInOrder(records);
+
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        KafkaPublisher<Long, String> publisher = publisher(scheduler,
+                TEST_TOPIC_PARTITION_ORDER,
+                KafkaConfigBuilder.ProcessingOrder.PARTITION,
+                () -> new KafkaConsumer<>(consumerConfig("partition-order-group")));
+        TestSubscriber subscriber = new TestSubscriber(Long.MAX_VALUE);
+        try {
+            publisher.subscribe(subscriber);
+            // Nothing is acknowledged, only the first record of each partition can be emitted
+            Queue<KafkaMessage<Long, String>> inProgress = new LinkedList<>();
+            inProgress.add(subscriber.next());
+            inProgress.add(subscriber.next());
+            assertThat(payloads(inProgress), containsInAnyOrder("p0-0", "p1-0"));
+            subscriber.assertNoMore();
+
+            Map<Integer, List<String>> consumed = ackInTurn(subscriber, inProgress, message -> message.getPartition().get(), 20);
+            assertThat(consumed.get(0), is(expected("p0-", 0, 10, 1)));
+            assertThat(consumed.get(1), is(expected("p1-", 0, 10, 1)));
+        } finally {
+            scheduler.shutdown();
+            publisher.stop();
+        }
+        assertThat(subscriber.error.get(), is(nullValue()));
+    }
+
+    @Test
+    void keyOrder() throws Exception {
+        List<ProducerRecord<Long, String>> records = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            records.add(new ProducerRecord<>(TEST_TOPIC_KEY_ORDER, 0, (long) i % 3, "k" + (i % 3) + "-" + i));
+        }
+        produceInOrder(records);
+
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        KafkaPublisher<Long, String> publisher = publisher(scheduler,
+                TEST_TOPIC_KEY_ORDER,
+                KafkaConfigBuilder.ProcessingOrder.KEY,
+                () -> new KafkaConsumer<>(consumerConfig("key-order-group")));
+        TestSubscriber subscriber = new TestSubscriber(Long.MAX_VALUE);
+        try {
+            publisher.subscribe(subscriber);
+            // Nothing is acknowledged, only the first record of each key can be emitted, all from the same partition
+            Queue<KafkaMessage<Long, String>> inProgress = new LinkedList<>();
+            for (int i = 0; i < 3; i++) {
+                inProgress.add(subscriber.next());
+            }
+            assertThat(payloads(inProgress), containsInAnyOrder("k0-0", "k1-1", "k2-2"));
+            subscriber.assertNoMore();
+
+            Map<Long, List<String>> consumed = ackInTurn(subscriber, inProgress, message -> message.getKey().get(), 12);
+            assertThat(consumed.get(0L), is(expected("k0-", 0, 12, 3)));
+            assertThat(consumed.get(1L), is(expected("k1-", 1, 12, 3)));
+            assertThat(consumed.get(2L), is(expected("k2-", 2, 12, 3)));
+        } finally {
+            scheduler.shutdown();
+            publisher.stop();
+        }
+        assertThat(subscriber.error.get(), is(nullValue()));
+    }
+
+    @Test
+    void pauseAndResumeOnBackPressure() throws Exception {
+        List<ProducerRecord<Long, String>> records = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            records.add(new ProducerRecord<>(TEST_TOPIC_BACK_PRESSURE, i % 2, (long) i, String.valueOf(i)));
+        }
+        produceInOrder(records);
+
+        AtomicInteger pauses = new AtomicInteger();
+        AtomicInteger resumes = new AtomicInteger();
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        KafkaPublisher<Long, String> publisher = publisher(scheduler,
+                TEST_TOPIC_BACK_PRESSURE,
+                KafkaConfigBuilder.ProcessingOrder.UNORDERED,
+                () -> new KafkaConsumer<Long, String>(consumerConfig("back-pressure-group")) {
+                    @Override
+                    public void pause(Collection<TopicPartition> partitions) {
+                        pauses.incrementAndGet();
+                        super.pause(partitions);
+                    }
+
+                    @Override
+                    public void resume(Collection<TopicPartition> partitions) {
+                        resumes.incrementAndGet();
+                        super.resume(partitions);
+                    }
+                });
+        TestSubscriber subscriber = new TestSubscriber(10);
+        try {
+            publisher.subscribe(subscriber);
+            Map<Integer, List<Long>> offsets = new HashMap<>();
+            Set<String> consumed = new HashSet<>();
+            for (int batch = 0; batch < 20; batch++) {
+                for (int i = 0; i < 10; i++) {
+                    KafkaMessage<Long, String> message = subscriber.next();
+                    consumed.add(message.getPayload());
+                    offsets.computeIfAbsent(message.getPartition().get(), p -> new ArrayList<>())
+                            .add(message.getOffset().get());
+                    message.ack();
+                }
+                subscriber.request(10);
+            }
+            subscriber.assertNoMore();
+            // Records polled before they were requested are buffered and their partitions paused
+            assertThat(pauses.get(), is(greaterThan(0)));
+
+            assertThat(consumed, is(IntStream.range(0, 200).mapToObj(String::valueOf).collect(Collectors.toSet())));
+            for (List<Long> partitionOffsets : offsets.values()) {
+                assertThat(partitionOffsets, is(partitionOffsets.stream().sorted().collect(Collectors.toList())));
+            }
+            // Partitions are resumed once their buffered records are emitted
+            long timeout = System.currentTimeMillis() + 10_000;
+            while (resumes.get() == 0 && System.currentTimeMillis() < timeout) {
+                Thread.sleep(PERIOD_EXECUTIONS);
+            }
+            assertThat(resumes.get(), is(greaterThan(0)));
+        } finally {
+            scheduler.shutdown();
+            publisher.stop();
+        }
+        assertThat(subscriber.error.get(), is(nullValue()));
+    }
+
+    @Test
+    void commitOnlyAcknowledged() throws Exception {
+        String group = "commit-group";
+        TopicPartition partition = new TopicPartition(TEST_TOPIC_COMMIT, 0);
+        List<ProducerRecord<Long, String>> records = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            records.add(new ProducerRecord<>(TEST_TOPIC_COMMIT, 0, (long) i, String.valueOf(i)));
+        }
+        produceInOrder(records);
+
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        KafkaPublisher<Long, String> publisher = publisher(scheduler,
+                TEST_TOPIC_COMMIT,
+                KafkaConfigBuilder.ProcessingOrder.UNORDERED,
+                () -> new KafkaConsumer<>(consumerConfig(group)));
+        TestSubscriber subscriber = new TestSubscriber(Long.MAX_VALUE);
+        try {
+            publisher.subscribe(subscriber);
+            List<KafkaMessage<Long, String>> messages = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                messages.add(subscriber.next());
+            }
+            Thread.sleep(PERIOD_EXECUTIONS * 50);
+            assertThat(committedOffset(group, partition), is(nullValue()));
+
+            // The first record is not acknowledged, the following ones cannot be committed
+            messages.subList(1, 5).forEach(KafkaMessage::ack);
+            Thread.sleep(PERIOD_EXECUTIONS * 50);
+            assertThat(committedOffset(group, partition), is(nullValue()));
+
+            messages.get(0).ack().toCompletableFuture().get(20, TimeUnit.SECONDS);
+            assertThat(committedOffset(group, partition), is(5L));
+
+            CompletableFuture.allOf(messages.subList(5, 10).stream()
+                    .map(message -> message.ack().toCompletableFuture())
+                    .toArray(CompletableFuture[]::new))
+                    .get(20, TimeUnit.SECONDS);
+            assertThat(committedOffset(group, partition), is(10L));
+        } finally {
+            scheduler.shutdown();
+            publisher.stop();
+        }
+        assertThat(subscriber.error.get(), is(nullValue()));
+    }
+
+    /**
+     * Acknowledges the messages in the order they were received, each acknowledgement allows the next
+     * record of its partition or key to be emitted.
+     */
+    private static <T> Map<T, List<String>> ackInTurn(TestSubscriber subscriber,
+                                                      Queue<KafkaMessage<Long, String>> inProgress,
+                                                      Function<KafkaMessage<Long, String>, T> group,
+                                                      int expected) throws InterruptedException {
+        Map<T, List<String>> consumed = new HashMap<>();
+        int count = 0;
+        while (!inProgress.isEmpty()) {
+            KafkaMessage<Long, String> message = inProgress.poll();
+            consumed.computeIfAbsent(group.apply(message), k -> new ArrayList<>()).add(message.getPayload());
+            count++;
+            message.ack();
+            if (count + inProgress.size() < expected) {
+                inProgress.add(subscriber.next());
+            }
+        }
+        subscriber.assertNoMore();
+        return consumed;
+    }
+
+    private static List<String> expected(String prefix, int from, int to, int step) {
+        List<String> expected = new ArrayList<>();
+        for (int i = from; i < to; i += step) {
+            expected.add(prefix + i);
+        }
+        return expected;
+    }
+
+    private static List<String> payloads(Collection<KafkaMessage<Long, String>> messages) {
+        return messages.stream().map(KafkaMessage::getPayload).collect(Collectors.toList());
+    }
+
+    private static KafkaPublisher<Long, String> publisher(ScheduledExecutorService scheduler,
+                                                          String topic,
+                                                          KafkaConfigBuilder.ProcessingOrder processingOrder,
+                                                          Supplier<Consumer<Long, String>> consumerSupplier) {
+        return KafkaPublisher.<Long, String>builder()
+                .scheduler(scheduler)
+                .consumerSupplier(consumerSupplier)
+                .topics(List.of(topic))
+                .periodExecutions(PERIOD_EXECUTIONS)
+                .autoCommit(false)
+                .processingOrder(processingOrder)
+                .build();
+    }
+
+    private static Map<String, Object> consumerConfig(String group) {
+        Map<String, Object> config = new HashMap<>();
+        config.put("bootstrap.servers", KAFKA_SERVER);
+        config.put("group.id", group);
+        config.put("enable.auto.commit", Boolean.toString(false));
+        config.put("auto.offset.reset", "earliest");
+        config.put("key.deserializer", LongDeserializer.class.getName());
+        config.put("value.deserializer", StringDeserializer.class.getName());
+        return config;
+    }
+
+    private static Long committedOffset(String group, TopicPartition partition) {
+        try (Consumer<Long, String> consumer = new KafkaConsumer<>(consumerConfig(group))) {
+            OffsetAndMetadata offset = consumer.committed(Set.of(partition)).get(partition);
+            return offset == null ? null : offset.offset();
+        }
+    }
+
+    private static void produceInOrder(List<ProducerRecord<Long, String>> records) throws Exception {
+        Map<String, Object> config = new HashMap<>();
+        config.put("bootstrap.servers", KAFKA_SERVER);
+        config.put("key.serializer", LongSerializer.class.getName());
+        config.put("value.serializer", StringSerializer.class.getName());
+        try (Producer<Long, String> producer = new KafkaProducer<>(config)) {
+            for (ProducerRecord<Long, String> record : records) {
+                producer.send(record).get(30, TimeUnit.SECONDS);
+            }
+        }
+    }
+
+    private static final class TestSubscriber implements Subscriber<KafkaMessage<Long, String>> {
+        private final BlockingQueue<KafkaMessage<Long, String>> received = new LinkedBlockingQueue<>();
+        private final AtomicReference<Throwable> error = new AtomicReference<>();
+        private final long initialRequest;
+        private volatile Subscription subscription;
+
+        private TestSubscriber(long initialRequest) {
+            this.initialRequest = initialRequest;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(initialRequest);
+        }
+
+        @Override
+        public void onNext(KafkaMessage<Long, String> message) {
+            received.add(message);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error.set(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+        }
+
+        private void request(long n) {
+            subscription.request(n);
+        }
+
+        private KafkaMessage<Long, String> next() throws InterruptedException {
+            KafkaMessage<Long, String> message = received.poll(20, TimeUnit.SECONDS);
+            assertThat("Timeout waiting for the next message, error: " + error.get(), message, is(notNullValue()));
+            return message;
+        }
+
+        private void assertNoMore() throws InterruptedException {
+            assertThat(received.poll(PERIOD_EXECUTIONS * 20, TimeUnit.MILLISECONDS), is(nullValue()));
+        }
+    }
+}
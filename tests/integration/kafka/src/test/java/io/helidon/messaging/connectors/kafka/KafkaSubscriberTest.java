@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package io.helidon.messaging.connectors.kafka;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import io.helidon.common.reactive.Multi;
+
+import org.apache.kafka.clients.producer.Callback;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.serialization.LongSerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.FlowAdapters;
+
+/**
+ * Tests of the {@link KafkaSubscriber} window of in-flight messages, send failures and transactions.
+ */
+public class KafkaSubscriberTest {
+    private static final String TEST_TOPIC = "subscriber-topic";
+
+    @Test
+    void windowLimitsRecordsInFlight() throws Exception {
+        MockProducer<Long, String> producer = new MockProducer<>(false, new LongSerializer(), new StringSerializer());
+        TestMessages messages = new TestMessages(10);
+        KafkaSubscriber<Long, String> subscriber = KafkaSubscriber.<Long, String>builder()
+                .producerSupplier(() -> producer)
+                .topics(List.of(TEST_TOPIC))
+                .inFlightRecords(3)
+                .build();
+
+        messages.publisher().subscribe(FlowAdapters.toFlowSubscriber(subscriber));
+        assertThat(producer.history().size(), is(3));
+
+        // Each completed send makes room for the next message
+        assertThat(producer.completeNext(), is(true));
+        assertThat(messages.acked, containsInAnyOrder(0));
+        assertThat(producer.history().size(), is(4));
+
+        int completed = 1;
+        while (producer.completeNext()) {
+            completed++;
+            assertThat(producer.history().size() - completed, is(lessThanOrEqualTo(3)));
+        }
+        assertThat(completed, is(10));
+        assertThat(messages.acked, is(messages.all()));
+        assertThat(messages.nacked.keySet(), is(empty()));
+        assertThat(messages.cancelled.get(), is(false));
+    }
+
+    @Test
+    void windowLimitsBytesInFlight() throws Exception {
+        SizedProducer producer = new SizedProducer();
+        TestMessages messages = new TestMessages(200);
+        KafkaSubscriber<Long, String> subscriber = KafkaSubscriber.<Long, String>builder()
+                .producerSupplier(() -> producer)
+                .topics(List.of(TEST_TOPIC))
+                .inFlightRecords(100)
+                .inFlightBytes(250)
+                .build();
+
+        messages.publisher().subscribe(FlowAdapters.toFlowSubscriber(subscriber));
+        // Size of the records is not known yet
+        assertThat(producer.history().size(), is(100));
+
+        int completed = 0;
+        while (producer.completeNext()) {
+            completed++;
+            if (completed >= 100) {
+                // Records of 108 bytes, at most 250 bytes in flight
+                assertThat(producer.history().size() - completed, is(lessThanOrEqualTo(2)));
+            }
+        }
+        assertThat(completed, is(200));
+        assertThat(messages.acked, is(messages.all()));
+    }
+
+    @Test
+    void sendFailureNacksMessage() throws Exception {
+        MockProducer<Long, String> producer = new MockProducer<>(false, new LongSerializer(), new StringSerializer());
+        TestMessages messages = new TestMessages(10);
+        KafkaSubscriber<Long, String> subscriber = KafkaSubscriber.<Long, String>builder()
+                .producerSupplier(() -> producer)
+                .topics(List.of(TEST_TOPIC))
+                .inFlightRecords(4)
+                .build();
+
+        messages.publisher().subscribe(FlowAdapters.toFlowSubscriber(subscriber));
+        assertThat(producer.completeNext(), is(true));
+        KafkaException failure = new KafkaException("Test send failure");
+        assertThat(producer.errorNext(failure), is(true));
+
+        assertThat(messages.nacked.keySet(), containsInAnyOrder(1));
+        assertThat(messages.nacked.get(1), is(sameInstance((Throwable) failure)));
+        assertThat(messages.cancelled.get(), is(true));
+
+        // Messages already in flight are still acknowledged, nothing else is sent
+        while (producer.completeNext()) {
+            // complete all
+        }
+        assertThat(messages.acked, containsInAnyOrder(0, 2, 3, 4));
+        assertThat(producer.history().size(), is(5));
+        assertThat(producer.closed(), is(true));
+    }
+
+    @Test
+    void transactionCommitAcksMessages() throws Exception {
+        MockProducer<Long, String> producer = new MockProducer<>(true, new LongSerializer(), new StringSerializer());
+        TestMessages messages = new TestMessages(7);
+        KafkaSubscriber<Long, String> subscriber = KafkaSubscriber.<Long, String>builder()
+                .producerSupplier(() -> producer)
+                .topics(List.of(TEST_TOPIC))
+                .transactional(true)
+                .transactionBatchSize(3)
+                .build();
+
+        messages.publisher().subscribe(FlowAdapters.toFlowSubscriber(subscriber));
+
+        assertThat(messages.await(), is(true));
+        assertThat(messages.acked, is(messages.all()));
+        assertThat(messages.nacked.keySet(), is(empty()));
+        assertThat(producer.transactionCommitted(), is(true));
+        assertThat(producer.history().size(), is(7));
+    }
+
+    @Test
+    void transactionAbortNacksMessages() throws Exception {
+        KafkaException failure = new KafkaException("Test commit failure");
+        MockProducer<Long, String> producer = new MockProducer<>(false, new LongSerializer(), new StringSerializer()) {
+            @Override
+            public void commitTransaction() {
+                throw failure;
+            }
+        };
+        TestMessages messages = new TestMessages(10);
+        KafkaSubscriber<Long, String> subscriber = KafkaSubscriber.<Long, String>builder()
+                .producerSupplier(() -> producer)
+                .topics(List.of(TEST_TOPIC))
+                .inFlightRecords(10)
+                .transactional(true)
+                .transactionBatchSize(3)
+                .build();
+
+        messages.publisher().subscribe(FlowAdapters.toFlowSubscriber(subscriber));
+
+        // The failed transaction is aborted, messages received after the failure are not sent
+        assertThat(messages.await(), is(true));
+        assertThat(messages.acked, is(empty()));
+        assertThat(messages.nacked.keySet(), is(messages.all()));
+        assertThat(Set.copyOf(messages.nacked.values()), is(Set.<Throwable>of(failure)));
+        assertThat(producer.transactionAborted(), is(true));
+        assertThat(producer.transactionCommitted(), is(false));
+        // Records of a transaction are only part of the history once it is committed
+        assertThat(producer.history(), is(empty()));
+        assertThat(messages.cancelled.get(), is(true));
+        assertThat(producer.closed(), is(true));
+    }
+
+    /**
+     * Messages recording their acknowledgements.
+     */
+    private static final class TestMessages {
+        private final Set<Integer> acked = ConcurrentHashMap.newKeySet();
+        private final Map<Integer, Throwable> nacked = new ConcurrentHashMap<>();
+        private final AtomicBoolean cancelled = new AtomicBoolean();
+        private final CountDownLatch done;
+        private final int count;
+
+        private TestMessages(int count) {
+            this.count = count;
+            this.done = new CountDownLatch(count);
+        }
+
+        private Multi<KafkaMessage<Long, String>> publisher() {
+            return Multi.range(0, count)
+                    .map(i -> KafkaMessage.of((long) i, "x".repeat(100), () -> {
+                        acked.add(i);
+                        done.countDown();
+                        return CompletableFuture.completedFuture(null);
+                    }, reason -> {
+                        nacked.put(i, reason);
+                        done.countDown();
+                        return CompletableFuture.completedFuture(null);
+                    }))
+                    .onCancel(() -> cancelled.set(true));
+        }
+
+        private Set<Integer> all() {
+            return IntStream.range(0, count).boxed().collect(Collectors.toSet());
+        }
+
+        private boolean await() throws InterruptedException {
+            return done.await(10, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Reports the serialized size of the records, which the mock producer does not.
+     */
+    private static final class SizedProducer extends MockProducer<Long, String> {
+        private SizedProducer() {
+            super(false, new LongSerializer(), new StringSerializer());
+        }
+
+        @Override
+        public synchronized Future<RecordMetadata> send(ProducerRecord<Long, String> record, Callback callback) {
+            return super.send(record, (metadata, exception) -> callback.onCompletion(
+                    metadata == null
+                            ? null
+                            : new RecordMetadata(metadata.topicPartition(), 0, metadata.offset(), metadata.timestamp(),
+                                                 0L, Long.BYTES, record.value().length()),
+                    exception));
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient.metrics;
+
+import java.net.URI;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToLongFunction;
+
+import io.helidon.common.reactive.Single;
+import io.helidon.webclient.ConnectionPoolStatistics;
+import io.helidon.webclient.WebClientConnectionPool;
+import io.helidon.webclient.WebClientServiceRequest;
+
+import org.eclipse.microprofile.metrics.Gauge;
+import org.eclipse.microprofile.metrics.Metadata;
+import org.eclipse.microprofile.metrics.MetadataBuilder;
+import org.eclipse.microprofile.metrics.MetricType;
+import org.eclipse.microprofile.metrics.Tag;
+
+/**
+ * Gauges of the connection pool of each route the client connects to.
+ * Gauges are registered with the {@code route} tag once the first request to the route is made.
+ */
+class WebClientConnectionPoolGauges extends WebClientMetric {
+
+    private static final String DEFAULT_NAME_FORMAT = "client.connection-pool.%s";
+
+    private final Set<String> routes = ConcurrentHashMap.newKeySet();
+
+    WebClientConnectionPoolGauges(Builder builder) {
+        super(builder);
+    }
+
+    @Override
+    MetricType metricType() {
+        return MetricType.GAUGE;
+    }
+
+    @Override
+    public Single<WebClientServiceRequest> request(WebClientServiceRequest request) {
+        URI uri = request.uri();
+        String route = uri.getScheme() + "://" + uri.getHost() + ":" + port(uri);
+        if (routes.add(route)) {
+            Tag tag = new Tag("route", route);
+            register(route, tag, "active", "Number of connections used by requests", ConnectionPoolStatistics::active);
+            register(route, tag, "idle", "Number of idle connections", ConnectionPoolStatistics::idle);
+            register(route, tag, "pending", "Number of requests waiting for a connection",
+                     ConnectionPoolStatistics::pending);
+            register(route, tag, "max", "Maximal number of connections", ConnectionPoolStatistics::maxConnections);
+            register(route, tag, "created", "Total number of created connections", ConnectionPoolStatistics::created);
+            register(route, tag, "closed", "Total number of closed connections", ConnectionPoolStatistics::closed);
+            register(route, tag, "rejected", "Total number of requests that failed to obtain a connection",
+                     ConnectionPoolStatistics::rejected);
+        }
+        return Single.just(request);
+    }
+
+    private void register(String route,
+                          Tag tag,
+                          String statistic,
+                          String defaultDescription,
+                          ToLongFunction<ConnectionPoolStatistics> value) {
+        String nameFormat = (nameFormat() == null) ? DEFAULT_NAME_FORMAT : nameFormat();
+        MetadataBuilder builder = Metadata.builder()
+                .withName(String.format(nameFormat, statistic))
+                .withType(metricType())
+                .withDescription((description() == null) ? defaultDescription : description());
+        Gauge<Long> gauge = () -> WebClientConnectionPool.statistics()
+                .stream()
+                .filter(it -> it.route().equals(route))
+                .mapToLong(value)
+                .sum();
+        try {
+            metricRegistry().register(builder.build(), gauge, tag);
+        } catch (IllegalArgumentException e) {
+            // already registered by another client
+        }
+    }
+
+    private static int port(URI uri) {
+        if (uri.getPort() > -1) {
+            return uri.getPort();
+        }
+        return "https".equals(uri.getScheme()) ? 443 : 80;
+    }
+}
@@ -37,7 +37,11 @@ enum WebClientMetricType {
     /**
      * Client meter metric.
      */
-    METER(WebClientMeter::new);
+    METER(WebClientMeter::new),
+    /**
+     * Client connection pool gauges.
+     */
+    GAUGE_CONNECTION_POOL(WebClientConnectionPoolGauges::new);
 
     private final Function<WebClientMetric.Builder, WebClientMetric> function;
 
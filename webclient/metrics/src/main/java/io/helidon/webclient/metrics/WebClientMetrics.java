@@ -73,6 +73,17 @@ public class WebClientMetrics implements WebClientService {
         return WebClientMetric.builder(WebClientMetricType.GAUGE_IN_PROGRESS);
     }
 
+    /**
+     * Creates new connection pool gauges client metric.
+     * The name format gets the name of the statistic as its only parameter,
+     * defaults to {@code client.connection-pool.%s}.
+     *
+     * @return client metric builder
+     */
+    public static WebClientMetric.Builder connectionPool() {
+        return WebClientMetric.builder(WebClientMetricType.GAUGE_CONNECTION_POOL);
+    }
+
     /**
      * Creates new client metrics based on config.
      *
@@ -98,6 +109,8 @@ public class WebClientMetrics implements WebClientService {
             return timer().config(metricConfig).build();
         case "GAUGE_IN_PROGRESS":
             return gaugeInProgress().config(metricConfig).build();
+        case "GAUGE_CONNECTION_POOL":
+            return connectionPool().config(metricConfig).build();
         default:
             throw new WebClientException("Metrics type " + type + " is not supported through service loader");
         }
@@ -0,0 +1,350 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.util.AttributeKey;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.Promise;
+import io.netty.util.concurrent.ScheduledFuture;
+
+import static io.helidon.webclient.WebClientRequestBuilderImpl.IN_USE;
+import static io.helidon.webclient.WebClientRequestBuilderImpl.RETURN;
+
+/**
+ * Bounded pool of keep-alive connections to a single route.
+ * <p>
+ * A connection is either idle (in the pool) or active (used by a request, or being established). Idle connections
+ * are reused in the last in, first out order. Connections are removed from the pool when closed, which also
+ * happens when they stay idle for the configured idle timeout (see {@link NettyClientInitializer}).
+ */
+final class ChannelPool implements ConnectionPoolStatistics {
+
+    private static final Logger LOGGER = Logger.getLogger(ChannelPool.class.getName());
+
+    private static final Map<WebClientRequestBuilderImpl.ConnectionIdent, ChannelPool> POOLS = new ConcurrentHashMap<>();
+    private static final AttributeKey<ChannelPool> POOL = AttributeKey.valueOf("channelPool");
+    private static final AttributeKey<Long> CREATED = AttributeKey.valueOf("channelCreated");
+
+    private final String route;
+    private final String host;
+    private final int port;
+    private final int maxConnections;
+    private final int maxPending;
+    private final long maxLifetimeNanos;
+    private final ArrayDeque<Channel> idle = new ArrayDeque<>();
+    private final ArrayDeque<PendingAcquire> pending = new ArrayDeque<>();
+    private final LongAdder created = new LongAdder();
+    private final LongAdder closed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    // guarded by this
+    private int active;
+
+    ChannelPool(URI base, WebClientConnectionPool configuration) {
+        this.host = base.getHost();
+        this.port = base.getPort();
+        this.route = base.getScheme() + "://" + host + ":" + port;
+        this.maxConnections = configuration.maxConnectionsPerRoute();
+        this.maxPending = configuration.maxPendingAcquires();
+        this.maxLifetimeNanos = configuration.maxLifetime().toNanos();
+    }
+
+    /**
+     * Pool of connections identified by the connection identity, created if needed.
+     *
+     * @param ident         connection identity
+     * @param configuration pool configuration
+     * @return pool
+     */
+    static ChannelPool get(WebClientRequestBuilderImpl.ConnectionIdent ident, WebClientConnectionPool configuration) {
+        return POOLS.computeIfAbsent(ident, it -> new ChannelPool(it.base(), configuration));
+    }
+
+    /**
+     * All pools.
+     *
+     * @return statistics of all pools
+     */
+    static List<ConnectionPoolStatistics> pools() {
+        return List.copyOf(POOLS.values());
+    }
+
+    /**
+     * Return a connection obtained from a pool after its response was fully read.
+     *
+     * @param channel connection
+     */
+    static void release(Channel channel) {
+        ChannelPool pool = channel.attr(POOL).get();
+        if (pool == null) {
+            channel.attr(IN_USE).get().set(false);
+        } else {
+            pool.doRelease(channel);
+        }
+    }
+
+    /**
+     * Remove a closed connection from its pool, if any.
+     *
+     * @param channel closed connection
+     */
+    static void closed(Channel channel) {
+        ChannelPool pool = channel.attr(POOL).getAndSet(null);
+        if (pool != null) {
+            pool.remove(channel);
+        }
+    }
+
+    /**
+     * Obtain a connection, reusing an idle one if possible.
+     *
+     * @param bootstrap      bootstrap used to create a new connection
+     * @param executor       executor of the returned future
+     * @param acquireTimeout maximal time to wait for a connection if the pool is exhausted
+     * @return future completed with a connection, or failed with {@link WebClientException} if none is available
+     */
+    Future<Channel> acquire(Bootstrap bootstrap, EventExecutor executor, Duration acquireTimeout) {
+        Promise<Channel> promise = executor.newPromise();
+        List<Channel> discarded = null;
+        Channel channel = null;
+        boolean connect = false;
+        boolean reject = false;
+        synchronized (this) {
+            while (channel == null && !idle.isEmpty()) {
+                Channel candidate = idle.pollLast();
+                if (candidate.isActive()
+                        && !isExpired(candidate)
+                        && candidate.attr(IN_USE).get().compareAndSet(false, true)) {
+                    channel = candidate;
+                    active++;
+                } else {
+                    // not counted anymore, the pool must ignore its close
+                    candidate.attr(POOL).set(null);
+                    closed.increment();
+                    if (discarded == null) {
+                        discarded = new ArrayList<>(1);
+                    }
+                    discarded.add(candidate);
+                }
+            }
+            if (channel == null) {
+                if (active + idle.size() < maxConnections) {
+                    active++;
+                    connect = true;
+                } else if (pending.size() < maxPending) {
+                    PendingAcquire acquire = new PendingAcquire(bootstrap, promise);
+                    pending.addLast(acquire);
+                    acquire.timeout = executor.schedule(() -> timeout(acquire),
+                                                        acquireTimeout.toMillis(),
+                                                        TimeUnit.MILLISECONDS);
+                } else {
+                    reject = true;
+                }
+            }
+        }
+        if (discarded != null) {
+            discarded.forEach(Channel::close);
+        }
+        if (channel != null) {
+            Channel reused = channel;
+            LOGGER.finest(() -> "Reusing -> " + reused.hashCode());
+            promise.setSuccess(channel);
+        } else if (connect) {
+            connect(bootstrap, promise);
+        } else if (reject) {
+            rejected.increment();
+            promise.setFailure(new WebClientException("Connection pool of " + route + " is exhausted, "
+                                                              + maxPending + " requests are already waiting"));
+        }
+        return promise;
+    }
+
+    @Override
+    public String route() {
+        return route;
+    }
+
+    @Override
+    public int maxConnections() {
+        return maxConnections;
+    }
+
+    @Override
+    public synchronized int active() {
+        return active;
+    }
+
+    @Override
+    public synchronized int idle() {
+        return idle.size();
+    }
+
+    @Override
+    public synchronized int pending() {
+        return pending.size();
+    }
+
+    @Override
+    public long created() {
+        return created.sum();
+    }
+
+    @Override
+    public long closed() {
+        return closed.sum();
+    }
+
+    @Override
+    public long rejected() {
+        return rejected.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "ChannelPool{route=" + route + "}";
+    }
+
+    private void connect(Bootstrap bootstrap, Promise<Channel> promise) {
+        LOGGER.finest(() -> "New connection to -> " + route);
+        ChannelFuture connect = bootstrap.connect(host, port);
+        Channel channel = connect.channel();
+        channel.attr(IN_USE).set(new AtomicBoolean(true));
+        channel.attr(RETURN).set(new AtomicBoolean(false));
+        channel.attr(CREATED).set(System.nanoTime());
+        channel.attr(POOL).set(this);
+        connect.addListener((ChannelFutureListener) future -> {
+            if (future.isSuccess()) {
+                created.increment();
+                if (!promise.trySuccess(channel)) {
+                    doRelease(channel);
+                }
+            } else {
+                closed(channel);
+                promise.tryFailure(future.cause());
+            }
+        });
+    }
+
+    private void doRelease(Channel channel) {
+        PendingAcquire waiting = null;
+        boolean close = false;
+        synchronized (this) {
+            if (!channel.isActive() || isExpired(channel)) {
+                // removed from the pool once closed
+                close = true;
+            } else {
+                waiting = nextPending();
+                if (waiting == null) {
+                    active--;
+                    channel.attr(IN_USE).get().set(false);
+                    idle.addLast(channel);
+                }
+            }
+        }
+        if (close) {
+            channel.close();
+        } else if (waiting != null) {
+            // handed over to the waiting request, stays active
+            if (!waiting.promise.trySuccess(channel)) {
+                doRelease(channel);
+            }
+        } else {
+            LOGGER.finest(() -> "Returned to the pool -> " + channel.hashCode());
+        }
+    }
+
+    private void remove(Channel channel) {
+        LOGGER.finest(() -> "Removing from the pool -> " + channel.hashCode());
+        PendingAcquire waiting = null;
+        synchronized (this) {
+            closed.increment();
+            if (!idle.remove(channel)) {
+                active--;
+            }
+            if (active + idle.size() < maxConnections) {
+                waiting = nextPending();
+                if (waiting != null) {
+                    active++;
+                }
+            }
+        }
+        if (waiting != null) {
+            connect(waiting.bootstrap, waiting.promise);
+        }
+    }
+
+    private void timeout(PendingAcquire acquire) {
+        boolean removed;
+        synchronized (this) {
+            removed = pending.remove(acquire);
+        }
+        if (removed) {
+            rejected.increment();
+            acquire.promise.tryFailure(new WebClientException("Timed out waiting for a connection from the pool of "
+                                                                      + route));
+        }
+    }
+
+    // guarded by this
+    private PendingAcquire nextPending() {
+        PendingAcquire acquire;
+        while ((acquire = pending.pollFirst()) != null) {
+            if (acquire.timeout != null) {
+                acquire.timeout.cancel(false);
+            }
+            if (!acquire.promise.isDone()) {
+                return acquire;
+            }
+        }
+        return null;
+    }
+
+    private boolean isExpired(Channel channel) {
+        if (maxLifetimeNanos <= 0) {
+            return false;
+        }
+        Long createdNanos = channel.attr(CREATED).get();
+        return createdNanos != null && System.nanoTime() - createdNanos > maxLifetimeNanos;
+    }
+
+    private static final class PendingAcquire {
+        private final Bootstrap bootstrap;
+        private final Promise<Channel> promise;
+        private volatile ScheduledFuture<?> timeout;
+
+        private PendingAcquire(Bootstrap bootstrap, Promise<Channel> promise) {
+            this.bootstrap = bootstrap;
+            this.promise = promise;
+        }
+    }
+}
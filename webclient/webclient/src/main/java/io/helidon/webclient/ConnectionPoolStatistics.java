@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient;
+
+/**
+ * Statistics of the pool of connections to a single route.
+ *
+ * @see WebClientConnectionPool#statistics()
+ */
+public interface ConnectionPoolStatistics {
+
+    /**
+     * Route of the pooled connections, such as {@code http://localhost:8080}.
+     *
+     * @return route
+     */
+    String route();
+
+    /**
+     * Maximal number of connections to the route.
+     *
+     * @return maximal number of connections
+     */
+    int maxConnections();
+
+    /**
+     * Number of connections currently used by requests, including connections being established.
+     *
+     * @return number of connections in use
+     */
+    int active();
+
+    /**
+     * Number of idle connections ready to be reused.
+     *
+     * @return number of idle connections
+     */
+    int idle();
+
+    /**
+     * Number of requests waiting for a connection.
+     *
+     * @return number of pending requests
+     */
+    int pending();
+
+    /**
+     * Total number of connections established.
+     *
+     * @return number of created connections
+     */
+    long created();
+
+    /**
+     * Total number of connections closed, either by the peer, or because they were idle or too old.
+     *
+     * @return number of closed connections
+     */
+    long closed();
+
+    /**
+     * Total number of requests that failed to obtain a connection, because too many requests were already waiting
+     * or the wait timed out.
+     *
+     * @return number of rejected requests
+     */
+    long rejected();
+}
@@ -0,0 +1,462 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandler;
+import io.netty.handler.codec.http2.Http2CodecUtil;
+import io.netty.handler.codec.http2.Http2Connection;
+import io.netty.handler.codec.http2.Http2FrameCodec;
+import io.netty.handler.codec.http2.Http2StreamChannel;
+import io.netty.handler.codec.http2.Http2StreamChannelBootstrap;
+import io.netty.util.AttributeKey;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.FutureListener;
+import io.netty.util.concurrent.Promise;
+import io.netty.util.concurrent.ScheduledFuture;
+
+/**
+ * Multiplexed HTTP/2 connections to a single route.
+ * <p>
+ * Each request is sent over a new stream of a connection. The first connection that can open another stream
+ * is used, so that a new connection is only opened when all connections reached the maximal number of concurrent
+ * streams allowed by the server. If the route already has the maximal number of connections, the request waits
+ * for a stream to be closed. A connection without streams is closed after the idle timeout
+ * (see {@link Http2ClientInitializer}).
+ * <p>
+ * If a secured connection does not negotiate HTTP/2, the route is marked as HTTP/1.1 only and all its requests
+ * use the fallback connection supplier.
+ * <p>
+ * Statistics report streams as active, and connections without streams as idle.
+ */
+final class Http2ChannelPool implements ConnectionPoolStatistics {
+
+    /**
+     * Completed with {@code true} once the connection is ready for HTTP/2 streams, with {@code false} if
+     * the server does not support HTTP/2.
+     */
+    static final AttributeKey<Promise<Boolean>> NEGOTIATED = AttributeKey.valueOf("http2Negotiated");
+
+    private static final Logger LOGGER = Logger.getLogger(Http2ChannelPool.class.getName());
+
+    private static final Map<WebClientRequestBuilderImpl.ConnectionIdent, Http2ChannelPool> POOLS =
+            new ConcurrentHashMap<>();
+    private static final AttributeKey<Connection> CONNECTION = AttributeKey.valueOf("http2Connection");
+    private static final WebClientException NOT_NEGOTIATED = new WebClientException("HTTP/2 not negotiated");
+
+    private final String route;
+    private final String host;
+    private final int port;
+    private final int maxConnections;
+    private final int maxPending;
+    private final List<Connection> connections = new ArrayList<>();
+    private final ArrayDeque<PendingAcquire> pending = new ArrayDeque<>();
+    private final LongAdder created = new LongAdder();
+    private final LongAdder closed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    // guarded by this
+    private int active;
+    private volatile boolean http1;
+
+    Http2ChannelPool(URI base, WebClientConnectionPool configuration) {
+        this.host = base.getHost();
+        this.port = base.getPort();
+        this.route = base.getScheme() + "://" + host + ":" + port;
+        this.maxConnections = configuration.maxHttp2ConnectionsPerRoute();
+        this.maxPending = configuration.maxPendingAcquires();
+    }
+
+    /**
+     * Pool of connections identified by the connection identity, created if needed.
+     *
+     * @param ident         connection identity
+     * @param configuration pool configuration
+     * @return pool
+     */
+    static Http2ChannelPool get(WebClientRequestBuilderImpl.ConnectionIdent ident, WebClientConnectionPool configuration) {
+        return POOLS.computeIfAbsent(ident, it -> new Http2ChannelPool(it.base(), configuration));
+    }
+
+    /**
+     * All pools.
+     *
+     * @return statistics of all pools
+     */
+    static List<ConnectionPoolStatistics> pools() {
+        return List.copyOf(POOLS.values());
+    }
+
+    /**
+     * Close a connection that stayed idle for the idle timeout, unless it has open streams.
+     *
+     * @param channel connection
+     */
+    static void closeIfIdle(Channel channel) {
+        Connection connection = channel.attr(CONNECTION).get();
+        if (connection != null && connection.pool.removeIfIdle(connection)) {
+            channel.close();
+        }
+    }
+
+    /**
+     * Remove a closed connection from its pool, if any.
+     *
+     * @param channel closed connection
+     */
+    static void closed(Channel channel) {
+        Connection connection = channel.attr(CONNECTION).get();
+        if (connection != null) {
+            connection.pool.remove(connection);
+        }
+    }
+
+    /**
+     * Obtain a new stream of a connection to this route.
+     *
+     * @param bootstrap      bootstrap used to create a new connection
+     * @param streamHandler  handler of the new stream
+     * @param executor       executor of the returned future
+     * @param acquireTimeout maximal time to wait for a stream if all connections are saturated
+     * @param fallback       supplier of an HTTP/1.1 connection used if the server does not support HTTP/2
+     * @return future completed with a stream or with a fallback connection, or failed with {@link WebClientException}
+     *         if none is available
+     */
+    Future<Channel> acquire(Bootstrap bootstrap,
+                            ChannelHandler streamHandler,
+                            EventExecutor executor,
+                            Duration acquireTimeout,
+                            Supplier<Future<Channel>> fallback) {
+        if (http1) {
+            return fallback.get();
+        }
+        Promise<Channel> promise = executor.newPromise();
+        PendingAcquire acquire = new PendingAcquire(bootstrap, streamHandler, executor, promise, fallback);
+        Connection connection = null;
+        boolean connect = false;
+        boolean reject = false;
+        synchronized (this) {
+            for (Connection candidate : connections) {
+                if (candidate.canOpenStream()) {
+                    connection = candidate;
+                    break;
+                }
+            }
+            if (connection == null) {
+                if (connections.size() < maxConnections) {
+                    connection = new Connection(this, executor.newPromise());
+                    connections.add(connection);
+                    connect = true;
+                } else if (pending.size() < maxPending) {
+                    pending.addLast(acquire);
+                    acquire.timeout = executor.schedule(() -> timeout(acquire),
+                                                        acquireTimeout.toMillis(),
+                                                        TimeUnit.MILLISECONDS);
+                } else {
+                    reject = true;
+                }
+            }
+            if (connection != null) {
+                connection.streams++;
+                active++;
+            }
+        }
+        if (connect) {
+            connect(bootstrap, connection);
+        }
+        if (connection != null) {
+            openStream(connection, acquire);
+        } else if (reject) {
+            rejected.increment();
+            promise.setFailure(new WebClientException("HTTP/2 connections of " + route + " are saturated, "
+                                                              + maxPending + " requests are already waiting"));
+        }
+        return promise;
+    }
+
+    @Override
+    public String route() {
+        return route;
+    }
+
+    @Override
+    public int maxConnections() {
+        return maxConnections;
+    }
+
+    @Override
+    public synchronized int active() {
+        return active;
+    }
+
+    @Override
+    public synchronized int idle() {
+        int idle = 0;
+        for (Connection connection : connections) {
+            if (connection.streams == 0) {
+                idle++;
+            }
+        }
+        return idle;
+    }
+
+    @Override
+    public synchronized int pending() {
+        return pending.size();
+    }
+
+    @Override
+    public long created() {
+        return created.sum();
+    }
+
+    @Override
+    public long closed() {
+        return closed.sum();
+    }
+
+    @Override
+    public long rejected() {
+        return rejected.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "Http2ChannelPool{route=" + route + "}";
+    }
+
+    private void connect(Bootstrap bootstrap, Connection connection) {
+        LOGGER.finest(() -> "New HTTP/2 connection to -> " + route);
+        ChannelFuture connect = bootstrap.connect(host, port);
+        Channel channel = connect.channel();
+        channel.attr(CONNECTION).set(connection);
+        connect.addListener((ChannelFutureListener) future -> {
+            if (!future.isSuccess()) {
+                remove(connection);
+                connection.ready.tryFailure(future.cause());
+                return;
+            }
+            created.increment();
+            channel.attr(NEGOTIATED).get().addListener((FutureListener<Boolean>) negotiated -> {
+                if (!negotiated.isSuccess()) {
+                    connection.ready.tryFailure(negotiated.cause());
+                    channel.close();
+                } else if (negotiated.getNow()) {
+                    connection.codec = channel.pipeline().get(Http2FrameCodec.class);
+                    connection.ready.trySuccess(channel);
+                } else {
+                    LOGGER.finest(() -> "HTTP/2 not supported by " + route + ", using HTTP/1.1");
+                    http1 = true;
+                    connection.ready.tryFailure(NOT_NEGOTIATED);
+                    channel.close();
+                }
+            });
+        });
+    }
+
+    private void openStream(Connection connection, PendingAcquire acquire) {
+        connection.ready.addListener((FutureListener<Channel>) ready -> {
+            if (!ready.isSuccess()) {
+                streamClosed(connection);
+                if (ready.cause() == NOT_NEGOTIATED) {
+                    fallback(acquire);
+                } else {
+                    acquire.promise.tryFailure(ready.cause());
+                }
+                return;
+            }
+            new Http2StreamChannelBootstrap(ready.getNow())
+                    .handler(acquire.streamHandler)
+                    .open()
+                    .addListener((FutureListener<Http2StreamChannel>) future -> {
+                        if (future.isSuccess()) {
+                            Http2StreamChannel stream = future.getNow();
+                            stream.closeFuture().addListener(closed -> streamClosed(connection));
+                            if (!acquire.promise.trySuccess(stream)) {
+                                stream.close();
+                            }
+                        } else {
+                            streamClosed(connection);
+                            acquire.promise.tryFailure(future.cause());
+                        }
+                    });
+        });
+    }
+
+    private void fallback(PendingAcquire acquire) {
+        acquire.fallback.get().addListener((FutureListener<Channel>) future -> {
+            if (future.isSuccess()) {
+                if (!acquire.promise.trySuccess(future.getNow())) {
+                    future.getNow().close();
+                }
+            } else {
+                acquire.promise.tryFailure(future.cause());
+            }
+        });
+    }
+
+    private void streamClosed(Connection connection) {
+        PendingAcquire waiting = null;
+        synchronized (this) {
+            connection.streams--;
+            active--;
+            if (connections.contains(connection) && connection.canOpenStream()) {
+                waiting = nextPending();
+                if (waiting != null) {
+                    connection.streams++;
+                    active++;
+                }
+            }
+        }
+        if (waiting != null) {
+            openStream(connection, waiting);
+        }
+    }
+
+    private synchronized boolean removeIfIdle(Connection connection) {
+        if (connection.streams == 0 && connections.remove(connection)) {
+            closed.increment();
+            return true;
+        }
+        return false;
+    }
+
+    private void remove(Connection connection) {
+        List<PendingAcquire> waiting = new ArrayList<>();
+        Connection replacement = null;
+        synchronized (this) {
+            if (!connections.remove(connection)) {
+                return;
+            }
+            closed.increment();
+            if (http1) {
+                PendingAcquire acquire;
+                while ((acquire = nextPending()) != null) {
+                    waiting.add(acquire);
+                }
+            } else if (connections.size() < maxConnections) {
+                PendingAcquire acquire = nextPending();
+                if (acquire != null) {
+                    waiting.add(acquire);
+                    replacement = new Connection(this, acquire.executor.newPromise());
+                    connections.add(replacement);
+                    replacement.streams++;
+                    active++;
+                }
+            }
+        }
+        LOGGER.finest(() -> "Removing HTTP/2 connection of -> " + route);
+        if (replacement != null) {
+            PendingAcquire acquire = waiting.get(0);
+            connect(acquire.bootstrap, replacement);
+            openStream(replacement, acquire);
+        } else {
+            waiting.forEach(this::fallback);
+        }
+    }
+
+    private void timeout(PendingAcquire acquire) {
+        boolean removed;
+        synchronized (this) {
+            removed = pending.remove(acquire);
+        }
+        if (removed) {
+            rejected.increment();
+            acquire.promise.tryFailure(new WebClientException("Timed out waiting for an HTTP/2 stream to " + route));
+        }
+    }
+
+    // guarded by this
+    private PendingAcquire nextPending() {
+        PendingAcquire acquire;
+        while ((acquire = pending.pollFirst()) != null) {
+            if (acquire.timeout != null) {
+                acquire.timeout.cancel(false);
+            }
+            if (!acquire.promise.isDone()) {
+                return acquire;
+            }
+        }
+        return null;
+    }
+
+    private static final class Connection {
+        private final Http2ChannelPool pool;
+        private final Promise<Channel> ready;
+        private volatile Http2FrameCodec codec;
+        // guarded by pool
+        private int streams;
+
+        private Connection(Http2ChannelPool pool, Promise<Channel> ready) {
+            this.pool = pool;
+            this.ready = ready;
+        }
+
+        // guarded by pool
+        private boolean canOpenStream() {
+            if (ready.isDone() && !ready.isSuccess()) {
+                return false;
+            }
+            Http2FrameCodec frameCodec = codec;
+            if (frameCodec == null) {
+                // not connected yet, the recommended minimal limit of servers, streams over the actual limit
+                // are buffered by the connection
+                return streams < Http2CodecUtil.SMALLEST_MAX_CONCURRENT_STREAMS;
+            }
+            Http2Connection connection = frameCodec.connection();
+            return !connection.goAwayReceived()
+                    && !connection.goAwaySent()
+                    && streams < connection.local().maxActiveStreams();
+        }
+    }
+
+    private static final class PendingAcquire {
+        private final Bootstrap bootstrap;
+        private final ChannelHandler streamHandler;
+        private final EventExecutor executor;
+        private final Promise<Channel> promise;
+        private final Supplier<Future<Channel>> fallback;
+        private volatile ScheduledFuture<?> timeout;
+
+        private PendingAcquire(Bootstrap bootstrap,
+                               ChannelHandler streamHandler,
+                               EventExecutor executor,
+                               Promise<Channel> promise,
+                               Supplier<Future<Channel>> fallback) {
+            this.bootstrap = bootstrap;
+            this.streamHandler = streamHandler;
+            this.executor = executor;
+            this.promise = promise;
+            this.fallback = fallback;
+        }
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelPipeline;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.handler.codec.http.HttpContentDecompressor;
+import io.netty.handler.codec.http2.Http2FrameCodecBuilder;
+import io.netty.handler.codec.http2.Http2FrameLogger;
+import io.netty.handler.codec.http2.Http2MultiplexHandler;
+import io.netty.handler.codec.http2.Http2Settings;
+import io.netty.handler.codec.http2.Http2StreamFrameToHttpObjectCodec;
+import io.netty.handler.logging.LogLevel;
+import io.netty.handler.ssl.ApplicationProtocolNames;
+import io.netty.handler.ssl.ApplicationProtocolNegotiationHandler;
+import io.netty.handler.timeout.IdleStateEvent;
+import io.netty.handler.timeout.IdleStateHandler;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import io.netty.util.concurrent.Promise;
+
+import static io.helidon.webclient.Http2ChannelPool.NEGOTIATED;
+
+/**
+ * Initializer of a multiplexed HTTP/2 connection.
+ * <p>
+ * Secured connections negotiate the protocol using ALPN, plain text connections use HTTP/2 with prior knowledge.
+ * The outcome is reported by the {@link Http2ChannelPool#NEGOTIATED} promise of the connection. Requests are sent
+ * over streams of the connection, initialized by {@link StreamInitializer}.
+ */
+class Http2ClientInitializer extends ChannelInitializer<SocketChannel> {
+
+    private final RequestConfiguration configuration;
+
+    /**
+     * Creates new instance.
+     *
+     * @param configuration configuration of the request opening the connection
+     */
+    Http2ClientInitializer(RequestConfiguration configuration) {
+        this.configuration = configuration;
+    }
+
+    @Override
+    protected void initChannel(SocketChannel channel) {
+        ChannelPipeline pipeline = channel.pipeline();
+        Promise<Boolean> negotiated = channel.eventLoop().newPromise();
+        channel.attr(NEGOTIATED).set(negotiated);
+        channel.closeFuture().addListener(future -> negotiated.tryFailure(
+                new WebClientException("Connection to " + configuration.requestURI() + " closed")));
+
+        URI address = configuration.requestURI();
+        if (address.toString().startsWith("https")) {
+            pipeline.addLast("ssl", NettyClientInitializer.sslHandler(configuration,
+                                                                      configuration.http2SslContext(),
+                                                                      channel));
+            pipeline.addLast("alpn", new ApplicationProtocolNegotiationHandler(ApplicationProtocolNames.HTTP_1_1) {
+                @Override
+                protected void configurePipeline(ChannelHandlerContext ctx, String protocol) {
+                    if (ApplicationProtocolNames.HTTP_2.equals(protocol)) {
+                        addHttp2Handlers(ctx.pipeline());
+                        negotiated.trySuccess(true);
+                    } else {
+                        negotiated.trySuccess(false);
+                    }
+                }
+
+                @Override
+                protected void handshakeFailure(ChannelHandlerContext ctx, Throwable cause) {
+                    negotiated.tryFailure(cause);
+                    ctx.close();
+                }
+            });
+        } else {
+            addHttp2Handlers(pipeline);
+            pipeline.addLast("priorKnowledge", new ChannelInboundHandlerAdapter() {
+                @Override
+                public void channelActive(ChannelHandlerContext ctx) throws Exception {
+                    // the connection preface has been sent by the codec
+                    super.channelActive(ctx);
+                    ctx.pipeline().remove(this);
+                    negotiated.trySuccess(true);
+                }
+            });
+        }
+    }
+
+    private void addHttp2Handlers(ChannelPipeline pipeline) {
+        pipeline.addLast("http2Codec", Http2FrameCodecBuilder.forClient()
+                .initialSettings(Http2Settings.defaultSettings().pushEnabled(false))
+                .validateHeaders(configuration.validateHeaders())
+                // streams over the limit of the server are buffered until another stream closes
+                .encoderEnforceMaxConcurrentStreams(true)
+                .frameLogger(new Http2FrameLogger(LogLevel.TRACE, NettyClientInitializer.ClientNettyLog.class))
+                .build());
+        pipeline.addLast("http2Multiplexer", new Http2MultiplexHandler(RejectedStreamHandler.INSTANCE));
+        pipeline.addLast("idleStateHandler", new IdleStateHandler(0,
+                                                                  0,
+                                                                  configuration.connectionPool().idleTimeout().toMillis(),
+                                                                  TimeUnit.MILLISECONDS));
+        pipeline.addLast("idleConnectionHandler", new IdleConnectionHandler());
+    }
+
+    /**
+     * Initializer of a single stream of an HTTP/2 connection, used by a single request.
+     * The stream uses the same HTTP message handlers as an HTTP/1.1 connection.
+     */
+    static final class StreamInitializer extends ChannelInitializer<Channel> {
+
+        private final RequestConfiguration configuration;
+
+        /**
+         * Creates new instance.
+         *
+         * @param configuration request configuration
+         */
+        StreamInitializer(RequestConfiguration configuration) {
+            this.configuration = configuration;
+        }
+
+        @Override
+        protected void initChannel(Channel channel) {
+            ChannelPipeline pipeline = channel.pipeline();
+            pipeline.addLast("readTimeout", new ReadTimeoutHandler(configuration.readTimout().toMillis(),
+                                                                   TimeUnit.MILLISECONDS));
+            pipeline.addLast("httpCodec", new Http2StreamFrameToHttpObjectCodec(false, configuration.validateHeaders()));
+            pipeline.addLast("httpDecompressor", new HttpContentDecompressor());
+            pipeline.addLast("helidonHandler", new NettyClientHandler());
+        }
+    }
+
+    private static final class IdleConnectionHandler extends ChannelDuplexHandler {
+
+        @Override
+        public void userEventTriggered(ChannelHandlerContext ctx, Object evt) throws Exception {
+            if (evt instanceof IdleStateEvent) {
+                Http2ChannelPool.closeIfIdle(ctx.channel());
+            }
+            super.userEventTriggered(ctx, evt);
+        }
+
+        @Override
+        public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+            Http2ChannelPool.closed(ctx.channel());
+            super.channelInactive(ctx);
+        }
+    }
+
+    // push is disabled, streams opened by the server are closed
+    @ChannelHandler.Sharable
+    private static final class RejectedStreamHandler extends ChannelInboundHandlerAdapter {
+        private static final RejectedStreamHandler INSTANCE = new RejectedStreamHandler();
+
+        @Override
+        public void channelActive(ChannelHandlerContext ctx) {
+            ctx.close();
+        }
+    }
+}
@@ -16,6 +16,7 @@
 package io.helidon.webclient;
 
 import java.time.Duration;
+import java.util.ServiceLoader;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -24,10 +25,15 @@ import java.util.concurrent.atomic.AtomicReference;
 import io.helidon.common.LazyValue;
 import io.helidon.common.Version;
 import io.helidon.common.http.Http;
+import io.helidon.common.serviceloader.HelidonServiceLoader;
 import io.helidon.config.Config;
 import io.helidon.media.common.MediaContext;
+import io.helidon.webclient.spi.WebClientTransport;
 
+import io.netty.channel.EventLoopGroup;
 import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
 
 /*
  * This class must be:
@@ -41,6 +47,7 @@ final class NettyClient implements WebClient {
     private static final Duration DEFAULT_READ_TIMEOUT = Duration.ofMinutes(10);
     private static final boolean DEFAULT_FOLLOW_REDIRECTS = false;
     private static final boolean DEFAULT_KEEP_ALIVE = true;
+    private static final Http.Version DEFAULT_HTTP_VERSION = Http.Version.V1_1;
     private static final boolean DEFAULT_VALIDATE_HEADERS = true;
     private static final int DEFAULT_NUMBER_OF_REDIRECTS = 5;
     private static final LazyValue<String> DEFAULT_USER_AGENT = LazyValue
@@ -48,6 +55,7 @@ final class NettyClient implements WebClient {
     private static final Proxy DEFAULT_PROXY = Proxy.noProxy();
     private static final MediaContext DEFAULT_MEDIA_SUPPORT = MediaContext.create();
     private static final WebClientTls DEFAULT_TLS = WebClientTls.builder().build();
+    private static final WebClientConnectionPool DEFAULT_CONNECTION_POOL = WebClientConnectionPool.create();
 
     private static final AtomicBoolean DEFAULTS_CONFIGURED = new AtomicBoolean();
 
@@ -63,7 +71,9 @@ final class NettyClient implements WebClient {
                     .writerContextParent(DEFAULT_MEDIA_SUPPORT.writerContext())
                     .proxy(DEFAULT_PROXY)
                     .tls(DEFAULT_TLS)
+                    .connectionPool(DEFAULT_CONNECTION_POOL)
                     .keepAlive(DEFAULT_KEEP_ALIVE)
+                    .httpVersion(DEFAULT_HTTP_VERSION)
                     .validateHeaders(DEFAULT_VALIDATE_HEADERS)
                     .build();
 
@@ -71,9 +81,10 @@ final class NettyClient implements WebClient {
     static final AtomicReference<WebClientConfiguration> SHARED_CONFIGURATION = new AtomicReference<>(DEFAULT_CONFIGURATION);
 
     // shared by all client instances
-    private static LazyValue<NioEventLoopGroup> eventGroup = LazyValue.create(() -> {
+    private static LazyValue<EventLoopGroup> eventGroup = LazyValue.create(() -> {
         throw new IllegalStateException("Value supplier not yet set");
     });
+    private static Class<? extends SocketChannel> channelType = NioSocketChannel.class;
 
     // this instance configuration
     private final WebClientConfiguration configuration;
@@ -91,10 +102,14 @@ final class NettyClient implements WebClient {
         configureDefaults(EMPTY_CONFIG);
     }
 
-    static LazyValue<NioEventLoopGroup> eventGroup() {
+    static LazyValue<EventLoopGroup> eventGroup() {
         return eventGroup;
     }
 
+    static Class<? extends SocketChannel> channelType() {
+        return channelType;
+    }
+
     @Override
     public WebClientRequestBuilder put() {
         return method(Http.Method.PUT);
@@ -161,7 +176,14 @@ final class NettyClient implements WebClient {
                         return result;
                     };
 
-            eventGroup = LazyValue.create(new NioEventLoopGroup(numberOfThreads, threadFactory));
+            WebClientTransport transport = transport(eventLoopConfig.get("native").asBoolean().orElse(true));
+            if (transport == null) {
+                eventGroup = LazyValue.create(new NioEventLoopGroup(numberOfThreads, threadFactory));
+                channelType = NioSocketChannel.class;
+            } else {
+                eventGroup = LazyValue.create(transport.eventLoopGroup(numberOfThreads, threadFactory));
+                channelType = transport.socketChannel();
+            }
 
             builder.config(config);
 
@@ -169,4 +191,15 @@ final class NettyClient implements WebClient {
         }
     }
 
+    private static WebClientTransport transport(boolean useNative) {
+        if (!useNative) {
+            return null;
+        }
+        return HelidonServiceLoader.create(ServiceLoader.load(WebClientTransport.class))
+                .asList()
+                .stream()
+                .filter(WebClientTransport::isAvailable)
+                .findFirst()
+                .orElse(null);
+    }
 }
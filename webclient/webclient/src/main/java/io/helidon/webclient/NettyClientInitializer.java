@@ -34,13 +34,13 @@ import io.netty.handler.codec.http.HttpContentDecompressor;
 import io.netty.handler.logging.LogLevel;
 import io.netty.handler.logging.LoggingHandler;
 import io.netty.handler.proxy.ProxyHandler;
+import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslHandler;
 import io.netty.handler.timeout.IdleStateEvent;
 import io.netty.handler.timeout.IdleStateHandler;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.util.concurrent.FutureListener;
 
-import static io.helidon.webclient.WebClientRequestBuilderImpl.CONNECTION_IDENT;
 import static io.helidon.webclient.WebClientRequestBuilderImpl.IN_USE;
 import static io.helidon.webclient.WebClientRequestBuilderImpl.RESULT;
 
@@ -82,15 +82,7 @@ class NettyClientInitializer extends ChannelInitializer<SocketChannel> {
         // TLS configuration
         if (address.toString().startsWith("https")) {
             configuration.sslContext().ifPresent(ctx -> {
-                SslHandler sslHandler = ctx.newHandler(channel.alloc(), address.getHost(), address.getPort());
-
-                //This is how to enable hostname verification in netty
-                if (!configuration.tls().disableHostnameVerification()) {
-                    SSLEngine sslEngine = sslHandler.engine();
-                    SSLParameters sslParameters = sslEngine.getSSLParameters();
-                    sslParameters.setEndpointIdentificationAlgorithm("HTTPS");
-                    sslEngine.setSSLParameters(sslParameters);
-                }
+                SslHandler sslHandler = sslHandler(configuration, ctx, channel);
 
                 pipeline.addLast("ssl", sslHandler);
                 sslHandler.handshakeFuture().addListener((FutureListener<Channel>) channelFuture -> {
@@ -107,11 +99,36 @@ class NettyClientInitializer extends ChannelInitializer<SocketChannel> {
         pipeline.addLast("logger", new LoggingHandler(ClientNettyLog.class, LogLevel.TRACE));
         pipeline.addLast("httpCodec", new HttpClientCodec());
         pipeline.addLast("httpDecompressor", new HttpContentDecompressor());
-        pipeline.addLast("idleStateHandler", new IdleStateHandler(0, 0, 50));
+        pipeline.addLast("idleStateHandler", new IdleStateHandler(0,
+                                                                  0,
+                                                                  configuration.connectionPool().idleTimeout().toMillis(),
+                                                                  TimeUnit.MILLISECONDS));
         pipeline.addLast("idleConnectionHandler", new IdleConnectionHandler());
         pipeline.addLast("helidonHandler", new NettyClientHandler());
     }
 
+    /**
+     * Creates SSL handler of the connection to the request address.
+     *
+     * @param configuration request configuration
+     * @param sslContext    SSL context
+     * @param channel       connection
+     * @return SSL handler
+     */
+    static SslHandler sslHandler(RequestConfiguration configuration, SslContext sslContext, Channel channel) {
+        URI address = configuration.requestURI();
+        SslHandler sslHandler = sslContext.newHandler(channel.alloc(), address.getHost(), address.getPort());
+
+        //This is how to enable hostname verification in netty
+        if (!configuration.tls().disableHostnameVerification()) {
+            SSLEngine sslEngine = sslHandler.engine();
+            SSLParameters sslParameters = sslEngine.getSSLParameters();
+            sslParameters.setEndpointIdentificationAlgorithm("HTTPS");
+            sslEngine.setSSLParameters(sslParameters);
+        }
+        return sslHandler;
+    }
+
     private static class IdleConnectionHandler extends ChannelDuplexHandler {
 
         private static final Logger LOGGER = Logger.getLogger(IdleConnectionHandler.class.getName());
@@ -129,19 +146,14 @@ class NettyClientInitializer extends ChannelInitializer<SocketChannel> {
 
         @Override
         public void channelInactive(ChannelHandlerContext ctx) throws Exception {
-            if (ctx.channel().hasAttr(CONNECTION_IDENT)) {
-                Channel channel = ctx.channel();
-                WebClientRequestBuilderImpl.ConnectionIdent key = channel.attr(CONNECTION_IDENT).get();
-                LOGGER.finest(() -> "Channel closed -> " + channel.hashCode());
-                if (key != null) {
-                    WebClientRequestBuilderImpl.removeChannelFromCache(key, channel);
-                }
-            }
+            Channel channel = ctx.channel();
+            LOGGER.finest(() -> "Channel closed -> " + channel.hashCode());
+            ChannelPool.closed(channel);
             super.channelInactive(ctx);
         }
     }
 
     // this class is only used to create a log handler in NettyLogHandler, to distinguish from webserver
-    private static final class ClientNettyLog {
+    static final class ClientNettyLog {
     }
 }
@@ -34,6 +34,7 @@ import io.netty.handler.codec.http.HttpHeaderValues;
 import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpUtil;
 import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.util.AttributeKey;
 import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.GenericFutureListener;
 
@@ -48,6 +49,7 @@ class RequestContentSubscriber implements Flow.Subscriber<DataChunk> {
     private static final Logger LOGGER = Logger.getLogger(RequestContentSubscriber.class.getName());
     private static final LastHttpContent LAST_HTTP_CONTENT = new DefaultLastHttpContent(Unpooled.EMPTY_BUFFER);
     private static final Set<HttpMethod> EMPTY_CONTENT_LENGTH = Set.of(HttpMethod.PUT, HttpMethod.POST);
+    private static final AttributeKey<Runnable> WRITE_DEMAND = AttributeKey.valueOf("writeDemand");
 
     private final CompletableFuture<WebClientResponse> responseFuture;
     private final CompletableFuture<WebClientServiceRequest> sent;
@@ -73,6 +75,21 @@ class RequestContentSubscriber implements Flow.Subscriber<DataChunk> {
         this.allowChunkedEncoding = allowChunkedEncoding;
     }
 
+    /**
+     * Requests next data chunk if it was deferred until the channel becomes writable.
+     * The channel of an HTTP/2 stream becomes writable when the flow-control window of the stream allows it.
+     *
+     * @param channel channel with changed writability
+     */
+    static void writable(Channel channel) {
+        if (channel.isWritable() && channel.hasAttr(WRITE_DEMAND)) {
+            Runnable demand = channel.attr(WRITE_DEMAND).getAndSet(null);
+            if (demand != null) {
+                demand.run();
+            }
+        }
+    }
+
     @Override
     public void onSubscribe(Flow.Subscription subscription) {
         this.subscription = subscription;
@@ -163,13 +180,23 @@ class RequestContentSubscriber implements Flow.Subscriber<DataChunk> {
         channel.writeAndFlush(httpContent)
                 .addListener(future -> {
                     data.release();
-                    subscription.request(1);
+                    requestNext();
                     LOGGER.finest(() -> "(client reqID: " + requestId + ") Data chunk sent with result: " + future.isSuccess());
                 })
                 .addListener(completeOnFailureListener("(client reqID: " + requestId + ") Failure when sending a content!"))
                 .addListener(ChannelFutureListener.CLOSE_ON_FAILURE);
     }
 
+    private void requestNext() {
+        if (channel.isWritable()) {
+            subscription.request(1);
+        } else {
+            // back-pressure, wait until the outbound buffer (or the flow-control window) drains
+            channel.attr(WRITE_DEMAND).set(() -> subscription.request(1));
+            writable(channel);
+        }
+    }
+
     private GenericFutureListener<Future<? super Void>> completeOnFailureListener(String message) {
         return future -> {
             if (!future.isSuccess()) {
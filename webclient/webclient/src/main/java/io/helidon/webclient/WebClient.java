@@ -287,6 +287,17 @@ public interface WebClient {
             return this;
         }
 
+        /**
+         * Sets configuration of the pool of keep-alive connections.
+         *
+         * @param connectionPool connection pool configuration
+         * @return updated builder instance
+         */
+        public Builder connectionPool(WebClientConnectionPool connectionPool) {
+            configuration.connectionPool(connectionPool);
+            return this;
+        }
+
         /**
          * Sets specific context which should be used in requests.
          *
@@ -391,6 +402,22 @@ public interface WebClient {
             return this;
         }
 
+        /**
+         * Default HTTP version of the requests, {@link Http.Version#V1_1} by default.
+         * <p>
+         * Requests using {@link Http.Version#V2_0} are multiplexed over shared connections of their route. Secured
+         * connections negotiate HTTP/2 using ALPN and fall back to HTTP/1.1 if the server does not support it,
+         * plain text connections use HTTP/2 with prior knowledge. Requests sent through a proxy use HTTP/1.1.
+         *
+         * @param httpVersion http version
+         * @return updated builder instance
+         * @see WebClientConnectionPool.Builder#maxHttp2ConnectionsPerRoute(int)
+         */
+        public Builder httpVersion(Http.Version httpVersion) {
+            configuration.httpVersion(httpVersion);
+            return this;
+        }
+
         /**
          * Whether to validate header names.
          * Defaults to {@code true}.
@@ -35,6 +35,7 @@ import javax.net.ssl.SSLException;
 
 import io.helidon.common.LazyValue;
 import io.helidon.common.context.Context;
+import io.helidon.common.http.Http;
 import io.helidon.config.Config;
 import io.helidon.config.DeprecatedConfig;
 import io.helidon.media.common.MediaContext;
@@ -49,6 +50,8 @@ import io.helidon.media.common.MessageBodyWriterContext;
 import io.helidon.media.common.ParentingMediaContextBuilder;
 import io.helidon.webclient.spi.WebClientService;
 
+import io.netty.handler.ssl.ApplicationProtocolConfig;
+import io.netty.handler.ssl.ApplicationProtocolNames;
 import io.netty.handler.ssl.ClientAuth;
 import io.netty.handler.ssl.IdentityCipherSuiteFilter;
 import io.netty.handler.ssl.JdkSslContext;
@@ -75,10 +78,12 @@ class WebClientConfiguration {
     private final Proxy proxy;
     private final boolean followRedirects;
     private final boolean keepAlive;
+    private final Http.Version httpVersion;
     private final int maxRedirects;
     private final MessageBodyReaderContext readerContext;
     private final MessageBodyWriterContext writerContext;
     private final WebClientTls webClientTls;
+    private final WebClientConnectionPool connectionPool;
     private final URI uri;
     private final boolean validateHeaders;
 
@@ -94,6 +99,7 @@ class WebClientConfiguration {
         this.userAgent = builder.userAgent;
         this.proxy = builder.proxy;
         this.webClientTls = builder.webClientTls;
+        this.connectionPool = builder.connectionPool;
         this.maxRedirects = builder.maxRedirects;
         this.clientHeaders = builder.clientHeaders;
         this.cookiePolicy = builder.cookiePolicy;
@@ -109,6 +115,7 @@ class WebClientConfiguration {
         this.clientServices = Collections.unmodifiableList(builder.clientServices);
         this.uri = builder.uri;
         this.keepAlive = builder.keepAlive;
+        this.httpVersion = builder.httpVersion;
         this.validateHeaders = builder.validateHeaders;
     }
 
@@ -131,14 +138,32 @@ class WebClientConfiguration {
     }
 
     Optional<SslContext> sslContext() {
+        return Optional.of(sslContext(null));
+    }
+
+    /**
+     * SSL context negotiating {@code h2} using ALPN, with fallback to {@code http/1.1}.
+     *
+     * @return SSL context for HTTP/2 connections
+     */
+    SslContext http2SslContext() {
+        return sslContext(new ApplicationProtocolConfig(ApplicationProtocolConfig.Protocol.ALPN,
+                                                        ApplicationProtocolConfig.SelectorFailureBehavior.NO_ADVERTISE,
+                                                        ApplicationProtocolConfig.SelectedListenerFailureBehavior.ACCEPT,
+                                                        ApplicationProtocolNames.HTTP_2,
+                                                        ApplicationProtocolNames.HTTP_1_1));
+    }
+
+    private SslContext sslContext(ApplicationProtocolConfig protocolConfig) {
         SslContext sslContext;
         try {
             if (webClientTls.sslContext().isPresent()) {
-                sslContext = nettySslFromJavaNet(webClientTls.sslContext().get());
+                sslContext = nettySslFromJavaNet(webClientTls.sslContext().get(), protocolConfig);
             } else {
                 SslContextBuilder sslContextBuilder = SslContextBuilder
                         .forClient()
-                        .sslProvider(SslProvider.JDK);
+                        .sslProvider(SslProvider.JDK)
+                        .applicationProtocolConfig(protocolConfig);
                 if (webClientTls.certificates().size() > 0) {
                     sslContextBuilder.trustManager(webClientTls.certificates().toArray(new X509Certificate[0]));
                 }
@@ -159,14 +184,14 @@ class WebClientConfiguration {
         } catch (SSLException e) {
             throw new WebClientException("An error occurred while creating ssl context.", e);
         }
-        return Optional.of(sslContext);
+        return sslContext;
     }
 
-    private SslContext nettySslFromJavaNet(SSLContext javaNetContext) {
+    private SslContext nettySslFromJavaNet(SSLContext javaNetContext, ApplicationProtocolConfig protocolConfig) {
         Set<String> allowedCipherSuite = webClientTls.allowedCipherSuite();
         return new JdkSslContext(
                 javaNetContext, true, allowedCipherSuite.isEmpty() ? null : allowedCipherSuite,
-                IdentityCipherSuiteFilter.INSTANCE, null,
+                IdentityCipherSuiteFilter.INSTANCE, protocolConfig,
                 ClientAuth.OPTIONAL, null, false);
     }
 
@@ -246,6 +271,10 @@ class WebClientConfiguration {
         return webClientTls;
     }
 
+    WebClientConnectionPool connectionPool() {
+        return connectionPool;
+    }
+
     Optional<Context> context() {
         return Optional.ofNullable(context);
     }
@@ -274,6 +303,15 @@ class WebClientConfiguration {
         return keepAlive;
     }
 
+    /**
+     * Default HTTP version of the requests.
+     *
+     * @return http version
+     */
+    Http.Version httpVersion() {
+        return httpVersion;
+    }
+
     boolean validateHeaders() {
         return validateHeaders;
     }
@@ -301,7 +339,9 @@ class WebClientConfiguration {
         private Proxy proxy;
         private boolean enableAutomaticCookieStore;
         private boolean keepAlive;
+        private Http.Version httpVersion;
         private WebClientTls webClientTls;
+        private WebClientConnectionPool connectionPool;
         private URI uri;
         private MessageBodyReaderContext readerContext;
         private MessageBodyWriterContext writerContext;
@@ -401,6 +441,17 @@ class WebClientConfiguration {
             return me;
         }
 
+        /**
+         * Sets configuration of the pool of keep-alive connections.
+         *
+         * @param connectionPool connection pool configuration
+         * @return updated builder instance
+         */
+        public B connectionPool(WebClientConnectionPool connectionPool) {
+            this.connectionPool = connectionPool;
+            return me;
+        }
+
         /**
          * Sets max number of followed redirects.
          *
@@ -576,6 +627,11 @@ class WebClientConfiguration {
             return me;
         }
 
+        B httpVersion(Http.Version httpVersion) {
+            this.httpVersion = httpVersion;
+            return me;
+        }
+
         /**
          * Configures this {@link WebClientConfiguration.Builder} from the supplied {@link Config}.
          * <table class="config">
@@ -613,6 +669,10 @@ class WebClientConfiguration {
          *     <td>Whether connection should be kept alive</td>
          * </tr>
          * <tr>
+         *     <td>http-version</td>
+         *     <td>Default HTTP version of the requests, {@code HTTP/1.1} or {@code HTTP/2.0}</td>
+         * </tr>
+         * <tr>
          *     <td>cookies</td>
          *     <td>Default cookies which should be used</td>
          * </tr>
@@ -628,6 +688,10 @@ class WebClientConfiguration {
          *     <td>proxy</td>
          *     <td>Proxy configuration. See {@link Proxy.Builder#config(Config)}</td>
          * </tr>
+         * <tr>
+         *     <td>connection-pool</td>
+         *     <td>Connection pool configuration. See {@link WebClientConnectionPool.Builder#config(Config)}</td>
+         * </tr>
          * </table>
          *
          * @param config config
@@ -643,6 +707,7 @@ class WebClientConfiguration {
             config.get("max-redirects").asInt().ifPresent(this::maxRedirects);
             config.get("user-agent").asString().ifPresent(this::userAgent);
             config.get("keep-alive").asBoolean().ifPresent(this::keepAlive);
+            config.get("http-version").asString().map(Http.Version::create).ifPresent(this::httpVersion);
             config.get("cookies").asNode().ifPresent(this::cookies);
             config.get("headers").asNode().ifPresent(this::headers);
             DeprecatedConfig.get(config, "tls", "ssl")
@@ -653,6 +718,10 @@ class WebClientConfiguration {
                     .as(Proxy.builder()::config)
                     .map(Proxy.Builder::build)
                     .ifPresent(this::proxy);
+            config.get("connection-pool")
+                    .as(WebClientConnectionPool.builder()::config)
+                    .map(WebClientConnectionPool.Builder::build)
+                    .ifPresent(this::connectionPool);
             config.get("media-support").as(MediaContext::create).ifPresent(this::mediaContext);
             return me;
         }
@@ -670,6 +739,7 @@ class WebClientConfiguration {
             userAgent(configuration.userAgent);
             proxy(configuration.proxy);
             tls(configuration.webClientTls);
+            connectionPool(configuration.connectionPool);
             maxRedirects(configuration.maxRedirects);
             clientHeaders(configuration.clientHeaders);
             enableAutomaticCookieStore(configuration.enableAutomaticCookieStore);
@@ -680,6 +750,7 @@ class WebClientConfiguration {
             writerContextParent(configuration.writerContext);
             context(configuration.context);
             keepAlive(configuration.keepAlive);
+            httpVersion(configuration.httpVersion);
             validateHeaders(configuration.validateHeaders);
             configuration.cookieManager.defaultCookies().forEach(this::defaultCookie);
             config = configuration.config;
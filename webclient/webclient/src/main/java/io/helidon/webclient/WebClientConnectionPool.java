@@ -0,0 +1,306 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import io.helidon.config.Config;
+
+/**
+ * Configuration of the pool of keep-alive HTTP/1.1 connections and of multiplexed HTTP/2 connections.
+ * <p>
+ * Connections are pooled per route, that is per scheme, host and port (and proxy and TLS configuration).
+ * A request obtains the most recently returned idle connection of its route, so that the least recently used
+ * connections become idle and are closed after {@link #idleTimeout()}. If all connections of a route are in use
+ * and the route has {@link #maxConnectionsPerRoute()} connections, the request waits for a connection to be returned
+ * (at most for the connect timeout of the request). If {@link #maxPendingAcquires()} requests are already waiting,
+ * the request fails immediately.
+ * <p>
+ * HTTP/2 requests share connections of their route, each request is a stream of a connection. A new connection
+ * is only opened when all connections of the route reached the maximal number of concurrent streams allowed by
+ * the server, up to {@link #maxHttp2ConnectionsPerRoute()} connections.
+ */
+public final class WebClientConnectionPool {
+
+    private static final int DEFAULT_MAX_CONNECTIONS_PER_ROUTE = 64;
+    private static final int DEFAULT_MAX_PENDING_ACQUIRES = 1024;
+    private static final int DEFAULT_MAX_HTTP2_CONNECTIONS_PER_ROUTE = 2;
+    private static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofSeconds(50);
+
+    private final int maxConnectionsPerRoute;
+    private final int maxPendingAcquires;
+    private final int maxHttp2ConnectionsPerRoute;
+    private final Duration idleTimeout;
+    private final Duration maxLifetime;
+
+    private WebClientConnectionPool(Builder builder) {
+        this.maxConnectionsPerRoute = builder.maxConnectionsPerRoute;
+        this.maxPendingAcquires = builder.maxPendingAcquires;
+        this.maxHttp2ConnectionsPerRoute = builder.maxHttp2ConnectionsPerRoute;
+        this.idleTimeout = builder.idleTimeout;
+        this.maxLifetime = builder.maxLifetime;
+    }
+
+    /**
+     * Fluent API builder for new instances.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Create a new instance with default values.
+     *
+     * @return connection pool configuration
+     */
+    public static WebClientConnectionPool create() {
+        return builder().build();
+    }
+
+    /**
+     * Statistics of all connection pools, one for each route connected to so far.
+     *
+     * @return connection pool statistics
+     */
+    public static List<ConnectionPoolStatistics> statistics() {
+        List<ConnectionPoolStatistics> result = new ArrayList<>(ChannelPool.pools());
+        result.addAll(Http2ChannelPool.pools());
+        return List.copyOf(result);
+    }
+
+    /**
+     * Maximal number of connections to a single route, both idle and in use.
+     *
+     * @return maximal number of connections
+     */
+    int maxConnectionsPerRoute() {
+        return maxConnectionsPerRoute;
+    }
+
+    /**
+     * Maximal number of requests waiting for a connection to a single route.
+     *
+     * @return maximal number of pending requests
+     */
+    int maxPendingAcquires() {
+        return maxPendingAcquires;
+    }
+
+    /**
+     * Maximal number of multiplexed HTTP/2 connections to a single route.
+     *
+     * @return maximal number of HTTP/2 connections
+     */
+    int maxHttp2ConnectionsPerRoute() {
+        return maxHttp2ConnectionsPerRoute;
+    }
+
+    /**
+     * Time after which an idle connection is closed.
+     *
+     * @return idle timeout
+     */
+    Duration idleTimeout() {
+        return idleTimeout;
+    }
+
+    /**
+     * Maximal time a connection is used for, {@link Duration#ZERO} for unlimited.
+     *
+     * @return maximal lifetime
+     */
+    Duration maxLifetime() {
+        return maxLifetime;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        WebClientConnectionPool that = (WebClientConnectionPool) o;
+        return maxConnectionsPerRoute == that.maxConnectionsPerRoute
+                && maxPendingAcquires == that.maxPendingAcquires
+                && maxHttp2ConnectionsPerRoute == that.maxHttp2ConnectionsPerRoute
+                && idleTimeout.equals(that.idleTimeout)
+                && maxLifetime.equals(that.maxLifetime);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(maxConnectionsPerRoute, maxPendingAcquires, maxHttp2ConnectionsPerRoute, idleTimeout, maxLifetime);
+    }
+
+    @Override
+    public String toString() {
+        return "WebClientConnectionPool{"
+                + "maxConnectionsPerRoute=" + maxConnectionsPerRoute
+                + ", maxPendingAcquires=" + maxPendingAcquires
+                + ", maxHttp2ConnectionsPerRoute=" + maxHttp2ConnectionsPerRoute
+                + ", idleTimeout=" + idleTimeout
+                + ", maxLifetime=" + maxLifetime
+                + '}';
+    }
+
+    /**
+     * Fluent API builder for {@link WebClientConnectionPool} instance.
+     */
+    public static final class Builder implements io.helidon.common.Builder<WebClientConnectionPool> {
+
+        private int maxConnectionsPerRoute = DEFAULT_MAX_CONNECTIONS_PER_ROUTE;
+        private int maxPendingAcquires = DEFAULT_MAX_PENDING_ACQUIRES;
+        private int maxHttp2ConnectionsPerRoute = DEFAULT_MAX_HTTP2_CONNECTIONS_PER_ROUTE;
+        private Duration idleTimeout = DEFAULT_IDLE_TIMEOUT;
+        private Duration maxLifetime = Duration.ZERO;
+
+        private Builder() {
+        }
+
+        /**
+         * Maximal number of connections to a single route, both idle and in use.
+         * Defaults to {@code 64}.
+         *
+         * @param maxConnectionsPerRoute maximal number of connections
+         * @return updated builder instance
+         */
+        public Builder maxConnectionsPerRoute(int maxConnectionsPerRoute) {
+            if (maxConnectionsPerRoute < 1) {
+                throw new IllegalArgumentException("Max connections per route must be positive: " + maxConnectionsPerRoute);
+            }
+            this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+            return this;
+        }
+
+        /**
+         * Maximal number of requests waiting for a connection to a single route. Requests over this limit fail
+         * immediately. Defaults to {@code 1024}.
+         *
+         * @param maxPendingAcquires maximal number of pending requests, {@code 0} to fail whenever no connection
+         *                           is available
+         * @return updated builder instance
+         */
+        public Builder maxPendingAcquires(int maxPendingAcquires) {
+            if (maxPendingAcquires < 0) {
+                throw new IllegalArgumentException("Max pending acquires must not be negative: " + maxPendingAcquires);
+            }
+            this.maxPendingAcquires = maxPendingAcquires;
+            return this;
+        }
+
+        /**
+         * Maximal number of multiplexed HTTP/2 connections to a single route. Requests are multiplexed over
+         * the existing connections, a new one is only opened when the existing connections cannot open
+         * another stream. Defaults to {@code 2}.
+         *
+         * @param maxHttp2ConnectionsPerRoute maximal number of HTTP/2 connections
+         * @return updated builder instance
+         */
+        public Builder maxHttp2ConnectionsPerRoute(int maxHttp2ConnectionsPerRoute) {
+            if (maxHttp2ConnectionsPerRoute < 1) {
+                throw new IllegalArgumentException("Max HTTP/2 connections per route must be positive: "
+                                                           + maxHttp2ConnectionsPerRoute);
+            }
+            this.maxHttp2ConnectionsPerRoute = maxHttp2ConnectionsPerRoute;
+            return this;
+        }
+
+        /**
+         * Time after which an idle connection is closed. Defaults to 50 seconds.
+         *
+         * @param idleTimeout idle timeout
+         * @return updated builder instance
+         */
+        public Builder idleTimeout(Duration idleTimeout) {
+            this.idleTimeout = Objects.requireNonNull(idleTimeout);
+            return this;
+        }
+
+        /**
+         * Maximal time a connection is used for. A connection older than this is closed instead of being reused.
+         * Defaults to {@link Duration#ZERO}, connections are reused for unlimited time.
+         *
+         * @param maxLifetime maximal lifetime of a connection
+         * @return updated builder instance
+         */
+        public Builder maxLifetime(Duration maxLifetime) {
+            this.maxLifetime = Objects.requireNonNull(maxLifetime);
+            return this;
+        }
+
+        /**
+         * Configure the connection pool from configuration.
+         * The following configuration keys are used:
+         * <table>
+         * <caption>Connection pool configuration options</caption>
+         * <tr>
+         *     <th>key</th>
+         *     <th>default</th>
+         *     <th>description</th>
+         * </tr>
+         * <tr>
+         *     <td>max-connections-per-route</td>
+         *     <td>{@code 64}</td>
+         *     <td>Maximal number of connections to a single route</td>
+         * </tr>
+         * <tr>
+         *     <td>max-pending-acquires</td>
+         *     <td>{@code 1024}</td>
+         *     <td>Maximal number of requests waiting for a connection to a single route</td>
+         * </tr>
+         * <tr>
+         *     <td>max-http2-connections-per-route</td>
+         *     <td>{@code 2}</td>
+         *     <td>Maximal number of multiplexed HTTP/2 connections to a single route</td>
+         * </tr>
+         * <tr>
+         *     <td>idle-timeout-millis</td>
+         *     <td>{@code 50000}</td>
+         *     <td>Time after which an idle connection is closed</td>
+         * </tr>
+         * <tr>
+         *     <td>max-lifetime-millis</td>
+         *     <td>{@code 0}</td>
+         *     <td>Maximal time a connection is used for, {@code 0} for unlimited</td>
+         * </tr>
+         * </table>
+         *
+         * @param config configuration of the connection pool
+         * @return updated builder instance
+         */
+        public Builder config(Config config) {
+            config.get("max-connections-per-route").asInt().ifPresent(this::maxConnectionsPerRoute);
+            config.get("max-pending-acquires").asInt().ifPresent(this::maxPendingAcquires);
+            config.get("max-http2-connections-per-route").asInt().ifPresent(this::maxHttp2ConnectionsPerRoute);
+            config.get("idle-timeout-millis").asLong().ifPresent(timeout -> idleTimeout(Duration.ofMillis(timeout)));
+            config.get("max-lifetime-millis").asLong().ifPresent(lifetime -> maxLifetime(Duration.ofMillis(lifetime)));
+            return this;
+        }
+
+        @Override
+        public WebClientConnectionPool build() {
+            return new WebClientConnectionPool(this);
+        }
+    }
+}
@@ -179,6 +179,8 @@ public interface WebClientRequestBuilder {
 
     /**
      * Sets http version.
+     * Requests using {@link Http.Version#V2_0} are multiplexed over shared HTTP/2 connections,
+     * see {@link WebClient.Builder#httpVersion(Http.Version)}.
      *
      * @param httpVersion http version
      * @return updated builder instance
@@ -24,21 +24,19 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
 import java.util.StringTokenizer;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Flow;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 import io.helidon.common.GenericType;
@@ -63,8 +61,6 @@ import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
-import io.netty.channel.nio.NioEventLoopGroup;
-import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.handler.codec.http.DefaultHttpHeaders;
 import io.netty.handler.codec.http.DefaultHttpRequest;
 import io.netty.handler.codec.http.HttpHeaderNames;
@@ -73,8 +69,13 @@ import io.netty.handler.codec.http.HttpHeaders;
 import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpUtil;
 import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http2.Http2StreamChannel;
 import io.netty.util.AsciiString;
 import io.netty.util.AttributeKey;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.FutureListener;
+import io.netty.util.concurrent.Promise;
 
 /**
  * Implementation of {@link WebClientRequestBuilder}.
@@ -83,7 +84,6 @@ class WebClientRequestBuilderImpl implements WebClientRequestBuilder {
 
     private static final Logger LOGGER = Logger.getLogger(WebClientRequestBuilderImpl.class.getName());
 
-    private static final Map<ConnectionIdent, Set<ChannelRecord>> CHANNEL_CACHE = new ConcurrentHashMap<>();
     static final AttributeKey<WebClientRequestImpl> REQUEST = AttributeKey.valueOf("request");
     static final AttributeKey<CompletableFuture<WebClientServiceResponse>> RECEIVED = AttributeKey.valueOf("received");
     static final AttributeKey<CompletableFuture<WebClientServiceResponse>> COMPLETED = AttributeKey.valueOf("completed");
@@ -91,7 +91,6 @@ class WebClientRequestBuilderImpl implements WebClientRequestBuilder {
     static final AttributeKey<AtomicBoolean> IN_USE = AttributeKey.valueOf("inUse");
     static final AttributeKey<AtomicBoolean> RETURN = AttributeKey.valueOf("finished");
     static final AttributeKey<WebClientResponse> RESPONSE = AttributeKey.valueOf("response");
-    static final AttributeKey<ConnectionIdent> CONNECTION_IDENT = AttributeKey.valueOf("connectionIdent");
     static final AttributeKey<Long> REQUEST_ID = AttributeKey.valueOf("requestID");
 
     private static final AtomicLong REQUEST_NUMBER = new AtomicLong(0);
@@ -104,7 +103,7 @@ class WebClientRequestBuilderImpl implements WebClientRequestBuilder {
     }
 
     private final Map<String, String> properties;
-    private final LazyValue<NioEventLoopGroup> eventGroup;
+    private final LazyValue<EventLoopGroup> eventGroup;
     private final WebClientConfiguration configuration;
     private final Http.RequestMethod method;
     private final WebClientRequestHeaders headers;
@@ -130,7 +129,7 @@ class WebClientRequestBuilderImpl implements WebClientRequestBuilder {
     private Long requestId;
     private boolean allowChunkedEncoding;
 
-    private WebClientRequestBuilderImpl(LazyValue<NioEventLoopGroup> eventGroup,
+    private WebClientRequestBuilderImpl(LazyValue<EventLoopGroup> eventGroup,
                                         WebClientConfiguration configuration,
                                         Http.RequestMethod method) {
         this.properties = new HashMap<>();
@@ -144,7 +143,6 @@ class WebClientRequestBuilderImpl implements WebClientRequestBuilder {
         //Default headers added to the current headers of the request
         this.headers = new WebClientRequestHeadersImpl(this.configuration.headers());
         this.queryParams = new WebClientQueryParams();
-        this.httpVersion = Http.Version.V1_1;
         this.redirectionCount = 0;
         this.services = configuration.clientServices();
         this.readerContext = MessageBodyReaderContext.create(configuration.readerContext());
@@ -159,9 +157,10 @@ class WebClientRequestBuilderImpl implements WebClientRequestBuilder {
         this.connectTimeout = configuration.connectTimeout();
         this.proxy = configuration.proxy().orElse(Proxy.noProxy());
         this.keepAlive = configuration.keepAlive();
+        this.httpVersion = configuration.httpVersion();
     }
 
-    public static WebClientRequestBuilder create(LazyValue<NioEventLoopGroup> eventGroup,
+    public static WebClientRequestBuilder create(LazyValue<EventLoopGroup> eventGroup,
                                                  WebClientConfiguration configuration,
                                                  Http.RequestMethod method) {
         return new WebClientRequestBuilderImpl(eventGroup, configuration, method);
@@ -191,40 +190,18 @@ class WebClientRequestBuilderImpl implements WebClientRequestBuilder {
         return builder;
     }
 
-    private static ChannelFuture obtainChannelFuture(RequestConfiguration configuration,
-                                                     Bootstrap bootstrap) {
-        ConnectionIdent connectionIdent = new ConnectionIdent(configuration);
-        Set<ChannelRecord> channels = CHANNEL_CACHE.computeIfAbsent(connectionIdent,
-                                                                    s -> Collections.synchronizedSet(new HashSet<>()));
-        synchronized (channels) {
-            for (ChannelRecord channelRecord : channels) {
-                Channel channel = channelRecord.channel;
-                if (channel.isOpen() && channel.attr(IN_USE).get().compareAndSet(false, true)) {
-                    LOGGER.finest(() -> "Reusing -> " + channel.hashCode());
-                    LOGGER.finest(() -> "Setting in use -> true");
-                    return channelRecord.channelFuture;
-                }
-                LOGGER.finest(() -> "Not accepted -> " + channel.hashCode());
-                LOGGER.finest(() -> "Open -> " + channel.isOpen());
-                LOGGER.finest(() -> "In use -> " + channel.attr(IN_USE).get());
+    private static Future<Channel> connect(Bootstrap bootstrap, EventExecutor executor, URI uri) {
+        // connection not kept alive, it is not pooled
+        Promise<Channel> promise = executor.newPromise();
+        ChannelFuture connect = bootstrap.connect(uri.getHost(), uri.getPort());
+        connect.addListener((ChannelFutureListener) future -> {
+            if (future.isSuccess()) {
+                promise.setSuccess(future.channel());
+            } else {
+                promise.setFailure(future.cause());
             }
-            LOGGER.finest(() -> "New connection to -> " + connectionIdent);
-            URI uri = connectionIdent.base;
-            ChannelFuture connect = bootstrap.connect(uri.getHost(), uri.getPort());
-            Channel channel = connect.channel();
-            channel.attr(IN_USE).set(new AtomicBoolean(true));
-            channel.attr(RETURN).set(new AtomicBoolean(false));
-            channel.attr(CONNECTION_IDENT).set(connectionIdent);
-            channels.add(new ChannelRecord(connect));
-            return connect;
-        }
-    }
-
-    static void removeChannelFromCache(ConnectionIdent key, Channel channel) {
-        LOGGER.finest(() -> "Removing from channel cache.");
-        LOGGER.finest(() -> "Connection ident -> " + key);
-        LOGGER.finest(() -> "Channel -> " + channel.hashCode());
-        CHANNEL_CACHE.get(key).remove(new ChannelRecord(channel));
+        });
+        return promise;
     }
 
     @Override
@@ -572,27 +549,53 @@ class WebClientRequestBuilderImpl implements WebClientRequestBuilder {
             EventLoopGroup group = eventGroup.get();
             Bootstrap bootstrap = new Bootstrap();
             bootstrap.group(group)
-                    .channel(NioSocketChannel.class)
+                    .channel(NettyClient.channelType())
                     .handler(new NettyClientInitializer(requestConfiguration))
                     .option(ChannelOption.SO_KEEPALIVE, keepAlive)
                     .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis());
 
-            ChannelFuture channelFuture = keepAlive
-                    ? obtainChannelFuture(requestConfiguration, bootstrap)
-                    : bootstrap.connect(finalUri.getHost(), finalUri.getPort());
-
-            channelFuture.addListener((ChannelFutureListener) future -> {
-                LOGGER.finest(() -> "(client reqID: " + requestId + ") "
-                        + "Channel hashcode -> " + channelFuture.channel().hashCode());
-                channelFuture.channel().attr(REQUEST).set(clientRequest);
-                channelFuture.channel().attr(RECEIVED).set(responseReceived);
-                channelFuture.channel().attr(COMPLETED).set(complete);
-                channelFuture.channel().attr(RESULT).set(result);
-                channelFuture.channel().attr(REQUEST_ID).set(requestId);
+            ConnectionIdent connectionIdent = new ConnectionIdent(requestConfiguration);
+            Supplier<Future<Channel>> http1Channel = () -> keepAlive
+                    ? ChannelPool.get(connectionIdent, requestConfiguration.connectionPool())
+                            .acquire(bootstrap, group.next(), connectTimeout)
+                    : connect(bootstrap, group.next(), finalUri);
+
+            Future<Channel> channelFuture;
+            if (httpVersion == Http.Version.V2_0 && proxy == Proxy.noProxy()) {
+                // requests are multiplexed over shared connections, each one uses its own stream
+                Bootstrap http2Bootstrap = new Bootstrap();
+                http2Bootstrap.group(group)
+                        .channel(NettyClient.channelType())
+                        .handler(new Http2ClientInitializer(requestConfiguration))
+                        .option(ChannelOption.SO_KEEPALIVE, true)
+                        .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis());
+                channelFuture = Http2ChannelPool.get(connectionIdent, requestConfiguration.connectionPool())
+                        .acquire(http2Bootstrap,
+                                 new Http2ClientInitializer.StreamInitializer(requestConfiguration),
+                                 group.next(),
+                                 connectTimeout,
+                                 http1Channel);
+            } else {
+                channelFuture = http1Channel.get();
+            }
+
+            channelFuture.addListener((FutureListener<Channel>) future -> {
                 Throwable cause = future.cause();
                 if (null == cause) {
+                    Channel channel = future.getNow();
+                    LOGGER.finest(() -> "(client reqID: " + requestId + ") "
+                            + "Channel hashcode -> " + channel.hashCode());
+                    channel.attr(REQUEST).set(clientRequest);
+                    channel.attr(RECEIVED).set(responseReceived);
+                    channel.attr(COMPLETED).set(complete);
+                    channel.attr(RESULT).set(result);
+                    channel.attr(REQUEST_ID).set(requestId);
+                    if (channel instanceof Http2StreamChannel) {
+                        // authority of the HTTP/2 request is taken from the absolute URI
+                        request.setUri(finalUri.toASCIIString());
+                    }
                     RequestContentSubscriber requestContentSubscriber = new RequestContentSubscriber(request,
-                                                                                                     channelFuture.channel(),
+                                                                                                     channel,
                                                                                                      result,
                                                                                                      sent,
                                                                                                      allowChunkedEncoding);
@@ -743,6 +746,10 @@ class WebClientRequestBuilderImpl implements WebClientRequestBuilder {
     }
 
     private HttpVersion toNettyHttpVersion(Http.Version version) {
+        if (version == Http.Version.V2_0) {
+            // HTTP/2 streams are converted from HTTP/1.1 messages, also used when falling back to HTTP/1.1
+            return HttpVersion.HTTP_1_1;
+        }
         return HttpVersion.valueOf(version.value());
     }
 
@@ -877,46 +884,13 @@ class WebClientRequestBuilderImpl implements WebClientRequestBuilder {
         }
     }
 
-    private static class ChannelRecord {
-
-        private final ChannelFuture channelFuture;
-        private final Channel channel;
-
-        private ChannelRecord(ChannelFuture channelFuture) {
-            this.channelFuture = channelFuture;
-            this.channel = channelFuture.channel();
-        }
-
-        private ChannelRecord(Channel channel) {
-            this.channelFuture = null;
-            this.channel = channel;
-        }
-
-        @Override
-        public boolean equals(Object o) {
-            if (this == o) {
-                return true;
-            }
-            if (o == null || getClass() != o.getClass()) {
-                return false;
-            }
-            ChannelRecord that = (ChannelRecord) o;
-            //Intentional comparison without equals
-            return channel == that.channel;
-        }
-
-        @Override
-        public int hashCode() {
-            return channel.hashCode();
-        }
-    }
-
     static class ConnectionIdent {
 
         private final URI base;
         private final Duration readTimeout;
         private final Proxy proxy;
         private final WebClientTls tls;
+        private final WebClientConnectionPool connectionPool;
 
         private ConnectionIdent(RequestConfiguration requestConfiguration) {
             URI uri = requestConfiguration.requestURI();
@@ -924,6 +898,11 @@ class WebClientRequestBuilderImpl implements WebClientRequestBuilder {
             this.readTimeout = requestConfiguration.readTimout();
             this.proxy = requestConfiguration.proxy().orElse(null);
             this.tls = requestConfiguration.tls();
+            this.connectionPool = requestConfiguration.connectionPool();
+        }
+
+        URI base() {
+            return base;
         }
 
         @Override
@@ -938,12 +917,13 @@ class WebClientRequestBuilderImpl implements WebClientRequestBuilder {
             return Objects.equals(base, that.base)
                     && Objects.equals(readTimeout, that.readTimeout)
                     && Objects.equals(proxy, that.proxy)
-                    && Objects.equals(tls, that.tls);
+                    && Objects.equals(tls, that.tls)
+                    && Objects.equals(connectionPool, that.connectionPool);
         }
 
         @Override
         public int hashCode() {
-            return Objects.hash(base, readTimeout, proxy, tls);
+            return Objects.hash(base, readTimeout, proxy, tls, connectionPool);
         }
 
         @Override
@@ -953,6 +933,7 @@ class WebClientRequestBuilderImpl implements WebClientRequestBuilder {
                     + ", readTimeout=" + readTimeout
                     + ", proxy=" + proxy
                     + ", tls=" + tls
+                    + ", connectionPool=" + connectionPool
                     + '}';
         }
     }
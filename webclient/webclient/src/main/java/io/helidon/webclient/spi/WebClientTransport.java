@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.webclient.spi;
+
+import java.util.concurrent.ThreadFactory;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+
+/**
+ * Java service loader interface providing the network transport of the client, such as a native transport.
+ * <p>
+ * The first available transport (ordered by {@code Priority}) is used by all client instances,
+ * if none is available, the NIO transport is used.
+ */
+public interface WebClientTransport {
+    /**
+     * Whether this transport can be used in the current environment (operating system, native libraries).
+     *
+     * @return {@code true} if available
+     */
+    boolean isAvailable();
+
+    /**
+     * Create a new event loop group of this transport.
+     *
+     * @param threads       number of threads
+     * @param threadFactory thread factory to use
+     * @return a new event loop group
+     */
+    EventLoopGroup eventLoopGroup(int threads, ThreadFactory threadFactory);
+
+    /**
+     * Type of the socket channel used with event loop groups of this transport.
+     *
+     * @return socket channel class
+     */
+    Class<? extends SocketChannel> socketChannel();
+}
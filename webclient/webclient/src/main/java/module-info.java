@@ -32,6 +32,7 @@ module io.helidon.webclient {
     requires io.netty.buffer;
     requires io.netty.codec;
     requires io.netty.codec.http;
+    requires io.netty.codec.http2;
     requires io.netty.common;
     requires io.netty.handler;
     requires io.netty.handler.proxy;
@@ -41,5 +42,6 @@ module io.helidon.webclient {
     exports io.helidon.webclient.spi;
 
     uses io.helidon.webclient.spi.WebClientServiceProvider;
+    uses io.helidon.webclient.spi.WebClientTransport;
 
 }
\ No newline at end of file
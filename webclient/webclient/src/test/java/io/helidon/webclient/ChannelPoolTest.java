@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit test for {@link ChannelPool}.
+ */
+class ChannelPoolTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private static EventLoopGroup group;
+    private static Channel server;
+    private static URI base;
+
+    @BeforeAll
+    static void startServer() throws InterruptedException {
+        group = new NioEventLoopGroup(1);
+        server = new ServerBootstrap()
+                .group(group)
+                .channel(NioServerSocketChannel.class)
+                .childHandler(new ChannelInboundHandlerAdapter())
+                .bind("localhost", 0)
+                .sync()
+                .channel();
+        base = URI.create("http://localhost:" + ((InetSocketAddress) server.localAddress()).getPort());
+    }
+
+    @AfterAll
+    static void stopServer() throws InterruptedException {
+        server.close().sync();
+        group.shutdownGracefully(0, 0, TimeUnit.SECONDS).sync();
+    }
+
+    @Test
+    void testPendingAndRejected() throws Exception {
+        ChannelPool pool = pool(1, 1, Duration.ZERO);
+
+        Channel first = acquire(pool);
+        Future<Channel> pending = pool.acquire(bootstrap(), group.next(), TIMEOUT);
+        assertThat(pending.isDone(), is(false));
+        assertThat(pool.pending(), is(1));
+
+        Future<Channel> rejected = pool.acquire(bootstrap(), group.next(), TIMEOUT);
+        assertThat(rejected.isDone(), is(true));
+        assertThat(rejected.cause(), instanceOf(WebClientException.class));
+
+        ChannelPool.release(first);
+        assertThat(pending.get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS), sameInstance(first));
+        assertThat(pool.active(), is(1));
+        assertThat(pool.pending(), is(0));
+        assertThat(pool.created(), is(1L));
+        assertThat(pool.rejected(), is(1L));
+    }
+
+    @Test
+    void testLastInFirstOut() throws Exception {
+        ChannelPool pool = pool(2, 0, Duration.ZERO);
+
+        Channel first = acquire(pool);
+        Channel second = acquire(pool);
+        ChannelPool.release(first);
+        ChannelPool.release(second);
+        assertThat(pool.idle(), is(2));
+
+        assertThat(acquire(pool), sameInstance(second));
+        assertThat(acquire(pool), sameInstance(first));
+        assertThat(pool.created(), is(2L));
+    }
+
+    @Test
+    void testClosedRemoved() throws Exception {
+        ChannelPool pool = pool(1, 1, Duration.ZERO);
+
+        Channel first = acquire(pool);
+        ChannelPool.release(first);
+        first.close().sync();
+        waitFor(() -> pool.idle() == 0);
+
+        Channel second = acquire(pool);
+        assertThat(second, not(sameInstance(first)));
+        assertThat(pool.closed(), is(1L));
+        assertThat(pool.active(), is(1));
+    }
+
+    @Test
+    void testClosedLeasedMakesRoomForPending() throws Exception {
+        ChannelPool pool = pool(1, 1, Duration.ZERO);
+
+        Channel first = acquire(pool);
+        Future<Channel> pending = pool.acquire(bootstrap(), group.next(), TIMEOUT);
+        first.close();
+
+        Channel second = pending.get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        assertThat(second, not(sameInstance(first)));
+        assertThat(pool.active(), is(1));
+    }
+
+    @Test
+    void testMaxLifetime() throws Exception {
+        ChannelPool pool = pool(1, 0, Duration.ofMillis(1));
+
+        Channel first = acquire(pool);
+        Thread.sleep(5);
+        ChannelPool.release(first);
+        waitFor(() -> !first.isOpen());
+
+        Channel second = acquire(pool);
+        assertThat(second, not(sameInstance(first)));
+    }
+
+    @Test
+    void testPendingTimeout() {
+        ChannelPool pool = pool(1, 1, Duration.ZERO);
+
+        Future<Channel> first = pool.acquire(bootstrap(), group.next(), TIMEOUT);
+        Future<Channel> pending = pool.acquire(bootstrap(), group.next(), Duration.ofMillis(10));
+
+        ExecutionException e = assertThrows(ExecutionException.class,
+                                            () -> pending.get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS));
+        assertThat(e.getCause(), instanceOf(WebClientException.class));
+        assertThat(pool.pending(), is(0));
+        first.addListener(it -> first.getNow().close());
+    }
+
+    private static ChannelPool pool(int maxConnections, int maxPending, Duration maxLifetime) {
+        return new ChannelPool(base, WebClientConnectionPool.builder()
+                .maxConnectionsPerRoute(maxConnections)
+                .maxPendingAcquires(maxPending)
+                .maxLifetime(maxLifetime)
+                .build());
+    }
+
+    private static Channel acquire(ChannelPool pool) throws Exception {
+        return pool.acquire(bootstrap(), group.next(), TIMEOUT).get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private static Bootstrap bootstrap() {
+        return new Bootstrap()
+                .group(group)
+                .channel(NioSocketChannel.class)
+                .handler(new ChannelInboundHandlerAdapter() {
+                    @Override
+                    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+                        ChannelPool.closed(ctx.channel());
+                        super.channelInactive(ctx);
+                    }
+                });
+    }
+
+    private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Condition not met in " + TIMEOUT);
+            }
+            Thread.sleep(10);
+        }
+    }
+}
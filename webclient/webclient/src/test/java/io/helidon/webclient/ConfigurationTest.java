@@ -54,6 +54,12 @@ public class ConfigurationTest {
                 .maxRedirects(10)
                 .userAgent("HelidonTest")
                 .defaultHeader(Http.Header.ACCEPT, List.of("application/json", "text/plain"))
+                .connectionPool(WebClientConnectionPool.builder()
+                                        .maxConnectionsPerRoute(8)
+                                        .maxPendingAcquires(16)
+                                        .idleTimeout(Duration.ofSeconds(10))
+                                        .maxLifetime(Duration.ofMinutes(1))
+                                        .build())
                 .build();
         validateConfiguration(wcc);
     }
@@ -66,6 +72,11 @@ public class ConfigurationTest {
         assertThat(wcc.maxRedirects(), is(10));
         assertThat(wcc.userAgent(), is("HelidonTest"));
         assertThat(wcc.headers().acceptedTypes(), containsInAnyOrder(MediaType.APPLICATION_JSON, MediaType.TEXT_PLAIN));
+        WebClientConnectionPool connectionPool = wcc.connectionPool();
+        assertThat(connectionPool.maxConnectionsPerRoute(), is(8));
+        assertThat(connectionPool.maxPendingAcquires(), is(16));
+        assertThat(connectionPool.idleTimeout(), is(Duration.ofSeconds(10)));
+        assertThat(connectionPool.maxLifetime(), is(Duration.ofMinutes(1)));
     }
 
 }
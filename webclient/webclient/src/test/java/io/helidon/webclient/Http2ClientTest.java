@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webclient;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.helidon.common.http.Http;
+import io.helidon.common.reactive.Single;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpObjectAggregator;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http2.Http2FrameCodecBuilder;
+import io.netty.handler.codec.http2.Http2MultiplexHandler;
+import io.netty.handler.codec.http2.Http2Settings;
+import io.netty.handler.codec.http2.Http2StreamFrameToHttpObjectCodec;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Tests of HTTP/2 requests sent over multiplexed connections with prior knowledge.
+ */
+class Http2ClientTest {
+
+    private static final long TIMEOUT_SECONDS = 10;
+    private static final int MAX_CONCURRENT_STREAMS = 2;
+
+    private static final AtomicInteger CONNECTIONS = new AtomicInteger();
+
+    private static EventLoopGroup group;
+    private static Channel server;
+    private static WebClient client;
+
+    @BeforeAll
+    static void startServer() throws InterruptedException {
+        group = new NioEventLoopGroup(1);
+        server = new ServerBootstrap()
+                .group(group)
+                .channel(NioServerSocketChannel.class)
+                .childHandler(new ChannelInitializer<>() {
+                    @Override
+                    protected void initChannel(Channel channel) {
+                        CONNECTIONS.incrementAndGet();
+                        channel.pipeline()
+                                .addLast(Http2FrameCodecBuilder.forServer()
+                                                 .initialSettings(Http2Settings.defaultSettings()
+                                                                          .maxConcurrentStreams(MAX_CONCURRENT_STREAMS))
+                                                 .build())
+                                .addLast(new Http2MultiplexHandler(new ChannelInitializer<>() {
+                                    @Override
+                                    protected void initChannel(Channel stream) {
+                                        stream.pipeline()
+                                                .addLast(new Http2StreamFrameToHttpObjectCodec(true))
+                                                .addLast(new HttpObjectAggregator(1024))
+                                                .addLast(new EchoHandler());
+                                    }
+                                }));
+                    }
+                })
+                .bind("localhost", 0)
+                .sync()
+                .channel();
+        client = WebClient.builder()
+                .baseUri("http://localhost:" + ((InetSocketAddress) server.localAddress()).getPort())
+                .httpVersion(Http.Version.V2_0)
+                .build();
+    }
+
+    @AfterAll
+    static void stopServer() throws InterruptedException {
+        server.close().sync();
+        group.shutdownGracefully(0, 0, TimeUnit.SECONDS).sync();
+    }
+
+    @Test
+    void testEntityAndVersion() throws Exception {
+        WebClientResponse response = client.post()
+                .path("/echo")
+                .submit("Hello")
+                .get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        assertThat(response.status(), is(Http.Status.OK_200));
+        assertThat(response.version(), is(Http.Version.V2_0));
+        assertThat(response.content().as(String.class).get(TIMEOUT_SECONDS, TimeUnit.SECONDS), is("/echo Hello"));
+    }
+
+    @Test
+    void testConcurrentRequestsShareConnections() throws Exception {
+        // establish the first connection, so that the limit of concurrent streams is known
+        client.get().path("/first").request(String.class).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        int connections = CONNECTIONS.get();
+
+        List<Single<String>> responses = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            responses.add(client.get().path("/" + i).request(String.class));
+        }
+        for (int i = 0; i < responses.size(); i++) {
+            assertThat(responses.get(i).get(TIMEOUT_SECONDS, TimeUnit.SECONDS), is("/" + i + " "));
+        }
+
+        // streams over the limit open at most one more connection, the rest waits for a free stream
+        assertThat(CONNECTIONS.get() - connections <= 1, is(true));
+        assertThat(WebClientConnectionPool.statistics()
+                           .stream()
+                           .filter(it -> it instanceof Http2ChannelPool)
+                           .mapToLong(ConnectionPoolStatistics::created)
+                           .sum(),
+                   is((long) CONNECTIONS.get()));
+    }
+
+    private static final class EchoHandler extends SimpleChannelInboundHandler<FullHttpRequest> {
+        @Override
+        protected void channelRead0(ChannelHandlerContext ctx, FullHttpRequest request) {
+            String body = request.uri() + " " + request.content().toString(StandardCharsets.UTF_8);
+            FullHttpResponse response = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1,
+                                                                    HttpResponseStatus.OK,
+                                                                    Unpooled.copiedBuffer(body, StandardCharsets.UTF_8));
+            response.headers().set(HttpHeaderNames.CONTENT_TYPE, "text/plain");
+            response.headers().setInt(HttpHeaderNames.CONTENT_LENGTH, response.content().readableBytes());
+            // keep the streams open for a while, so that the requests are concurrent
+            ctx.executor().schedule(() -> ctx.writeAndFlush(response), 50, TimeUnit.MILLISECONDS);
+        }
+    }
+}
@@ -20,6 +20,7 @@ import java.util.concurrent.atomic.LongAdder;
 
 import io.helidon.common.context.Context;
 import io.helidon.common.http.DataChunk;
+import io.helidon.common.http.FileChannelDataChunk;
 import io.helidon.webserver.ServerRequest;
 import io.helidon.webserver.ServerResponse;
 
@@ -114,7 +115,12 @@ public final class SizeLogEntry extends AbstractLogEntry {
 
         @Override
         public void onNext(DataChunk item) {
-            sizeAdder.add(item.remaining());
+            if (item instanceof FileChannelDataChunk) {
+                // file regions may be larger than the int remaining of a data chunk
+                sizeAdder.add(((FileChannelDataChunk) item).count());
+            } else {
+                sizeAdder.add(item.remaining());
+            }
             subscriber.onNext(item);
         }
 
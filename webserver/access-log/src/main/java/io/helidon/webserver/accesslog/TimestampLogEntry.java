@@ -15,6 +15,8 @@
  */
 package io.helidon.webserver.accesslog;
 
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 
 /**
@@ -25,10 +27,14 @@ public final class TimestampLogEntry extends AbstractLogEntry {
     private static final String DEFAULT_FORMAT = "'['dd/MMM/YYYY:HH:mm:ss ZZZ']'";
     private static final DateTimeFormatter DEFAULT_FORMATTER = DateTimeFormatter.ofPattern(DEFAULT_FORMAT);
     private final DateTimeFormatter formatter;
+    // the default format has a precision of seconds, so the last value can be reused within the same second
+    private final boolean secondPrecision;
+    private volatile Formatted lastFormatted;
 
     private TimestampLogEntry(Builder builder) {
         super(builder);
         this.formatter = builder.formatter;
+        this.secondPrecision = (builder.formatter == DEFAULT_FORMATTER);
     }
 
     /**
@@ -52,7 +58,30 @@ public final class TimestampLogEntry extends AbstractLogEntry {
 
     @Override
     public String doApply(AccessLogContext context) {
-        return formatter.format(context.requestDateTime());
+        ZonedDateTime dateTime = context.requestDateTime();
+        if (!secondPrecision) {
+            return formatter.format(dateTime);
+        }
+        long second = dateTime.toEpochSecond();
+        Formatted last = lastFormatted;
+        if (last != null && last.second == second && last.zone.equals(dateTime.getZone())) {
+            return last.text;
+        }
+        String text = formatter.format(dateTime);
+        lastFormatted = new Formatted(second, dateTime.getZone(), text);
+        return text;
+    }
+
+    private static final class Formatted {
+        private final long second;
+        private final ZoneId zone;
+        private final String text;
+
+        private Formatted(long second, ZoneId zone, String text) {
+            this.second = second;
+            this.zone = zone;
+            this.text = text;
+        }
     }
 
     /**
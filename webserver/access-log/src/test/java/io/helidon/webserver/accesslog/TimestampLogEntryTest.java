@@ -16,6 +16,7 @@
 
 package io.helidon.webserver.accesslog;
 
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 
@@ -50,6 +51,28 @@ class TimestampLogEntryTest {
         assertThat(value.substring(1, value.length() -1), is(defaultPattern.format(TEST_TIME)));
     }
 
+    @Test
+    void testDefaultFormatWithinSecond() {
+        TimestampLogEntry entry = TimestampLogEntry.create();
+        DateTimeFormatter defaultPattern = DateTimeFormatter.ofPattern("'['dd/MMM/YYYY:HH:mm:ss ZZZ']'");
+        ZonedDateTime start = TEST_TIME.withNano(0);
+
+        AccessLogContext context = mock(AccessLogContext.class);
+        when(context.requestDateTime()).thenReturn(start);
+        String first = entry.doApply(context);
+
+        when(context.requestDateTime()).thenReturn(start.plusNanos(999_000_000));
+        assertThat(entry.doApply(context), is(first));
+
+        ZonedDateTime nextSecond = start.plusSeconds(1);
+        when(context.requestDateTime()).thenReturn(nextSecond);
+        assertThat(entry.doApply(context), is(defaultPattern.format(nextSecond)));
+
+        ZonedDateTime otherZone = nextSecond.withZoneSameInstant(ZoneOffset.ofHours(5));
+        when(context.requestDateTime()).thenReturn(otherZone);
+        assertThat(entry.doApply(context), is(defaultPattern.format(otherZone)));
+    }
+
     @Test
     void testCustomFormat() {
         DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern("'-'YYYYMMdd-HHmmss.SSS Z'-'");
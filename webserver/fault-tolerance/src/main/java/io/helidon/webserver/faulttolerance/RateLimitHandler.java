@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.webserver.faulttolerance;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
+
+import io.helidon.common.http.Http;
+import io.helidon.faulttolerance.KeyedRateLimiter;
+import io.helidon.faulttolerance.RateLimitException;
+import io.helidon.faulttolerance.RateLimiter;
+import io.helidon.webserver.Handler;
+import io.helidon.webserver.ServerRequest;
+import io.helidon.webserver.ServerResponse;
+
+/**
+ * WebServer {@link io.helidon.webserver.Handler} that passes requests on to the next handler only if the
+ * {@link io.helidon.faulttolerance.RateLimiter} grants a permit, and responds with {@code 429 Too Many Requests}
+ * and a {@code Retry-After} header otherwise.
+ * <p>
+ * Register it for the routes to limit, such as {@code Routing.builder().any("/api/*", RateLimitHandler.create(limiter))}.
+ */
+public final class RateLimitHandler implements Handler {
+    private static final Http.ResponseStatus TOO_MANY_REQUESTS = Http.ResponseStatus.create(429, "Too Many Requests");
+
+    private final Function<ServerRequest, RateLimiter> limiters;
+
+    private RateLimitHandler(Function<ServerRequest, RateLimiter> limiters) {
+        this.limiters = limiters;
+    }
+
+    /**
+     * Limit all requests with a single rate limiter.
+     *
+     * @param limiter rate limiter to use
+     * @return a new handler
+     */
+    public static RateLimitHandler create(RateLimiter limiter) {
+        Objects.requireNonNull(limiter);
+        return new RateLimitHandler(request -> limiter);
+    }
+
+    /**
+     * Limit requests separately for each key, such as the remote address of the client.
+     *
+     * @param limiter     keyed rate limiter to use
+     * @param keyFunction function to obtain the key of a request
+     * @param <K>         type of the key
+     * @return a new handler
+     */
+    public static <K> RateLimitHandler create(KeyedRateLimiter<K> limiter, Function<ServerRequest, K> keyFunction) {
+        Objects.requireNonNull(limiter);
+        Objects.requireNonNull(keyFunction);
+        return new RateLimitHandler(request -> limiter.limiter(keyFunction.apply(request)));
+    }
+
+    @Override
+    public void accept(ServerRequest req, ServerResponse res) {
+        limiters.apply(req)
+                .invoke(() -> CompletableFuture.completedFuture(Boolean.TRUE))
+                .thenAccept(it -> req.next())
+                .exceptionally(throwable -> {
+                    Throwable cause = cause(throwable);
+                    if (cause instanceof RateLimitException) {
+                        long millis = ((RateLimitException) cause).retryAfter().toMillis();
+                        // delta seconds, rounded up so clients do not retry too early
+                        long seconds = Math.max(1, (millis + 999) / 1000);
+                        res.status(TOO_MANY_REQUESTS);
+                        res.headers().put(Http.Header.RETRY_AFTER, String.valueOf(seconds));
+                        res.send();
+                    } else {
+                        req.next(cause);
+                    }
+                    return null;
+                });
+    }
+
+    private static Throwable cause(Throwable throwable) {
+        if (throwable instanceof CompletionException || throwable instanceof ExecutionException) {
+            return cause(throwable.getCause());
+        }
+        return throwable;
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.faulttolerance;
+
+import java.time.Duration;
+
+import io.helidon.common.http.Http;
+import io.helidon.faulttolerance.KeyedRateLimiter;
+import io.helidon.faulttolerance.RateLimiter;
+import io.helidon.webserver.Routing;
+import io.helidon.webserver.testsupport.TestClient;
+import io.helidon.webserver.testsupport.TestResponse;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+
+class RateLimitHandlerTest {
+    @Test
+    void testRateLimitHandler() throws Exception {
+        RateLimiter limiter = RateLimiter.builder()
+                .limit(1)
+                .period(Duration.ofHours(1))
+                .build();
+        TestClient client = TestClient.create(Routing.builder()
+                                                      .any(RateLimitHandler.create(limiter))
+                                                      .get("/", (req, res) -> res.send("hello")));
+
+        TestResponse response = client.path("/").get();
+        assertThat(response.status(), is(Http.Status.OK_200));
+        assertThat(response.asString().get(), is("hello"));
+
+        response = client.path("/").get();
+        assertThat(response.status().code(), is(429));
+        assertThat(response.headers().all(Http.Header.RETRY_AFTER), contains("3600"));
+    }
+
+    @Test
+    void testKeyedRateLimitHandler() throws Exception {
+        KeyedRateLimiter<String> limiter = RateLimiter.builder()
+                .limit(1)
+                .period(Duration.ofHours(1))
+                .buildKeyed(10);
+        TestClient client = TestClient.create(Routing.builder()
+                                                      .any(RateLimitHandler.create(limiter, req -> req.path().toString()))
+                                                      .get("/{name}", (req, res) -> res.send("hello")));
+
+        assertThat(client.path("/a").get().status(), is(Http.Status.OK_200));
+        assertThat(client.path("/b").get().status(), is(Http.Status.OK_200));
+        assertThat(client.path("/a").get().status().code(), is(429));
+    }
+}
@@ -101,10 +101,16 @@ class ClassPathContentHandler extends FileBasedContentHandler {
             return false;
         }
 
+        if (sendCached(method, requestedResource, request, response)) {
+            return true;
+        }
+
         // try to find the resource on classpath (cannot use root URL and then resolve, as root and sub-resource
         // may be from different jar files/directories
         URL url = classLoader.getResource(resource);
 
+        // welcome files are not cached, so a cached directory key never skips the redirect
+        String cacheKey = requestedResource;
         String welcomeFileName = welcomePageName();
         if (null != welcomeFileName) {
             String welcomeFileResource = requestedResource + "/" + welcomeFileName;
@@ -115,6 +121,7 @@ class ClassPathContentHandler extends FileBasedContentHandler {
                 if (rawFullPath.endsWith("/")) {
                     // this is OK, as the path ends with a forward slash
                     url = welcomeUrl;
+                    cacheKey = null;
                 } else {
                     // must redirect
                     redirect(request, response, rawFullPath + "/");
@@ -134,9 +141,16 @@ class ClassPathContentHandler extends FileBasedContentHandler {
         // now read the URL - we have direct support for files and jar files, others are handled by stream only
         switch (url.getProtocol()) {
         case "file":
-            sendFile(method, Paths.get(url.toURI()), request, response, welcomePageName());
+            sendFile(method, Paths.get(url.toURI()), request, response, welcomePageName(), cacheKey);
             break;
         case "jar":
+            if (cacheKey != null && isCacheable(request)) {
+                MemoryCache.CachedContent content = cacheJarEntry(cacheKey, url);
+                if (content != null) {
+                    sendCached(method, content, request, response);
+                    return true;
+                }
+            }
             return sendJar(method, requestedResource, url, request, response);
         default:
             sendUrlStream(method, url, request, response);
@@ -254,6 +268,31 @@ class ClassPathContentHandler extends FileBasedContentHandler {
         }
     }
 
+    // reads small jar entries directly into the memory cache, without extracting them to a temporary file
+    private MemoryCache.CachedContent cacheJarEntry(String cacheKey, URL url) {
+        try {
+            JarURLConnection jarUrlConnection = (JarURLConnection) url.openConnection();
+            JarFile jarFile = jarUrlConnection.getJarFile();
+            try {
+                JarEntry jarEntry = jarUrlConnection.getJarEntry();
+                if (jarEntry.isDirectory() || !fitsCache(jarEntry.getSize())) {
+                    return null;
+                }
+                byte[] bytes;
+                try (InputStream is = jarFile.getInputStream(jarEntry)) {
+                    bytes = is.readAllBytes();
+                }
+                return cacheContent(cacheKey, bytes, getLastModified(jarFile.getName()), jarEntry.getName());
+            } finally {
+                if (!jarUrlConnection.getUseCaches()) {
+                    jarFile.close();
+                }
+            }
+        } catch (IOException ioe) {
+            throw new HttpException("Cannot load JAR file!", Http.Status.INTERNAL_SERVER_ERROR_500, ioe);
+        }
+    }
+
     private Instant getLastModified(String path) throws IOException {
         Path file = Paths.get(path);
 
@@ -17,6 +17,7 @@
 package io.helidon.webserver.staticcontent;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Instant;
@@ -24,13 +25,14 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import io.helidon.common.http.DataChunk;
 import io.helidon.common.http.Http;
 import io.helidon.common.http.MediaType;
 import io.helidon.common.media.type.MediaTypes;
-import io.helidon.media.common.DefaultMediaSupport;
-import io.helidon.media.common.MessageBodyWriter;
+import io.helidon.common.reactive.Single;
 import io.helidon.webserver.HttpException;
 import io.helidon.webserver.RequestHeaders;
 import io.helidon.webserver.ResponseHeaders;
@@ -39,14 +41,23 @@ import io.helidon.webserver.ServerResponse;
 
 abstract class FileBasedContentHandler extends StaticContentHandler {
     private static final Logger LOGGER = Logger.getLogger(FileBasedContentHandler.class.getName());
-    private static final MessageBodyWriter<Path> PATH_WRITER = DefaultMediaSupport.pathWriter();
 
     private final Map<String, MediaType> customMediaTypes;
+    private final MemoryCache memoryCache;
 
     FileBasedContentHandler(StaticContentSupport.FileBasedBuilder<?> builder) {
         super(builder);
 
         this.customMediaTypes = builder.specificContentTypes();
+        this.memoryCache = MemoryCache.create(builder);
+    }
+
+    @Override
+    void releaseCache() {
+        super.releaseCache();
+        if (memoryCache != null) {
+            memoryCache.clear();
+        }
     }
 
     static String fileName(Path path) {
@@ -92,12 +103,20 @@ abstract class FileBasedContentHandler extends StaticContentHandler {
         Objects.requireNonNull(fileName);
         Objects.requireNonNull(requestHeaders);
 
+        return acceptedType(findMediaType(fileName), requestHeaders);
+    }
+
+    private Optional<MediaType> findMediaType(String fileName) {
         // first try to see if we have an override
         // then find if we have a detected type
-        // then check the type is accepted by the request
         return findCustomMediaType(fileName)
                 .or(() -> MediaTypes.detectType(fileName)
-                        .map(MediaType::parse))
+                        .map(MediaType::parse));
+    }
+
+    private static MediaType acceptedType(Optional<MediaType> mediaType, RequestHeaders requestHeaders) {
+        // check the type is accepted by the request
+        return mediaType
                 .map(it -> {
                     if (requestHeaders.isAccepted(it)) {
                         return it;
@@ -133,6 +152,27 @@ abstract class FileBasedContentHandler extends StaticContentHandler {
                   ServerResponse response,
                   String welcomePage)
             throws IOException {
+        sendFile(method, pathParam, request, response, welcomePage, null);
+    }
+
+    /**
+     * Sends a file, caching it in memory if the memory cache is enabled and the file is small enough.
+     *
+     * @param method      GET or HEAD HTTP method
+     * @param pathParam   file or directory to send
+     * @param request     an HTTP request
+     * @param response    an HTTP response
+     * @param welcomePage welcome file name used for directories
+     * @param cacheKey    key of the file in the memory cache, {@code null} if the file should not be cached
+     * @throws IOException if the file cannot be accessed
+     */
+    void sendFile(Http.RequestMethod method,
+                  Path pathParam,
+                  ServerRequest request,
+                  ServerResponse response,
+                  String welcomePage,
+                  String cacheKey)
+            throws IOException {
 
         LOGGER.fine(() -> "Sending static content from file: " + pathParam);
 
@@ -144,6 +184,8 @@ abstract class FileBasedContentHandler extends StaticContentHandler {
             if (rawFullPath.endsWith("/")) {
                 // Try to found welcome file
                 path = resolveWelcomeFile(path, welcomePage);
+                // welcome files are not cached, so a cached directory key never skips the redirect
+                cacheKey = null;
             } else {
                 // Or redirect to slash ended
                 redirect(request, response, rawFullPath + "/");
@@ -156,6 +198,14 @@ abstract class FileBasedContentHandler extends StaticContentHandler {
             throw new HttpException("File is not accessible", Http.Status.FORBIDDEN_403);
         }
 
+        if (cacheKey != null && isCacheable(request)) {
+            MemoryCache.CachedContent content = cacheFile(cacheKey, path);
+            if (content != null) {
+                sendCached(method, content, request, response);
+                return;
+            }
+        }
+
         // Caching headers support
         try {
             Instant lastMod = Files.getLastModifiedTime(path).toInstant();
@@ -173,8 +223,154 @@ abstract class FileBasedContentHandler extends StaticContentHandler {
         }
     }
 
+    /**
+     * Sends content cached under the key, if any.
+     *
+     * @param method   GET or HEAD HTTP method
+     * @param cacheKey key of the content in the memory cache
+     * @param request  an HTTP request
+     * @param response an HTTP response
+     * @return {@code true} if the content was cached and sent
+     */
+    boolean sendCached(Http.RequestMethod method, String cacheKey, ServerRequest request, ServerResponse response) {
+        if (!isCacheable(request)) {
+            return false;
+        }
+        MemoryCache.CachedContent content = memoryCache.get(cacheKey);
+        if (content == null) {
+            return false;
+        }
+        sendCached(method, content, request, response);
+        return true;
+    }
+
+    /**
+     * Whether the memory cache can be used to answer the request. Range requests are always served from files.
+     *
+     * @param request an HTTP request
+     * @return {@code true} if memory cache is enabled and the request does not contain a range
+     */
+    boolean isCacheable(ServerRequest request) {
+        return memoryCache != null
+                && request.headers().first(Http.Header.RANGE).isEmpty();
+    }
+
+    /**
+     * Caches content that is not read from a file.
+     *
+     * @param cacheKey     key of the content in the memory cache
+     * @param bytes        content
+     * @param lastModified last modification time, may be {@code null}
+     * @param fileName     file name used to detect the media type
+     * @return cached content, or {@code null} if the content cannot be cached
+     */
+    MemoryCache.CachedContent cacheContent(String cacheKey, byte[] bytes, Instant lastModified, String fileName) {
+        return memoryCache.put(cacheKey, bytes, lastModified, findMediaType(fileName).orElse(null));
+    }
+
+    /**
+     * Whether content of the provided size can be cached.
+     *
+     * @param size size in bytes
+     * @return {@code true} if memory cache is enabled and the size is within limits
+     */
+    boolean fitsCache(long size) {
+        return memoryCache != null && memoryCache.accepts(size);
+    }
+
+    void sendCached(Http.RequestMethod method,
+                    MemoryCache.CachedContent content,
+                    ServerRequest request,
+                    ServerResponse response) {
+        RequestHeaders requestHeaders = request.headers();
+        ResponseHeaders responseHeaders = response.headers();
+        String encoding = null;
+        if (content.hasVariants()) {
+            responseHeaders.add(Http.Header.VARY, Http.Header.ACCEPT_ENCODING);
+            encoding = selectEncoding(content, requestHeaders);
+        }
+        if (content.lastModified() != null) {
+            processEtag(content.etag(encoding), requestHeaders, responseHeaders);
+            processModifyHeaders(content.lastModified(), requestHeaders, responseHeaders);
+        }
+        responseHeaders.contentType(acceptedType(Optional.ofNullable(content.mediaType()), requestHeaders));
+
+        if (encoding == null) {
+            // ranges of the identity content are served from the file
+            responseHeaders.put(Http.Header.ACCEPT_RANGES, "bytes");
+        } else {
+            responseHeaders.put(Http.Header.CONTENT_ENCODING, encoding);
+        }
+
+        if (method == Http.Method.HEAD) {
+            response.send();
+        } else {
+            ByteBuffer buffer = content.content(encoding);
+            responseHeaders.contentLength(buffer.remaining());
+            response.send(Single.just(DataChunk.create(buffer)));
+        }
+    }
+
+    private MemoryCache.CachedContent cacheFile(String cacheKey, Path path) {
+        try {
+            Instant lastModified = Files.getLastModifiedTime(path).toInstant();
+            return memoryCache.put(cacheKey, path, lastModified, findMediaType(fileName(path)).orElse(null));
+        } catch (IOException e) {
+            LOGGER.log(Level.FINE, "Failed to cache static content " + path, e);
+            return null;
+        }
+    }
+
+    private static String selectEncoding(MemoryCache.CachedContent content, RequestHeaders requestHeaders) {
+        List<String> acceptEncoding = requestHeaders.values(Http.Header.ACCEPT_ENCODING);
+        if (acceptEncoding.isEmpty()) {
+            return null;
+        }
+        double brotli = (content.content(MemoryCache.BROTLI) == null) ? 0 : quality(acceptEncoding, MemoryCache.BROTLI);
+        double gzip = (content.content(MemoryCache.GZIP) == null) ? 0 : quality(acceptEncoding, MemoryCache.GZIP);
+        if (brotli > 0 && brotli >= gzip) {
+            return MemoryCache.BROTLI;
+        }
+        if (gzip > 0) {
+            return MemoryCache.GZIP;
+        }
+        return null;
+    }
+
+    // quality of the coding in Accept-Encoding header values, 0 if not acceptable
+    private static double quality(List<String> acceptEncoding, String coding) {
+        double wildcard = 0;
+        for (String value : acceptEncoding) {
+            for (String element : value.split(",")) {
+                String[] parts = element.split(";");
+                String name = parts[0].trim();
+                boolean matches = name.equalsIgnoreCase(coding);
+                if (!matches && !"*".equals(name)) {
+                    continue;
+                }
+                double quality = 1;
+                for (int i = 1; i < parts.length; i++) {
+                    String param = parts[i].trim();
+                    if (param.startsWith("q=") || param.startsWith("Q=")) {
+                        try {
+                            quality = Double.parseDouble(param.substring(2).trim());
+                        } catch (NumberFormatException e) {
+                            quality = 0;
+                        }
+                    }
+                }
+                if (matches) {
+                    return quality;
+                }
+                wildcard = quality;
+            }
+        }
+        return wildcard;
+    }
+
     void send(ServerResponse response, Path path) {
-        response.send(PATH_WRITER.marshall(path));
+        // the response honors Range and If-Range request headers when sending a path
+        response.send(path);
     }
 
 
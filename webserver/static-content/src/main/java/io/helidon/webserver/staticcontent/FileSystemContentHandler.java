@@ -53,6 +53,9 @@ class FileSystemContentHandler extends FileBasedContentHandler {
             }
         }
 
+        if (sendCached(method, resolved.toString(), request, response)) {
+            return true;
+        }
         return doHandle(method, resolved, request, response);
     }
 
@@ -62,7 +65,7 @@ class FileSystemContentHandler extends FileBasedContentHandler {
             return false;
         }
 
-        sendFile(method, path, request, response, welcomePageName());
+        sendFile(method, path, request, response, welcomePageName(), path.toString());
 
         return true;
     }
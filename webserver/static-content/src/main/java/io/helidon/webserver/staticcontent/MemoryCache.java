@@ -0,0 +1,380 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.staticcontent;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+import io.helidon.common.http.MediaType;
+
+/**
+ * Bounded in-memory cache of small static files.
+ * <p>
+ * Content is kept in direct buffers together with its precomputed ETag, last modification time, media type and
+ * compressed variants. When the total size of cached content exceeds the configured budget, the least recently
+ * used entries are evicted. File based entries are revalidated against the file system once their time to live
+ * expires, so a hot file costs a few file attribute lookups (of the file and its precompressed siblings) per time to
+ * live instead of per request.
+ */
+final class MemoryCache {
+    static final String GZIP = "gzip";
+    static final String BROTLI = "br";
+    private static final String GZIP_SUFFIX = ".gz";
+    private static final String BROTLI_SUFFIX = ".br";
+
+    private final long maxBytes;
+    private final long maxFileSize;
+    private final long ttlNanos;
+    private final boolean compress;
+    private final Map<String, CachedContent> entries = new ConcurrentHashMap<>();
+    private final AtomicLong usedBytes = new AtomicLong();
+    private final AtomicLong accessTick = new AtomicLong();
+
+    private MemoryCache(long maxBytes, long maxFileSize, Duration ttl, boolean compress) {
+        this.maxBytes = maxBytes;
+        this.maxFileSize = Math.min(maxFileSize, maxBytes);
+        this.ttlNanos = ttl.toNanos();
+        this.compress = compress;
+    }
+
+    /**
+     * Create a new cache, or {@code null} if caching is disabled.
+     *
+     * @param builder static content builder
+     * @return cache or {@code null}
+     */
+    static MemoryCache create(StaticContentSupport.Builder<?> builder) {
+        if (builder.memoryCacheSize() <= 0) {
+            return null;
+        }
+        return new MemoryCache(builder.memoryCacheSize(),
+                               builder.memoryCacheMaxFileSize(),
+                               builder.memoryCacheTtl(),
+                               builder.precompress());
+    }
+
+    /**
+     * Whether a file of the provided size can be cached.
+     *
+     * @param size size in bytes
+     * @return {@code true} if the size is within limits
+     */
+    boolean accepts(long size) {
+        return size >= 0 && size <= maxFileSize;
+    }
+
+    /**
+     * Cached content for the key, revalidated if its time to live expired.
+     *
+     * @param key cache key
+     * @return cached content or {@code null} if not cached or outdated
+     */
+    CachedContent get(String key) {
+        CachedContent content = entries.get(key);
+        if (content == null) {
+            return null;
+        }
+        long now = System.nanoTime();
+        if (now - content.validUntil > 0) {
+            if (!content.isCurrent()) {
+                remove(key, content);
+                return null;
+            }
+            content.validUntil = now + ttlNanos;
+        }
+        content.lastAccess = accessTick.incrementAndGet();
+        return content;
+    }
+
+    /**
+     * Cache the content of a file.
+     *
+     * @param key          cache key
+     * @param path         file to read
+     * @param lastModified last modification time of the file
+     * @param mediaType    detected media type, may be {@code null}
+     * @return cached content, or {@code null} if the file does not fit into the cache
+     * @throws IOException in case the file cannot be read
+     */
+    CachedContent put(String key, Path path, Instant lastModified, MediaType mediaType) throws IOException {
+        long size = Files.size(path);
+        if (!accepts(size)) {
+            return null;
+        }
+        byte[] bytes = Files.readAllBytes(path);
+        if (!compress) {
+            return put(key, new CachedContent(path, bytes, null, null, lastModified, mediaType));
+        }
+        // siblings are stated before they are read, so a sibling replaced meanwhile is reloaded on revalidation
+        Path gzipPath = sibling(path, GZIP_SUFFIX);
+        Path brotliPath = sibling(path, BROTLI_SUFFIX);
+        FileTime gzipModified = modifiedTime(gzipPath);
+        FileTime brotliModified = modifiedTime(brotliPath);
+        CachedContent content = new CachedContent(path, bytes, variant(gzipPath), variant(brotliPath), lastModified, mediaType);
+        content.variantsModified(gzipModified, brotliModified);
+        return put(key, content);
+    }
+
+    /**
+     * Cache content that is not backed by a file (such as a jar entry), such content is never revalidated.
+     *
+     * @param key          cache key
+     * @param bytes        content
+     * @param lastModified last modification time, may be {@code null}
+     * @param mediaType    detected media type, may be {@code null}
+     * @return cached content, or {@code null} if the content does not fit into the cache
+     */
+    CachedContent put(String key, byte[] bytes, Instant lastModified, MediaType mediaType) {
+        if (!accepts(bytes.length)) {
+            return null;
+        }
+        return put(key, new CachedContent(null, bytes, null, null, lastModified, mediaType));
+    }
+
+    /**
+     * Remove all entries.
+     */
+    void clear() {
+        entries.clear();
+        usedBytes.set(0);
+    }
+
+    /**
+     * Number of bytes used by cached content.
+     *
+     * @return used bytes
+     */
+    long usedBytes() {
+        return usedBytes.get();
+    }
+
+    private CachedContent put(String key, CachedContent content) {
+        if (compress && content.gzip == null && isCompressible(content.mediaType)) {
+            content.gzip = gzip(content.identity);
+        }
+        content.validUntil = System.nanoTime() + ttlNanos;
+        content.lastAccess = accessTick.incrementAndGet();
+        CachedContent previous = entries.put(key, content);
+        if (previous != null) {
+            usedBytes.addAndGet(-previous.memory());
+        }
+        usedBytes.addAndGet(content.memory());
+        evict();
+        return content;
+    }
+
+    private void remove(String key, CachedContent content) {
+        if (entries.remove(key, content)) {
+            usedBytes.addAndGet(-content.memory());
+        }
+    }
+
+    private synchronized void evict() {
+        while (usedBytes.get() > maxBytes) {
+            Map.Entry<String, CachedContent> eldest = null;
+            for (Map.Entry<String, CachedContent> entry : entries.entrySet()) {
+                if (eldest == null || entry.getValue().lastAccess < eldest.getValue().lastAccess) {
+                    eldest = entry;
+                }
+            }
+            if (eldest == null) {
+                return;
+            }
+            remove(eldest.getKey(), eldest.getValue());
+        }
+    }
+
+    private ByteBuffer variant(Path variant) throws IOException {
+        if (!Files.isRegularFile(variant) || !accepts(Files.size(variant))) {
+            return null;
+        }
+        return direct(Files.readAllBytes(variant));
+    }
+
+    private static Path sibling(Path path, String suffix) {
+        return path.resolveSibling(path.getFileName() + suffix);
+    }
+
+    // last modification time of a regular file, null if there is no such file
+    private static FileTime modifiedTime(Path path) {
+        try {
+            return Files.isRegularFile(path) ? Files.getLastModifiedTime(path) : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static boolean isCompressible(MediaType mediaType) {
+        if (mediaType == null) {
+            return false;
+        }
+        if ("text".equals(mediaType.type())) {
+            return true;
+        }
+        String subtype = mediaType.subtype();
+        return subtype.equals("javascript")
+                || subtype.equals("json")
+                || subtype.equals("xml")
+                || subtype.endsWith("+json")
+                || subtype.endsWith("+xml");
+    }
+
+    private static ByteBuffer gzip(ByteBuffer identity) {
+        byte[] bytes = new byte[identity.remaining()];
+        identity.duplicate().get(bytes);
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 2 + 32);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            // in memory, cannot happen
+            return null;
+        }
+        if (out.size() >= bytes.length) {
+            // not worth it
+            return null;
+        }
+        return direct(out.toByteArray());
+    }
+
+    private static ByteBuffer direct(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+        buffer.put(bytes);
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * A cached file.
+     */
+    static final class CachedContent {
+        private final Path source;
+        private final FileTime sourceModified;
+        private final ByteBuffer identity;
+        private final ByteBuffer brotli;
+        private final Instant lastModified;
+        private final String etag;
+        private final MediaType mediaType;
+        private volatile ByteBuffer gzip;
+        private boolean checkVariants;
+        private FileTime gzipModified;
+        private FileTime brotliModified;
+        private volatile long validUntil;
+        private volatile long lastAccess;
+
+        private CachedContent(Path source,
+                              byte[] bytes,
+                              ByteBuffer gzip,
+                              ByteBuffer brotli,
+                              Instant lastModified,
+                              MediaType mediaType) {
+            this.source = source;
+            this.sourceModified = (lastModified == null) ? null : FileTime.from(lastModified);
+            this.identity = direct(bytes);
+            this.gzip = gzip;
+            this.brotli = brotli;
+            this.lastModified = lastModified;
+            this.etag = (lastModified == null) ? null : String.valueOf(lastModified.toEpochMilli());
+            this.mediaType = mediaType;
+        }
+
+        /**
+         * Content in the requested encoding.
+         *
+         * @param encoding {@link #GZIP}, {@link #BROTLI} or {@code null} for identity
+         * @return read only buffer with the content, or {@code null} if there is no such variant
+         */
+        ByteBuffer content(String encoding) {
+            ByteBuffer buffer;
+            if (encoding == null) {
+                buffer = identity;
+            } else if (GZIP.equals(encoding)) {
+                buffer = gzip;
+            } else if (BROTLI.equals(encoding)) {
+                buffer = brotli;
+            } else {
+                buffer = null;
+            }
+            return (buffer == null) ? null : buffer.asReadOnlyBuffer();
+        }
+
+        /**
+         * Strong ETag of the content in the requested encoding, each encoding has a distinct ETag.
+         *
+         * @param encoding {@link #GZIP}, {@link #BROTLI} or {@code null} for identity
+         * @return ETag, or {@code null} if the last modification time is not known
+         */
+        String etag(String encoding) {
+            return (etag == null || encoding == null) ? etag : etag + "-" + encoding;
+        }
+
+        boolean hasVariants() {
+            return gzip != null || brotli != null;
+        }
+
+        Instant lastModified() {
+            return lastModified;
+        }
+
+        MediaType mediaType() {
+            return mediaType;
+        }
+
+        private long memory() {
+            ByteBuffer gzipBuffer = gzip;
+            return identity.capacity()
+                    + ((gzipBuffer == null) ? 0 : gzipBuffer.capacity())
+                    + ((brotli == null) ? 0 : brotli.capacity());
+        }
+
+        // set before the content is published to other threads
+        private void variantsModified(FileTime gzipModified, FileTime brotliModified) {
+            this.checkVariants = true;
+            this.gzipModified = gzipModified;
+            this.brotliModified = brotliModified;
+        }
+
+        private boolean isCurrent() {
+            if (source == null) {
+                return true;
+            }
+            try {
+                if (!Files.isRegularFile(source)
+                        || !Files.getLastModifiedTime(source).equals(sourceModified)
+                        || Files.size(source) != identity.capacity()) {
+                    return false;
+                }
+            } catch (IOException e) {
+                return false;
+            }
+            // a precompressed sibling that was added, changed or removed makes the cached variants stale
+            return !checkVariants
+                    || (Objects.equals(modifiedTime(sibling(source, GZIP_SUFFIX)), gzipModified)
+                    && Objects.equals(modifiedTime(sibling(source, BROTLI_SUFFIX)), brotliModified));
+        }
+    }
+}
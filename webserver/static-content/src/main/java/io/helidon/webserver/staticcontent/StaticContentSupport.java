@@ -18,6 +18,7 @@ package io.helidon.webserver.staticcontent;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Map;
 import java.util.Objects;
 import java.util.TreeMap;
@@ -127,8 +128,15 @@ public interface StaticContentSupport extends Service {
      */
     @SuppressWarnings("unchecked")
     abstract class Builder<B extends Builder<B>> implements io.helidon.common.Builder<StaticContentSupport> {
+        private static final long DEFAULT_MEMORY_CACHE_MAX_FILE_SIZE = 256 * 1024;
+        private static final Duration DEFAULT_MEMORY_CACHE_TTL = Duration.ofSeconds(5);
+
         private String welcomeFileName;
         private Function<String, String> resolvePathFunction = Function.identity();
+        private long memoryCacheSize;
+        private long memoryCacheMaxFileSize = DEFAULT_MEMORY_CACHE_MAX_FILE_SIZE;
+        private Duration memoryCacheTtl = DEFAULT_MEMORY_CACHE_TTL;
+        private boolean precompress = true;
 
         protected Builder() {
         }
@@ -172,10 +180,86 @@ public interface StaticContentSupport extends Service {
             return (B) this;
         }
 
+        /**
+         * Enables in-memory caching of small files, with the provided budget.
+         * Cached files are served from memory, including their ETag, last modification time and compressed
+         * variants, without accessing the file system for each request.
+         * Once the budget is exceeded, the least recently used files are evicted.
+         * Caching is disabled by default.
+         *
+         * @param maxBytes maximal number of bytes of all cached content, {@code 0} to disable the cache
+         * @return updated builder
+         */
+        public B memoryCache(long maxBytes) {
+            if (maxBytes < 0) {
+                throw new IllegalArgumentException("Memory cache size cannot be negative");
+            }
+            this.memoryCacheSize = maxBytes;
+            return (B) this;
+        }
+
+        /**
+         * Maximal size of a single file to be cached in memory, larger files are always served from the file
+         * system. Defaults to 256 kB.
+         *
+         * @param maxFileSize maximal file size in bytes
+         * @return updated builder
+         */
+        public B memoryCacheMaxFileSize(long maxFileSize) {
+            if (maxFileSize < 0) {
+                throw new IllegalArgumentException("Memory cache max file size cannot be negative");
+            }
+            this.memoryCacheMaxFileSize = maxFileSize;
+            return (B) this;
+        }
+
+        /**
+         * How long is a file served from memory before its last modification time and size are checked again.
+         * A modified file is removed from the cache. Defaults to 5 seconds.
+         *
+         * @param ttl time to live of a cached file
+         * @return updated builder
+         */
+        public B memoryCacheTtl(Duration ttl) {
+            Objects.requireNonNull(ttl, "Memory cache TTL cannot be null");
+            this.memoryCacheTtl = ttl;
+            return (B) this;
+        }
+
+        /**
+         * Whether compressed variants of cached files are kept in memory. If enabled, textual files are compressed
+         * using gzip when cached, and precompressed {@code .gz} and {@code .br} files next to a cached file are cached
+         * with it. A variant accepted by the request {@code Accept-Encoding} header is then sent instead of the file.
+         * Enabled by default, has no effect unless the {@link #memoryCache(long) memory cache} is enabled.
+         *
+         * @param precompress whether to keep compressed variants
+         * @return updated builder
+         */
+        public B precompress(boolean precompress) {
+            this.precompress = precompress;
+            return (B) this;
+        }
+
         String welcomeFileName() {
             return welcomeFileName;
         }
 
+        long memoryCacheSize() {
+            return memoryCacheSize;
+        }
+
+        long memoryCacheMaxFileSize() {
+            return memoryCacheMaxFileSize;
+        }
+
+        Duration memoryCacheTtl() {
+            return memoryCacheTtl;
+        }
+
+        boolean precompress() {
+            return precompress;
+        }
+
         Function<String, String> resolvePathFunction() {
             return resolvePathFunction;
         }
@@ -0,0 +1,254 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.webserver.staticcontent;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+
+import io.helidon.common.http.Http;
+import io.helidon.webserver.Routing;
+import io.helidon.webserver.testsupport.TestClient;
+import io.helidon.webserver.testsupport.TestResponse;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests static content served from the memory cache.
+ */
+class MemoryCacheTest {
+    private static final String TEXT = "Hello, hello, hello, hello, hello, hello, hello, hello, hello, hello!";
+
+    @TempDir
+    Path root;
+
+    private Path file;
+
+    @BeforeEach
+    void createFiles() throws Exception {
+        file = root.resolve("index.txt");
+        Files.writeString(file, TEXT);
+        Files.setLastModifiedTime(file, FileTime.from(Instant.parse("2021-01-01T10:00:00Z")));
+    }
+
+    @Test
+    void testServedFromMemory() throws Exception {
+        TestClient client = client(StaticContentSupport.builder(root)
+                                           .memoryCache(1024)
+                                           .memoryCacheTtl(Duration.ofHours(1)));
+
+        TestResponse response = client.path("/index.txt").get();
+        assertThat(response.status(), is(Http.Status.OK_200));
+        assertThat(text(response), is(TEXT));
+        String etag = response.headers().first(Http.Header.ETAG).orElse(null);
+
+        // not revalidated within TTL
+        Files.delete(file);
+        response = client.path("/index.txt").get();
+        assertThat(response.status(), is(Http.Status.OK_200));
+        assertThat(response.headers().first(Http.Header.ETAG).orElse(null), is(etag));
+        assertThat(text(response), is(TEXT));
+
+        response = client.path("/index.txt")
+                .header(Http.Header.IF_NONE_MATCH, etag)
+                .get();
+        assertThat(response.status(), is(Http.Status.NOT_MODIFIED_304));
+    }
+
+    @Test
+    void testRevalidated() throws Exception {
+        TestClient client = client(StaticContentSupport.builder(root)
+                                           .memoryCache(1024)
+                                           .memoryCacheTtl(Duration.ZERO));
+
+        assertThat(text(client.path("/index.txt").get()), is(TEXT));
+
+        Files.writeString(file, "Changed");
+        assertThat(text(client.path("/index.txt").get()), is("Changed"));
+
+        Files.delete(file);
+        assertThat(client.path("/index.txt").get().status(), is(Http.Status.NOT_FOUND_404));
+    }
+
+    @Test
+    void testCompressedVariants() throws Exception {
+        Files.write(root.resolve("index.txt.br"), new byte[] {1, 2, 3});
+        TestClient client = client(StaticContentSupport.builder(root)
+                                           .memoryCache(1024));
+
+        TestResponse response = client.path("/index.txt")
+                .header(Http.Header.ACCEPT_ENCODING, "gzip")
+                .get();
+        assertThat(response.headers().first(Http.Header.CONTENT_ENCODING).orElse(null), is("gzip"));
+        assertThat(response.headers().first(Http.Header.VARY).orElse(null), is(Http.Header.ACCEPT_ENCODING));
+        byte[] compressed = response.asBytes().get(10, TimeUnit.SECONDS);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8), is(TEXT));
+        }
+
+        response = client.path("/index.txt")
+                .header(Http.Header.ACCEPT_ENCODING, "gzip, br")
+                .get();
+        assertThat(response.headers().first(Http.Header.CONTENT_ENCODING).orElse(null), is("br"));
+        assertThat(response.asBytes().get(10, TimeUnit.SECONDS), is(new byte[] {1, 2, 3}));
+
+        response = client.path("/index.txt")
+                .header(Http.Header.ACCEPT_ENCODING, "gzip, br;q=0")
+                .get();
+        assertThat(response.headers().first(Http.Header.CONTENT_ENCODING).orElse(null), is("gzip"));
+
+        response = client.path("/index.txt").get();
+        assertThat(response.headers().first(Http.Header.CONTENT_ENCODING).orElse(null), nullValue());
+        assertThat(text(response), is(TEXT));
+    }
+
+    @Test
+    void testEtagPerEncoding() throws Exception {
+        Files.write(root.resolve("index.txt.br"), new byte[] {1, 2, 3});
+        TestClient client = client(StaticContentSupport.builder(root)
+                                           .memoryCache(1024));
+
+        String identity = client.path("/index.txt").get().headers().first(Http.Header.ETAG).orElse(null);
+        String gzip = client.path("/index.txt")
+                .header(Http.Header.ACCEPT_ENCODING, "gzip")
+                .get()
+                .headers()
+                .first(Http.Header.ETAG)
+                .orElse(null);
+        String brotli = client.path("/index.txt")
+                .header(Http.Header.ACCEPT_ENCODING, "br")
+                .get()
+                .headers()
+                .first(Http.Header.ETAG)
+                .orElse(null);
+        String modified = String.valueOf(Instant.parse("2021-01-01T10:00:00Z").toEpochMilli());
+        assertThat(identity, is('"' + modified + '"'));
+        assertThat(gzip, is('"' + modified + "-gzip\""));
+        assertThat(brotli, is('"' + modified + "-br\""));
+
+        // an ETag of another encoding does not match
+        TestResponse response = client.path("/index.txt")
+                .header(Http.Header.ACCEPT_ENCODING, "gzip")
+                .header(Http.Header.IF_NONE_MATCH, identity)
+                .get();
+        assertThat(response.status(), is(Http.Status.OK_200));
+        response = client.path("/index.txt")
+                .header(Http.Header.ACCEPT_ENCODING, "gzip")
+                .header(Http.Header.IF_NONE_MATCH, gzip)
+                .get();
+        assertThat(response.status(), is(Http.Status.NOT_MODIFIED_304));
+    }
+
+    @Test
+    void testPrecompressedRevalidated() throws Exception {
+        Path brotli = root.resolve("index.txt.br");
+        Files.write(brotli, new byte[] {1, 2, 3});
+        Files.setLastModifiedTime(brotli, FileTime.from(Instant.parse("2021-01-01T10:00:00Z")));
+        TestClient client = client(StaticContentSupport.builder(root)
+                                           .memoryCache(1024)
+                                           .memoryCacheTtl(Duration.ZERO));
+
+        assertThat(brotli(client), is(new byte[] {1, 2, 3}));
+
+        Files.write(brotli, new byte[] {4, 5});
+        Files.setLastModifiedTime(brotli, FileTime.from(Instant.parse("2021-01-02T10:00:00Z")));
+        assertThat(brotli(client), is(new byte[] {4, 5}));
+
+        Files.delete(brotli);
+        TestResponse response = client.path("/index.txt")
+                .header(Http.Header.ACCEPT_ENCODING, "br")
+                .get();
+        assertThat(response.headers().first(Http.Header.CONTENT_ENCODING).orElse(null), nullValue());
+        assertThat(text(response), is(TEXT));
+    }
+
+    @Test
+    void testLargeFileNotCached() throws Exception {
+        TestClient client = client(StaticContentSupport.builder(root)
+                                           .memoryCache(1024)
+                                           .memoryCacheMaxFileSize(10)
+                                           .memoryCacheTtl(Duration.ofHours(1)));
+
+        assertThat(text(client.path("/index.txt").get()), is(TEXT));
+        Files.delete(file);
+        assertThat(client.path("/index.txt").get().status(), is(Http.Status.NOT_FOUND_404));
+    }
+
+    @Test
+    void testEviction() throws Exception {
+        Path other = root.resolve("other.bin");
+        Files.write(other, new byte[600]);
+        Path third = root.resolve("third.bin");
+        Files.write(third, new byte[600]);
+        FileSystemContentHandler handler = (FileSystemContentHandler) StaticContentSupport.builder(root)
+                .memoryCache(1024)
+                .memoryCacheTtl(Duration.ofHours(1))
+                .build();
+        TestClient client = TestClient.create(Routing.builder().register(handler));
+
+        assertThat(client.path("/other.bin").get().status(), is(Http.Status.OK_200));
+        assertThat(client.path("/third.bin").get().status(), is(Http.Status.OK_200));
+        Files.delete(other);
+        Files.delete(third);
+        // the least recently used file was evicted
+        assertThat(client.path("/other.bin").get().status(), is(Http.Status.NOT_FOUND_404));
+        assertThat(client.path("/third.bin").get().status(), is(Http.Status.OK_200));
+    }
+
+    @Test
+    void testRangeServedFromFile() throws Exception {
+        TestClient client = client(StaticContentSupport.builder(root)
+                                           .memoryCache(1024)
+                                           .memoryCacheTtl(Duration.ofHours(1)));
+
+        assertThat(text(client.path("/index.txt").get()), is(TEXT));
+        TestResponse response = client.path("/index.txt")
+                .header(Http.Header.RANGE, "bytes=0-4")
+                .get();
+        assertThat(response.status(), is(Http.Status.PARTIAL_CONTENT_206));
+        assertThat(text(response), is("Hello"));
+    }
+
+    private static TestClient client(StaticContentSupport.Builder<?> builder) {
+        return TestClient.create(Routing.builder().register(builder));
+    }
+
+    private static byte[] brotli(TestClient client) throws Exception {
+        TestResponse response = client.path("/index.txt")
+                .header(Http.Header.ACCEPT_ENCODING, "br")
+                .get();
+        assertThat(response.headers().first(Http.Header.CONTENT_ENCODING).orElse(null), is("br"));
+        return response.asBytes().get(10, TimeUnit.SECONDS);
+    }
+
+    private static String text(TestResponse response) throws Exception {
+        return response.asString().get(10, TimeUnit.SECONDS);
+    }
+}
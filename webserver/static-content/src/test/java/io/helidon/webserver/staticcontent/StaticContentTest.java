@@ -16,6 +16,10 @@
 
 package io.helidon.webserver.staticcontent;
 
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 import io.helidon.common.http.Http;
@@ -47,5 +51,41 @@ class StaticContentTest {
                 .get();
 
         assertThat(testResponse.status(), is(Http.Status.OK_200));
+        assertThat(testResponse.headers().first(Http.Header.ACCEPT_RANGES).orElse(null), is("bytes"));
+    }
+
+    @Test
+    void testFaviconRange() throws Exception {
+        byte[] favicon = favicon();
+        TestResponse testResponse = testClient.path("/classpath/favicon.ico")
+                .header(Http.Header.RANGE, "bytes=10-19")
+                .get();
+
+        assertThat(testResponse.status(), is(Http.Status.PARTIAL_CONTENT_206));
+        assertThat(testResponse.headers().first(Http.Header.CONTENT_RANGE).orElse(null),
+                   is("bytes 10-19/" + favicon.length));
+        assertThat(bytes(testResponse), is(Arrays.copyOfRange(favicon, 10, 20)));
+    }
+
+    @Test
+    void testFaviconIfRangeMismatch() throws Exception {
+        TestResponse testResponse = testClient.path("/classpath/favicon.ico")
+                .header(Http.Header.RANGE, "bytes=10-19")
+                .header(Http.Header.IF_RANGE, "\"outdated\"")
+                .get();
+
+        assertThat(testResponse.status(), is(Http.Status.OK_200));
+        assertThat(bytes(testResponse), is(favicon()));
+    }
+
+    private static byte[] bytes(TestResponse testResponse)
+            throws InterruptedException, ExecutionException, TimeoutException {
+        return testResponse.asBytes().get(10, TimeUnit.SECONDS);
+    }
+
+    private static byte[] favicon() throws Exception {
+        try (InputStream is = StaticContentTest.class.getResourceAsStream("/web/favicon.ico")) {
+            return is.readAllBytes();
+        }
     }
 }
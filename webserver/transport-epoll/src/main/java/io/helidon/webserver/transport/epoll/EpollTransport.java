@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.transport.epoll;
+
+import java.util.Optional;
+import java.util.function.BiConsumer;
+
+import io.helidon.config.Config;
+import io.helidon.webserver.ServerConfiguration;
+import io.helidon.webserver.SocketConfiguration;
+import io.helidon.webserver.Transport;
+import io.helidon.webserver.WebServer;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.ChannelFactory;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.ServerChannel;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollChannelOption;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollMode;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+
+/**
+ * WebServer {@link Transport} using the Netty native epoll transport, available on Linux only.
+ * <p>
+ * In addition to the lower overhead of the native transport, the following options of
+ * {@link SocketConfiguration} are honored:
+ * <ul>
+ *     <li>{@link SocketConfiguration#reusePort()} - {@code SO_REUSEPORT}</li>
+ *     <li>{@link SocketConfiguration#tcpFastOpen()} - {@code TCP_FASTOPEN}</li>
+ *     <li>{@link SocketConfiguration#deferAcceptSeconds()} - {@code TCP_DEFER_ACCEPT}</li>
+ * </ul>
+ * If epoll is not available (such as on other operating systems), the server falls back to its default transport.
+ * <p>
+ * Example:
+ * <pre>
+ * WebServer.builder()
+ *     .transport(EpollTransport.create())
+ *     .reusePort(true)
+ *     .build();
+ * </pre>
+ * When this module is on the classpath (or module path), {@link io.helidon.webclient.WebClient} uses the epoll
+ * transport as well, see {@link EpollClientTransport}.
+ */
+public final class EpollTransport implements Transport {
+    private final boolean edgeTriggered;
+
+    private EpollTransport(Builder builder) {
+        this.edgeTriggered = builder.edgeTriggered;
+    }
+
+    /**
+     * Create a new transport with default configuration.
+     *
+     * @return a new epoll transport
+     */
+    public static EpollTransport create() {
+        return builder().build();
+    }
+
+    /**
+     * Create a new transport from configuration.
+     *
+     * @param config configuration
+     * @return a new epoll transport
+     */
+    public static EpollTransport create(Config config) {
+        return builder().config(config).build();
+    }
+
+    /**
+     * A new fluent API builder.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    @Override
+    public boolean isAvailableFor(WebServer webserver) {
+        return Epoll.isAvailable();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> Optional<T> createTransportArtifact(Class<T> artifactType,
+                                                   String artifactName,
+                                                   ServerConfiguration config) {
+        if (EventLoopGroup.class.isAssignableFrom(artifactType)) {
+            switch (artifactName) {
+            case "bossGroup":
+                return Optional.of((T) new EpollEventLoopGroup(config.sockets().size()));
+            case "workerGroup":
+                return Optional.of((T) new EpollEventLoopGroup(Math.max(0, config.workersCount())));
+            default:
+                return Optional.empty();
+            }
+        } else if (ChannelFactory.class.isAssignableFrom(artifactType)) {
+            switch (artifactName) {
+            case "serverChannelFactory":
+                ChannelFactory<? extends ServerChannel> cf = EpollServerSocketChannel::new;
+                return Optional.of((T) cf);
+            default:
+                return Optional.empty();
+            }
+        } else if (BiConsumer.class.isAssignableFrom(artifactType)) {
+            switch (artifactName) {
+            case "serverBootstrapConfigurer":
+                BiConsumer<ServerBootstrap, SocketConfiguration> configurer = this::configure;
+                return Optional.of((T) configurer);
+            default:
+                return Optional.empty();
+            }
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Whether edge-triggered mode is used.
+     *
+     * @return {@code true} for edge-triggered, {@code false} for level-triggered mode
+     */
+    public boolean edgeTriggered() {
+        return edgeTriggered;
+    }
+
+    private void configure(ServerBootstrap bootstrap, SocketConfiguration socketConfig) {
+        EpollMode mode = edgeTriggered ? EpollMode.EDGE_TRIGGERED : EpollMode.LEVEL_TRIGGERED;
+        bootstrap.option(EpollChannelOption.EPOLL_MODE, mode);
+        bootstrap.childOption(EpollChannelOption.EPOLL_MODE, mode);
+        if (socketConfig.reusePort()) {
+            bootstrap.option(EpollChannelOption.SO_REUSEPORT, true);
+        }
+        if (socketConfig.tcpFastOpen() > 0) {
+            bootstrap.option(EpollChannelOption.TCP_FASTOPEN, socketConfig.tcpFastOpen());
+        }
+        if (socketConfig.deferAcceptSeconds() > 0) {
+            bootstrap.option(EpollChannelOption.TCP_DEFER_ACCEPT, socketConfig.deferAcceptSeconds());
+        }
+    }
+
+    /**
+     * Fluent API builder for {@link EpollTransport}.
+     */
+    public static final class Builder implements io.helidon.common.Builder<EpollTransport> {
+        private boolean edgeTriggered = true;
+
+        private Builder() {
+        }
+
+        @Override
+        public EpollTransport build() {
+            return new EpollTransport(this);
+        }
+
+        /**
+         * Update this builder from configuration.
+         * <p>
+         * Supported keys:
+         * <ul>
+         *     <li>{@code edge-triggered} - see {@link #edgeTriggered(boolean)}</li>
+         * </ul>
+         *
+         * @param config configuration
+         * @return updated builder instance
+         */
+        public Builder config(Config config) {
+            config.get("edge-triggered").asBoolean().ifPresent(this::edgeTriggered);
+            return this;
+        }
+
+        /**
+         * Whether to use edge-triggered (the default) or level-triggered mode of epoll.
+         *
+         * @param edgeTriggered {@code true} for edge-triggered mode, {@code false} for level-triggered mode
+         * @return updated builder instance
+         */
+        public Builder edgeTriggered(boolean edgeTriggered) {
+            this.edgeTriggered = edgeTriggered;
+            return this;
+        }
+    }
+}
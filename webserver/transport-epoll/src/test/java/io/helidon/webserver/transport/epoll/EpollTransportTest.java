@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver.transport.epoll;
+
+import java.util.concurrent.TimeUnit;
+
+import io.helidon.webclient.WebClient;
+import io.helidon.webserver.Routing;
+import io.helidon.webserver.WebServer;
+
+import io.netty.channel.epoll.Epoll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Tests {@link EpollTransport} with the WebServer and {@link EpollClientTransport} with the WebClient.
+ */
+public class EpollTransportTest {
+
+    private WebServer first;
+    private WebServer second;
+
+    @BeforeEach
+    public void checkAvailable() {
+        assumeTrue(Epoll.isAvailable(), "Native epoll transport is not available");
+    }
+
+    @AfterEach
+    public void stopServers() throws Exception {
+        for (WebServer server : new WebServer[] {first, second}) {
+            if (server != null) {
+                server.shutdown().toCompletableFuture().get(10, TimeUnit.SECONDS);
+            }
+        }
+    }
+
+    @Test
+    public void testRequest() throws Exception {
+        first = startServer(0, "first");
+
+        assertThat(get(first.port()), is("first"));
+    }
+
+    @Test
+    public void testLevelTriggered() throws Exception {
+        first = WebServer.builder()
+                .transport(EpollTransport.builder().edgeTriggered(false).build())
+                .routing(Routing.builder().get("/", (req, res) -> res.send("level")))
+                .build()
+                .start()
+                .toCompletableFuture()
+                .get(10, TimeUnit.SECONDS);
+
+        assertThat(get(first.port()), is("level"));
+    }
+
+    @Test
+    public void testReusePort() throws Exception {
+        first = startServer(0, "first");
+        // would fail with address already in use without SO_REUSEPORT
+        second = startServer(first.port(), "second");
+
+        assertThat(second.port(), is(first.port()));
+        String response = get(first.port());
+        assertThat(response.equals("first") || response.equals("second"), is(true));
+    }
+
+    private static WebServer startServer(int port, String response) throws Exception {
+        return WebServer.builder()
+                .transport(EpollTransport.create())
+                .port(port)
+                .reusePort(true)
+                .tcpFastOpen(16)
+                .deferAcceptSeconds(1)
+                .routing(Routing.builder().get("/", (req, res) -> res.send(response)))
+                .build()
+                .start()
+                .toCompletableFuture()
+                .get(10, TimeUnit.SECONDS);
+    }
+
+    private static String get(int port) throws Exception {
+        return WebClient.builder()
+                .baseUri("http://localhost:" + port)
+                .build()
+                .get()
+                .request(String.class)
+                .toCompletableFuture()
+                .get(10, TimeUnit.SECONDS);
+    }
+}
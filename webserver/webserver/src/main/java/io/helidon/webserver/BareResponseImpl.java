@@ -16,6 +16,8 @@
 
 package io.helidon.webserver;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -28,17 +30,21 @@ import java.util.function.BooleanSupplier;
 import java.util.logging.Logger;
 
 import io.helidon.common.http.DataChunk;
+import io.helidon.common.http.FileChannelDataChunk;
 import io.helidon.common.http.Http;
 import io.helidon.common.reactive.Single;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
 import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.DefaultFileRegion;
 import io.netty.handler.codec.http.DefaultHttpContent;
 import io.netty.handler.codec.http.DefaultHttpResponse;
 import io.netty.handler.codec.http.DefaultLastHttpContent;
+import io.netty.handler.codec.http.HttpContent;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpHeaderValues;
 import io.netty.handler.codec.http.HttpHeaders;
@@ -46,6 +52,9 @@ import io.netty.handler.codec.http.HttpRequest;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.netty.handler.codec.http.HttpUtil;
 import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.handler.stream.ChunkedInput;
+import io.netty.handler.stream.ChunkedNioFile;
+import io.netty.handler.stream.ChunkedWriteHandler;
 import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.GenericFutureListener;
 
@@ -63,6 +72,7 @@ class BareResponseImpl implements BareResponse {
     private static final String HTTP_2_HEADER_PREFIX = "x-http2";
     private static final String HTTP_2_STREAM_ID = "x-http2-stream-id";
     private static final SocketClosedException CLOSED = new SocketClosedException("Response channel is closed!");
+    private static final int FILE_CHUNK_SIZE = 8192;
 
     private final boolean keepAlive;
     private final ChannelHandlerContext ctx;
@@ -277,6 +287,14 @@ class BareResponseImpl implements BareResponse {
         }
     }
 
+    // file regions may be larger than the int remaining of a data chunk
+    private static long length(DataChunk data) {
+        if (data instanceof FileChannelDataChunk) {
+            return ((FileChannelDataChunk) data).count();
+        }
+        return data.remaining();
+    }
+
     /**
      * Write last HTTP content. If length optimization is active and a first chunk is cached,
      * switch content encoding and write response. This method must be called inside an
@@ -289,7 +307,7 @@ class BareResponseImpl implements BareResponse {
         boolean chunked = true;
         if (lengthOptimization) {
             if (throwable == null) {
-                int length = (firstChunk == null ? 0 : firstChunk.remaining());
+                long length = (firstChunk == null ? 0 : length(firstChunk));
                 HttpUtil.setTransferEncodingChunked(response, false);
                 HttpUtil.setContentLength(response, length);
                 chunked = false;
@@ -415,8 +433,10 @@ class BareResponseImpl implements BareResponse {
     private ChannelFuture sendData(DataChunk data) {
         LOGGER.finest(() -> log("Sending data chunk"));
 
-        DefaultHttpContent httpContent;
-        if (data.isBackedBy(ByteBuf.class)) {
+        Object httpContent;
+        if (data instanceof FileChannelDataChunk) {
+            httpContent = fileContent((FileChannelDataChunk) data);
+        } else if (data.isBackedBy(ByteBuf.class)) {
             // DefaultHttpContent will call release, we retain to also call ours
             ByteBuf[] byteBufs = data.data(ByteBuf.class);
             if (byteBufs.length == 1) {
@@ -463,6 +483,25 @@ class BareResponseImpl implements BareResponse {
     }
 
 
+    /**
+     * Creates a message transferring the file region. If there is a {@link ChunkedWriteHandler} in the pipeline
+     * (TLS, compression or HTTP/2), the file is read in chunks by the handler, otherwise the region is transferred
+     * to the socket directly, without copying the data to user space.
+     *
+     * @param data file chunk
+     * @return message to write
+     */
+    private Object fileContent(FileChannelDataChunk data) {
+        if (ctx.pipeline().get(ChunkedWriteHandler.class) == null) {
+            return new DefaultFileRegion(data.channel(), data.position(), data.count());
+        }
+        try {
+            return new FileContentInput(new ChunkedNioFile(data.channel(), data.position(), data.count(), FILE_CHUNK_SIZE));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     @Override
     public void onError(Throwable thr) {
         Objects.requireNonNull(thr, "throwable is null");
@@ -523,4 +562,49 @@ class BareResponseImpl implements BareResponse {
         list.addAll(Arrays.asList(params));
         return String.format("[Response: %s, Channel: %s, StreamID: %s] " + template, list.toArray());
     }
+
+    /**
+     * Reads a file in chunks as {@link HttpContent}, so it passes through HTTP content encoders.
+     * Unlike {@link io.netty.handler.codec.http.HttpChunkedInput} it does not produce the last content,
+     * as that is written when the response completes.
+     */
+    private static final class FileContentInput implements ChunkedInput<HttpContent> {
+        private final ChunkedNioFile file;
+
+        private FileContentInput(ChunkedNioFile file) {
+            this.file = file;
+        }
+
+        @Override
+        public boolean isEndOfInput() throws Exception {
+            return file.isEndOfInput();
+        }
+
+        @Override
+        public void close() throws Exception {
+            file.close();
+        }
+
+        @Deprecated
+        @Override
+        public HttpContent readChunk(ChannelHandlerContext ctx) throws Exception {
+            return readChunk(ctx.alloc());
+        }
+
+        @Override
+        public HttpContent readChunk(ByteBufAllocator allocator) throws Exception {
+            ByteBuf buf = file.readChunk(allocator);
+            return (buf == null) ? null : new DefaultHttpContent(buf);
+        }
+
+        @Override
+        public long length() {
+            return file.length();
+        }
+
+        @Override
+        public long progress() {
+            return file.progress();
+        }
+    }
 }
@@ -0,0 +1,423 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.Flow.Publisher;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+import io.helidon.common.http.DataChunk;
+import io.helidon.common.http.FileChannelDataChunk;
+import io.helidon.common.http.Http;
+import io.helidon.common.http.MediaType;
+import io.helidon.common.reactive.IoMulti;
+import io.helidon.common.reactive.Multi;
+import io.helidon.common.reactive.Single;
+
+/**
+ * Byte range requests of a file as specified by
+ * <a href="https://tools.ietf.org/html/rfc7233">RFC 7233</a>.
+ * <p>
+ * A single range is answered with {@code 206 Partial Content} transferring just the requested region of the file,
+ * multiple ranges are answered with a {@code multipart/byteranges} body where each part is a region of the file.
+ * Files are never read as a whole: each region is transferred as a {@link FileChannelDataChunk} if the response
+ * supports file chunks, otherwise the region is read in chunks of bounded size.
+ */
+final class ByteRanges {
+
+    /**
+     * Maximal number of ranges in a single request, requests with more ranges are answered with the full content.
+     */
+    static final int MAX_RANGES = 16;
+
+    private static final String BYTES_UNIT = "bytes";
+    private static final String BYTES_PREFIX = BYTES_UNIT + "=";
+    private static final String CRLF = "\r\n";
+
+    private ByteRanges() {
+    }
+
+    /**
+     * Parse the value of a {@code Range} header.
+     *
+     * @param value  header value
+     * @param length length of the complete representation
+     * @return {@code null} if the header should be ignored (unknown unit, invalid syntax, too many ranges),
+     *         empty list if none of the ranges is satisfiable, satisfiable ranges otherwise
+     */
+    static List<Range> parse(String value, long length) {
+        if (!value.regionMatches(true, 0, BYTES_PREFIX, 0, BYTES_PREFIX.length())) {
+            return null;
+        }
+        List<Range> result = new ArrayList<>();
+        int specs = 0;
+        for (String spec : value.substring(BYTES_PREFIX.length()).split(",")) {
+            spec = spec.trim();
+            if (spec.isEmpty()) {
+                // empty list elements are allowed by the list syntax
+                continue;
+            }
+            if (++specs > MAX_RANGES) {
+                return null;
+            }
+            int dash = spec.indexOf('-');
+            if (dash < 0) {
+                return null;
+            }
+            long first = parseNumber(spec.substring(0, dash));
+            long last = parseNumber(spec.substring(dash + 1));
+            if (dash == 0) {
+                // suffix range
+                if (last < 0) {
+                    return null;
+                }
+                if (last > 0 && length > 0) {
+                    long start = Math.max(0, length - last);
+                    result.add(new Range(start, length - start));
+                }
+                continue;
+            }
+            if (first < 0) {
+                return null;
+            }
+            if (dash == spec.length() - 1) {
+                last = length - 1;
+            } else if (last < first) {
+                return null;
+            }
+            if (first < length) {
+                long end = Math.min(last, length - 1);
+                result.add(new Range(first, end - first + 1));
+            }
+        }
+        if (specs == 0) {
+            return null;
+        }
+        return result;
+    }
+
+    /**
+     * Whether the {@code If-Range} precondition allows to send a partial response.
+     * An entity tag is compared using the strong comparison with the {@code ETag} response header,
+     * a date must be exactly the same as the {@code Last-Modified} response header.
+     *
+     * @param ifRange value of the {@code If-Range} header
+     * @param headers response headers
+     * @return {@code true} if ranges should be applied
+     */
+    static boolean ifRangeMatches(String ifRange, ResponseHeaders headers) {
+        String value = ifRange.trim();
+        if (value.startsWith("W/")) {
+            // weak validators are never used for ranges
+            return false;
+        }
+        if (value.startsWith("\"")) {
+            return headers.first(Http.Header.ETAG)
+                    .map(etag -> etag.equals(value))
+                    .orElse(false);
+        }
+        Optional<ZonedDateTime> lastModified = headers.lastModified();
+        if (lastModified.isEmpty()) {
+            return false;
+        }
+        try {
+            return Http.DateTime.parse(value).toInstant().equals(lastModified.get().toInstant());
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Content of a single range of the file.
+     *
+     * @param path       file
+     * @param range      range
+     * @param fileChunks whether the region can be sent as a {@link FileChannelDataChunk}
+     * @return publisher of the file region
+     */
+    static Publisher<DataChunk> single(Path path, Range range, boolean fileChunks) {
+        return region(path, range, fileChunks);
+    }
+
+    /**
+     * Creates a new random boundary for a multipart response.
+     *
+     * @return boundary
+     */
+    static String boundary() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return Long.toHexString(random.nextLong()) + Long.toHexString(random.nextLong());
+    }
+
+    /**
+     * Length of the {@code multipart/byteranges} body.
+     *
+     * @param ranges      ranges
+     * @param contentType content type of the file
+     * @param boundary    boundary
+     * @param length      length of the file
+     * @return number of bytes
+     */
+    static long multipartLength(List<Range> ranges, MediaType contentType, String boundary, long length) {
+        long result = 0;
+        for (int i = 0; i < ranges.size(); i++) {
+            Range range = ranges.get(i);
+            result += partHeader(i == 0, range, contentType, boundary, length).length;
+            result += range.length();
+        }
+        return result + closeDelimiter(boundary).length;
+    }
+
+    /**
+     * Content of the {@code multipart/byteranges} body. File channels are opened one at a time,
+     * as the parts are requested.
+     *
+     * @param path        file
+     * @param ranges      ranges
+     * @param contentType content type of the file
+     * @param boundary    boundary
+     * @param length      length of the file
+     * @param fileChunks  whether the regions can be sent as {@link FileChannelDataChunk}s
+     * @return publisher of the parts
+     */
+    static Publisher<DataChunk> multipart(Path path,
+                                          List<Range> ranges,
+                                          MediaType contentType,
+                                          String boundary,
+                                          long length,
+                                          boolean fileChunks) {
+        return Multi.create(() -> new MultipartIterator(path, ranges, contentType, boundary, length, fileChunks))
+                // parts in order, one at a time
+                .flatMap(Function.identity(), 1, false, 1);
+    }
+
+    /**
+     * Length of the file, used as the length of the complete representation.
+     *
+     * @param path file
+     * @return length in bytes
+     * @throws IOException if the size cannot be obtained
+     */
+    static long size(Path path) throws IOException {
+        return Files.size(path);
+    }
+
+    private static Publisher<DataChunk> region(Path path, Range range, boolean fileChunks) {
+        FileChannel fc;
+        try {
+            fc = FileChannel.open(path, StandardOpenOption.READ);
+        } catch (IOException e) {
+            return Single.error(e);
+        }
+        if (fileChunks) {
+            return Single.just(FileChannelDataChunk.create(fc, range.start(), range.length()));
+        }
+        return IoMulti.multiFromByteChannel(new RegionChannel(fc, range.start(), range.length()))
+                .map(DataChunk::create);
+    }
+
+    private static byte[] partHeader(boolean first, Range range, MediaType contentType, String boundary, long length) {
+        String header = (first ? "" : CRLF)
+                + "--" + boundary + CRLF
+                + Http.Header.CONTENT_TYPE + ": " + contentType + CRLF
+                + Http.Header.CONTENT_RANGE + ": " + range.contentRange(length) + CRLF
+                + CRLF;
+        return header.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static byte[] closeDelimiter(String boundary) {
+        return (CRLF + "--" + boundary + "--" + CRLF).getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static long parseNumber(String value) {
+        String trimmed = value.trim();
+        if (trimmed.isEmpty()) {
+            return -1;
+        }
+        for (int i = 0; i < trimmed.length(); i++) {
+            if (!Character.isDigit(trimmed.charAt(i))) {
+                return -1;
+            }
+        }
+        try {
+            return Long.parseLong(trimmed);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * A satisfiable byte range.
+     */
+    static final class Range {
+        private final long start;
+        private final long length;
+
+        Range(long start, long length) {
+            this.start = start;
+            this.length = length;
+        }
+
+        long start() {
+            return start;
+        }
+
+        long length() {
+            return length;
+        }
+
+        long end() {
+            return start + length - 1;
+        }
+
+        String contentRange(long completeLength) {
+            return BYTES_UNIT + " " + start + "-" + end() + "/" + completeLength;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Range)) {
+                return false;
+            }
+            Range range = (Range) o;
+            return start == range.start && length == range.length;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(start) * 31 + Long.hashCode(length);
+        }
+
+        @Override
+        public String toString() {
+            return start + "-" + end();
+        }
+    }
+
+    /**
+     * Emits part header, file region, ..., close delimiter.
+     */
+    private static final class MultipartIterator implements Iterator<Publisher<DataChunk>> {
+        private final Path path;
+        private final List<Range> ranges;
+        private final MediaType contentType;
+        private final String boundary;
+        private final long length;
+        private final boolean fileChunks;
+        // even positions are headers, odd positions are file regions, the last one is the close delimiter
+        private int position;
+
+        private MultipartIterator(Path path,
+                                  List<Range> ranges,
+                                  MediaType contentType,
+                                  String boundary,
+                                  long length,
+                                  boolean fileChunks) {
+            this.path = path;
+            this.ranges = Collections.unmodifiableList(ranges);
+            this.contentType = contentType;
+            this.boundary = boundary;
+            this.length = length;
+            this.fileChunks = fileChunks;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return position <= ranges.size() * 2;
+        }
+
+        @Override
+        public Publisher<DataChunk> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            int current = position++;
+            if (current == ranges.size() * 2) {
+                return Single.just(DataChunk.create(closeDelimiter(boundary)));
+            }
+            Range range = ranges.get(current / 2);
+            if (current % 2 == 0) {
+                return Single.just(DataChunk.create(partHeader(current == 0, range, contentType, boundary, length)));
+            }
+            return region(path, range, fileChunks);
+        }
+    }
+
+    /**
+     * Reads a region of a file channel, closing the channel when closed.
+     */
+    private static final class RegionChannel implements ReadableByteChannel {
+        private final FileChannel channel;
+        private final long end;
+        private long position;
+
+        private RegionChannel(FileChannel channel, long position, long count) {
+            this.channel = channel;
+            this.position = position;
+            this.end = position + count;
+        }
+
+        @Override
+        public int read(ByteBuffer dst) throws IOException {
+            if (position >= end) {
+                return -1;
+            }
+            int limit = dst.limit();
+            if (dst.remaining() > end - position) {
+                dst.limit(dst.position() + (int) (end - position));
+            }
+            try {
+                int read = channel.read(dst, position);
+                if (read > 0) {
+                    position += read;
+                }
+                return read;
+            } finally {
+                dst.limit(limit);
+            }
+        }
+
+        @Override
+        public boolean isOpen() {
+            return channel.isOpen();
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+}
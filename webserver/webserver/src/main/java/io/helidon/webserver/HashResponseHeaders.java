@@ -77,7 +77,7 @@ class HashResponseHeaders extends HashParameters implements ResponseHeaders {
                     });
         }
         // Set standard headers
-        this.put(Http.Header.DATE, ZonedDateTime.now().format(Http.DateTime.RFC_1123_DATE_TIME));
+        this.put(Http.Header.DATE, Http.DateTime.rfc1123Now());
     }
 
     @Override
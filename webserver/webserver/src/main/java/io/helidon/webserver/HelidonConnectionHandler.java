@@ -16,7 +16,12 @@
 
 package io.helidon.webserver;
 
+import java.util.List;
+
+import io.helidon.webserver.spi.Http2StreamHandler;
+
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.http.FullHttpRequest;
 import io.netty.handler.codec.http.HttpHeaderNames;
@@ -25,6 +30,7 @@ import io.netty.handler.codec.http.HttpScheme;
 import io.netty.handler.codec.http.HttpServerUpgradeHandler;
 import io.netty.handler.codec.http2.AbstractHttp2ConnectionHandlerBuilder;
 import io.netty.handler.codec.http2.DefaultHttp2Headers;
+import io.netty.handler.codec.http2.Http2ConnectionAdapter;
 import io.netty.handler.codec.http2.Http2ConnectionDecoder;
 import io.netty.handler.codec.http2.Http2ConnectionEncoder;
 import io.netty.handler.codec.http2.Http2Exception;
@@ -33,9 +39,12 @@ import io.netty.handler.codec.http2.Http2FrameListener;
 import io.netty.handler.codec.http2.Http2FrameLogger;
 import io.netty.handler.codec.http2.Http2Headers;
 import io.netty.handler.codec.http2.Http2Settings;
+import io.netty.handler.codec.http2.Http2Stream;
 import io.netty.handler.codec.http2.HttpToHttp2ConnectionHandler;
 import io.netty.handler.codec.http2.InboundHttp2ToHttpAdapter;
 import io.netty.handler.codec.http2.InboundHttp2ToHttpAdapterBuilder;
+import io.netty.util.collection.IntObjectHashMap;
+import io.netty.util.collection.IntObjectMap;
 
 import static io.netty.handler.logging.LogLevel.DEBUG;
 
@@ -45,15 +54,33 @@ import static io.netty.handler.logging.LogLevel.DEBUG;
 class HelidonConnectionHandler extends HttpToHttp2ConnectionHandler implements Http2FrameListener {
 
     private final InboundHttp2ToHttpAdapter inboundAdapter;
+    private final List<Http2StreamHandler> streamHandlers;
+    // streams owned by stream handlers, only accessed from the event loop of the connection
+    private final IntObjectMap<Http2StreamHandler.Listener> handledStreams = new IntObjectHashMap<>();
+    // created with the first stream owned by a stream handler
+    private Http2ServerConnectionImpl handledConnection;
 
     HelidonConnectionHandler(Http2ConnectionDecoder decoder, Http2ConnectionEncoder encoder,
-                             Http2Settings initialSettings, int maxContentLength) {
+                             Http2Settings initialSettings, int maxContentLength,
+                             List<Http2StreamHandler> streamHandlers) {
         super(decoder, encoder, initialSettings, true);
         inboundAdapter = new InboundHttp2ToHttpAdapterBuilder(decoder.connection())
                 .maxContentLength(maxContentLength)
                 .propagateSettings(true)
                 .validateHttpHeaders(true)
                 .build();
+        this.streamHandlers = streamHandlers;
+        if (!streamHandlers.isEmpty()) {
+            decoder.connection().addListener(new Http2ConnectionAdapter() {
+                @Override
+                public void onStreamClosed(Http2Stream stream) {
+                    Http2StreamHandler.Listener listener = handledStreams.remove(stream.id());
+                    if (listener != null) {
+                        listener.onClosed();
+                    }
+                }
+            });
+        }
     }
 
     @Override
@@ -81,25 +108,93 @@ class HelidonConnectionHandler extends HttpToHttp2ConnectionHandler implements H
     @Override
     public int onDataRead(ChannelHandlerContext ctx, int streamId, ByteBuf data, int padding,
                           boolean endOfStream) throws Http2Exception {
+        Http2StreamHandler.Listener listener = handledStreams.get(streamId);
+        if (listener != null) {
+            // the data is returned to the flow control window once consumed by the stream handler,
+            // see consumeBytes, only the padding is processed right away
+            listener.onData(ByteBufDataChunk.create(false, true, data::release, data.retain()), endOfStream);
+            return padding;
+        }
         return inboundAdapter.onDataRead(ctx, streamId, data, padding, endOfStream);
     }
 
     @Override
     public void onHeadersRead(ChannelHandlerContext ctx, int streamId, Http2Headers headers, int padding,
                               boolean endOfStream) throws Http2Exception {
-        inboundAdapter.onHeadersRead(ctx, streamId, headers, padding, endOfStream);
+        if (!handleStream(ctx, streamId, headers, endOfStream)) {
+            inboundAdapter.onHeadersRead(ctx, streamId, headers, padding, endOfStream);
+        }
     }
 
     @Override
     public void onHeadersRead(ChannelHandlerContext ctx, int streamId, Http2Headers headers, int streamDependency,
                               short weight, boolean exclusive, int padding, boolean endOfStream)
             throws Http2Exception {
-        inboundAdapter.onHeadersRead(ctx, streamId, headers, streamDependency, weight, exclusive, padding,
-                endOfStream);
+        if (!handleStream(ctx, streamId, headers, endOfStream)) {
+            inboundAdapter.onHeadersRead(ctx, streamId, headers, streamDependency, weight, exclusive, padding,
+                    endOfStream);
+        }
+    }
+
+    /**
+     * Dispatch headers to a stream handler if the stream belongs to one.
+     *
+     * @return {@code true} if the headers were consumed by a stream handler
+     */
+    private boolean handleStream(ChannelHandlerContext ctx, int streamId, Http2Headers headers, boolean endOfStream) {
+        if (streamHandlers.isEmpty()) {
+            return false;
+        }
+        Http2StreamHandler.Listener listener = handledStreams.get(streamId);
+        if (listener != null) {
+            // trailers
+            if (endOfStream) {
+                listener.onData(ByteBufDataChunk.create(false, true, Unpooled.EMPTY_BUFFER), true);
+            }
+            return true;
+        }
+        Http2StreamHeadersImpl streamHeaders = new Http2StreamHeadersImpl(headers);
+        for (Http2StreamHandler streamHandler : streamHandlers) {
+            if (streamHandler.accepts(streamHeaders)) {
+                if (handledConnection == null) {
+                    handledConnection = new Http2ServerConnectionImpl(ctx);
+                }
+                Http2ServerStreamImpl stream = new Http2ServerStreamImpl(ctx, this, handledConnection, streamId);
+                handledStreams.put(streamId, streamHandler.stream(stream, streamHeaders, endOfStream));
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Return bytes consumed by a stream handler to the flow control window, invoked on the event loop.
+     * Bytes that are not consumed once the stream is closed are returned by the flow controller.
+     *
+     * @param ctx      context of this handler
+     * @param streamId id of the stream
+     * @param numBytes number of consumed bytes
+     */
+    void consumeBytes(ChannelHandlerContext ctx, int streamId, int numBytes) {
+        Http2Stream stream = connection().stream(streamId);
+        if (stream == null || numBytes <= 0) {
+            return;
+        }
+        try {
+            if (decoder().flowController().consumeBytes(stream, numBytes)) {
+                flush(ctx);
+            }
+        } catch (Http2Exception e) {
+            onError(ctx, false, e);
+        }
     }
 
     @Override
     public void onRstStreamRead(ChannelHandlerContext ctx, int streamId, long errorCode) throws Http2Exception {
+        if (handledStreams.containsKey(streamId)) {
+            // the stream handler is notified once the stream is closed
+            return;
+        }
         inboundAdapter.onRstStreamRead(ctx, streamId, errorCode);
     }
 
@@ -159,6 +254,7 @@ class HelidonConnectionHandler extends HttpToHttp2ConnectionHandler implements H
         private static final Http2FrameLogger LOGGER = new Http2FrameLogger(DEBUG, HelidonConnectionHandler.class);
 
         private int maxContentLength;
+        private List<Http2StreamHandler> streamHandlers = List.of();
 
         HelidonHttp2ConnectionHandlerBuilder() {
             frameLogger(LOGGER);
@@ -169,6 +265,11 @@ class HelidonConnectionHandler extends HttpToHttp2ConnectionHandler implements H
             return this;
         }
 
+        public HelidonHttp2ConnectionHandlerBuilder streamHandlers(List<Http2StreamHandler> streamHandlers) {
+            this.streamHandlers = streamHandlers;
+            return this;
+        }
+
         @Override
         public HelidonConnectionHandler build() {
             return super.build();
@@ -178,7 +279,7 @@ class HelidonConnectionHandler extends HttpToHttp2ConnectionHandler implements H
         protected HelidonConnectionHandler build(Http2ConnectionDecoder decoder, Http2ConnectionEncoder encoder,
                                                  Http2Settings initialSettings) {
             HelidonConnectionHandler handler = new HelidonConnectionHandler(decoder, encoder, initialSettings,
-                    maxContentLength);
+                    maxContentLength, streamHandlers);
             frameListener(handler);
             return handler;
         }
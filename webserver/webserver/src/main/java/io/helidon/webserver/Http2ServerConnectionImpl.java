@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.webserver;
+
+import java.net.SocketAddress;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ScheduledExecutorService;
+
+import javax.net.ssl.SSLSession;
+
+import io.helidon.media.common.DataChunkAllocator;
+import io.helidon.webserver.spi.Http2ServerConnection;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.handler.ssl.SslHandler;
+
+/**
+ * An HTTP/2 connection carrying streams owned by stream handlers.
+ */
+class Http2ServerConnectionImpl implements Http2ServerConnection {
+
+    private final ChannelHandlerContext ctx;
+    private final DataChunkAllocator allocator;
+    private final CompletableFuture<Void> closed = new CompletableFuture<>();
+
+    Http2ServerConnectionImpl(ChannelHandlerContext ctx) {
+        this.ctx = ctx;
+        this.allocator = new PooledDataChunkAllocator(ctx.alloc());
+        ctx.channel().closeFuture().addListener(future -> closed.complete(null));
+    }
+
+    @Override
+    public SocketAddress remoteAddress() {
+        return ctx.channel().remoteAddress();
+    }
+
+    @Override
+    public SocketAddress localAddress() {
+        return ctx.channel().localAddress();
+    }
+
+    @Override
+    public Optional<SSLSession> sslSession() {
+        return Optional.ofNullable(ctx.pipeline().get(SslHandler.class))
+                .map(sslHandler -> sslHandler.engine().getSession());
+    }
+
+    @Override
+    public ScheduledExecutorService executor() {
+        return ctx.executor();
+    }
+
+    @Override
+    public boolean inEventLoop() {
+        return ctx.executor().inEventLoop();
+    }
+
+    @Override
+    public DataChunkAllocator allocator() {
+        return allocator;
+    }
+
+    @Override
+    public CompletionStage<Void> whenClosed() {
+        return closed;
+    }
+
+    /**
+     * Run a task on the event loop, immediately if already invoked on it.
+     *
+     * @param runnable task to run
+     */
+    void onEventLoop(Runnable runnable) {
+        if (ctx.executor().inEventLoop()) {
+            runnable.run();
+        } else {
+            ctx.executor().execute(runnable);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.webserver;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+import io.helidon.common.http.DataChunk;
+import io.helidon.common.http.Http;
+import io.helidon.common.http.Parameters;
+import io.helidon.webserver.spi.Http2ServerConnection;
+import io.helidon.webserver.spi.Http2ServerStream;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.handler.codec.http2.DefaultHttp2Headers;
+import io.netty.handler.codec.http2.Http2Error;
+import io.netty.handler.codec.http2.Http2Headers;
+import io.netty.util.AsciiString;
+
+/**
+ * An HTTP/2 stream owned by a stream handler, frames are written by the connection handler on the event loop.
+ */
+class Http2ServerStreamImpl implements Http2ServerStream {
+
+    private final ChannelHandlerContext ctx;
+    private final HelidonConnectionHandler handler;
+    private final Http2ServerConnectionImpl connection;
+    private final int streamId;
+
+    Http2ServerStreamImpl(ChannelHandlerContext ctx,
+                          HelidonConnectionHandler handler,
+                          Http2ServerConnectionImpl connection,
+                          int streamId) {
+        this.ctx = ctx;
+        this.handler = handler;
+        this.connection = connection;
+        this.streamId = streamId;
+    }
+
+    @Override
+    public int id() {
+        return streamId;
+    }
+
+    @Override
+    public Http2ServerConnection connection() {
+        return connection;
+    }
+
+    @Override
+    public CompletionStage<Void> writeHeaders(Http.ResponseStatus status, Parameters headers, boolean endOfStream) {
+        Http2Headers http2Headers = http2Headers(headers).status(String.valueOf(status.code()));
+        return write(promise -> handler.encoder().writeHeaders(ctx, streamId, http2Headers, 0, endOfStream, promise));
+    }
+
+    @Override
+    public CompletionStage<Void> writeTrailers(Parameters trailers) {
+        Http2Headers http2Headers = http2Headers(trailers);
+        return write(promise -> handler.encoder().writeHeaders(ctx, streamId, http2Headers, 0, true, promise));
+    }
+
+    @Override
+    public CompletionStage<Void> writeData(DataChunk data) {
+        ByteBuf byteBuf;
+        if (data.isBackedBy(ByteBuf.class)) {
+            // the encoder releases the buffer once written, we retain it to release the chunk as well
+            ByteBuf[] byteBufs = data.data(ByteBuf.class);
+            for (ByteBuf buf : byteBufs) {
+                buf.retain();
+            }
+            byteBuf = byteBufs.length == 1 ? byteBufs[0] : Unpooled.wrappedBuffer(byteBufs);
+        } else {
+            byteBuf = Unpooled.wrappedBuffer(data.data());
+        }
+        CompletionStage<Void> written = write(promise -> handler.encoder()
+                .writeData(ctx, streamId, byteBuf, 0, false, promise));
+        written.whenComplete((it, throwable) -> data.release());
+        return written;
+    }
+
+    @Override
+    public void flush() {
+        connection.onEventLoop(() -> handler.flush(ctx));
+    }
+
+    @Override
+    public void reset() {
+        connection.onEventLoop(() -> {
+            handler.resetStream(ctx, streamId, Http2Error.CANCEL.code(), ctx.newPromise());
+            handler.flush(ctx);
+        });
+    }
+
+    @Override
+    public void consumeBytes(int numBytes) {
+        connection.onEventLoop(() -> handler.consumeBytes(ctx, streamId, numBytes));
+    }
+
+    private CompletionStage<Void> write(Function<ChannelPromise, ChannelFuture> writer) {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        connection.onEventLoop(() -> {
+            ChannelPromise promise = ctx.newPromise();
+            promise.addListener(future -> {
+                if (future.isSuccess()) {
+                    result.complete(null);
+                } else {
+                    result.completeExceptionally(future.cause());
+                }
+            });
+            try {
+                writer.apply(promise);
+            } catch (Throwable e) {
+                promise.tryFailure(e);
+            }
+        });
+        return result;
+    }
+
+    private static Http2Headers http2Headers(Parameters headers) {
+        Http2Headers http2Headers = new DefaultHttp2Headers(false);
+        for (Map.Entry<String, List<String>> header : headers.toMap().entrySet()) {
+            for (String value : header.getValue()) {
+                // HTTP/2 header names are lower case
+                http2Headers.add(AsciiString.of(header.getKey()).toLowerCase(), value);
+            }
+        }
+        return http2Headers;
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.webserver;
+
+import java.util.Optional;
+import java.util.function.BiConsumer;
+
+import io.helidon.webserver.spi.Http2StreamHeaders;
+
+import io.netty.handler.codec.http2.Http2Headers;
+import io.netty.util.AsciiString;
+
+/**
+ * Request headers of an HTTP/2 stream backed by the headers decoded by Netty.
+ */
+class Http2StreamHeadersImpl implements Http2StreamHeaders {
+
+    private final Http2Headers headers;
+
+    Http2StreamHeadersImpl(Http2Headers headers) {
+        this.headers = headers;
+    }
+
+    @Override
+    public String method() {
+        return string(headers.method());
+    }
+
+    @Override
+    public String path() {
+        return string(headers.path());
+    }
+
+    @Override
+    public Optional<String> authority() {
+        return Optional.ofNullable(string(headers.authority()));
+    }
+
+    @Override
+    public Optional<String> first(String name) {
+        // HTTP/2 header names are lower case
+        return Optional.ofNullable(string(headers.get(AsciiString.of(name).toLowerCase())));
+    }
+
+    @Override
+    public void forEach(BiConsumer<String, String> consumer) {
+        for (var header : headers) {
+            CharSequence name = header.getKey();
+            if (name.length() > 0 && name.charAt(0) == ':') {
+                continue;
+            }
+            consumer.accept(name.toString(), header.getValue().toString());
+        }
+    }
+
+    private static String string(CharSequence value) {
+        return value == null ? null : value.toString();
+    }
+}
@@ -34,6 +34,7 @@ import javax.net.ssl.SSLPeerUnverifiedException;
 
 import io.helidon.webserver.HelidonConnectionHandler.HelidonHttp2ConnectionHandlerBuilder;
 import io.helidon.webserver.ReferenceHoldingQueue.IndirectReference;
+import io.helidon.webserver.spi.Http2StreamHandler;
 
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
@@ -51,6 +52,7 @@ import io.netty.handler.codec.http2.Http2CodecUtil;
 import io.netty.handler.codec.http2.Http2ServerUpgradeCodec;
 import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslHandler;
+import io.netty.handler.stream.ChunkedWriteHandler;
 import io.netty.util.AsciiString;
 import io.netty.util.AttributeKey;
 import io.netty.util.concurrent.Future;
@@ -67,6 +69,7 @@ class HttpInitializer extends ChannelInitializer<SocketChannel> {
     private final NettyWebServer webServer;
     private final SocketConfiguration soConfig;
     private final Routing routing;
+    private final List<Http2StreamHandler> http2StreamHandlers;
     private final AtomicBoolean clearLock = new AtomicBoolean();
     private volatile SslContext sslContext;
 
@@ -87,9 +90,11 @@ class HttpInitializer extends ChannelInitializer<SocketChannel> {
     HttpInitializer(SocketConfiguration soConfig,
                     SslContext sslContext,
                     Routing routing,
+                    List<Http2StreamHandler> http2StreamHandlers,
                     NettyWebServer webServer) {
         this.soConfig = soConfig;
         this.routing = routing;
+        this.http2StreamHandlers = http2StreamHandlers;
         this.sslContext = sslContext;
         this.webServer = webServer;
     }
@@ -177,7 +182,9 @@ class HttpInitializer extends ChannelInitializer<SocketChannel> {
             Http2Configuration http2Config = experimental.http2();
             HttpServerCodec sourceCodec = new HttpServerCodec();
             HelidonConnectionHandler helidonHandler = new HelidonHttp2ConnectionHandlerBuilder()
-                    .maxContentLength(http2Config.maxContentLength()).build();
+                    .maxContentLength(http2Config.maxContentLength())
+                    .streamHandlers(http2StreamHandlers)
+                    .build();
             HttpServerUpgradeHandler upgradeHandler = new HttpServerUpgradeHandler(sourceCodec,
                     protocol -> AsciiString.contentEquals(Http2CodecUtil.HTTP_UPGRADE_PROTOCOL_NAME, protocol)
                             ? new Http2ServerUpgradeCodec(helidonHandler) : null,
@@ -201,6 +208,11 @@ class HttpInitializer extends ChannelInitializer<SocketChannel> {
             }
         }
 
+        // Files cannot be sent as a region when the content is encrypted or further encoded, they are read in chunks
+        if (context != null || serverConfig.isHttp2Enabled() || serverConfig.enableCompression()) {
+            p.addLast(new ChunkedWriteHandler());
+        }
+
         // Helidon's forwarding handler
         p.addLast(new ForwardingHandler(routing, webServer, sslEngine, queues, this::clearQueues,
                                         requestDecoder, soConfig.maxPayloadSize()));
@@ -20,9 +20,11 @@ import java.net.BindException;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
+import java.net.StandardSocketOptions;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
@@ -35,6 +37,7 @@ import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -45,8 +48,10 @@ import io.helidon.common.HelidonFlavor;
 import io.helidon.common.Version;
 import io.helidon.common.context.Context;
 import io.helidon.common.reactive.Single;
+import io.helidon.media.common.DataChunkAllocator;
 import io.helidon.media.common.MessageBodyReaderContext;
 import io.helidon.media.common.MessageBodyWriterContext;
+import io.helidon.webserver.spi.Http2StreamHandler;
 
 import io.netty.bootstrap.ServerBootstrap;
 import io.netty.channel.Channel;
@@ -56,6 +61,7 @@ import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.ServerChannel;
 import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioChannelOption;
 import io.netty.channel.socket.nio.NioServerSocketChannel;
 import io.netty.handler.logging.LogLevel;
 import io.netty.handler.logging.LoggingHandler;
@@ -104,10 +110,12 @@ class NettyWebServer implements WebServer {
      * @param namedRoutings the named routings of the configured additional server sockets. If there is no
      *                      named routing for a given named additional server socket configuration, a default
      *                      routing is used.
+     * @param http2StreamHandlers handlers of HTTP/2 streams that bypass routing
      */
     NettyWebServer(ServerConfiguration config,
                    Routing routing,
                    Map<String, Routing> namedRoutings,
+                   List<Http2StreamHandler> http2StreamHandlers,
                    MessageBodyWriterContext writerContext,
                    MessageBodyReaderContext readerContext) {
         Set<Map.Entry<String, SocketConfiguration>> sockets = config.sockets().entrySet();
@@ -120,8 +128,13 @@ class NettyWebServer implements WebServer {
         this.transport = acquireTransport();
         this.bossGroup = bossGroup();
         this.workerGroup = workerGroup();
+        BiConsumer<ServerBootstrap, SocketConfiguration> bootstrapConfigurer = serverBootstrapConfigurer();
         this.readerContext = MessageBodyReaderContext.create(readerContext);
         this.writerContext = MessageBodyWriterContext.create(writerContext);
+        if (this.writerContext.allocator() == DataChunkAllocator.heap()) {
+            // serialize entities directly into pooled buffers, released by BareResponseImpl once written
+            this.writerContext.allocator(PooledDataChunkAllocator.INSTANCE);
+        }
 
         for (Map.Entry<String, SocketConfiguration> entry : sockets) {
             String name = entry.getKey();
@@ -145,10 +158,12 @@ class NettyWebServer implements WebServer {
             if (soConfig.receiveBufferSize() > 0) {
                 bootstrap.option(ChannelOption.SO_RCVBUF, soConfig.receiveBufferSize());
             }
+            bootstrapConfigurer.accept(bootstrap, soConfig);
 
             HttpInitializer childHandler = new HttpInitializer(soConfig,
                                                                sslContext,
                                                                namedRoutings.getOrDefault(name, routing),
+                                                               http2StreamHandlers,
                                                                this);
             initializers.put(name, childHandler);
             bootstrap.group(bossGroup, workerGroup)
@@ -488,6 +503,14 @@ class NettyWebServer implements WebServer {
             .orElseThrow(() -> noSuchTransportArtifact("serverChannelFactory"));
     }
 
+    @SuppressWarnings("unchecked")
+    private BiConsumer<ServerBootstrap, SocketConfiguration> serverBootstrapConfigurer() {
+        // optional, transport specific socket options
+        return transport()
+            .createTransportArtifact(BiConsumer.class, "serverBootstrapConfigurer", configuration)
+            .orElse((bootstrap, socketConfig) -> { });
+    }
+
     private NoSuchElementException noSuchTransportArtifact(String name) {
         return new NoSuchElementException("The current webserver transport, "
                                           + transport() + ", could not supply "
@@ -528,11 +551,28 @@ class NettyWebServer implements WebServer {
                 default:
                     return Optional.empty();
                 }
+            } else if (BiConsumer.class.isAssignableFrom(artifactType)) {
+                switch (artifactName) {
+                case "serverBootstrapConfigurer":
+                    BiConsumer<ServerBootstrap, SocketConfiguration> configurer = NioTransport::configure;
+                    return Optional.of((T) configurer);
+                default:
+                    return Optional.empty();
+                }
             } else {
                 return Optional.empty();
             }
         }
 
+        private static void configure(ServerBootstrap bootstrap, SocketConfiguration socketConfig) {
+            if (socketConfig.reusePort()) {
+                bootstrap.option(NioChannelOption.of(StandardSocketOptions.SO_REUSEPORT), true);
+            }
+            if (socketConfig.tcpFastOpen() > 0 || socketConfig.deferAcceptSeconds() > 0) {
+                LOGGER.warning(() -> "Socket '" + socketConfig.name() + "' configures TCP fast open or defer accept, "
+                        + "which are only supported by native transports, ignoring.");
+            }
+        }
     }
 
     // this class is only used to create a log handler in NettyLogHandler, to distinguish from webclient
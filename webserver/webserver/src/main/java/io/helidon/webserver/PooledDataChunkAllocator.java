@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.helidon.common.http.DataChunk;
+import io.helidon.media.common.DataChunkAllocator;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
+
+/**
+ * Allocator of chunks backed by pooled Netty buffers, direct if the platform supports it.
+ * <p>
+ * Writers serialize directly into the pooled memory and {@link BareResponseImpl} passes the buffers to the channel
+ * without copying. Releasing a chunk returns its memory to the pool.
+ */
+final class PooledDataChunkAllocator implements DataChunkAllocator {
+
+    static final PooledDataChunkAllocator INSTANCE = new PooledDataChunkAllocator(PooledByteBufAllocator.DEFAULT);
+
+    private final ByteBufAllocator allocator;
+
+    PooledDataChunkAllocator(ByteBufAllocator allocator) {
+        this.allocator = allocator;
+    }
+
+    @Override
+    public DataChunk allocate(boolean flush, int capacity) {
+        return new PooledDataChunk(flush, allocator.buffer(capacity, capacity));
+    }
+
+    /**
+     * A chunk backed by a pooled buffer. The NIO view handed out to writers is the source of truth for
+     * the readable region, the indexes of the pooled buffer are updated from it when it is passed to Netty.
+     */
+    static final class PooledDataChunk implements DataChunk {
+        private final boolean flush;
+        private final ByteBuf byteBuf;
+        private final ByteBuffer[] view;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private PooledDataChunk(boolean flush, ByteBuf byteBuf) {
+            this.flush = flush;
+            this.byteBuf = byteBuf;
+            this.view = new ByteBuffer[] {byteBuf.nioBuffer(0, byteBuf.capacity())};
+        }
+
+        @Override
+        public ByteBuffer[] data() {
+            return view;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T[] data(Class<T> clazz) {
+            if (ByteBuf.class.isAssignableFrom(clazz)) {
+                ByteBuffer buffer = view[0];
+                byteBuf.setIndex(buffer.position(), buffer.limit());
+                return (T[]) new ByteBuf[] {byteBuf};
+            }
+            return DataChunk.super.data(clazz);
+        }
+
+        @Override
+        public <T> boolean isBackedBy(Class<T> clazz) {
+            return ByteBuf.class.isAssignableFrom(clazz) || DataChunk.super.isBackedBy(clazz);
+        }
+
+        @Override
+        public boolean flush() {
+            return flush;
+        }
+
+        @Override
+        public boolean isReadOnly() {
+            // never reused once published
+            return true;
+        }
+
+        @Override
+        public boolean isReleased() {
+            return released.get();
+        }
+
+        @Override
+        public void release() {
+            if (released.compareAndSet(false, true)) {
+                byteBuf.release();
+            }
+        }
+    }
+}
@@ -124,12 +124,13 @@ class RequestRouting implements Routing {
      */
     private static class Crawler {
 
-        private final List<Route> routes;
+        private final RouteList routes;
         private final Request.Path contextPath;
         private final String path;
         private final String rawPath;
         private final Http.RequestMethod method;
 
+        private volatile int[] candidates;
         private volatile int index = -1;
         private volatile Crawler subCrawler;
 
@@ -142,7 +143,7 @@ class RequestRouting implements Routing {
          * @param rawPath     not decoded URI path to route.
          * @param method      an HTTP method to route.
          */
-        private Crawler(List<Route> routes, Request.Path contextPath, String path, String rawPath,
+        private Crawler(RouteList routes, Request.Path contextPath, String path, String rawPath,
                         Http.RequestMethod method) {
             this.routes = routes;
             this.path = path;
@@ -159,7 +160,7 @@ class RequestRouting implements Routing {
          * @param rawPath not decoded URI path to route.
          * @param method an HTTP method to route.
          */
-        Crawler(List<Route> routes, String path, String rawPath, Http.RequestMethod method) {
+        Crawler(RouteList routes, String path, String rawPath, Http.RequestMethod method) {
             this(routes, null, path, rawPath, method);
         }
 
@@ -170,7 +171,11 @@ class RequestRouting implements Routing {
          * @return a next item.
          */
         public Item next() {
-            while ((subCrawler != null) || (++index < routes.size())) {
+            if (candidates == null) {
+                // only routes that may accept the path and method (in the original order) are crawled
+                candidates = routes.candidates(path, method);
+            }
+            while ((subCrawler != null) || (++index < candidates.length)) {
                 if (subCrawler != null) {
                     Item result = subCrawler.next();
                     if (result != null) {
@@ -179,7 +184,7 @@ class RequestRouting implements Routing {
                         subCrawler = null;
                     }
                 } else {
-                    Route route = routes.get(index);
+                    Route route = routes.get(candidates[index]);
                     if (route.accepts(method)) {
                         if (route instanceof HandlerRoute) {
                             HandlerRoute hr = (HandlerRoute) route;
@@ -486,6 +491,11 @@ class RequestRouting implements Routing {
             return null;
         }
 
+        @Override
+        Optional<ServerRequest> request() {
+            return Optional.ofNullable(request.get());
+        }
+
         void request(RoutedRequest request) {
             this.request.set(request);
         }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2020 Oracle and/or its affiliates.
+ * Copyright (c) 2017, 2021 Oracle and/or its affiliates.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -16,6 +16,9 @@
 
 package io.helidon.webserver;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -77,6 +80,8 @@ abstract class Response implements ServerResponse {
         this.sendLockSupport = new SendLockSupport();
         this.eventListener = new MessageBodyEventListener();
         this.writerContext = MessageBodyWriterContext.create(webServer.writerContext(), eventListener, headers, acceptedTypes);
+        // file regions are transferred by BareResponseImpl, unless filters that may read them are registered
+        this.writerContext.supportsFileChunks(true);
     }
 
     /**
@@ -105,6 +110,15 @@ abstract class Response implements ServerResponse {
      */
     abstract Optional<SpanContext> spanContext();
 
+    /**
+     * Returns the request this response is for, used to honor request headers such as {@code Range}.
+     *
+     * @return the related request or empty if not known
+     */
+    Optional<ServerRequest> request() {
+        return Optional.empty();
+    }
+
     @Override
     public WebServer webServer() {
         return webServer;
@@ -173,6 +187,17 @@ abstract class Response implements ServerResponse {
 
     @Override
     public <T> Single<ServerResponse> send(T content) {
+        if (content instanceof Path) {
+            Publisher<DataChunk> ranges = ranges((Path) content);
+            if (ranges != null) {
+                return send(ranges, true);
+            }
+        } else if (content instanceof File) {
+            Publisher<DataChunk> ranges = ranges(((File) content).toPath());
+            if (ranges != null) {
+                return send(ranges, true);
+            }
+        }
         try {
             sendLockSupport.execute(() -> {
                 Publisher<DataChunk> sendPublisher = writerContext.marshall(
@@ -187,6 +212,65 @@ abstract class Response implements ServerResponse {
         }
     }
 
+    /**
+     * Handles a {@code Range} request of a file.
+     *
+     * @param path file to send
+     * @return content of the requested ranges, or {@code null} if the full file should be sent
+     */
+    private Publisher<DataChunk> ranges(Path path) {
+        Optional<ServerRequest> maybeRequest = request();
+        if (maybeRequest.isEmpty()
+                || !Http.Method.GET.equals(maybeRequest.get().method())
+                || status().code() != Http.Status.OK_200.code()) {
+            return null;
+        }
+        RequestHeaders requestHeaders = maybeRequest.get().headers();
+        headers.putIfAbsent(Http.Header.ACCEPT_RANGES, "bytes");
+        Optional<String> rangeHeader = requestHeaders.first(Http.Header.RANGE);
+        if (rangeHeader.isEmpty()) {
+            return null;
+        }
+        Optional<String> ifRange = requestHeaders.first(Http.Header.IF_RANGE);
+        if (ifRange.isPresent() && !ByteRanges.ifRangeMatches(ifRange.get(), headers)) {
+            return null;
+        }
+        long length;
+        try {
+            length = ByteRanges.size(path);
+        } catch (IOException e) {
+            // reported through the publisher like any other failure to read the file, results in a 500
+            return Single.error(e);
+        }
+        List<ByteRanges.Range> ranges = ByteRanges.parse(rangeHeader.get(), length);
+        if (ranges == null) {
+            return null;
+        }
+        if (ranges.isEmpty()) {
+            status(Http.Status.REQUESTED_RANGE_NOT_SATISFIABLE_416);
+            headers.put(Http.Header.CONTENT_RANGE, "bytes */" + length);
+            headers.contentLength(0);
+            return Single.empty();
+        }
+        status(Http.Status.PARTIAL_CONTENT_206);
+        MediaType contentType = headers.contentType().orElse(MediaType.APPLICATION_OCTET_STREAM);
+        if (ranges.size() == 1) {
+            ByteRanges.Range range = ranges.get(0);
+            headers.contentType(contentType);
+            headers.put(Http.Header.CONTENT_RANGE, range.contentRange(length));
+            headers.contentLength(range.length());
+            return ByteRanges.single(path, range, writerContext.supportsFileChunks());
+        }
+        String boundary = ByteRanges.boundary();
+        headers.contentType(MediaType.builder()
+                                    .type("multipart")
+                                    .subtype("byteranges")
+                                    .addParameter("boundary", boundary)
+                                    .build());
+        headers.contentLength(ByteRanges.multipartLength(ranges, contentType, boundary, length));
+        return ByteRanges.multipart(path, ranges, contentType, boundary, length, writerContext.supportsFileChunks());
+    }
+
     @Override
     public Single<ServerResponse> send(Publisher<DataChunk> content) {
         return send(content, true);
@@ -0,0 +1,375 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.helidon.common.http.Http;
+
+/**
+ * Compiled prefix tree over the routes of a single {@link RouteList}.
+ * <p>
+ * The index does not replace path matching, it only narrows the set of routes that can possibly match a path.
+ * For a given path and method it returns indexes of <i>candidate</i> routes in their original (registration) order,
+ * so the first-match semantics of the routing is kept. Each candidate is still tested by its own {@link PathMatcher}.
+ * <p>
+ * The tree is built from path segments of the route patterns:
+ * <ul>
+ *     <li>a static segment ({@code /foo}) is a child node keyed by the segment value</li>
+ *     <li>a simple parameter segment ({@code /{id}}) is a parameter node matching any non-empty segment</li>
+ *     <li>anything more complex (custom regular expression, greedy parameter, optional section, user defined
+ *     {@link PathMatcher}) is a wildcard; such route is a candidate for the node and all of its descendants</li>
+ * </ul>
+ * Routes which cannot match the path after the full pattern was consumed (exact match of a {@link HandlerRoute}) are
+ * stored as terminal entries, while {@link RouteList} prefix matches are stored as subtree entries.
+ * Every node keeps its entries indexed by a standard {@link Http.Method} so the method filtering is done once,
+ * when the index is compiled.
+ */
+final class RouteIndex {
+
+    private static final Http.Method[] METHODS = Http.Method.values();
+    // slot for non-standard methods, routes in it must be tested by Route#accepts
+    private static final int OTHER_METHOD = METHODS.length;
+
+    private final int size;
+    private final Node root;
+
+    private RouteIndex(List<Route> routes) {
+        this.size = routes.size();
+        NodeBuilder rootBuilder = new NodeBuilder();
+        for (int i = 0; i < routes.size(); i++) {
+            Route route = routes.get(i);
+            if (route.acceptedMethods() == null) {
+                // does not accept any method, never routed
+                continue;
+            }
+            add(rootBuilder, i, route);
+        }
+        this.root = rootBuilder.build(routes);
+    }
+
+    /**
+     * Compiles an index for the provided routes.
+     *
+     * @param routes routes to index, the order is kept
+     * @return compiled index
+     */
+    static RouteIndex create(List<Route> routes) {
+        return new RouteIndex(routes);
+    }
+
+    /**
+     * Indexes of routes that may accept the provided path and method, in ascending order.
+     *
+     * @param path   decoded and normalized path (as provided to {@link PathMatcher})
+     * @param method HTTP method
+     * @return candidate indexes, never {@code null}
+     */
+    int[] candidates(String path, Http.RequestMethod method) {
+        if (!indexable(path)) {
+            return all();
+        }
+        int slot = (method instanceof Http.Method) ? ((Http.Method) method).ordinal() : OTHER_METHOD;
+        String[] segments = segments(path);
+        IntList result = new IntList();
+        root.collect(segments, 0, slot, result);
+        return result.sorted();
+    }
+
+    private int[] all() {
+        int[] result = new int[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = i;
+        }
+        return result;
+    }
+
+    // paths the tree cannot reason about (matrix parameters, empty segments, trailing slash, relative)
+    // are routed through all routes, exactly as before the index existed
+    private static boolean indexable(String path) {
+        if (path.isEmpty() || path.charAt(0) != '/') {
+            return false;
+        }
+        if (path.length() == 1) {
+            return true;
+        }
+        return path.charAt(path.length() - 1) != '/'
+                && path.indexOf(';') < 0
+                && !path.contains("//");
+    }
+
+    private static String[] segments(String path) {
+        if (path.length() == 1) {
+            return new String[0];
+        }
+        return path.substring(1).split("/", -1);
+    }
+
+    private static void add(NodeBuilder rootBuilder, int index, Route route) {
+        boolean prefix;
+        PathMatcher matcher;
+        if (route instanceof HandlerRoute) {
+            prefix = false;
+            matcher = ((HandlerRoute) route).pathMatcher();
+        } else if (route instanceof RouteList) {
+            prefix = true;
+            matcher = ((RouteList) route).pathContext();
+        } else {
+            rootBuilder.subtree.add(index);
+            return;
+        }
+
+        if (matcher instanceof PathPattern.CanonicalPathMatcher) {
+            addCanonical(rootBuilder, index, ((PathPattern.CanonicalPathMatcher) matcher).pattern(), prefix);
+        } else if (matcher instanceof PathPattern.RegexpPathMatcher) {
+            addPattern(rootBuilder, index, ((PathPattern.RegexpPathMatcher) matcher).source(), prefix);
+        } else {
+            // null path context, EMPTY_PATH_MATCHER or a custom matcher - accepts anything we know about
+            rootBuilder.subtree.add(index);
+        }
+    }
+
+    private static void addCanonical(NodeBuilder rootBuilder, int index, String pattern, boolean prefix) {
+        if ("/".equals(pattern)) {
+            if (prefix) {
+                rootBuilder.subtree.add(index);
+            } else {
+                rootBuilder.exact.add(index);
+            }
+            return;
+        }
+        if (pattern.isEmpty() || pattern.charAt(0) != '/') {
+            rootBuilder.subtree.add(index);
+            return;
+        }
+        NodeBuilder node = rootBuilder;
+        for (String segment : pattern.substring(1).split("/", -1)) {
+            if (segment.isEmpty()) {
+                node.subtree.add(index);
+                return;
+            }
+            node = node.staticChild(segment);
+        }
+        if (prefix) {
+            node.subtree.add(index);
+        } else {
+            node.exact.add(index);
+        }
+    }
+
+    private static void addPattern(NodeBuilder rootBuilder, int index, String pattern, boolean prefix) {
+        if (pattern == null || pattern.isEmpty() || pattern.charAt(0) != '/') {
+            rootBuilder.subtree.add(index);
+            return;
+        }
+        NodeBuilder node = rootBuilder;
+        for (String segment : pattern.substring(1).split("/", -1)) {
+            if (segment.isEmpty()) {
+                node.subtree.add(index);
+                return;
+            }
+            if (isStatic(segment)) {
+                node = node.staticChild(segment);
+            } else if (isSimpleParameter(segment)) {
+                node = node.paramChild();
+            } else {
+                node.subtree.add(index);
+                return;
+            }
+        }
+        if (prefix) {
+            node.subtree.add(index);
+        } else {
+            node.exact.add(index);
+        }
+    }
+
+    private static boolean isStatic(String segment) {
+        for (int i = 0; i < segment.length(); i++) {
+            switch (segment.charAt(i)) {
+            case '\\':
+            case '[':
+            case ']':
+            case '{':
+            case '}':
+                return false;
+            default:
+                // literal character
+            }
+        }
+        return true;
+    }
+
+    // {name} or {} - compiled to "[^/]+" which is exactly one non-empty segment
+    private static boolean isSimpleParameter(String segment) {
+        if (segment.length() < 2
+                || segment.charAt(0) != '{'
+                || segment.charAt(segment.length() - 1) != '}') {
+            return false;
+        }
+        String name = segment.substring(1, segment.length() - 1);
+        if (name.startsWith("+")) {
+            return false;
+        }
+        for (int i = 0; i < name.length(); i++) {
+            switch (name.charAt(i)) {
+            case ':':
+            case '\\':
+            case '[':
+            case ']':
+            case '{':
+            case '}':
+                return false;
+            default:
+                // part of the name
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Compiled (immutable) node.
+     */
+    private static final class Node {
+        private static final int[][] NO_ENTRIES = new int[OTHER_METHOD + 1][];
+
+        private final Map<String, Node> statics;
+        private final Node param;
+        // per method slot, null if none
+        private final int[][] exact;
+        private final int[][] subtree;
+
+        private Node(Map<String, Node> statics, Node param, int[][] exact, int[][] subtree) {
+            this.statics = statics;
+            this.param = param;
+            this.exact = exact;
+            this.subtree = subtree;
+        }
+
+        void collect(String[] segments, int position, int slot, IntList result) {
+            result.addAll(subtree[slot]);
+            if (position == segments.length) {
+                result.addAll(exact[slot]);
+                return;
+            }
+            String segment = segments[position];
+            if (!statics.isEmpty()) {
+                Node child = statics.get(segment);
+                if (child != null) {
+                    child.collect(segments, position + 1, slot, result);
+                }
+            }
+            if (param != null && !segment.isEmpty()) {
+                param.collect(segments, position + 1, slot, result);
+            }
+        }
+    }
+
+    /**
+     * Mutable node used while compiling the tree.
+     */
+    private static final class NodeBuilder {
+        private final Map<String, NodeBuilder> statics = new HashMap<>();
+        private final IntList exact = new IntList();
+        private final IntList subtree = new IntList();
+        private NodeBuilder param;
+
+        NodeBuilder staticChild(String segment) {
+            return statics.computeIfAbsent(segment, it -> new NodeBuilder());
+        }
+
+        NodeBuilder paramChild() {
+            if (param == null) {
+                param = new NodeBuilder();
+            }
+            return param;
+        }
+
+        Node build(List<Route> routes) {
+            Map<String, Node> builtStatics;
+            if (statics.isEmpty()) {
+                builtStatics = Map.of();
+            } else {
+                builtStatics = new HashMap<>();
+                statics.forEach((key, value) -> builtStatics.put(key, value.build(routes)));
+            }
+            return new Node(builtStatics,
+                            param == null ? null : param.build(routes),
+                            byMethod(exact, routes),
+                            byMethod(subtree, routes));
+        }
+
+        private static int[][] byMethod(IntList indexes, List<Route> routes) {
+            if (indexes.size == 0) {
+                return Node.NO_ENTRIES;
+            }
+            int[][] result = new int[OTHER_METHOD + 1][];
+            for (int slot = 0; slot < OTHER_METHOD; slot++) {
+                IntList accepted = new IntList();
+                for (int i = 0; i < indexes.size; i++) {
+                    int index = indexes.values[i];
+                    if (routes.get(index).accepts(METHODS[slot])) {
+                        accepted.add(index);
+                    }
+                }
+                result[slot] = (accepted.size == 0) ? null : accepted.toArray();
+            }
+            result[OTHER_METHOD] = indexes.toArray();
+            return result;
+        }
+    }
+
+    /**
+     * Minimal growable list of primitive integers.
+     */
+    private static final class IntList {
+        private int[] values = new int[8];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        void addAll(int[] toAdd) {
+            if (toAdd == null) {
+                return;
+            }
+            if (size + toAdd.length > values.length) {
+                values = Arrays.copyOf(values, Math.max(size * 2, size + toAdd.length));
+            }
+            System.arraycopy(toAdd, 0, values, size, toAdd.length);
+            size += toAdd.length;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+
+        // each route is stored in exactly one node and each node is visited at most once, no duplicates possible
+        int[] sorted() {
+            int[] result = toArray();
+            Arrays.sort(result);
+            return result;
+        }
+    }
+}
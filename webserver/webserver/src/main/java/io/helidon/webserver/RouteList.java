@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2018 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2017, 2021 Oracle and/or its affiliates. All rights reserved.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -35,6 +35,7 @@ class RouteList extends ArrayList<Route> implements Route {
     // must declare transient, as ArrayList is Serializable (and we are not)
     private final transient PathMatcher pathContext;
     private final transient HttpMethodPredicate methodPredicate;
+    private final transient RouteIndex index;
 
     /**
      * Creates new instance.
@@ -66,6 +67,7 @@ class RouteList extends ArrayList<Route> implements Route {
             this.methodPredicate = null;
         }
         this.pathContext = pathContext;
+        this.index = RouteIndex.create(this);
     }
 
     /**
@@ -103,6 +105,18 @@ class RouteList extends ArrayList<Route> implements Route {
         return pathContext == null ? EMPTY_PATH_MATCHER.prefixMatch(path) : pathContext.prefixMatch(path);
     }
 
+    /**
+     * Indexes of routes in this list which may accept the provided path and method, in their original order.
+     * Routes which are not returned cannot accept the path or the method.
+     *
+     * @param path   resolved and normalized URI path (relative to this list path context)
+     * @param method an HTTP method
+     * @return indexes of candidate routes
+     */
+    int[] candidates(String path, Http.RequestMethod method) {
+        return index.candidates(path, method);
+    }
+
     // ***********************************
     // ***    Make a list immutable.   ***
     // ***********************************
@@ -176,6 +176,21 @@ class ServerBasicConfig implements ServerConfiguration {
         return socketConfig.enableCompression();
     }
 
+    @Override
+    public boolean reusePort() {
+        return socketConfig.reusePort();
+    }
+
+    @Override
+    public int tcpFastOpen() {
+        return socketConfig.tcpFastOpen();
+    }
+
+    @Override
+    public int deferAcceptSeconds() {
+        return socketConfig.deferAcceptSeconds();
+    }
+
     static class SocketConfig implements SocketConfiguration {
 
         private final int port;
@@ -193,6 +208,9 @@ class ServerBasicConfig implements ServerConfiguration {
         private final int initialBufferSize;
         private final boolean enableCompression;
         private final long maxPayloadSize;
+        private final boolean reusePort;
+        private final int tcpFastOpen;
+        private final int deferAcceptSeconds;
 
         /**
          * Creates new instance.
@@ -212,6 +230,9 @@ class ServerBasicConfig implements ServerConfiguration {
             this.initialBufferSize = builder.initialBufferSize();
             this.enableCompression = builder.enableCompression();
             this.maxPayloadSize = builder.maxPayloadSize();
+            this.reusePort = builder.reusePort();
+            this.tcpFastOpen = Math.max(builder.tcpFastOpen(), 0);
+            this.deferAcceptSeconds = Math.max(builder.deferAcceptSeconds(), 0);
             WebServerTls webServerTls = builder.tlsConfig();
             this.webServerTls = webServerTls.enabled() ? webServerTls : null;
         }
@@ -310,5 +331,20 @@ class ServerBasicConfig implements ServerConfiguration {
         public long maxPayloadSize() {
             return maxPayloadSize;
         }
+
+        @Override
+        public boolean reusePort() {
+            return reusePort;
+        }
+
+        @Override
+        public int tcpFastOpen() {
+            return tcpFastOpen;
+        }
+
+        @Override
+        public int deferAcceptSeconds() {
+            return deferAcceptSeconds;
+        }
     }
 }
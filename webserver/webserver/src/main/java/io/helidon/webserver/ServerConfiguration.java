@@ -728,5 +728,23 @@ public interface ServerConfiguration extends SocketConfiguration {
             this.defaultSocketBuilder.enableCompression(true);
             return this;
         }
+
+        @Override
+        public Builder reusePort(boolean reusePort) {
+            this.defaultSocketBuilder.reusePort(reusePort);
+            return this;
+        }
+
+        @Override
+        public Builder tcpFastOpen(int queueLength) {
+            this.defaultSocketBuilder.tcpFastOpen(queueLength);
+            return this;
+        }
+
+        @Override
+        public Builder deferAcceptSeconds(int seconds) {
+            this.defaultSocketBuilder.deferAcceptSeconds(seconds);
+            return this;
+        }
     }
 }
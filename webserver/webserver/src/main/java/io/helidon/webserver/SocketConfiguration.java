@@ -215,6 +215,38 @@ public interface SocketConfiguration {
      */
     int initialBufferSize();
 
+    /**
+     * Whether the server socket should be bound with {@code SO_REUSEPORT}, so multiple server sockets
+     * (possibly in different processes) can listen on the same address and port.
+     * Only honored by transports that support it.
+     *
+     * @return {@code true} to bind with {@code SO_REUSEPORT}
+     */
+    default boolean reusePort() {
+        return false;
+    }
+
+    /**
+     * Length of the queue of pending TCP Fast Open connections, {@code 0} to disable TCP Fast Open.
+     * Only honored by native transports.
+     *
+     * @return TCP Fast Open queue length
+     */
+    default int tcpFastOpen() {
+        return 0;
+    }
+
+    /**
+     * Number of seconds the server socket waits for data to arrive on a new connection before accepting it
+     * ({@code TCP_DEFER_ACCEPT}), {@code 0} to accept connections immediately.
+     * Only honored by native transports.
+     *
+     * @return defer accept timeout in seconds
+     */
+    default int deferAcceptSeconds() {
+        return 0;
+    }
+
     /**
      * Creates a builder of {@link SocketConfiguration} class.
      *
@@ -387,6 +419,39 @@ public interface SocketConfiguration {
          */
         B maxPayloadSize(long size);
 
+        /**
+         * Bind the server socket with {@code SO_REUSEPORT}.
+         * <p>
+         * Default is {@code false}
+         *
+         * @param reusePort whether to reuse port
+         * @return this builder
+         * @see SocketConfiguration#reusePort()
+         */
+        B reusePort(boolean reusePort);
+
+        /**
+         * Enable TCP Fast Open on the server socket with the provided queue length of pending connections.
+         * <p>
+         * Default is {@code 0} (disabled)
+         *
+         * @param queueLength queue length, or {@code 0} to disable
+         * @return this builder
+         * @see SocketConfiguration#tcpFastOpen()
+         */
+        B tcpFastOpen(int queueLength);
+
+        /**
+         * Defer accepting of new connections until data arrives, at most for the provided number of seconds.
+         * <p>
+         * Default is {@code 0} (disabled)
+         *
+         * @param seconds timeout in seconds, or {@code 0} to disable
+         * @return this builder
+         * @see SocketConfiguration#deferAcceptSeconds()
+         */
+        B deferAcceptSeconds(int seconds);
+
         /**
          * Update this socket configuration from a {@link io.helidon.config.Config}.
          *
@@ -429,6 +494,11 @@ public interface SocketConfiguration {
 
             // compression
             config.get("enable-compression").asBoolean().ifPresent(this::enableCompression);
+
+            // native transport options
+            config.get("reuse-port").asBoolean().ifPresent(this::reusePort);
+            config.get("tcp-fast-open").asInt().ifPresent(this::tcpFastOpen);
+            config.get("defer-accept-seconds").asInt().ifPresent(this::deferAcceptSeconds);
             return (B) this;
         }
     }
@@ -462,6 +532,9 @@ public interface SocketConfiguration {
         private int initialBufferSize = 128;
         private boolean enableCompression = false;
         private long maxPayloadSize = -1;
+        private boolean reusePort = false;
+        private int tcpFastOpen = 0;
+        private int deferAcceptSeconds = 0;
 
         private Builder() {
         }
@@ -704,6 +777,24 @@ public interface SocketConfiguration {
             return this;
         }
 
+        @Override
+        public Builder reusePort(boolean reusePort) {
+            this.reusePort = reusePort;
+            return this;
+        }
+
+        @Override
+        public Builder tcpFastOpen(int queueLength) {
+            this.tcpFastOpen = queueLength;
+            return this;
+        }
+
+        @Override
+        public Builder deferAcceptSeconds(int seconds) {
+            this.deferAcceptSeconds = seconds;
+            return this;
+        }
+
         @Override
         public Builder config(Config config) {
             SocketConfigurationBuilder.super.config(config);
@@ -777,5 +868,17 @@ public interface SocketConfiguration {
         long maxPayloadSize() {
             return maxPayloadSize;
         }
+
+        boolean reusePort() {
+            return reusePort;
+        }
+
+        int tcpFastOpen() {
+            return tcpFastOpen;
+        }
+
+        int deferAcceptSeconds() {
+            return deferAcceptSeconds;
+        }
     }
 }
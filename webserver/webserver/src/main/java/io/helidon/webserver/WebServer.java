@@ -17,7 +17,9 @@
 package io.helidon.webserver;
 
 import java.net.InetAddress;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.TimeUnit;
@@ -39,6 +41,8 @@ import io.helidon.media.common.MessageBodyStreamWriter;
 import io.helidon.media.common.MessageBodyWriter;
 import io.helidon.media.common.MessageBodyWriterContext;
 import io.helidon.media.common.ParentingMediaContextBuilder;
+import io.helidon.webserver.spi.Http2StreamHandler;
+import io.helidon.webserver.spi.Http2StreamHandlers;
 
 import io.opentracing.Tracer;
 
@@ -345,7 +349,12 @@ public interface WebServer {
         private static final Logger LOGGER = Logger.getLogger(Builder.class.getName());
         private static final MediaContext DEFAULT_MEDIA_SUPPORT = MediaContext.create();
 
+        static {
+            Http2StreamHandlers.registrar(Builder::addHttp2StreamHandler);
+        }
+
         private final Map<String, Routing> routings = new HashMap<>();
+        private final List<Http2StreamHandler> http2StreamHandlers = new ArrayList<>();
         private Routing defaultRouting;
         // internal use - we may keep this even after we remove the public access to ServerConfiguration
         @SuppressWarnings("deprecation")
@@ -367,7 +376,8 @@ public interface WebServer {
          *
          * @return a ready to use {@link WebServer}
          * @throws IllegalStateException if there are unpaired named routings (as described
-         *                               at {@link #addNamedRouting(String, Routing)})
+         *                               at {@link #addNamedRouting(String, Routing)}), or if HTTP/2 stream
+         *                               handlers are configured without HTTP/2 enabled
          */
         @Override
         public WebServer build() {
@@ -387,10 +397,14 @@ public interface WebServer {
             if (!unpairedRoutings.isEmpty()) {
                 throw new IllegalStateException("No server socket configuration found for named routings: " + unpairedRoutings);
             }
+            if (!http2StreamHandlers.isEmpty() && !explicitConfig.isHttp2Enabled()) {
+                throw new IllegalStateException("HTTP/2 stream handlers are configured, but HTTP/2 is not enabled");
+            }
 
             WebServer result = new NettyWebServer(explicitConfig,
                                                   defaultRouting,
                                                   routings,
+                                                  List.copyOf(http2StreamHandlers),
                                                   writerContext,
                                                   readerContext);
 
@@ -509,6 +523,12 @@ public interface WebServer {
             return addNamedRouting(name, routingBuilder.get());
         }
 
+        // package-private, as the handler type is not a public API; used through Http2StreamHandlers
+        Builder addHttp2StreamHandler(Http2StreamHandler handler) {
+            http2StreamHandlers.add(handler);
+            return this;
+        }
+
         @Override
         public Builder mediaContext(MediaContext mediaContext) {
             Objects.requireNonNull(mediaContext);
@@ -608,6 +628,24 @@ public interface WebServer {
             return this;
         }
 
+        @Override
+        public Builder reusePort(boolean reusePort) {
+            configurationBuilder.reusePort(reusePort);
+            return this;
+        }
+
+        @Override
+        public Builder tcpFastOpen(int queueLength) {
+            configurationBuilder.tcpFastOpen(queueLength);
+            return this;
+        }
+
+        @Override
+        public Builder deferAcceptSeconds(int seconds) {
+            configurationBuilder.deferAcceptSeconds(seconds);
+            return this;
+        }
+
         /**
          * Configure experimental features.
          * @param experimental experimental configuration
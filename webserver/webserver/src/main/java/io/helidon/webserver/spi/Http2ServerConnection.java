@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.webserver.spi;
+
+import java.net.SocketAddress;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ScheduledExecutorService;
+
+import javax.net.ssl.SSLSession;
+
+import io.helidon.media.common.DataChunkAllocator;
+
+/**
+ * An HTTP/2 connection of the web server, shared by all the {@link Http2ServerStream streams} it carries.
+ */
+public interface Http2ServerConnection {
+
+    /**
+     * Address of the client.
+     *
+     * @return remote address
+     */
+    SocketAddress remoteAddress();
+
+    /**
+     * Address of the server socket.
+     *
+     * @return local address
+     */
+    SocketAddress localAddress();
+
+    /**
+     * TLS session of the connection.
+     *
+     * @return session, empty if TLS is not used
+     */
+    Optional<SSLSession> sslSession();
+
+    /**
+     * The event loop of the connection.
+     *
+     * @return executor running tasks on the event loop
+     */
+    ScheduledExecutorService executor();
+
+    /**
+     * Whether the current thread is the event loop of the connection.
+     *
+     * @return {@code true} if invoked on the event loop
+     */
+    boolean inEventLoop();
+
+    /**
+     * Allocator of the chunks to write response data into.
+     *
+     * @return allocator
+     */
+    DataChunkAllocator allocator();
+
+    /**
+     * Completion stage completed on the event loop once the connection is closed.
+     *
+     * @return completion stage
+     */
+    CompletionStage<Void> whenClosed();
+}
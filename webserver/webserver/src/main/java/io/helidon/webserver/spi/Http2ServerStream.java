@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.webserver.spi;
+
+import java.util.concurrent.CompletionStage;
+
+import io.helidon.common.http.DataChunk;
+import io.helidon.common.http.Http;
+import io.helidon.common.http.Parameters;
+
+/**
+ * An HTTP/2 stream owned by a {@link Http2StreamHandler}.
+ * <p>
+ * The methods can be invoked from any thread, frames are written on the event loop of the connection in the order
+ * the methods were invoked. Written frames are only sent once the stream is {@link #flush() flushed}.
+ */
+public interface Http2ServerStream {
+
+    /**
+     * Id of the stream.
+     *
+     * @return stream id
+     */
+    int id();
+
+    /**
+     * The connection of the stream.
+     *
+     * @return connection
+     */
+    Http2ServerConnection connection();
+
+    /**
+     * Write response headers.
+     *
+     * @param status      response status
+     * @param headers     response headers
+     * @param endOfStream whether the response is complete
+     * @return completion stage completed once the headers are written
+     */
+    CompletionStage<Void> writeHeaders(Http.ResponseStatus status, Parameters headers, boolean endOfStream);
+
+    /**
+     * Write trailers, which completes the response.
+     *
+     * @param trailers response trailers
+     * @return completion stage completed once the trailers are written
+     */
+    CompletionStage<Void> writeTrailers(Parameters trailers);
+
+    /**
+     * Write response data, the chunk is released once written.
+     *
+     * @param data data to write
+     * @return completion stage completed once the data is written
+     */
+    CompletionStage<Void> writeData(DataChunk data);
+
+    /**
+     * Flush the written frames.
+     */
+    void flush();
+
+    /**
+     * Reset the stream, which cancels it.
+     */
+    void reset();
+
+    /**
+     * Return processed inbound bytes to the flow control window of the stream and of its connection.
+     *
+     * @param numBytes number of processed bytes
+     */
+    void consumeBytes(int numBytes);
+}
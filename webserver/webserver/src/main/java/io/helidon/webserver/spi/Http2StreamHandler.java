@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.webserver.spi;
+
+import io.helidon.common.http.DataChunk;
+
+/**
+ * Handler of HTTP/2 streams that bypasses the routing of the server socket.
+ * <p>
+ * Stream handlers are consulted for each new HTTP/2 stream received on any server socket of a web server with
+ * HTTP/2 enabled. The first handler that {@link #accepts(Http2StreamHeaders) accepts} the request headers becomes
+ * responsible for the whole stream, including writing the response, and receives its frames directly on the event
+ * loop of the connection. This allows protocols layered on top of HTTP/2 (such as gRPC) to share the sockets,
+ * event loops and TLS configuration of the web server.
+ * <p>
+ * All methods of the handler and of its {@link Listener} are invoked on the event loop of the connection and
+ * must not block.
+ */
+public interface Http2StreamHandler {
+
+    /**
+     * Whether this handler handles a stream with the provided request headers.
+     *
+     * @param headers request headers
+     * @return {@code true} if the stream should be handed to this handler
+     */
+    boolean accepts(Http2StreamHeaders headers);
+
+    /**
+     * Start handling of a new stream.
+     *
+     * @param stream      the new stream, to write the response with
+     * @param headers     request headers
+     * @param endOfStream whether the client has already closed its side of the stream
+     * @return listener to receive the rest of the stream
+     */
+    Listener stream(Http2ServerStream stream, Http2StreamHeaders headers, boolean endOfStream);
+
+    /**
+     * Listener of the inbound side of a single HTTP/2 stream.
+     */
+    interface Listener {
+        /**
+         * Data (or the end of trailers) received for the stream.
+         * <p>
+         * The listener owns the chunk and must {@link DataChunk#release() release} it. Received bytes are not
+         * returned to the flow control window until {@link Http2ServerStream#consumeBytes(int)} is called,
+         * so the client cannot send more than the window allows until the data is processed.
+         *
+         * @param data        received data
+         * @param endOfStream whether this is the last data of the stream
+         */
+        void onData(DataChunk data, boolean endOfStream);
+
+        /**
+         * The stream was closed, either after both sides have completed it, or because it was reset
+         * or its connection closed.
+         */
+        void onClosed();
+    }
+}
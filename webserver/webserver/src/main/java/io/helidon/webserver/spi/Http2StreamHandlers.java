@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.webserver.spi;
+
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+import io.helidon.webserver.WebServer;
+
+/**
+ * Registration of {@link Http2StreamHandler HTTP/2 stream handlers} with a web server.
+ * <p>
+ * The web server builder does not expose the handlers in its public API, as the handler type is not a public API;
+ * modules this package is exported to register their handlers through this class instead.
+ */
+public final class Http2StreamHandlers {
+    private static volatile BiConsumer<WebServer.Builder, Http2StreamHandler> registrar;
+
+    private Http2StreamHandlers() {
+    }
+
+    /**
+     * Add a handler of HTTP/2 streams, such as gRPC calls, that are served on the same sockets
+     * as the routing. Handlers are consulted in the order they were added.
+     * <p>
+     * HTTP/2 must be enabled through {@link WebServer.Builder#experimental(io.helidon.webserver.ExperimentalConfiguration)},
+     * otherwise an {@link IllegalStateException} is thrown by the {@link WebServer.Builder#build()} method.
+     *
+     * @param builder web server builder to add the handler to
+     * @param handler HTTP/2 stream handler
+     */
+    public static void add(WebServer.Builder builder, Http2StreamHandler handler) {
+        Objects.requireNonNull(builder, "Parameter 'builder' must not be null!");
+        Objects.requireNonNull(handler, "Parameter 'handler' must not be null!");
+
+        // the registrar is set when the builder class is initialized, so it is set for any builder instance
+        registrar.accept(builder, handler);
+    }
+
+    /**
+     * Set the function that adds a handler to a web server builder. Called once by the web server.
+     *
+     * @param handlerRegistrar function to add a handler to a builder
+     * @throws IllegalStateException if the function was already set
+     */
+    public static synchronized void registrar(BiConsumer<WebServer.Builder, Http2StreamHandler> handlerRegistrar) {
+        if (registrar != null) {
+            throw new IllegalStateException("HTTP/2 stream handler registrar is already set");
+        }
+        registrar = Objects.requireNonNull(handlerRegistrar);
+    }
+}
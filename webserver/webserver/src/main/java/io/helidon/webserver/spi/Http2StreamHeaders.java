@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.webserver.spi;
+
+import java.util.Optional;
+import java.util.function.BiConsumer;
+
+/**
+ * Request headers of an HTTP/2 stream.
+ */
+public interface Http2StreamHeaders {
+
+    /**
+     * Value of the {@code :method} pseudo header.
+     *
+     * @return request method
+     */
+    String method();
+
+    /**
+     * Value of the {@code :path} pseudo header.
+     *
+     * @return request path, including the query
+     */
+    String path();
+
+    /**
+     * Value of the {@code :authority} pseudo header.
+     *
+     * @return authority, empty if not present
+     */
+    Optional<String> authority();
+
+    /**
+     * First value of a header.
+     *
+     * @param name header name, case insensitive
+     * @return header value, empty if not present
+     */
+    Optional<String> first(String name);
+
+    /**
+     * Iterate over the headers in the order they were received, pseudo headers are skipped.
+     *
+     * @param consumer consumer of the lower case names and of the values
+     */
+    void forEach(BiConsumer<String, String> consumer);
+}
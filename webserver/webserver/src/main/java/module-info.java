@@ -41,4 +41,5 @@ module io.helidon.webserver {
     requires io.netty.codec.http2;
 
     exports io.helidon.webserver;
+    exports io.helidon.webserver.spi to io.helidon.grpc.server;
 }
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.webserver;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests {@link ByteRanges}.
+ */
+public class ByteRangesTest {
+
+    @Test
+    public void testSingleRanges() {
+        assertThat(ByteRanges.parse("bytes=0-499", 1000), is(List.of(new ByteRanges.Range(0, 500))));
+        assertThat(ByteRanges.parse("bytes=500-", 1000), is(List.of(new ByteRanges.Range(500, 500))));
+        assertThat(ByteRanges.parse("bytes=-200", 1000), is(List.of(new ByteRanges.Range(800, 200))));
+        assertThat(ByteRanges.parse("bytes=-2000", 1000), is(List.of(new ByteRanges.Range(0, 1000))));
+        assertThat(ByteRanges.parse("bytes=900-2000", 1000), is(List.of(new ByteRanges.Range(900, 100))));
+        assertThat(ByteRanges.parse("Bytes = 1-1", 1000), nullValue());
+        assertThat(ByteRanges.parse("BYTES=1-1", 1000), is(List.of(new ByteRanges.Range(1, 1))));
+    }
+
+    @Test
+    public void testMultipleRanges() {
+        assertThat(ByteRanges.parse("bytes=0-0, -1,,500-599", 1000),
+                   is(List.of(new ByteRanges.Range(0, 1),
+                              new ByteRanges.Range(999, 1),
+                              new ByteRanges.Range(500, 100))));
+        // unsatisfiable ranges are skipped
+        assertThat(ByteRanges.parse("bytes=2000-3000,0-9", 1000), is(List.of(new ByteRanges.Range(0, 10))));
+    }
+
+    @Test
+    public void testUnsatisfiable() {
+        assertThat(ByteRanges.parse("bytes=1000-", 1000), is(List.of()));
+        assertThat(ByteRanges.parse("bytes=-0", 1000), is(List.of()));
+        assertThat(ByteRanges.parse("bytes=-10", 0), is(List.of()));
+        assertThat(ByteRanges.parse("bytes=0-10", 0), is(List.of()));
+    }
+
+    @Test
+    public void testIgnored() {
+        assertThat(ByteRanges.parse("items=0-10", 1000), nullValue());
+        assertThat(ByteRanges.parse("bytes=", 1000), nullValue());
+        assertThat(ByteRanges.parse("bytes=10-5", 1000), nullValue());
+        assertThat(ByteRanges.parse("bytes=a-5", 1000), nullValue());
+        assertThat(ByteRanges.parse("bytes=5", 1000), nullValue());
+        assertThat(ByteRanges.parse("bytes=-", 1000), nullValue());
+        assertThat(ByteRanges.parse("bytes=+1-5", 1000), nullValue());
+
+        StringBuilder tooMany = new StringBuilder("bytes=0-0");
+        for (int i = 1; i <= ByteRanges.MAX_RANGES; i++) {
+            tooMany.append(",").append(i).append("-").append(i);
+        }
+        assertThat(ByteRanges.parse(tooMany.toString(), 1000), nullValue());
+    }
+
+    @Test
+    public void testContentRange() {
+        assertThat(new ByteRanges.Range(10, 5).contentRange(100), is("bytes 10-14/100"));
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.helidon.webserver;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import io.helidon.common.http.DataChunk;
+import io.helidon.common.http.FileChannelDataChunk;
+import io.helidon.common.http.Http;
+import io.helidon.common.http.MediaType;
+import io.helidon.common.reactive.Multi;
+import io.helidon.webclient.WebClient;
+import io.helidon.webclient.WebClientRequestBuilder;
+import io.helidon.webclient.WebClientResponse;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests byte range requests of files sent by {@link ServerResponse#send(Object)}.
+ */
+public class FileRangeTest {
+
+    private static final int FILE_SIZE = 100_000;
+    private static final String ETAG = "\"abc\"";
+    private static final Instant LAST_MODIFIED = Instant.parse("2021-01-01T10:00:00Z");
+
+    private static byte[] content;
+    private static Path file;
+    private static WebServer webServer;
+    private static WebClient webClient;
+
+    @BeforeAll
+    public static void startServer() throws Exception {
+        content = new byte[FILE_SIZE];
+        new Random(42).nextBytes(content);
+        file = Files.createTempFile("file-range", ".bin");
+        Files.write(file, content);
+
+        webServer = WebServer.builder()
+                .routing(Routing.builder()
+                                 .get("/file", (req, res) -> {
+                                     res.headers().put(Http.Header.ETAG, ETAG);
+                                     res.headers().lastModified(LAST_MODIFIED);
+                                     res.headers().contentType(MediaType.TEXT_PLAIN);
+                                     res.send(file);
+                                 })
+                                 .get("/created", (req, res) -> res.status(Http.Status.CREATED_201).send(file))
+                                 .get("/filtered", (req, res) -> {
+                                     // filters may read the chunks, so no file chunks must reach them
+                                     res.registerFilter(publisher -> Multi.create(publisher)
+                                             .map(chunk -> chunk instanceof FileChannelDataChunk
+                                                     ? DataChunk.create("file chunk".getBytes(StandardCharsets.US_ASCII))
+                                                     : chunk));
+                                     res.headers().contentType(MediaType.TEXT_PLAIN);
+                                     res.send(file);
+                                 })
+                                 .get("/missing", (req, res) -> res.send(file.resolveSibling("missing-file-range.bin")))
+                                 .build())
+                .build()
+                .start()
+                .toCompletableFuture()
+                .get(10, TimeUnit.SECONDS);
+        webClient = WebClient.builder()
+                .baseUri("http://localhost:" + webServer.port())
+                .build();
+    }
+
+    @AfterAll
+    public static void close() throws Exception {
+        if (webServer != null) {
+            webServer.shutdown().toCompletableFuture().get(10, TimeUnit.SECONDS);
+        }
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    public void testFullContent() throws Exception {
+        WebClientResponse response = get("/file", null, null);
+        assertThat(response.status(), is(Http.Status.OK_200));
+        assertThat(response.headers().first(Http.Header.ACCEPT_RANGES).orElse(null), is("bytes"));
+        assertThat(content(response), is(content));
+    }
+
+    @Test
+    public void testSingleRange() throws Exception {
+        WebClientResponse response = get("/file", "bytes=100-199", null);
+        assertThat(response.status(), is(Http.Status.PARTIAL_CONTENT_206));
+        assertThat(response.headers().first(Http.Header.CONTENT_RANGE).orElse(null), is("bytes 100-199/" + FILE_SIZE));
+        assertThat(response.headers().contentType().orElse(null), is(MediaType.TEXT_PLAIN));
+        assertThat(content(response), is(Arrays.copyOfRange(content, 100, 200)));
+    }
+
+    @Test
+    public void testSuffixRange() throws Exception {
+        WebClientResponse response = get("/file", "bytes=-10", null);
+        assertThat(response.status(), is(Http.Status.PARTIAL_CONTENT_206));
+        assertThat(content(response), is(Arrays.copyOfRange(content, FILE_SIZE - 10, FILE_SIZE)));
+    }
+
+    @Test
+    public void testMultipleRanges() throws Exception {
+        WebClientResponse response = get("/file", "bytes=0-9,50000-50009", null);
+        assertThat(response.status(), is(Http.Status.PARTIAL_CONTENT_206));
+        MediaType contentType = response.headers().contentType().orElseThrow();
+        assertThat(contentType.type(), is("multipart"));
+        assertThat(contentType.subtype(), is("byteranges"));
+        String boundary = contentType.parameters().get("boundary");
+
+        byte[] body = content(response);
+        assertThat(response.headers().contentLength().orElse(-1L), is((long) body.length));
+        String text = new String(body, StandardCharsets.ISO_8859_1);
+        assertThat(text, containsString("--" + boundary + "\r\n"
+                                                + "Content-Type: text/plain\r\n"
+                                                + "Content-Range: bytes 0-9/" + FILE_SIZE + "\r\n\r\n"
+                                                + new String(content, 0, 10, StandardCharsets.ISO_8859_1)
+                                                + "\r\n--" + boundary + "\r\n"));
+        assertThat(text, containsString("Content-Range: bytes 50000-50009/" + FILE_SIZE + "\r\n\r\n"
+                                                + new String(content, 50000, 10, StandardCharsets.ISO_8859_1)
+                                                + "\r\n--" + boundary + "--\r\n"));
+    }
+
+    @Test
+    public void testFiltered() throws Exception {
+        assertThat(content(get("/filtered", null, null)), is(content));
+        assertThat(content(get("/filtered", "bytes=100-199", null)), is(Arrays.copyOfRange(content, 100, 200)));
+
+        WebClientResponse response = get("/filtered", "bytes=0-9,50000-50009", null);
+        byte[] body = content(response);
+        assertThat(response.headers().contentLength().orElse(-1L), is((long) body.length));
+        String text = new String(body, StandardCharsets.ISO_8859_1);
+        assertThat(text, containsString("Content-Range: bytes 50000-50009/" + FILE_SIZE + "\r\n\r\n"
+                                                + new String(content, 50000, 10, StandardCharsets.ISO_8859_1)));
+    }
+
+    @Test
+    public void testUnsatisfiableRange() throws Exception {
+        WebClientResponse response = get("/file", "bytes=200000-", null);
+        assertThat(response.status(), is(Http.Status.REQUESTED_RANGE_NOT_SATISFIABLE_416));
+        assertThat(response.headers().first(Http.Header.CONTENT_RANGE).orElse(null), is("bytes */" + FILE_SIZE));
+        response.close();
+    }
+
+    @Test
+    public void testInvalidRangeIgnored() throws Exception {
+        WebClientResponse response = get("/file", "bytes=20-10", null);
+        assertThat(response.status(), is(Http.Status.OK_200));
+        assertThat(content(response), is(content));
+    }
+
+    @Test
+    public void testIfRange() throws Exception {
+        WebClientResponse response = get("/file", "bytes=0-9", ETAG);
+        assertThat(response.status(), is(Http.Status.PARTIAL_CONTENT_206));
+        assertThat(content(response), is(Arrays.copyOfRange(content, 0, 10)));
+
+        response = get("/file", "bytes=0-9", "Fri, 01 Jan 2021 10:00:00 GMT");
+        assertThat(response.status(), is(Http.Status.PARTIAL_CONTENT_206));
+        assertThat(content(response), is(Arrays.copyOfRange(content, 0, 10)));
+
+        response = get("/file", "bytes=0-9", "\"other\"");
+        assertThat(response.status(), is(Http.Status.OK_200));
+        assertThat(content(response), is(content));
+
+        response = get("/file", "bytes=0-9", "W/" + ETAG);
+        assertThat(response.status(), is(Http.Status.OK_200));
+        assertThat(content(response), is(content));
+    }
+
+    @Test
+    public void testNonOkStatusIgnoresRange() throws Exception {
+        WebClientResponse response = get("/created", "bytes=0-9", null);
+        assertThat(response.status(), is(Http.Status.CREATED_201));
+        assertThat(content(response), is(content));
+    }
+
+    @Test
+    public void testMissingFile() throws Exception {
+        WebClientResponse response = get("/missing", "bytes=0-9", null);
+        assertThat(response.status(), is(Http.Status.INTERNAL_SERVER_ERROR_500));
+    }
+
+    private static WebClientResponse get(String path, String range, String ifRange) throws Exception {
+        WebClientRequestBuilder builder = webClient.get();
+        if (range != null) {
+            builder.headers().add(Http.Header.RANGE, range);
+        }
+        if (ifRange != null) {
+            builder.headers().add(Http.Header.IF_RANGE, ifRange);
+        }
+        return builder.path(path)
+                .request()
+                .await(10, TimeUnit.SECONDS);
+    }
+
+    private static byte[] content(WebClientResponse response) throws Exception {
+        return response.content().as(byte[].class).get(10, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.webserver;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Download throughput of a file sent as a file region ({@code zero-copy}) and read through heap buffers ({@code copy}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FileTransferJMH {
+
+    private static final byte[] BUFFER = new byte[64 * 1024];
+
+    public static void main(String[] args) throws Throwable {
+        Options opt = new OptionsBuilder()
+                .include(FileTransferJMH.class.getSimpleName())
+                .forks(1)
+                .warmupIterations(3)
+                .warmupTime(TimeValue.seconds(2))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(2))
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    @Param({"1048576", "104857600", "1073741824"})
+    long size;
+
+    Path file;
+    WebServer webServer;
+
+    @Setup
+    public void setup() throws Exception {
+        file = Files.createTempFile("file-transfer-jmh", ".bin");
+        try (RandomAccessFile raf = new RandomAccessFile(file.toFile(), "rw")) {
+            raf.setLength(size);
+        }
+        webServer = WebServer.builder()
+                .routing(Routing.builder()
+                                 .get("/zero-copy", (req, res) -> res.send(file))
+                                 .get("/copy", (req, res) -> {
+                                     res.writerContext().supportsFileChunks(false);
+                                     res.send(file);
+                                 })
+                                 .build())
+                .build()
+                .start()
+                .toCompletableFuture()
+                .get(10, TimeUnit.SECONDS);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        webServer.shutdown().toCompletableFuture().get(10, TimeUnit.SECONDS);
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public long zeroCopy() throws Exception {
+        return download("/zero-copy");
+    }
+
+    @Benchmark
+    public long copy() throws Exception {
+        return download("/copy");
+    }
+
+    private long download(String path) throws Exception {
+        try (Socket socket = new Socket("localhost", webServer.port())) {
+            OutputStream out = socket.getOutputStream();
+            out.write(("GET " + path + " HTTP/1.1\r\nHost: localhost\r\nConnection: close\r\n\r\n")
+                              .getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+            InputStream in = socket.getInputStream();
+            long total = 0;
+            int read;
+            while ((read = in.read(BUFFER)) > 0) {
+                total += read;
+            }
+            return total;
+        }
+    }
+}
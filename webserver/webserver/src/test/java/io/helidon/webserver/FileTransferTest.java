@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import io.helidon.webclient.WebClient;
+import io.helidon.webclient.WebClientRequestBuilder;
+import io.helidon.webclient.WebClientResponse;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests sending of files as file regions (plain socket) and as chunked input (compression enabled).
+ */
+public class FileTransferTest {
+
+    private static final int FILE_SIZE = 300_000;
+
+    private static byte[] content;
+    private static Path file;
+    private static WebServer plainServer;
+    private static WebServer compressionServer;
+
+    @BeforeAll
+    public static void startServers() throws Exception {
+        content = new byte[FILE_SIZE];
+        new Random(42).nextBytes(content);
+        file = Files.createTempFile("file-transfer", ".bin");
+        Files.write(file, content);
+
+        plainServer = startServer(false);
+        compressionServer = startServer(true);
+    }
+
+    @AfterAll
+    public static void close() throws Exception {
+        if (plainServer != null) {
+            plainServer.shutdown().toCompletableFuture().get(10, TimeUnit.SECONDS);
+        }
+        if (compressionServer != null) {
+            compressionServer.shutdown().toCompletableFuture().get(10, TimeUnit.SECONDS);
+        }
+        Files.deleteIfExists(file);
+    }
+
+    private static WebServer startServer(boolean compression) throws Exception {
+        return WebServer.builder()
+                .routing(Routing.builder()
+                                 .get("/file", (req, res) -> res.send(file))
+                                 .get("/copy", (req, res) -> {
+                                     res.writerContext().supportsFileChunks(false);
+                                     res.send(file);
+                                 })
+                                 .build())
+                .enableCompression(compression)
+                .build()
+                .start()
+                .toCompletableFuture()
+                .get(10, TimeUnit.SECONDS);
+    }
+
+    @Test
+    public void testFileRegion() throws Exception {
+        assertThat(get(plainServer, "/file", false), is(content));
+    }
+
+    @Test
+    public void testCopiedFile() throws Exception {
+        assertThat(get(plainServer, "/copy", false), is(content));
+    }
+
+    @Test
+    public void testChunkedFile() throws Exception {
+        assertThat(get(compressionServer, "/file", false), is(content));
+    }
+
+    @Test
+    public void testCompressedFile() throws Exception {
+        assertThat(get(compressionServer, "/file", true), is(content));
+    }
+
+    private static byte[] get(WebServer webServer, String path, boolean gzip) throws Exception {
+        WebClientRequestBuilder builder = WebClient.builder()
+                .baseUri("http://localhost:" + webServer.port())
+                .build()
+                .get();
+        if (gzip) {
+            builder.headers().add("Accept-Encoding", "gzip");
+        }
+        WebClientResponse response = builder.path(path)
+                .request()
+                .await(10, TimeUnit.SECONDS);
+        return response.content().as(byte[].class).get(10, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import io.helidon.common.http.DataChunk;
+
+import io.netty.buffer.ByteBuf;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests {@link PooledDataChunkAllocator}.
+ */
+class PooledDataChunkAllocatorTest {
+
+    @Test
+    void testWriteAndRelease() {
+        DataChunk chunk = PooledDataChunkAllocator.INSTANCE.allocate(true, 16);
+        ByteBuffer buffer = chunk.data()[0];
+        assertThat(buffer.position(), is(0));
+        assertThat(buffer.remaining() >= 16, is(true));
+        buffer.put("hello".getBytes(StandardCharsets.US_ASCII));
+        buffer.flip();
+
+        assertThat(chunk.flush(), is(true));
+        assertThat(chunk.isBackedBy(ByteBuf.class), is(true));
+        ByteBuf byteBuf = chunk.data(ByteBuf.class)[0];
+        assertThat(byteBuf.toString(StandardCharsets.US_ASCII), is("hello"));
+        assertThat(chunk.remaining(), is(5));
+        assertThat(chunk.bytes(), is("hello".getBytes(StandardCharsets.US_ASCII)));
+
+        chunk.release();
+        chunk.release();
+        assertThat(chunk.isReleased(), is(true));
+        assertThat(byteBuf.refCnt(), is(0));
+    }
+
+    @Test
+    void testRetainedByConsumer() {
+        DataChunk chunk = PooledDataChunkAllocator.INSTANCE.allocate(false, 4);
+        chunk.data()[0].put((byte) 1).flip();
+        ByteBuf byteBuf = chunk.data(ByteBuf.class)[0].retain();
+        chunk.release();
+        assertThat(byteBuf.refCnt(), is(1));
+        assertThat(byteBuf.readByte(), is((byte) 1));
+        byteBuf.release();
+    }
+}
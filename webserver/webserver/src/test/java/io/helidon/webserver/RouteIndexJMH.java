@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.helidon.webserver;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.helidon.common.http.Http;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Compares the first-match lookup over all routes (linear scan) with the lookup over candidates
+ * provided by {@link RouteIndex}.
+ */
+@State(Scope.Benchmark)
+public class RouteIndexJMH {
+
+    private static final Handler VOID_HANDLER = (req, res) -> {};
+
+    public static void main(String[] args) throws Throwable {
+        Options opt = new OptionsBuilder()
+                .include(RouteIndexJMH.class.getSimpleName())
+                .forks(1)
+                .warmupIterations(5)
+                .warmupTime(TimeValue.seconds(1))
+                .measurementIterations(5)
+                .measurementTime(TimeValue.seconds(1))
+                .build();
+
+        new Runner(opt).run();
+    }
+
+    @Param({"10", "100", "1000"})
+    int count;
+
+    RouteList routes;
+    String path;
+
+    @Setup
+    public void setup() {
+        List<Route> list = new ArrayList<>(count * 2);
+        for (int i = 0; i < count; i++) {
+            list.add(new HandlerRoute(null, PathMatcher.create("/api/service" + i + "/{id}"), VOID_HANDLER, Http.Method.GET));
+            list.add(new HandlerRoute(null, PathMatcher.create("/api/service" + i), VOID_HANDLER, Http.Method.POST));
+        }
+        routes = new RouteList(list);
+        // the worst case for linear scan
+        path = "/api/service" + (count - 1) + "/42";
+    }
+
+    @Benchmark
+    public HandlerRoute linear() {
+        for (Route route : routes) {
+            if (route.accepts(Http.Method.GET)) {
+                HandlerRoute handlerRoute = (HandlerRoute) route;
+                if (handlerRoute.match(path).matches()) {
+                    return handlerRoute;
+                }
+            }
+        }
+        return null;
+    }
+
+    @Benchmark
+    public HandlerRoute indexed() {
+        for (int index : routes.candidates(path, Http.Method.GET)) {
+            Route route = routes.get(index);
+            if (route.accepts(Http.Method.GET)) {
+                HandlerRoute handlerRoute = (HandlerRoute) route;
+                if (handlerRoute.match(path).matches()) {
+                    return handlerRoute;
+                }
+            }
+        }
+        return null;
+    }
+}
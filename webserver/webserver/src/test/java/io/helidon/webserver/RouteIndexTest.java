@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2021 Oracle and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.helidon.webserver;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.helidon.common.http.Http;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Tests {@link RouteIndex}.
+ */
+public class RouteIndexTest {
+
+    private static final Handler VOID_HANDLER = (req, res) -> {};
+
+    private static final String[] PATTERNS = {
+            "/",
+            "/user",
+            "/user/{name}",
+            "/user/{name}/detail",
+            "/user/{id:\\d+}",
+            "/user/{+rest}",
+            "/users[/{name}]",
+            "/a/b/c",
+            "/a/{}/c",
+            "/a/b\\{x\\}",
+            "/files/{+path}",
+            "/static/{name}.{ext}"
+    };
+
+    private static final String[] PATHS = {
+            "/",
+            "/user",
+            "/user/john",
+            "/user/123",
+            "/user/john/detail",
+            "/user/john/other/deep",
+            "/users",
+            "/users/john",
+            "/a/b/c",
+            "/a/x/c",
+            "/a/b{x}",
+            "/a/b/c;foo=bar",
+            "/files/a/b/c.txt",
+            "/static/logo.png",
+            "/unknown",
+            "/user/",
+            "//user"
+    };
+
+    @Test
+    public void testHandlerRoutesAreCandidates() {
+        List<Route> routes = new ArrayList<>();
+        for (String pattern : PATTERNS) {
+            routes.add(new HandlerRoute(null, PathMatcher.create(pattern), VOID_HANDLER, Http.Method.GET));
+        }
+        routes.add(new HandlerRoute(null, VOID_HANDLER));
+        RouteList routeList = new RouteList(routes);
+
+        for (String path : PATHS) {
+            int[] candidates = routeList.candidates(path, Http.Method.GET);
+            for (int i = 0; i < routes.size(); i++) {
+                HandlerRoute route = (HandlerRoute) routes.get(i);
+                if (route.match(path).matches()) {
+                    assertThat("Route " + route + " must be a candidate for " + path, contains(candidates, i), is(true));
+                }
+            }
+            assertSorted(candidates);
+        }
+    }
+
+    @Test
+    public void testRouteListsAreCandidates() {
+        List<Route> routes = new ArrayList<>();
+        for (String pattern : PATTERNS) {
+            routes.add(new RouteList(PathMatcher.create(pattern),
+                                     List.of(new HandlerRoute(null, VOID_HANDLER, Http.Method.GET))));
+        }
+        RouteList routeList = new RouteList(routes);
+
+        for (String path : PATHS) {
+            int[] candidates = routeList.candidates(path, Http.Method.GET);
+            for (int i = 0; i < routes.size(); i++) {
+                RouteList route = (RouteList) routes.get(i);
+                if (route.prefixMatch(path).matches()) {
+                    assertThat("Route " + route.pathContext() + " must be a candidate for " + path,
+                               contains(candidates, i),
+                               is(true));
+                }
+            }
+            assertSorted(candidates);
+        }
+    }
+
+    @Test
+    public void testStaticRoutesNarrowed() {
+        List<Route> routes = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            routes.add(new HandlerRoute(null, PathMatcher.create("/service" + i + "/{id}"), VOID_HANDLER, Http.Method.GET));
+        }
+        RouteList routeList = new RouteList(routes);
+
+        int[] candidates = routeList.candidates("/service42/abc", Http.Method.GET);
+        assertThat(candidates.length, is(1));
+        assertThat(candidates[0], is(42));
+
+        assertThat(routeList.candidates("/service42/abc", Http.Method.POST).length, is(0));
+        assertThat(routeList.candidates("/service42", Http.Method.GET).length, is(0));
+    }
+
+    @Test
+    public void testMethodIndex() {
+        List<Route> routes = new ArrayList<>();
+        routes.add(new HandlerRoute(null, PathMatcher.create("/user"), VOID_HANDLER, Http.Method.POST));
+        routes.add(new HandlerRoute(null, PathMatcher.create("/user"), VOID_HANDLER, Http.Method.GET));
+        routes.add(new HandlerRoute(null, PathMatcher.create("/user"), VOID_HANDLER, Http.RequestMethod.create("FOO")));
+        routes.add(new HandlerRoute(null, PathMatcher.create("/user"), VOID_HANDLER));
+        RouteList routeList = new RouteList(routes);
+
+        assertThat(routeList.candidates("/user", Http.Method.GET), is(new int[] {1, 3}));
+        assertThat(routeList.candidates("/user", Http.Method.POST), is(new int[] {0, 3}));
+        // non-standard methods are filtered by the crawler
+        assertThat(routeList.candidates("/user", Http.RequestMethod.create("FOO")), is(new int[] {0, 1, 2, 3}));
+    }
+
+    private static boolean contains(int[] candidates, int index) {
+        for (int candidate : candidates) {
+            if (candidate == index) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void assertSorted(int[] candidates) {
+        for (int i = 1; i < candidates.length; i++) {
+            assertThat(candidates[i - 1] < candidates[i], is(true));
+        }
+    }
+}
@@ -112,6 +112,13 @@ public class ServerConfigurationTest {
         assertThat(sc.socket("other").bindAddress(), is(InetAddress.getByName("127.0.0.3")));
         assertThat(sc.socket("other").enabledSslProtocols(), hasSize(0));
         assertThat(sc.socket("other").ssl(), nullValue());
+        assertThat(sc.socket("other").reusePort(), is(true));
+        assertThat(sc.socket("other").tcpFastOpen(), is(256));
+        assertThat(sc.socket("other").deferAcceptSeconds(), is(5));
+
+        assertThat(sc.reusePort(), is(false));
+        assertThat(sc.tcpFastOpen(), is(0));
+        assertThat(sc.deferAcceptSeconds(), is(0));
     }
 
     @Test